@@ -1,5 +1,6 @@
 package com.fourformance.tts_vc_web.common.config;
 
+import java.util.logging.Logger;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.context.annotation.Bean;
@@ -8,23 +9,31 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class RabbitMQConfig {
 
+    private static final Logger LOGGER = Logger.getLogger(RabbitMQConfig.class.getName());
+
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
 
+        // 직접 만든 템플릿에는 spring.rabbitmq.template.mandatory가 적용되지 않으므로 여기서 설정
+        // (라우팅되지 않은 메시지가 반환되어야 CorrelationData.getReturned()로 전송 실패를 알 수 있음)
+        rabbitTemplate.setMandatory(true);
+
         // ConfirmCallback 설정: 메시지가 Exchange로 전송되었는지 확인.
         rabbitTemplate.setConfirmCallback((correlationData, ack, cause) -> {
             if (ack) {
-                System.out.println("Message was successfully sent to the exchange.");
+                LOGGER.fine("Exchange 전송 확인: " + (correlationData != null ? correlationData.getId() : null));
             } else {
-                System.err.println("Message failed to send to the exchange. Cause: " + cause);
+                LOGGER.warning("Exchange 전송 실패: " + (correlationData != null ? correlationData.getId() : null)
+                        + ", cause = " + cause);
             }
         });
 
         // ReturnsCallback 설정: 메시지가 큐로 전달되지 못했을 때 호출.
-        rabbitTemplate.setReturnsCallback(returnedMessage -> {
-            System.err.println("Message was returned: " + returnedMessage);
-        });
+        rabbitTemplate.setReturnsCallback(returnedMessage ->
+                LOGGER.warning("라우팅되지 않은 메시지 반환: exchange = " + returnedMessage.getExchange()
+                        + ", routingKey = " + returnedMessage.getRoutingKey()
+                        + ", replyText = " + returnedMessage.getReplyText()));
 
         return rabbitTemplate;
     }
@@ -0,0 +1,40 @@
+package com.fourformance.tts_vc_web.common.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 노드 간 SSE 알림 전달 설정
+ * 작업을 처리한 노드가 fanout exchange로 알림을 보내면, 모든 노드가 자기 노드의 임시 큐로 받아
+ * 로컬에 연결된 클라이언트에게 전송합니다.
+ */
+@Configuration
+public class SseClusterConfig {
+
+    public static final String SSE_EXCHANGE_NAME = "sseNotificationExchange";
+
+    // SSE 알림 Fanout Exchange 생성
+    @Bean
+    public FanoutExchange sseNotificationExchange() {
+        return new FanoutExchange(SSE_EXCHANGE_NAME);
+    }
+
+    // 노드별 임시 큐 생성 (노드가 종료되면 자동 삭제)
+    @Bean(name = "sseNodeQueue")
+    public Queue sseNodeQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("sse.node."));
+    }
+
+    @Bean
+    public Binding bindSseNodeQueue(@Qualifier("sseNodeQueue") Queue sseNodeQueue,
+                                    FanoutExchange sseNotificationExchange) {
+        return BindingBuilder.bind(sseNodeQueue).to(sseNotificationExchange);
+    }
+}
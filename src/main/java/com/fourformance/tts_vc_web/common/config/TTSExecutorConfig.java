@@ -0,0 +1,34 @@
+package com.fourformance.tts_vc_web.common.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class TTSExecutorConfig {
+
+    @Value("${tts.parallel.max-concurrency:8}")
+    private int maxConcurrency;
+
+    @Value("${tts.parallel.queue-capacity:200}")
+    private int queueCapacity;
+
+    /**
+     * TTS 디테일별 API 호출 및 S3 업로드를 병렬로 수행하는 스레드 풀
+     * 큐가 가득 차면 호출 스레드에서 직접 실행하여 요청 속도를 늦춥니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor ttsDetailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("tts-detail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -2,22 +2,50 @@ package com.fourformance.tts_vc_web.common.config;
 
 import org.springframework.amqp.core.*;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 @Configuration
 public class TaskConfig {
 
     public static final String EXCHANGE_NAME = "audioTaskExchange";
-    public static final String TTS_QUEUE = "audioTTSQueue";
-    public static final String VC_QUEUE = "audioVCQueue";
-    public static final String CONCAT_QUEUE = "audioConcatQueue";
+    // 작업 큐 (x-max-priority 인자가 있는 큐)
+    // 이미 있는 durable 큐는 인자를 바꿔 다시 선언할 수 없으므로(PRECONDITION_FAILED) 새 이름을 사용
+    public static final String TTS_QUEUE = "audioTTSQueue.v2";
+    public static final String VC_QUEUE = "audioVCQueue.v2";
+    public static final String CONCAT_QUEUE = "audioConcatQueue.v2";
+
+    // 우선순위 도입 전 작업 큐 (TaskQueueMigrator가 바인딩을 풀고 남은 메시지를 새 큐로 옮긴 뒤 삭제)
+    public static final String LEGACY_TTS_QUEUE = "audioTTSQueue";
+    public static final String LEGACY_VC_QUEUE = "audioVCQueue";
+    public static final String LEGACY_CONCAT_QUEUE = "audioConcatQueue";
 
     public static final String DLX_NAME = "audioDLX"; // Dead Letter Exchange 이름
     public static final String DEAD_LETTER_QUEUE = "audioDLQ"; // Dead Letter Queue 이름
     // 실제 운영 환경에서는 모든 실패를 DLQ로 보내기 전에 로깅과 알림 시스템을 통해 원인을 파악하는 것이 중요
 
+    // 재시도 횟수 헤더 (지금까지 재시도한 횟수)
+    public static final String ATTEMPT_HEADER = "x-task-attempt";
+
+    // 메시지 우선순위 (단건 재생성처럼 사용자가 기다리는 작업이 프로젝트 일괄 작업보다 먼저 처리되도록 함)
+    public static final int PRIORITY_BULK = 1;
+    public static final int PRIORITY_INTERACTIVE = 5;
+
+    // 작업 큐의 최대 우선순위 (0이면 우선순위 큐를 사용하지 않음)
+    // 기존 큐와 인자가 다르면 선언에 실패하므로 값을 바꿀 때는 큐 이름의 버전(.v2)도 올리고 이전 큐를 LEGACY로 옮겨야 함
+    @Value("${task.queue.max-priority:5}")
+    private int maxPriority;
+
+    // 재시도 대기 시간 단계 (ms), 단계마다 TTL 재시도 큐를 만듦
+    // 기존 큐와 TTL이 다르면 선언에 실패하므로 큐 이름에 대기 시간을 넣어 단계가 바뀌면 새 큐를 사용
+    @Value("${task.retry.delays-ms:5000,30000,300000}")
+    private long[] retryDelaysMs;
+
     // Main Exchange 생성
     @Bean
     public DirectExchange audioTaskExchange() {
@@ -33,7 +61,7 @@ public class TaskConfig {
     // Task Queues 생성 (TTS, VC, CONCAT)
     @Bean(name = "ttsQueue")
     public Queue ttsQueue() {
-        return QueueBuilder.durable(TTS_QUEUE)
+        return priorityQueue(TTS_QUEUE)
                 .withArgument("x-dead-letter-exchange", DLX_NAME) // Dead Letter Exchange로 이동 설정
                 .withArgument("x-dead-letter-routing-key", DEAD_LETTER_QUEUE) // Dead Letter Queue로 이동 설정
                 .build();
@@ -41,7 +69,7 @@ public class TaskConfig {
 
     @Bean(name = "vcQueue")
     public Queue vcQueue() {
-        return QueueBuilder.durable(VC_QUEUE)
+        return priorityQueue(VC_QUEUE)
                 .withArgument("x-dead-letter-exchange", DLX_NAME)
                 .withArgument("x-dead-letter-routing-key", DEAD_LETTER_QUEUE)
                 .build();
@@ -49,12 +77,77 @@ public class TaskConfig {
 
     @Bean(name = "concatQueue")
     public Queue concatQueue() {
-        return QueueBuilder.durable(CONCAT_QUEUE)
+        return priorityQueue(CONCAT_QUEUE)
                 .withArgument("x-dead-letter-exchange", DLX_NAME)
                 .withArgument("x-dead-letter-routing-key", DEAD_LETTER_QUEUE)
                 .build();
     }
 
+    // 작업 큐 공통 설정 (우선순위 사용 시 x-max-priority 추가)
+    private QueueBuilder priorityQueue(String queueName) {
+        QueueBuilder builder = QueueBuilder.durable(queueName);
+        if (maxPriority > 0) {
+            builder.maxPriority(maxPriority);
+        }
+        return builder;
+    }
+
+    /**
+     * 재시도 큐 생성 (작업 큐 x 대기 단계)
+     * 메시지는 TTL 동안 대기한 뒤 만료되면 Main Exchange를 거쳐 원래 작업 큐로 돌아갑니다.
+     * 재시도 큐에는 소비자가 없고, 기본 Exchange로 큐 이름을 routing key로 써서 보냅니다.
+     */
+    @Bean
+    public Declarables retryQueues() {
+        List<Declarable> queues = new ArrayList<>();
+        for (String taskQueue : List.of(TTS_QUEUE, VC_QUEUE, CONCAT_QUEUE)) {
+            for (long delayMs : retryDelaysMs) {
+                queues.add(QueueBuilder.durable(retryQueueName(taskQueue, delayMs))
+                        .ttl((int) delayMs)
+                        .deadLetterExchange(EXCHANGE_NAME)
+                        .deadLetterRoutingKey(routingKeyOf(taskQueue))
+                        .build());
+            }
+        }
+        return new Declarables(queues);
+    }
+
+    // 작업 큐의 대기 단계별 재시도 큐 이름
+    public static String retryQueueName(String taskQueue, long delayMs) {
+        return taskQueue + ".retry." + delayMs + "ms";
+    }
+
+    // 작업 큐의 Main Exchange routing key (이전 큐 이름은 같은 routing key의 새 큐로 연결)
+    public static String routingKeyOf(String taskQueue) {
+        switch (taskQueue) {
+            case TTS_QUEUE:
+            case LEGACY_TTS_QUEUE:
+                return "tts";
+            case VC_QUEUE:
+            case LEGACY_VC_QUEUE:
+                return "vc";
+            case CONCAT_QUEUE:
+            case LEGACY_CONCAT_QUEUE:
+                return "concat";
+            default:
+                throw new IllegalArgumentException("알 수 없는 작업 큐: " + taskQueue);
+        }
+    }
+
+    // 이전 작업 큐 이름 -> 새 작업 큐 이름
+    public static String migratedQueueOf(String legacyQueue) {
+        switch (legacyQueue) {
+            case LEGACY_TTS_QUEUE:
+                return TTS_QUEUE;
+            case LEGACY_VC_QUEUE:
+                return VC_QUEUE;
+            case LEGACY_CONCAT_QUEUE:
+                return CONCAT_QUEUE;
+            default:
+                throw new IllegalArgumentException("알 수 없는 이전 작업 큐: " + legacyQueue);
+        }
+    }
+
     // Dead Letter Queue 생성
     @Bean(name = "dlq")
     public Queue dlq() {
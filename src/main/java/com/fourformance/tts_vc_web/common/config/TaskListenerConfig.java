@@ -0,0 +1,91 @@
+package com.fourformance.tts_vc_web.common.config;
+
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * 작업 큐별 리스너 컨테이너 설정
+ * TTS(외부 API 호출), VC(긴 외부 API 호출), Concat(FFmpeg CPU 작업)은 처리 비용이 달라
+ * 큐마다 동시 소비자 수와 prefetch를 따로 설정합니다.
+ * prefetch를 작게 유지해야 우선순위가 높은 메시지가 이미 받아둔 메시지 뒤에서 기다리지 않습니다.
+ */
+@Configuration
+public class TaskListenerConfig {
+
+    // 가상 스레드 사용 여부 (JDK 21 이상에서만 사용 가능)
+    @Value("${task.listener.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    @Value("${task.listener.tts.concurrency:2}")
+    private int ttsConcurrency;
+
+    @Value("${task.listener.tts.max-concurrency:8}")
+    private int ttsMaxConcurrency;
+
+    @Value("${task.listener.tts.prefetch:2}")
+    private int ttsPrefetch;
+
+    @Value("${task.listener.vc.concurrency:1}")
+    private int vcConcurrency;
+
+    @Value("${task.listener.vc.max-concurrency:4}")
+    private int vcMaxConcurrency;
+
+    @Value("${task.listener.vc.prefetch:1}")
+    private int vcPrefetch;
+
+    @Value("${task.listener.concat.concurrency:1}")
+    private int concatConcurrency;
+
+    @Value("${task.listener.concat.max-concurrency:2}")
+    private int concatMaxConcurrency;
+
+    @Value("${task.listener.concat.prefetch:1}")
+    private int concatPrefetch;
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory ttsListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        return createFactory(configurer, connectionFactory, "tts-consumer-",
+                ttsConcurrency, ttsMaxConcurrency, ttsPrefetch);
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory vcListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        return createFactory(configurer, connectionFactory, "vc-consumer-",
+                vcConcurrency, vcMaxConcurrency, vcPrefetch);
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory concatListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        return createFactory(configurer, connectionFactory, "concat-consumer-",
+                concatConcurrency, concatMaxConcurrency, concatPrefetch);
+    }
+
+    // spring.rabbitmq.listener.simple.* 기본 설정을 적용한 뒤 큐별 값으로 덮어씀
+    private SimpleRabbitListenerContainerFactory createFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            String threadNamePrefix, int concurrency, int maxConcurrency, int prefetch) {
+
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+
+        int consumers = Math.max(concurrency, 1);
+        factory.setConcurrentConsumers(consumers);
+        factory.setMaxConcurrentConsumers(Math.max(maxConcurrency, consumers));
+        factory.setPrefetchCount(Math.max(prefetch, 1));
+
+        // 소비자 스레드 이름을 큐별로 구분
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        taskExecutor.setVirtualThreads(virtualThreads);
+        factory.setTaskExecutor(taskExecutor);
+        return factory;
+    }
+}
@@ -0,0 +1,19 @@
+package com.fourformance.tts_vc_web.common.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 호출량을 제한하는 외부 API 제공자
+ * propertyKey: external-api.{propertyKey}.* 설정 이름
+ * listenerId: 서킷이 열렸을 때 일시정지할 작업 큐 리스너 ID
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExternalApiProvider {
+    GOOGLE_TTS("google-tts", "ttsTaskListener"),
+    ELEVENLABS("elevenlabs", "vcTaskListener");
+
+    private final String propertyKey;
+    private final String listenerId;
+}
@@ -0,0 +1,13 @@
+package com.fourformance.tts_vc_web.common.constant;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum OutboxStatusConst {
+    PENDING("전송 대기"),
+    SENDING("전송 중"), // 릴레이가 가져가 confirm을 기다리는 중 (next_attempt_at까지 lease)
+    SENT("전송 완료"),
+    FAILED("전송 실패"); // 최대 재시도 횟수 초과
+
+    private final String descriptions;
+}
@@ -0,0 +1,11 @@
+package com.fourformance.tts_vc_web.common.constant;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum SearchDocType {
+    PROJECT("프로젝트"),
+    EXPORT("Export 내역");
+
+    private final String descriptions;
+}
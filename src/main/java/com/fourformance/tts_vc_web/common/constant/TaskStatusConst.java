@@ -13,4 +13,25 @@ public enum TaskStatusConst {
     COMPLETED("완료"); // 다중 작업 완료 상태 추가
 
     private final String descriptions;
+
+    /**
+     * 상태 전이 가능 여부
+     * - RUNNABLE: 대기 상태이거나 실패 후 재실행하는 경우 (이미 실행 중이면 중복 전달이므로 거부, 재전달된 메시지는 TaskStateService.takeOver)
+     * - COMPLETED: 실행 중인 작업만
+     * - FAILED: 완료/종료되지 않은 작업
+     * - TERMINATED: 완료/종료되지 않은 작업
+     */
+    public boolean canTransitionTo(TaskStatusConst next) {
+        switch (next) {
+            case RUNNABLE:
+                return this == NEW || this == WAITING || this == BLOCKED || this == FAILED;
+            case COMPLETED:
+                return this == RUNNABLE;
+            case FAILED:
+            case TERMINATED:
+                return this != COMPLETED && this != TERMINATED;
+            default:
+                return this != COMPLETED && this != TERMINATED && this != next;
+        }
+    }
 }
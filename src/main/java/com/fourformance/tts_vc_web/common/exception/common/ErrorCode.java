@@ -32,6 +32,7 @@ public enum ErrorCode {
     DETAIL_MISMATCH(1015, HttpStatus.BAD_REQUEST, "유닛 수와 파일 수가 일치하지 않습니다."),
     UNSUPPORTED_AUDIO_TYPE(1016, HttpStatus.BAD_REQUEST, "지원하지 않는 형식의 오디오 타입입니다."),
     INVALID_FILE_COUNT(1017, HttpStatus.BAD_REQUEST, "VC_TRG는 단일 파일만 허용합니다."),
+    S3_COPY_FAILED(1018, HttpStatus.INTERNAL_SERVER_ERROR, "S3 오디오 복사에 실패했습니다."),
 
     // 3000번대 코드 : DB 관련
     NOT_EXISTS_PROJECT(3000, HttpStatus.BAD_REQUEST, "해당 프로젝트를 찾을 수 없습니다."),
@@ -160,6 +161,8 @@ public enum ErrorCode {
     FAILED_TASK_PROCESSING_ERROR(7003,HttpStatus.BAD_REQUEST,"실패 작업 처리 중 오류 발생"),
     DLQ_RETRY_FAILED(7004,HttpStatus.BAD_REQUEST,"실패 큐 작업 실패"),
     DLQ_MESSAGE_PROCESSING_FAILED(7005,HttpStatus.BAD_REQUEST,"x-death 헤더에서 원래 큐 정보를 찾을 수 없습니다."),
+    EXTERNAL_API_RATE_LIMITED(7006, HttpStatus.TOO_MANY_REQUESTS, "외부 API 호출 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+    EXTERNAL_API_CIRCUIT_OPEN(7007, HttpStatus.SERVICE_UNAVAILABLE, "외부 API 장애로 호출이 일시 중단되었습니다. 잠시 후 다시 시도해주세요."),
 
 
     // 9999 : 테스트용 커스텀 예외
@@ -1,32 +1,119 @@
 package com.fourformance.tts_vc_web.common.util;
 
+import com.fourformance.tts_vc_web.common.constant.ExternalApiProvider;
+import lombok.RequiredArgsConstructor;
 import okhttp3.*;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.URL;
-import java.nio.file.Files;
+import java.io.InterruptedIOException;
 import java.nio.file.Paths;
-import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 
 @Component
+@RequiredArgsConstructor
 public class ElevenLabsClient_team_api {
     private static final Logger LOGGER = LoggerFactory.getLogger(ElevenLabsClient_team_api.class);
 
+    private static final MediaType AUDIO_MPEG = MediaType.parse("audio/mpeg");
+
+    private final ExternalApiGuard externalApiGuard; // 호출량 제한 / 서킷 브레이커
+
     @Value("${elevenlabs.api.url}")
     private String baseUrl;
 
     @Value("${elevenlabs.api.key}")
     private String apiKey;
 
-    private final OkHttpClient client = new OkHttpClient();
+    // 타임아웃 (ms, 0이면 제한 없음)
+    @Value("${elevenlabs.http.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${elevenlabs.http.write-timeout-ms:60000}")
+    private long writeTimeoutMs;
+
+    @Value("${elevenlabs.http.read-timeout-ms:120000}")
+    private long readTimeoutMs;
+
+    @Value("${elevenlabs.http.call-timeout-ms:0}")
+    private long callTimeoutMs;
+
+    // 커넥션 풀 / 디스패처
+    @Value("${elevenlabs.http.max-idle-connections:16}")
+    private int maxIdleConnections;
+
+    @Value("${elevenlabs.http.keep-alive-ms:300000}")
+    private long keepAliveMs;
+
+    @Value("${elevenlabs.http.max-requests:64}")
+    private int maxRequests;
+
+    @Value("${elevenlabs.http.max-requests-per-host:16}")
+    private int maxRequestsPerHost;
+
+    // 429/5xx 재시도 (지수 백오프 + 지터)
+    @Value("${elevenlabs.http.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${elevenlabs.http.retry-base-delay-ms:500}")
+    private long retryBaseDelayMs;
+
+    @Value("${elevenlabs.http.retry-max-delay-ms:10000}")
+    private long retryMaxDelayMs;
+
+    // 모든 요청이 함께 쓰는 클라이언트 (커넥션 풀과 디스패처 공유)
+    private OkHttpClient client;
+
+    // S3 소스 다운로드용 (재시도 없이 같은 풀 사용)
+    private OkHttpClient sourceClient;
+
+    /**
+     * 공유 커넥션 풀과 디스패처, 타임아웃, 재시도 설정으로 클라이언트 생성
+     */
+    @PostConstruct
+    public void init() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(Math.max(maxRequests, 1));
+        dispatcher.setMaxRequestsPerHost(Math.max(maxRequestsPerHost, 1));
+
+        sourceClient = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(Math.max(maxIdleConnections, 1), keepAliveMs, TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher)
+                .connectTimeout(connectTimeoutMs, TimeUnit.MILLISECONDS)
+                .writeTimeout(writeTimeoutMs, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeoutMs, TimeUnit.MILLISECONDS)
+                .build();
+        client = sourceClient.newBuilder()
+                .callTimeout(callTimeoutMs, TimeUnit.MILLISECONDS)
+                .addInterceptor(new RetryInterceptor())
+                .build();
+
+        LOGGER.info("ElevenLabs 클라이언트 초기화 완료: maxIdleConnections={}, maxRequestsPerHost={}, maxRetries={}",
+                maxIdleConnections, maxRequestsPerHost, maxRetries);
+    }
+
+    /**
+     * 애플리케이션 종료 시 커넥션 정리
+     */
+    @PreDestroy
+    public void close() {
+        if (client != null) {
+            client.dispatcher().executorService().shutdown();
+            client.connectionPool().evictAll();
+        }
+    }
 
     /**
      * 타겟 오디오 파일을 업로드하여 Voice ID를 생성합니다.
@@ -46,9 +133,10 @@ public class ElevenLabsClient_team_api {
                 .addFormDataPart("files", fileName, audioRequestBody)
                 .build();
 
-        Request request = createRequest("/voices/add", requestBody);
+        Request request = createRequest("/voices/add", requestBody, false); // 보이스 생성은 재시도하면 중복 생성됨
 
-        try (Response response = client.newCall(request).execute()) {
+        try (ExternalApiGuard.Permit permit = externalApiGuard.acquire(ExternalApiProvider.ELEVENLABS, null);
+             Response response = execute(permit, request)) {
             validateResponse(response);
             return extractVoiceId(response.body().string());
         }
@@ -72,15 +160,19 @@ public class ElevenLabsClient_team_api {
                 .addFormDataPart("audio", "source.mp3", audioRequestBody)
                 .build();
 
-        Request request = createRequest("/speech-to-speech/" + voiceId, requestBody);
+        Request request = createRequest("/speech-to-speech/" + voiceId, requestBody, true);
 
-        try (Response response = client.newCall(request).execute()) {
+        try (ExternalApiGuard.Permit permit = externalApiGuard.acquire(ExternalApiProvider.ELEVENLABS, null);
+             Response response = execute(permit, request)) {
             validateResponse(response);
 
-            // 변환된 파일 저장 경로 결정
+            // 변환된 파일 저장 경로 결정 (응답 본문을 메모리에 모으지 않고 파일로 바로 씀)
             File tempFile = File.createTempFile("vc_audio_", ".mp3");
-            try (FileOutputStream fos = new FileOutputStream(tempFile)) {
-                fos.write(response.body().bytes());
+            try (BufferedSink sink = Okio.buffer(Okio.sink(tempFile))) {
+                sink.writeAll(response.body().source());
+            } catch (IOException e) {
+                tempFile.delete();
+                throw e;
             }
 
             LOGGER.info("[파일 변환 완료] 파일 경로: " + tempFile.getAbsolutePath());
@@ -88,8 +180,57 @@ public class ElevenLabsClient_team_api {
         }
     }
 
+    /**
+     * Voice ID와 소스 오디오 파일을 사용하여 음성을 변환하고, 응답 본문을 임시 파일 없이 핸들러에 스트림으로 전달합니다.
+     *
+     * @param memberId      요청한 회원 ID (회원별 호출량 제한, 없으면 null)
+     * @param voiceId       생성된 Voice ID
+     * @param audioFilePath 소스 오디오의 S3 URL 또는 로컬 파일 경로
+     * @param handler       변환된 오디오 스트림 처리기 (응답이 닫히기 전에 호출됨)
+     * @return 핸들러의 처리 결과
+     * @throws IOException 변환 중 오류
+     */
+    public <T> T convertSpeechToSpeech(Long memberId, String voiceId, String audioFilePath,
+                                       AudioStreamHandler<T> handler) throws IOException {
+        RequestBody audioRequestBody = createAudioRequestBody(audioFilePath);
+
+        MultipartBody requestBody = new MultipartBody.Builder()
+                .setType(MultipartBody.FORM)
+                .addFormDataPart("model_id", "eleven_english_sts_v2")
+                .addFormDataPart("remove_background_noise", "false")
+                .addFormDataPart("audio", "source.mp3", audioRequestBody)
+                .build();
+
+        Request request = createRequest("/speech-to-speech/" + voiceId, requestBody, true);
+
+        try (ExternalApiGuard.Permit permit = externalApiGuard.acquire(ExternalApiProvider.ELEVENLABS, memberId);
+             Response response = execute(permit, request)) {
+            validateResponse(response);
+
+            ResponseBody body = response.body();
+            try (InputStream audioStream = body.byteStream()) {
+                return handler.handle(audioStream, body.contentLength());
+            }
+        }
+    }
+
+    /**
+     * 변환된 오디오 스트림 처리기
+     *
+     * @param <T> 처리 결과 타입
+     */
+    @FunctionalInterface
+    public interface AudioStreamHandler<T> {
+        /**
+         * @param audioStream   변환된 오디오 스트림
+         * @param contentLength 스트림 길이, 모르면 -1
+         */
+        T handle(InputStream audioStream, long contentLength) throws IOException;
+    }
+
     /**
      * 요청 본문 생성에 사용될 오디오 RequestBody 생성.
+     * 오디오를 메모리에 올리지 않고 전송 시점에 S3 URL 또는 로컬 파일에서 바로 읽어 보냅니다.
      *
      * @param audioPath 오디오 파일 경로
      * @return 생성된 RequestBody
@@ -97,16 +238,148 @@ public class ElevenLabsClient_team_api {
      */
     private RequestBody createAudioRequestBody(String audioPath) throws IOException {
         if (audioPath.startsWith("http:/") || audioPath.startsWith("https:/")) {
-            URL url = new URL(audioPath);
-            try (InputStream inputStream = url.openStream()) {
-                return RequestBody.create(inputStream.readAllBytes(), MediaType.parse("audio/mpeg"));
-            }
+            return new UrlRequestBody(HttpUrl.get(audioPath), fetchContentLength(audioPath));
         } else {
             File file = new File(audioPath);
             if (!file.exists()) {
                 throw new IllegalArgumentException("파일이 존재하지 않습니다: " + audioPath);
             }
-            return RequestBody.create(file, MediaType.parse("audio/mpeg"));
+            return RequestBody.create(file, AUDIO_MPEG);
+        }
+    }
+
+    /**
+     * HEAD 요청으로 소스 오디오 길이 조회 (모르면 -1, 이 경우 chunked 로 전송)
+     */
+    private long fetchContentLength(String audioUrl) {
+        Request request = new Request.Builder().url(audioUrl).head().build();
+        try (Response response = sourceClient.newCall(request).execute()) {
+            String contentLength = response.header("Content-Length");
+            return response.isSuccessful() && contentLength != null ? Long.parseLong(contentLength) : -1;
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.warn("소스 오디오 길이 조회 실패, 길이 없이 전송: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * 전송할 때마다 URL에서 오디오를 받아 그대로 흘려보내는 요청 본문 (재시도 시 다시 받음)
+     */
+    private class UrlRequestBody extends RequestBody {
+        private final HttpUrl url;
+        private final long contentLength;
+
+        private UrlRequestBody(HttpUrl url, long contentLength) {
+            this.url = url;
+            this.contentLength = contentLength;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return AUDIO_MPEG;
+        }
+
+        @Override
+        public long contentLength() {
+            return contentLength;
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            Request request = new Request.Builder().url(url).get().build();
+            try (Response response = sourceClient.newCall(request).execute()) {
+                if (!response.isSuccessful()) {
+                    throw new IOException("소스 오디오 다운로드 실패: " + response.code());
+                }
+                try (Source source = response.body().source()) {
+                    long written = sink.writeAll(source);
+                    if (contentLength >= 0 && written != contentLength) {
+                        throw new IOException("소스 오디오 길이 불일치: " + written + "/" + contentLength);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 여러 번 보내도 서버 상태가 한 번 보낸 것과 같은 요청 표시 (POST라도 재시도 가능)
+     */
+    private enum Idempotent { INSTANCE }
+
+    /**
+     * 429 / 5xx 응답과 연결 오류를 지수 백오프 + 전체 지터로 재시도
+     * Retry-After 헤더가 있으면 그 시간 이상 기다립니다.
+     * 멱등 메서드(GET/HEAD/PUT/DELETE/OPTIONS)이거나 멱등으로 표시한 요청만 재시도합니다.
+     */
+    private class RetryInterceptor implements Interceptor {
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            Request request = chain.request();
+            if (!isIdempotent(request)) {
+                return chain.proceed(request);
+            }
+            for (int attempt = 0; ; attempt++) {
+                Response response;
+                try {
+                    response = chain.proceed(request);
+                } catch (InterruptedIOException e) {
+                    throw e; // 타임아웃/취소는 재시도하지 않음
+                } catch (IOException e) {
+                    if (attempt >= maxRetries || chain.call().isCanceled()) {
+                        throw e;
+                    }
+                    LOGGER.warn("ElevenLabs 요청 실패, 재시도 {}/{}: {}", attempt + 1, maxRetries, e.getMessage());
+                    sleep(backoffDelay(attempt, null));
+                    continue;
+                }
+
+                if (!isRetryable(response.code()) || attempt >= maxRetries) {
+                    return response;
+                }
+                long delayMs = backoffDelay(attempt, response.header("Retry-After"));
+                LOGGER.warn("ElevenLabs 응답 {}, {}ms 후 재시도 {}/{}", response.code(), delayMs, attempt + 1, maxRetries);
+                response.close();
+                sleep(delayMs);
+            }
+        }
+
+        private boolean isIdempotent(Request request) {
+            switch (request.method()) {
+                case "GET":
+                case "HEAD":
+                case "PUT":
+                case "DELETE":
+                case "OPTIONS":
+                    return true;
+                default:
+                    return request.tag(Idempotent.class) != null;
+            }
+        }
+
+        private boolean isRetryable(int code) {
+            return code == 429 || code >= 500;
+        }
+
+        private long backoffDelay(int attempt, String retryAfter) {
+            long cap = Math.min(retryMaxDelayMs, retryBaseDelayMs * (1L << Math.min(attempt, 20)));
+            long delayMs = ThreadLocalRandom.current().nextLong(Math.max(cap, 1) + 1);
+            if (retryAfter != null) {
+                try {
+                    delayMs = Math.max(delayMs, Math.min(Long.parseLong(retryAfter.trim()) * 1000, retryMaxDelayMs));
+                } catch (NumberFormatException ignored) {
+                    // HTTP-date 형식은 무시하고 백오프 사용
+                }
+            }
+            return delayMs;
+        }
+
+        private void sleep(long delayMs) throws IOException {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("재시도 대기 중단");
+            }
         }
     }
 
@@ -121,19 +394,32 @@ public class ElevenLabsClient_team_api {
         return Paths.get(filePath).getFileName().toString();
     }
 
+    /**
+     * 요청을 실행하고 응답 코드를 호출 보호 계층에 기록 (연결 오류는 기록 없이 닫혀 실패로 처리됨)
+     */
+    private Response execute(ExternalApiGuard.Permit permit, Request request) throws IOException {
+        Response response = client.newCall(request).execute();
+        permit.record(response.code());
+        return response;
+    }
+
     /**
      * 요청 생성 메서드.
      *
-     * @param endpoint   API 엔드포인트
+     * @param endpoint    API 엔드포인트
      * @param requestBody 요청 본문
+     * @param idempotent  다시 보내도 결과가 같은 요청인지 (true일 때만 429/5xx/연결 오류 재시도)
      * @return 생성된 Request
      */
-    private Request createRequest(String endpoint, RequestBody requestBody) {
-        return new Request.Builder()
+    private Request createRequest(String endpoint, RequestBody requestBody, boolean idempotent) {
+        Request.Builder builder = new Request.Builder()
                 .url(baseUrl + endpoint)
                 .addHeader("xi-api-key", apiKey)
-                .post(requestBody)
-                .build();
+                .post(requestBody);
+        if (idempotent) {
+            builder.tag(Idempotent.class, Idempotent.INSTANCE);
+        }
+        return builder.build();
     }
 
     /**
@@ -0,0 +1,505 @@
+package com.fourformance.tts_vc_web.common.util;
+
+import com.fourformance.tts_vc_web.common.constant.ExternalApiProvider;
+import com.fourformance.tts_vc_web.common.exception.common.BusinessException;
+import com.fourformance.tts_vc_web.common.exception.common.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 API(Google TTS, ElevenLabs) 호출 보호 계층
+ * - 토큰 버킷: 제공자 전체와 회원별 초당 호출 수 제한
+ * - AIMD 동시 호출 수: 응답이 빠르면 1씩 늘리고, 429를 받거나 응답이 느려지면 비율로 줄임
+ * - 토큰이나 동시 호출 여유가 없으면 기다리지 않고 바로 거절 (리스너 스레드를 재우지 않고 작업을 지연 재시도 큐로 보냄)
+ * - 서킷 브레이커: 연속 실패가 임계값을 넘으면 호출을 막고 해당 작업 큐 리스너를 일시정지해서
+ *   메시지가 DLQ로 넘어가지 않도록 하고, 대기 시간이 지나면 리스너를 다시 시작해 시험 호출 (반열림 상태에서는 한 번에 하나만 허용)
+ *
+ * 사용법: acquire 로 받은 Permit 으로 호출하고 결과를 기록한 뒤 닫습니다. (기록 없이 닫으면 실패로 처리)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ExternalApiGuard {
+
+    // 응답이 목표 지연 시간보다 느릴 때 동시 호출 수 감소 비율
+    private static final double LATENCY_DECREASE_FACTOR = 0.9;
+
+    // 이 시간 동안 쓰지 않은 회원별 버킷은 정리
+    private static final long MEMBER_BUCKET_IDLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final Environment environment;
+    private final ObjectProvider<RabbitListenerEndpointRegistry> listenerRegistryProvider;
+
+    @Value("${external-api.guard.enabled:true}")
+    private boolean enabled;
+
+    private final Map<ExternalApiProvider, ProviderState> providers = new EnumMap<>(ExternalApiProvider.class);
+
+    private ScheduledExecutorService scheduler;
+
+    enum Outcome {
+        SUCCESS,      // 정상 응답
+        CLIENT_ERROR, // 요청 오류 (4xx), 제공자 상태와 무관
+        THROTTLED,    // 429 / RESOURCE_EXHAUSTED
+        FAILURE       // 5xx, 연결 오류 등
+    }
+
+    private enum BreakerState {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    @PostConstruct
+    public void init() {
+        for (ExternalApiProvider provider : ExternalApiProvider.values()) {
+            providers.put(provider, new ProviderState(provider));
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "external-api-guard");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::cleanUpMemberBuckets, 1, 1, TimeUnit.MINUTES);
+        log.info("ExternalApiGuard 초기화 완료: enabled={}", enabled);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 외부 API 호출 허가를 받습니다.
+     *
+     * @param memberId 호출한 회원 ID (없으면 제공자 전체 제한만 적용)
+     * @throws BusinessException 서킷이 열려 있으면 EXTERNAL_API_CIRCUIT_OPEN,
+     *                           바로 쓸 수 있는 토큰이나 동시 호출 여유가 없으면 EXTERNAL_API_RATE_LIMITED
+     */
+    public Permit acquire(ExternalApiProvider provider, Long memberId) {
+        ProviderState state = providers.get(provider);
+        if (!enabled) {
+            return new Permit(null);
+        }
+
+        boolean probe = checkCallPermitted(state);
+
+        boolean acquired = false;
+        try {
+            takeTokens(state, memberId);
+            if (!state.limiter.tryAcquire()) {
+                state.rateLimitedCount.incrementAndGet();
+                throw new BusinessException(ErrorCode.EXTERNAL_API_RATE_LIMITED);
+            }
+            acquired = true;
+        } finally {
+            // 시험 호출 허가를 받고도 호출하지 못했으면 다른 호출이 시험할 수 있도록 반납
+            if (probe && !acquired) {
+                state.probeInFlight.set(false);
+            }
+        }
+
+        state.permittedCount.incrementAndGet();
+        return new Permit(state, probe);
+    }
+
+    /**
+     * 호출 보호 계층이 호출을 거절해서 발생한 예외인지 확인 (작업을 실패 처리하지 않고 다시 큐에 넣을 때 사용)
+     */
+    public static boolean isRejection(Throwable e) {
+        if (!(e instanceof BusinessException)) {
+            return false;
+        }
+        ErrorCode errorCode = ((BusinessException) e).getErrorCode();
+        return errorCode == ErrorCode.EXTERNAL_API_RATE_LIMITED || errorCode == ErrorCode.EXTERNAL_API_CIRCUIT_OPEN;
+    }
+
+    /**
+     * 제공자별 지표 반환
+     */
+    public Map<String, Map<String, Object>> getStats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        for (ProviderState state : providers.values()) {
+            Map<String, Object> providerStats = new LinkedHashMap<>();
+            synchronized (state) {
+                providerStats.put("breakerState", state.breakerState.name());
+                providerStats.put("consecutiveFailures", state.consecutiveFailures);
+            }
+            providerStats.put("concurrencyLimit", state.limiter.getLimit());
+            providerStats.put("inFlight", state.limiter.getInFlight());
+            providerStats.put("permits", state.permittedCount.get());
+            providerStats.put("rateLimitedRejections", state.rateLimitedCount.get());
+            providerStats.put("breakerRejections", state.breakerRejectedCount.get());
+            providerStats.put("throttledResponses", state.throttledCount.get());
+            providerStats.put("failures", state.failureCount.get());
+            providerStats.put("breakerOpens", state.breakerOpenCount.get());
+            providerStats.put("memberBuckets", state.memberBuckets.size());
+            stats.put(state.provider.getPropertyKey(), providerStats);
+        }
+        return stats;
+    }
+
+    // 제공자 버킷과 회원 버킷에서 모두 토큰을 받음 (하나라도 없으면 기다리지 않고 거절)
+    private void takeTokens(ProviderState state, Long memberId) {
+        TokenBucket memberBucket = memberId == null || state.memberRatePerSecond <= 0 ? null
+                : state.memberBuckets.computeIfAbsent(memberId,
+                        id -> new TokenBucket(state.memberRatePerSecond, state.memberBurst));
+
+        if (memberBucket == null || memberBucket.tryTake() == 0) {
+            if (state.providerBucket == null || state.providerBucket.tryTake() == 0) {
+                return;
+            }
+            if (memberBucket != null) {
+                memberBucket.refund(); // 제공자 토큰을 못 받았으면 회원 토큰은 돌려줌
+            }
+        }
+        state.rateLimitedCount.incrementAndGet();
+        throw new BusinessException(ErrorCode.EXTERNAL_API_RATE_LIMITED);
+    }
+
+    /**
+     * 서킷 상태 확인
+     * 반열림 상태에서는 시험 호출 하나만 허용하고, 결과가 나올 때까지 나머지는 서킷이 열린 것처럼 거절합니다.
+     *
+     * @return 시험 호출이면 true
+     */
+    private boolean checkCallPermitted(ProviderState state) {
+        synchronized (state) {
+            if (state.breakerState == BreakerState.CLOSED) {
+                return false;
+            }
+            if (state.breakerState == BreakerState.HALF_OPEN && state.probeInFlight.compareAndSet(false, true)) {
+                return true;
+            }
+            state.breakerRejectedCount.incrementAndGet();
+            throw new BusinessException(ErrorCode.EXTERNAL_API_CIRCUIT_OPEN);
+        }
+    }
+
+    // 호출 결과를 동시 호출 수와 서킷 상태에 반영
+    private void complete(ProviderState state, Outcome outcome, long latencyNanos, boolean probe) {
+        state.limiter.release(outcome, latencyNanos);
+        if (outcome == Outcome.THROTTLED) {
+            state.throttledCount.incrementAndGet();
+        } else if (outcome == Outcome.FAILURE) {
+            state.failureCount.incrementAndGet();
+        }
+
+        synchronized (state) {
+            if (state.breakerState == BreakerState.HALF_OPEN && !probe) {
+                return; // 서킷이 열리기 전에 시작한 호출의 결과는 반열림 상태 판단에 쓰지 않음
+            }
+            if (probe) {
+                state.probeInFlight.set(false);
+            }
+
+            if (outcome == Outcome.SUCCESS || outcome == Outcome.CLIENT_ERROR) {
+                state.consecutiveFailures = 0;
+                if (state.breakerState == BreakerState.HALF_OPEN) {
+                    state.breakerState = BreakerState.CLOSED;
+                    log.info("외부 API 서킷 닫힘: provider={}", state.provider);
+                }
+                return;
+            }
+
+            state.consecutiveFailures++;
+            boolean shouldOpen = state.breakerState == BreakerState.HALF_OPEN
+                    || (state.breakerState == BreakerState.CLOSED && state.consecutiveFailures >= state.failureThreshold);
+            if (shouldOpen) {
+                openBreaker(state);
+            }
+        }
+    }
+
+    // 서킷을 열고 리스너를 일시정지, 대기 시간 후 반열림으로 전환 (state 잠금 안에서 호출)
+    private void openBreaker(ProviderState state) {
+        state.breakerState = BreakerState.OPEN;
+        state.breakerOpenCount.incrementAndGet();
+        log.warn("외부 API 서킷 열림: provider={}, consecutiveFailures={}, openDurationMs={}",
+                state.provider, state.consecutiveFailures, state.openDurationMs);
+
+        // 리스너 정지는 진행 중인 소비자 스레드를 기다리므로 소비자 스레드가 아닌 스케줄러에서 수행
+        scheduler.execute(() -> setListenerRunning(state.provider, false));
+        scheduler.schedule(() -> halfOpen(state), state.openDurationMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void halfOpen(ProviderState state) {
+        synchronized (state) {
+            if (state.breakerState != BreakerState.OPEN) {
+                return;
+            }
+            state.breakerState = BreakerState.HALF_OPEN;
+            state.probeInFlight.set(false);
+            log.info("외부 API 서킷 반열림, 시험 호출 허용: provider={}", state.provider);
+        }
+        setListenerRunning(state.provider, true);
+    }
+
+    private void setListenerRunning(ExternalApiProvider provider, boolean running) {
+        RabbitListenerEndpointRegistry registry = listenerRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        MessageListenerContainer container = registry.getListenerContainer(provider.getListenerId());
+        if (container == null || container.isRunning() == running) {
+            return;
+        }
+        try {
+            if (running) {
+                container.start();
+            } else {
+                container.stop();
+            }
+            log.info("작업 큐 리스너 {}: listenerId={}", running ? "재시작" : "일시정지", provider.getListenerId());
+        } catch (RuntimeException e) {
+            log.error("작업 큐 리스너 상태 변경 실패: listenerId={}", provider.getListenerId(), e);
+        }
+    }
+
+    private void cleanUpMemberBuckets() {
+        long now = System.nanoTime();
+        for (ProviderState state : providers.values()) {
+            state.memberBuckets.values().removeIf(bucket -> bucket.isIdleAndFull(now, MEMBER_BUCKET_IDLE_NANOS));
+        }
+    }
+
+    /**
+     * 외부 API 호출 허가 (호출 후 결과를 기록하고 닫아야 함)
+     */
+    public final class Permit implements AutoCloseable {
+        private final ProviderState state;
+        private final boolean probe; // 반열림 상태의 시험 호출
+        private final long startedAt = System.nanoTime();
+        private Outcome outcome;
+        private long latencyNanos;
+        private boolean closed;
+
+        private Permit(ProviderState state) {
+            this(state, false);
+        }
+
+        private Permit(ProviderState state, boolean probe) {
+            this.state = state;
+            this.probe = probe;
+        }
+
+        public void success() {
+            record(Outcome.SUCCESS);
+        }
+
+        public void clientError() {
+            record(Outcome.CLIENT_ERROR);
+        }
+
+        public void throttled() {
+            record(Outcome.THROTTLED);
+        }
+
+        public void failure() {
+            record(Outcome.FAILURE);
+        }
+
+        /**
+         * HTTP 상태 코드로 결과 기록
+         */
+        public void record(int httpStatus) {
+            if (httpStatus == 429) {
+                throttled();
+            } else if (httpStatus >= 500) {
+                failure();
+            } else if (httpStatus >= 400) {
+                clientError();
+            } else {
+                success();
+            }
+        }
+
+        private void record(Outcome result) {
+            if (outcome == null) {
+                outcome = result;
+                latencyNanos = System.nanoTime() - startedAt; // 응답을 받을 때까지의 시간
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (state != null) {
+                complete(state, outcome == null ? Outcome.FAILURE : outcome,
+                        outcome == null ? System.nanoTime() - startedAt : latencyNanos, probe);
+            }
+        }
+    }
+
+    /**
+     * 제공자별 설정과 상태 (external-api.{provider}.* 설정 사용)
+     */
+    private final class ProviderState {
+        private final ExternalApiProvider provider;
+
+        private final TokenBucket providerBucket;
+        private final double memberRatePerSecond;
+        private final double memberBurst;
+        private final Map<Long, TokenBucket> memberBuckets = new ConcurrentHashMap<>();
+        private final AdaptiveLimiter limiter;
+
+        private final int failureThreshold;
+        private final long openDurationMs;
+        private BreakerState breakerState = BreakerState.CLOSED;
+        private int consecutiveFailures;
+        private final AtomicBoolean probeInFlight = new AtomicBoolean(false); // 반열림 상태의 시험 호출 진행 여부
+
+        private final AtomicLong permittedCount = new AtomicLong();
+        private final AtomicLong rateLimitedCount = new AtomicLong();
+        private final AtomicLong breakerRejectedCount = new AtomicLong();
+        private final AtomicLong throttledCount = new AtomicLong();
+        private final AtomicLong failureCount = new AtomicLong();
+        private final AtomicLong breakerOpenCount = new AtomicLong();
+
+        private ProviderState(ExternalApiProvider provider) {
+            this.provider = provider;
+            String prefix = "external-api." + provider.getPropertyKey() + ".";
+
+            double ratePerSecond = environment.getProperty(prefix + "rate-per-second", Double.class, 10.0);
+            double burst = environment.getProperty(prefix + "burst", Double.class, ratePerSecond);
+            providerBucket = ratePerSecond > 0 ? new TokenBucket(ratePerSecond, burst) : null;
+
+            memberRatePerSecond = environment.getProperty(prefix + "member-rate-per-second", Double.class, 2.0);
+            memberBurst = environment.getProperty(prefix + "member-burst", Double.class, memberRatePerSecond);
+
+            int minConcurrency = Math.max(environment.getProperty(prefix + "min-concurrency", Integer.class, 1), 1);
+            int maxConcurrency = Math.max(environment.getProperty(prefix + "max-concurrency", Integer.class, 16),
+                    minConcurrency);
+            int initialConcurrency = environment.getProperty(prefix + "initial-concurrency", Integer.class, 4);
+            long targetLatencyMs = environment.getProperty(prefix + "target-latency-ms", Long.class, 5000L);
+            double decreaseFactor = environment.getProperty(prefix + "decrease-factor", Double.class, 0.5);
+            limiter = new AdaptiveLimiter(initialConcurrency, minConcurrency, maxConcurrency,
+                    TimeUnit.MILLISECONDS.toNanos(targetLatencyMs), decreaseFactor);
+
+            failureThreshold = Math.max(environment.getProperty(prefix + "breaker.failure-threshold", Integer.class, 5), 1);
+            openDurationMs = environment.getProperty(prefix + "breaker.open-duration-ms", Long.class, 30000L);
+        }
+    }
+
+    /**
+     * 토큰 버킷 (초당 ratePerSecond 개씩 채워지고 최대 capacity 개까지 쌓임)
+     */
+    static final class TokenBucket {
+        private final double tokensPerNano;
+        private final double capacity;
+        private double tokens;
+        private long refilledAt;
+        private long lastUsedAt;
+
+        TokenBucket(double ratePerSecond, double capacity) {
+            this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = Math.max(capacity, 1);
+            this.tokens = this.capacity;
+            this.refilledAt = System.nanoTime();
+            this.lastUsedAt = refilledAt;
+        }
+
+        /**
+         * 토큰을 하나 가져옵니다.
+         *
+         * @return 0이면 성공, 아니면 다음 토큰까지 기다려야 하는 시간 (ns)
+         */
+        synchronized long tryTake() {
+            long now = refill();
+            lastUsedAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max((long) Math.ceil((1 - tokens) / tokensPerNano), 1);
+        }
+
+        synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+
+        synchronized boolean isIdleAndFull(long now, long idleNanos) {
+            refill();
+            return tokens >= capacity && now - lastUsedAt > idleNanos;
+        }
+
+        private long refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+            return now;
+        }
+    }
+
+    /**
+     * AIMD 방식으로 한도를 조절하는 동시 호출 제한
+     * - 목표 지연 시간 안에 성공하면 한도를 1/limit 씩 증가 (한도만큼 성공하면 1 증가)
+     * - 429를 받으면 decreaseFactor, 목표보다 느리면 LATENCY_DECREASE_FACTOR 비율로 감소
+     */
+    static final class AdaptiveLimiter {
+        private final int minLimit;
+        private final int maxLimit;
+        private final long targetLatencyNanos;
+        private final double decreaseFactor;
+        private double limit;
+        private int inFlight;
+
+        AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, long targetLatencyNanos,
+                                double decreaseFactor) {
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.targetLatencyNanos = targetLatencyNanos;
+            this.decreaseFactor = decreaseFactor;
+            this.limit = Math.min(Math.max(initialLimit, minLimit), maxLimit);
+        }
+
+        synchronized boolean tryAcquire() {
+            if (inFlight >= (int) limit) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        }
+
+        synchronized void release(Outcome outcome, long latencyNanos) {
+            inFlight--;
+            if (outcome == Outcome.THROTTLED) {
+                limit = Math.max(minLimit, limit * decreaseFactor);
+            } else if (outcome == Outcome.SUCCESS) {
+                limit = latencyNanos <= targetLatencyNanos
+                        ? Math.min(maxLimit, limit + 1.0 / limit)
+                        : Math.max(minLimit, limit * LATENCY_DECREASE_FACTOR);
+            }
+        }
+
+        synchronized int getLimit() {
+            return (int) limit;
+        }
+
+        synchronized int getInFlight() {
+            return inFlight;
+        }
+    }
+}
@@ -1,8 +1,26 @@
 package com.fourformance.tts_vc_web.common.util;
 
+import com.fourformance.tts_vc_web.common.constant.ExternalApiProvider;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.ClientContext;
+import com.google.api.gax.rpc.StatusCode;
 import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.texttospeech.v1.AudioConfig;
+import com.google.cloud.texttospeech.v1.SynthesisInput;
+import com.google.cloud.texttospeech.v1.SynthesizeSpeechResponse;
 import com.google.cloud.texttospeech.v1.TextToSpeechClient;
 import com.google.cloud.texttospeech.v1.TextToSpeechSettings;
+import com.google.cloud.texttospeech.v1.VoiceSelectionParams;
+import com.google.cloud.texttospeech.v1.stub.GrpcTextToSpeechStub;
+import com.google.cloud.texttospeech.v1beta1.SynthesizeSpeechRequest;
+import com.google.cloud.texttospeech.v1beta1.Timepoint;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -11,18 +29,49 @@ import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class GoogleTTSClient {
 
+    private final ExternalApiGuard externalApiGuard; // 호출량 제한 / 서킷 브레이커
+
     @Value("${google.cloud.credentials.path}")
     private String credentialsPath;
 
     private TextToSpeechClient textToSpeechClient;
 
+    // SSML <mark> 타임포인트용 v1beta1 클라이언트 (textToSpeechClient와 같은 gRPC 채널 사용)
+    private com.google.cloud.texttospeech.v1beta1.TextToSpeechClient markClient;
+
+    /**
+     * SSML 합성 결과: 오디오와 mark 이름별 시작 시각(초)
+     */
+    public static final class MarkedSpeech {
+        private final ByteString audioContent;
+        private final Map<String, Double> markSeconds;
+
+        private MarkedSpeech(ByteString audioContent, Map<String, Double> markSeconds) {
+            this.audioContent = audioContent;
+            this.markSeconds = markSeconds;
+        }
+
+        public ByteString getAudioContent() {
+            return audioContent;
+        }
+
+        public Map<String, Double> getMarkSeconds() {
+            return markSeconds;
+        }
+    }
+
     /**
      * 애플리케이션 시작 시 TextToSpeechClient 초기화
+     * v1 / v1beta1 클라이언트가 하나의 ClientContext(gRPC 채널, 인증, 실행기)를 공유합니다.
      */
     @PostConstruct
     public void init() {
@@ -32,7 +81,10 @@ public class GoogleTTSClient {
             TextToSpeechSettings settings = TextToSpeechSettings.newBuilder()
                     .setCredentialsProvider(() -> credentials)
                     .build();
-            textToSpeechClient = TextToSpeechClient.create(settings);
+            ClientContext clientContext = ClientContext.create(settings);
+            textToSpeechClient = TextToSpeechClient.create(GrpcTextToSpeechStub.create(clientContext));
+            markClient = com.google.cloud.texttospeech.v1beta1.TextToSpeechClient.create(
+                    com.google.cloud.texttospeech.v1beta1.stub.GrpcTextToSpeechStub.create(clientContext));
             log.info("GoogleTTSClient 초기화 완료");
         } catch (IOException e) {
             log.error("GoogleTTSClient 초기화 실패: {}", e.getMessage());
@@ -49,11 +101,104 @@ public class GoogleTTSClient {
         return textToSpeechClient;
     }
 
+    /**
+     * 호출량 제한과 서킷 브레이커를 거쳐 음성 합성
+     *
+     * @param memberId 요청한 회원 ID (회원별 호출량 제한에 사용, 없으면 null)
+     * @return 합성 응답
+     */
+    public SynthesizeSpeechResponse synthesizeSpeech(Long memberId, SynthesisInput input, VoiceSelectionParams voice,
+                                                     AudioConfig audioConfig) {
+        try (ExternalApiGuard.Permit permit = externalApiGuard.acquire(ExternalApiProvider.GOOGLE_TTS, memberId)) {
+            try {
+                SynthesizeSpeechResponse response = textToSpeechClient.synthesizeSpeech(input, voice, audioConfig);
+                permit.success();
+                return response;
+            } catch (ApiException e) {
+                recordFailure(permit, e.getStatusCode().getCode());
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * <mark> 태그가 들어간 SSML을 비동기로 합성하고 mark별 시작 시각을 함께 받습니다.
+     * 호출은 허가를 받은 뒤 바로 반환되므로, 여러 요청을 연달아 보내면 같은 gRPC 채널 위에서 동시에 진행됩니다.
+     * (타임포인트는 v1beta1 API에만 있어 v1 요청 파라미터를 같은 필드 번호의 v1beta1 메시지로 변환해 보냄)
+     *
+     * @param memberId 요청한 회원 ID (회원별 호출량 제한에 사용, 없으면 null)
+     * @param ssml     <speak>로 감싼 SSML
+     * @return 합성 결과 (실패 시 ApiException으로 완료)
+     */
+    public CompletableFuture<MarkedSpeech> synthesizeMarkedSsmlAsync(Long memberId, String ssml,
+                                                                     VoiceSelectionParams voice,
+                                                                     AudioConfig audioConfig) {
+        SynthesizeSpeechRequest request;
+        try {
+            request = SynthesizeSpeechRequest.newBuilder()
+                    .setInput(com.google.cloud.texttospeech.v1beta1.SynthesisInput.newBuilder().setSsml(ssml))
+                    .setVoice(com.google.cloud.texttospeech.v1beta1.VoiceSelectionParams.parseFrom(voice.toByteString()))
+                    .setAudioConfig(com.google.cloud.texttospeech.v1beta1.AudioConfig.parseFrom(audioConfig.toByteString()))
+                    .addEnableTimePointing(SynthesizeSpeechRequest.TimepointType.SSML_MARK)
+                    .build();
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException("TTS 요청 변환 실패", e);
+        }
+
+        // 허가는 호출 스레드에서 받고, 호출 결과가 나오면 기록 후 반납
+        ExternalApiGuard.Permit permit = externalApiGuard.acquire(ExternalApiProvider.GOOGLE_TTS, memberId);
+        CompletableFuture<MarkedSpeech> result = new CompletableFuture<>();
+        ApiFuture<com.google.cloud.texttospeech.v1beta1.SynthesizeSpeechResponse> future;
+        try {
+            future = markClient.synthesizeSpeechCallable().futureCall(request);
+        } catch (RuntimeException e) {
+            permit.close();
+            throw e;
+        }
+
+        ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+            @Override
+            public void onSuccess(com.google.cloud.texttospeech.v1beta1.SynthesizeSpeechResponse response) {
+                permit.success();
+                permit.close();
+                Map<String, Double> markSeconds = new HashMap<>();
+                for (Timepoint timepoint : response.getTimepointsList()) {
+                    markSeconds.put(timepoint.getMarkName(), timepoint.getTimeSeconds());
+                }
+                result.complete(new MarkedSpeech(response.getAudioContent(), markSeconds));
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                if (t instanceof ApiException) {
+                    recordFailure(permit, ((ApiException) t).getStatusCode().getCode());
+                } else {
+                    permit.failure();
+                }
+                permit.close();
+                result.completeExceptionally(t);
+            }
+        }, MoreExecutors.directExecutor());
+        return result;
+    }
+
+    // gRPC 상태 코드로 호출 결과 분류 (할당량 초과는 429, 서버 측 오류는 실패, 나머지는 요청 오류)
+    private void recordFailure(ExternalApiGuard.Permit permit, StatusCode.Code code) {
+        switch (code) {
+            case RESOURCE_EXHAUSTED -> permit.throttled();
+            case UNAVAILABLE, INTERNAL, DEADLINE_EXCEEDED, UNKNOWN, ABORTED -> permit.failure();
+            default -> permit.clientError();
+        }
+    }
+
     /**
      * 애플리케이션 종료 시 TextToSpeechClient 종료
      */
     @PreDestroy
     public void close() {
+        if (markClient != null) {
+            markClient.close();
+        }
         if (textToSpeechClient != null) {
             textToSpeechClient.close();
             log.info("GoogleTTSClient 종료");
@@ -0,0 +1,361 @@
+package com.fourformance.tts_vc_web.common.util;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * InputStream / Channel 을 임시 파일 없이 S3에 업로드하는 클라이언트
+ * - 임계값보다 작으면 단건 putObject (스트림을 그대로 전달하면서 MD5를 계산해 S3 ETag와 비교)
+ * - 임계값 이상이거나 길이를 모르면 멀티파트 업로드 (파트 병렬 전송, 파트마다 Content-MD5 전송)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class S3MultipartUploader {
+
+    // S3 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외)
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${s3.upload.multipart-threshold:16777216}")
+    private long multipartThreshold;
+
+    @Value("${s3.upload.part-size:8388608}")
+    private int partSize;
+
+    @Value("${s3.upload.parallelism:4}")
+    private int parallelism;
+
+    private final AmazonS3Client amazonS3Client;
+
+    private ExecutorService partUploadExecutor;
+
+    /**
+     * 파트 업로드용 스레드 풀 초기화
+     */
+    @PostConstruct
+    public void init() {
+        partSize = Math.max(partSize, MIN_PART_SIZE);
+        parallelism = Math.max(parallelism, 1);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        partUploadExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "s3-part-upload-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("S3MultipartUploader 초기화 완료: threshold={}, partSize={}, parallelism={}",
+                multipartThreshold, partSize, parallelism);
+    }
+
+    /**
+     * 애플리케이션 종료 시 스레드 풀 종료
+     */
+    @PreDestroy
+    public void close() {
+        if (partUploadExecutor != null) {
+            partUploadExecutor.shutdown();
+        }
+    }
+
+    /**
+     * 스트림을 S3에 업로드합니다.
+     *
+     * @param key           저장할 버킷 경로
+     * @param inputStream   업로드할 데이터 (호출자가 닫음)
+     * @param contentLength 데이터 길이, 모르면 -1
+     * @param contentType   Content-Type
+     * @return 업로드된 바이트 수
+     * @throws IOException 스트림 읽기 실패
+     */
+    public long upload(String key, InputStream inputStream, long contentLength, String contentType)
+            throws IOException {
+
+        // 길이를 알고 임계값보다 작으면 단건 업로드 (버퍼에 모으지 않고 스트림 그대로 전송)
+        if (contentLength >= 0 && contentLength < multipartThreshold) {
+            ObjectMetadata metadata = createMetadata(contentType);
+            metadata.setContentLength(contentLength);
+            ChecksumInputStream checksumStream = new ChecksumInputStream(inputStream);
+            PutObjectResult result = amazonS3Client.putObject(bucket, key, checksumStream, metadata);
+            verifyChecksum(key, checksumStream, contentLength, result);
+            return contentLength;
+        }
+
+        // 길이를 모르는 경우 첫 파트를 읽어보고 한 파트에 다 들어오면 단건 업로드
+        byte[] firstPart = readPart(inputStream);
+        if (firstPart.length < partSize) {
+            ObjectMetadata metadata = createMetadata(contentType);
+            metadata.setContentLength(firstPart.length);
+            amazonS3Client.putObject(bucket, key, new ByteArrayInputStream(firstPart), metadata);
+            return firstPart.length;
+        }
+
+        return uploadMultipart(key, firstPart, inputStream, contentType);
+    }
+
+    /**
+     * 채널을 S3에 업로드합니다.
+     */
+    public long upload(String key, ReadableByteChannel channel, long contentLength, String contentType)
+            throws IOException {
+        return upload(key, Channels.newInputStream(channel), contentLength, contentType);
+    }
+
+    /**
+     * 멀티파트 업로드 수행
+     * 동시에 메모리에 올라가는 파트는 parallelism + 1 개로 제한됩니다.
+     */
+    private long uploadMultipart(String key, byte[] firstPart, InputStream inputStream, String contentType)
+            throws IOException {
+
+        String uploadId = amazonS3Client.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, key, createMetadata(contentType))).getUploadId();
+
+        Semaphore inFlight = new Semaphore(parallelism);
+        List<Future<PartETag>> futures = new ArrayList<>();
+        long totalBytes = 0;
+
+        try {
+            byte[] part = firstPart;
+            int partNumber = 1;
+
+            while (part.length > 0) {
+                inFlight.acquire();
+                futures.add(submitPart(key, uploadId, partNumber++, part, inFlight));
+                totalBytes += part.length;
+
+                if (part.length < partSize) {
+                    break; // 마지막 파트
+                }
+                part = readPart(inputStream);
+            }
+
+            List<PartETag> partETags = new ArrayList<>(futures.size());
+            for (Future<PartETag> future : futures) {
+                partETags.add(future.get());
+            }
+
+            amazonS3Client.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+            log.info("S3 멀티파트 업로드 완료: key={}, parts={}, bytes={}", key, partETags.size(), totalBytes);
+            return totalBytes;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(key, uploadId, futures);
+            throw new IOException("S3 멀티파트 업로드 중단: " + key, e);
+        } catch (ExecutionException e) {
+            abort(key, uploadId, futures);
+            if (e.getCause() instanceof AmazonClientException) {
+                throw (AmazonClientException) e.getCause();
+            }
+            throw new IOException("S3 파트 업로드 실패: " + key, e.getCause());
+        } catch (IOException | RuntimeException e) {
+            abort(key, uploadId, futures);
+            throw e;
+        }
+    }
+
+    private Future<PartETag> submitPart(String key, String uploadId, int partNumber, byte[] part,
+                                        Semaphore inFlight) {
+        return partUploadExecutor.submit(() -> {
+            try {
+                UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withPartSize(part.length)
+                        .withMD5Digest(Base64.getEncoder().encodeToString(newMd5().digest(part)))
+                        .withInputStream(new ByteArrayInputStream(part));
+                return amazonS3Client.uploadPart(request).getPartETag();
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    /**
+     * 업로드하면서 계산한 MD5와 길이를 S3 응답과 비교합니다.
+     * 불일치하면 잘못 저장된 객체를 삭제하고 예외를 던집니다.
+     * (KMS 암호화 객체는 ETag가 MD5가 아니므로 길이만 확인)
+     */
+    private void verifyChecksum(String key, ChecksumInputStream checksumStream, long contentLength,
+                                PutObjectResult result) throws IOException {
+        String md5Hex = HexFormat.of().formatHex(checksumStream.digest());
+        String eTag = result.getETag();
+        boolean md5Comparable = eTag != null && result.getMetadata().getSSEAwsKmsKeyId() == null;
+
+        if (checksumStream.getCount() != contentLength || (md5Comparable && !md5Hex.equalsIgnoreCase(eTag))) {
+            amazonS3Client.deleteObject(bucket, key);
+            throw new IOException("S3 업로드 체크섬 불일치: key=" + key + ", bytes=" + checksumStream.getCount()
+                    + "/" + contentLength + ", md5=" + md5Hex + ", eTag=" + eTag);
+        }
+        log.debug("S3 업로드 완료: key={}, bytes={}, md5={}", key, contentLength, md5Hex);
+    }
+
+    /**
+     * 실패한 멀티파트 업로드를 취소하여 S3에 미완료 파트가 남지 않도록 합니다.
+     */
+    private void abort(String key, String uploadId, List<Future<PartETag>> futures) {
+        futures.forEach(future -> future.cancel(true));
+        try {
+            amazonS3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (AmazonClientException e) {
+            log.warn("S3 멀티파트 업로드 취소 실패: key={}, uploadId={}", key, uploadId, e);
+        }
+    }
+
+    /**
+     * 스트림에서 최대 partSize 만큼 읽습니다. 스트림이 끝나면 더 짧은 배열을 반환합니다.
+     */
+    private byte[] readPart(InputStream inputStream) throws IOException {
+        byte[] buffer = new byte[partSize];
+        int offset = 0;
+        while (offset < partSize) {
+            int read = inputStream.read(buffer, offset, partSize - offset);
+            if (read == -1) {
+                break;
+            }
+            offset += read;
+        }
+        return offset == partSize ? buffer : Arrays.copyOf(buffer, offset);
+    }
+
+    private static MessageDigest newMd5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 읽은 바이트로 MD5와 길이를 함께 계산하는 스트림
+     * SDK가 재시도할 때 mark/reset 으로 되감으므로, mark 시점의 계산 상태를 보관했다가 reset 시 되돌립니다.
+     */
+    private static final class ChecksumInputStream extends FilterInputStream {
+
+        private MessageDigest digest = newMd5();
+        private long count;
+
+        // mark 하지 않고 reset 하면 처음 위치로 돌아가는 스트림(ByteString.newInput 등) 기준의 초기 상태
+        private MessageDigest markedDigest = newMd5();
+        private long markedCount;
+
+        private ChecksumInputStream(InputStream inputStream) {
+            super(inputStream);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1) {
+                digest.update((byte) value);
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                digest.update(buffer, offset, read);
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // 건너뛴 바이트도 체크섬에 포함되도록 읽어서 버림
+            byte[] buffer = new byte[8192];
+            long skipped = 0;
+            while (skipped < n) {
+                int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (read == -1) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+            super.mark(readLimit);
+            try {
+                markedDigest = (MessageDigest) digest.clone();
+                markedCount = count;
+            } catch (CloneNotSupportedException e) {
+                markedDigest = null;
+            }
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            if (markedDigest == null) {
+                throw new IOException("mark 되지 않은 스트림");
+            }
+            super.reset();
+            try {
+                digest = (MessageDigest) markedDigest.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IOException("체크섬 상태 복원 실패", e);
+            }
+            count = markedCount;
+        }
+
+        private byte[] digest() {
+            return digest.digest();
+        }
+
+        private long getCount() {
+            return count;
+        }
+    }
+
+    private ObjectMetadata createMetadata(String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        if (contentType != null) {
+            metadata.setContentType(contentType);
+        }
+        return metadata;
+    }
+}
@@ -0,0 +1,276 @@
+package com.fourformance.tts_vc_web.common.util;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * S3 객체 로컬 디스크 캐시
+ * 같은 클립을 작업마다 다시 내려받지 않도록 upload.dir 아래에 (S3 key, ETag) 기준으로 보관합니다.
+ * - 호출 측에는 캐시 파일의 하드 링크(같은 파일 시스템이 아니면 복사본)를 고유한 경로로 넘겨주므로,
+ *   호출 측은 기존처럼 작업이 끝나면 파일을 지우면 되고 캐시 정리와 충돌하지 않습니다.
+ * - 같은 객체를 동시에 요청하면 한 번만 내려받습니다.
+ * - 전체 용량이 최대치를 넘으면 가장 오래 사용하지 않은 파일부터 삭제합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class S3ObjectCache {
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${upload.dir}")
+    private String uploadDir;
+
+    @Value("${s3.cache.enabled:true}")
+    private boolean enabled;
+
+    // 캐시 최대 용량 (bytes)
+    @Value("${s3.cache.max-bytes:1073741824}")
+    private long maxBytes;
+
+    private final AmazonS3Client amazonS3Client;
+    private final S3ParallelDownloader s3ParallelDownloader;
+
+    private Path cacheDir;
+
+    // 캐시 파일 (접근 순서, this로 동기화)
+    private final LinkedHashMap<String, CachedObject> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    // 다운로드 중인 객체 (같은 객체 동시 요청 시 공유)
+    private final Map<String, CompletableFuture<CachedObject>> inFlight = new ConcurrentHashMap<>();
+
+    // 지표
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    private static final class CachedObject {
+        private final String cacheKey;
+        private final Path path;
+        private final long size;
+
+        private CachedObject(String cacheKey, Path path, long size) {
+            this.cacheKey = cacheKey;
+            this.path = path;
+            this.size = size;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        cacheDir = Paths.get(uploadDir, "s3-cache");
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(cacheDir);
+            loadExistingFiles();
+        } catch (IOException e) {
+            // 캐시를 쓰지 못해도 애플리케이션은 시작 (캐시 없이 바로 다운로드)
+            log.warn("S3 캐시 디렉토리 초기화 실패: {}", cacheDir, e);
+            enabled = false;
+        }
+    }
+
+    /**
+     * 객체를 캐시를 거쳐 targetPath로 가져옵니다. (targetPath는 호출 측이 삭제)
+     */
+    public Path fetch(String key, Path targetPath) throws IOException {
+        if (!enabled) {
+            return s3ParallelDownloader.download(key, targetPath);
+        }
+
+        // 현재 ETag 기준으로 캐시 키 결정 (객체가 바뀌면 다른 캐시 파일을 사용)
+        String eTag = amazonS3Client.getObjectMetadata(bucket, key).getETag();
+        String cacheKey = createCacheKey(key, eTag);
+
+        // 정리와 겹쳐 링크에 실패하면 한 번 더 가져옴
+        for (int attempt = 0; attempt < 2; attempt++) {
+            if (linkFromCache(cacheKey, targetPath)) {
+                hitCount.incrementAndGet();
+                return targetPath;
+            }
+            loadIntoCache(key, cacheKey);
+        }
+        return s3ParallelDownloader.download(key, targetPath);
+    }
+
+    /**
+     * 여러 객체를 캐시를 거쳐 동시에 가져옵니다.
+     *
+     * @return 로컬 경로 (요청 순서)
+     */
+    public List<Path> fetchAll(List<String> keys, List<Path> targetPaths) throws IOException {
+        return s3ParallelDownloader.downloadAll(keys, targetPaths, this::fetch);
+    }
+
+    /**
+     * 캐시 지표 반환
+     */
+    public synchronized Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("entries", (long) entries.size());
+        stats.put("totalBytes", totalBytes);
+        stats.put("maxBytes", maxBytes);
+        stats.put("hits", hitCount.get());
+        stats.put("misses", missCount.get());
+        stats.put("evictions", evictionCount.get());
+        return stats;
+    }
+
+    // 캐시에 있으면 targetPath로 링크 (정리와 겹치지 않도록 잠금 안에서 수행)
+    private synchronized boolean linkFromCache(String cacheKey, Path targetPath) throws IOException {
+        CachedObject cached = entries.get(cacheKey);
+        if (cached == null) {
+            return false;
+        }
+
+        Files.createDirectories(targetPath.getParent());
+        Files.deleteIfExists(targetPath);
+        try {
+            Files.createLink(targetPath, cached.path);
+        } catch (NoSuchFileException e) {
+            // 외부에서 캐시 파일이 지워진 경우
+            entries.remove(cacheKey);
+            totalBytes -= cached.size;
+            return false;
+        } catch (IOException | UnsupportedOperationException e) {
+            // 하드 링크를 지원하지 않는 파일 시스템이면 복사
+            Files.copy(cached.path, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return true;
+    }
+
+    // 같은 객체를 동시에 요청하면 먼저 요청한 스레드만 내려받고 나머지는 결과를 기다림
+    private void loadIntoCache(String key, String cacheKey) throws IOException {
+        CompletableFuture<CachedObject> future = new CompletableFuture<>();
+        CompletableFuture<CachedObject> existing = inFlight.putIfAbsent(cacheKey, future);
+        if (existing != null) {
+            try {
+                existing.get();
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("S3 캐시 다운로드 대기 중단: " + key, e);
+            } catch (ExecutionException e) {
+                throw new IOException("S3 캐시 다운로드 실패: " + key, e.getCause());
+            }
+        }
+
+        try {
+            missCount.incrementAndGet();
+            CachedObject cached = download(key, cacheKey);
+            synchronized (this) {
+                CachedObject previous = entries.put(cacheKey, cached);
+                if (previous != null) {
+                    totalBytes -= previous.size;
+                }
+                totalBytes += cached.size;
+                evictIfNeeded();
+            }
+            future.complete(cached);
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, future);
+        }
+    }
+
+    // 고유한 임시 이름으로 받은 뒤 원자적으로 이동
+    private CachedObject download(String key, String cacheKey) throws IOException {
+        Path tempPath = cacheDir.resolve(".tmp_" + UUID.randomUUID());
+        Path cachePath = cacheDir.resolve(cacheKey);
+        try {
+            s3ParallelDownloader.download(key, tempPath);
+            try {
+                Files.move(tempPath, cachePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, cachePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return new CachedObject(cacheKey, cachePath, Files.size(cachePath));
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    // 가장 오래 사용하지 않은 파일부터 삭제 (호출 측에 넘긴 링크는 그대로 남음)
+    private void evictIfNeeded() {
+        Iterator<CachedObject> iterator = entries.values().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            CachedObject oldest = iterator.next();
+            iterator.remove();
+            totalBytes -= oldest.size;
+            evictionCount.incrementAndGet();
+            try {
+                Files.deleteIfExists(oldest.path);
+            } catch (IOException e) {
+                log.warn("S3 캐시 파일 삭제 실패: {}", oldest.path, e);
+            }
+        }
+    }
+
+    // 재시작 전에 받아 둔 파일을 마지막 수정 시각 순으로 다시 등록하고, 받다 만 임시 파일은 삭제
+    private synchronized void loadExistingFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir)) {
+            for (Path file : stream) {
+                if (file.getFileName().toString().startsWith(".tmp_")) {
+                    Files.deleteIfExists(file);
+                } else if (Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        }
+
+        files.sort(Comparator.comparingLong(file -> file.toFile().lastModified()));
+        for (Path file : files) {
+            CachedObject cached = new CachedObject(file.getFileName().toString(), file, Files.size(file));
+            entries.put(cached.cacheKey, cached);
+            totalBytes += cached.size;
+        }
+        evictIfNeeded();
+        log.info("S3 캐시 로드 완료: entries={}, bytes={}", entries.size(), totalBytes);
+    }
+
+    // 캐시 파일 이름: key 해시 + ETag (파일 이름에 쓸 수 없는 문자는 제거)
+    private String createCacheKey(String key, String eTag) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            String safeETag = eTag == null ? "none" : eTag.replaceAll("[^A-Za-z0-9-]", "");
+            return HexFormat.of().formatHex(hash) + "_" + safeETag;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
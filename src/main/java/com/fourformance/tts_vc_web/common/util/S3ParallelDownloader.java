@@ -0,0 +1,307 @@
+package com.fourformance.tts_vc_web.common.util;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * S3 객체를 여러 개 동시에 로컬 파일로 내려받는 클라이언트
+ * - 전체 동시 다운로드 수는 스레드 풀 크기로, 요청(작업) 하나의 동시 다운로드 수는 세마포어로 제한
+ * - 큰 객체는 Range GET으로 파트를 나눠 병렬로 받아 파일의 해당 위치에 바로 씀
+ *   (모든 파트를 첫 파트의 ETag로 고정해서, 받는 도중 객체가 바뀌면 버리고 처음부터 다시 받음)
+ * - 결과 경로는 요청한 순서대로 반환
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class S3ParallelDownloader {
+
+    // 받는 도중 객체가 바뀌었을 때 처음부터 다시 받는 최대 횟수
+    private static final int MAX_VERSION_ATTEMPTS = 3;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    // 전체 동시 다운로드 수 (모든 작업 합계)
+    @Value("${s3.download.parallelism:8}")
+    private int parallelism;
+
+    // 작업 하나의 동시 다운로드 수
+    @Value("${s3.download.per-job-parallelism:4}")
+    private int perJobParallelism;
+
+    // Range GET 파트 크기, 이보다 큰 객체는 파트를 나눠 병렬로 받음
+    @Value("${s3.download.part-size:8388608}")
+    private long partSize;
+
+    // 파트 다운로드 동시 수행 수
+    @Value("${s3.download.part-parallelism:4}")
+    private int partParallelism;
+
+    // 파일 쓰기 버퍼 크기
+    @Value("${s3.download.buffer-size:262144}")
+    private int bufferSize;
+
+    private final AmazonS3Client amazonS3Client;
+
+    private ExecutorService downloadExecutor;
+    private ExecutorService partDownloadExecutor;
+
+    /**
+     * 다운로드용 스레드 풀 초기화
+     * 파트 다운로드는 별도 풀에서 수행해서, 객체 다운로드 스레드가 자기 파트를 기다리며 풀을 모두 점유하지 않도록 합니다.
+     */
+    @PostConstruct
+    public void init() {
+        parallelism = Math.max(parallelism, 1);
+        perJobParallelism = Math.max(perJobParallelism, 1);
+        partParallelism = Math.max(partParallelism, 1);
+        partSize = Math.max(partSize, 1024 * 1024);
+        bufferSize = Math.max(bufferSize, 8192);
+
+        downloadExecutor = createExecutor(parallelism, "s3-download-");
+        partDownloadExecutor = createExecutor(partParallelism, "s3-part-download-");
+        log.info("S3ParallelDownloader 초기화 완료: parallelism={}, perJobParallelism={}, partSize={}, partParallelism={}",
+                parallelism, perJobParallelism, partSize, partParallelism);
+    }
+
+    /**
+     * 애플리케이션 종료 시 스레드 풀 종료
+     */
+    @PreDestroy
+    public void close() {
+        if (downloadExecutor != null) {
+            downloadExecutor.shutdownNow();
+        }
+        if (partDownloadExecutor != null) {
+            partDownloadExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 여러 객체를 동시에 내려받습니다.
+     * 하나라도 실패하면 나머지 다운로드를 취소하고 이미 받은 파일을 삭제한 뒤 예외를 던집니다.
+     *
+     * @param keys        버킷 경로 목록
+     * @param targetPaths 저장할 로컬 경로 목록 (keys와 같은 순서)
+     * @return 저장된 로컬 경로 (요청 순서)
+     */
+    public List<Path> downloadAll(List<String> keys, List<Path> targetPaths) throws IOException {
+        return downloadAll(keys, targetPaths, this::download);
+    }
+
+    /**
+     * 여러 객체를 지정한 방법으로 동시에 가져옵니다. (동시 수행 수 제한은 {@link #downloadAll(List, List)}와 동일)
+     *
+     * @param fetcher 객체 하나를 가져오는 방법 (예: 로컬 캐시를 거쳐 다운로드)
+     */
+    public List<Path> downloadAll(List<String> keys, List<Path> targetPaths, ObjectFetcher fetcher)
+            throws IOException {
+        Semaphore jobPermits = new Semaphore(perJobParallelism);
+        List<Future<Path>> futures = new ArrayList<>(keys.size());
+
+        try {
+            for (int i = 0; i < keys.size(); i++) {
+                String key = keys.get(i);
+                Path targetPath = targetPaths.get(i);
+
+                jobPermits.acquire();
+                futures.add(downloadExecutor.submit(() -> {
+                    try {
+                        return fetcher.fetch(key, targetPath);
+                    } finally {
+                        jobPermits.release();
+                    }
+                }));
+            }
+
+            List<Path> paths = new ArrayList<>(futures.size());
+            for (Future<Path> future : futures) {
+                paths.add(future.get());
+            }
+            return paths;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(futures, targetPaths);
+            throw new IOException("S3 다운로드 중단", e);
+        } catch (ExecutionException e) {
+            cancel(futures, targetPaths);
+            if (e.getCause() instanceof AmazonClientException) {
+                throw (AmazonClientException) e.getCause();
+            }
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("S3 다운로드 실패", e.getCause());
+        } catch (RuntimeException e) {
+            cancel(futures, targetPaths);
+            throw e;
+        }
+    }
+
+    /**
+     * 객체 하나를 내려받습니다.
+     * 첫 파트를 Range GET으로 받으면서 전체 크기와 ETag를 확인하고, 남은 부분이 있으면 같은 ETag로 고정해 병렬로 받습니다.
+     * 도중에 객체가 바뀌어 ETag가 달라지면 두 버전이 섞인 파일을 버리고 다시 받습니다.
+     */
+    public Path download(String key, Path targetPath) throws IOException {
+        Files.createDirectories(targetPath.getParent());
+
+        try {
+            for (int attempt = 1; attempt <= MAX_VERSION_ATTEMPTS; attempt++) {
+                if (downloadVersion(key, targetPath)) {
+                    return targetPath;
+                }
+                log.info("S3 다운로드 중 객체 변경으로 다시 받음: key={}, attempt={}", key, attempt);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(targetPath);
+            throw e;
+        }
+        Files.deleteIfExists(targetPath);
+        throw new IOException("S3 다운로드 중 객체가 계속 변경됨: " + key);
+    }
+
+    /**
+     * 객체의 한 버전을 파일로 받습니다.
+     *
+     * @return 남은 파트를 받는 도중 ETag가 바뀌었으면 false (파일 내용은 버려야 함)
+     */
+    private boolean downloadVersion(String key, Path targetPath) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(targetPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+            S3Object firstPart;
+            try {
+                firstPart = amazonS3Client.getObject(new GetObjectRequest(bucket, key).withRange(0, partSize - 1));
+            } catch (AmazonS3Exception e) {
+                if (e.getStatusCode() == 416) {
+                    return true; // 빈 객체는 Range 요청이 거부됨
+                }
+                throw e;
+            }
+            long objectSize = firstPart.getObjectMetadata().getInstanceLength();
+            String eTag = firstPart.getObjectMetadata().getETag();
+            writeRange(firstPart, fileChannel, 0);
+
+            if (objectSize > partSize && !downloadRemainingParts(key, eTag, fileChannel, objectSize)) {
+                return false;
+            }
+            log.debug("S3 다운로드 완료: key={}, bytes={}", key, objectSize);
+            return true;
+        }
+    }
+
+    // ETag가 다른 파트가 있으면 나머지 파트를 취소하고 false
+    private boolean downloadRemainingParts(String key, String eTag, FileChannel fileChannel, long objectSize)
+            throws IOException {
+        List<Future<Boolean>> futures = new ArrayList<>();
+        try {
+            for (long start = partSize; start < objectSize; start += partSize) {
+                long rangeStart = start;
+                long rangeEnd = Math.min(start + partSize, objectSize) - 1;
+                futures.add(partDownloadExecutor.submit(() -> {
+                    // ETag 조건이 맞지 않으면(412) SDK가 null을 반환
+                    S3Object part = amazonS3Client.getObject(new GetObjectRequest(bucket, key)
+                            .withRange(rangeStart, rangeEnd)
+                            .withMatchingETagConstraint(eTag));
+                    if (part == null) {
+                        return false;
+                    }
+                    writeRange(part, fileChannel, rangeStart);
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                if (!future.get()) {
+                    futures.forEach(f -> f.cancel(true));
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IOException("S3 파트 다운로드 중단: " + key, e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof AmazonClientException) {
+                throw (AmazonClientException) e.getCause();
+            }
+            throw new IOException("S3 파트 다운로드 실패: " + key, e.getCause());
+        }
+    }
+
+    /**
+     * 응답 본문을 큰 버퍼로 읽어 파일의 지정 위치부터 씁니다. (파트별로 위치가 달라 동시에 써도 안전)
+     */
+    private void writeRange(S3Object s3Object, FileChannel fileChannel, long position) throws IOException {
+        try (S3ObjectInputStream inputStream = s3Object.getObjectContent();
+             ReadableByteChannel source = Channels.newChannel(inputStream)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+            long writePosition = position;
+            while (source.read(buffer) != -1 || buffer.position() > 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    writePosition += fileChannel.write(buffer, writePosition);
+                }
+                buffer.clear();
+            }
+        }
+    }
+
+    private void cancel(List<Future<Path>> futures, List<Path> targetPaths) {
+        futures.forEach(future -> future.cancel(true));
+        for (Path targetPath : targetPaths) {
+            try {
+                Files.deleteIfExists(targetPath);
+            } catch (IOException e) {
+                log.warn("다운로드 파일 삭제 실패: {}", targetPath, e);
+            }
+        }
+    }
+
+    /**
+     * 객체 하나를 로컬 경로로 가져오는 방법
+     */
+    @FunctionalInterface
+    public interface ObjectFetcher {
+        Path fetch(String key, Path targetPath) throws IOException;
+    }
+
+    private ExecutorService createExecutor(int threads, String threadNamePrefix) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
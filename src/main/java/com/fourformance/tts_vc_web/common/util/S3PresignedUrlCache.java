@@ -0,0 +1,183 @@
+package com.fourformance.tts_vc_web.common.util;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.fourformance.tts_vc_web.common.exception.common.BusinessException;
+import com.fourformance.tts_vc_web.common.exception.common.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * S3 Presigned URL 메모리 캐시
+ * 목록 조회마다 같은 객체의 URL을 다시 서명하지 않도록 (bucketRoute, method) 기준으로 보관하고,
+ * 만료 refresh-margin 전까지는 서명해 둔 URL을 그대로 돌려줍니다.
+ * - 목록은 {@link #getAll(Collection, HttpMethod)}로 한 번에 조회하며, 캐시에 없는 경로만 같은 만료 시각으로 서명합니다.
+ * - 항목 수가 최대치를 넘으면 가장 오래 사용하지 않은 URL부터 삭제합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class S3PresignedUrlCache {
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${s3.presigned-url.cache-enabled:true}")
+    private boolean enabled;
+
+    // 서명 URL 유효 시간 (초)
+    @Value("${s3.presigned-url.expiry-seconds:900}")
+    private long expirySeconds;
+
+    // 남은 유효 시간이 이보다 짧으면 다시 서명 (초)
+    @Value("${s3.presigned-url.refresh-margin-seconds:300}")
+    private long refreshMarginSeconds;
+
+    @Value("${s3.presigned-url.max-entries:10000}")
+    private int maxEntries;
+
+    private final AmazonS3Client amazonS3Client;
+
+    // 서명한 URL (접근 순서, this로 동기화)
+    private final LinkedHashMap<String, SignedUrl> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 지표
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    private static final class SignedUrl {
+        private final String url;
+        private final long expiresAt;
+
+        private SignedUrl(String url, long expiresAt) {
+            this.url = url;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        expirySeconds = Math.max(expirySeconds, 1);
+        // 여유 시간은 유효 시간보다 짧아야 캐시가 의미 있음
+        refreshMarginSeconds = Math.max(0, Math.min(refreshMarginSeconds, expirySeconds / 2));
+        maxEntries = Math.max(maxEntries, 1);
+        log.info("Presigned URL 캐시 초기화: enabled={}, expirySeconds={}, refreshMarginSeconds={}, maxEntries={}",
+                enabled, expirySeconds, refreshMarginSeconds, maxEntries);
+    }
+
+    /**
+     * 단일 경로의 Presigned URL 조회 (캐시에 없거나 곧 만료되면 서명)
+     */
+    public String get(String bucketRoute, HttpMethod method) {
+        if (bucketRoute == null || bucketRoute.isEmpty()) {
+            return null;
+        }
+        return getAll(List.of(bucketRoute), method).get(bucketRoute);
+    }
+
+    /**
+     * 여러 경로의 Presigned URL을 한 번에 조회
+     * 중복 경로는 한 번만 서명하며, 새로 서명하는 URL은 모두 같은 만료 시각을 사용합니다.
+     *
+     * @return bucketRoute → Presigned URL (입력 순서 유지, null/빈 경로는 제외)
+     */
+    public Map<String, String> getAll(Collection<String> bucketRoutes, HttpMethod method) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        long now = System.currentTimeMillis();
+        long reusableUntil = now + refreshMarginSeconds * 1000;
+
+        // 캐시 조회
+        synchronized (this) {
+            for (String bucketRoute : bucketRoutes) {
+                if (bucketRoute == null || bucketRoute.isEmpty() || urls.containsKey(bucketRoute)) {
+                    continue;
+                }
+                SignedUrl signed = enabled ? entries.get(cacheKey(bucketRoute, method)) : null;
+                if (signed != null && signed.expiresAt > reusableUntil) {
+                    hitCount.incrementAndGet();
+                    urls.put(bucketRoute, signed.url);
+                } else {
+                    urls.put(bucketRoute, null);
+                }
+            }
+        }
+
+        // 캐시에 없는 경로만 서명 (락 밖에서 처리)
+        long expiresAt = now + expirySeconds * 1000;
+        Map<String, SignedUrl> created = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : urls.entrySet()) {
+            if (entry.getValue() == null) {
+                missCount.incrementAndGet();
+                String url = sign(entry.getKey(), method, expiresAt);
+                entry.setValue(url);
+                created.put(cacheKey(entry.getKey(), method), new SignedUrl(url, expiresAt));
+            }
+        }
+
+        if (enabled && !created.isEmpty()) {
+            synchronized (this) {
+                entries.putAll(created);
+                evictIfNeeded();
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * Presigned URL 캐시 지표 반환
+     */
+    public Map<String, Long> getStats() {
+        long hits = hitCount.get();
+        long misses = missCount.get();
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRatePercent", hits + misses == 0 ? 0L : hits * 100 / (hits + misses));
+        stats.put("evictions", evictionCount.get());
+        synchronized (this) {
+            stats.put("entries", (long) entries.size());
+        }
+        stats.put("expirySeconds", expirySeconds);
+        return stats;
+    }
+
+    private String sign(String bucketRoute, HttpMethod method, long expiresAt) {
+        try {
+            GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, bucketRoute)
+                    .withMethod(method)
+                    .withExpiration(new Date(expiresAt));
+            return amazonS3Client.generatePresignedUrl(request).toString();
+        } catch (AmazonClientException e) {
+            // Presigned URL 생성 실패 예외
+            throw new BusinessException(ErrorCode.S3_PRESIGNED_URL_FAILED);
+        }
+    }
+
+    // 최대 항목 수를 넘으면 가장 오래 사용하지 않은 URL부터 삭제 (this로 동기화된 상태에서 호출)
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, SignedUrl>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private String cacheKey(String bucketRoute, HttpMethod method) {
+        return method.name() + ":" + bucketRoute;
+    }
+}
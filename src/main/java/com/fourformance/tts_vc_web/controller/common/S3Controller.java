@@ -1,6 +1,7 @@
 package com.fourformance.tts_vc_web.controller.common;
 
 import com.fourformance.tts_vc_web.common.constant.AudioType;
+import com.fourformance.tts_vc_web.common.util.S3PresignedUrlCache;
 import com.fourformance.tts_vc_web.dto.response.DataResponseDto;
 import com.fourformance.tts_vc_web.dto.response.ResponseDto;
 import com.fourformance.tts_vc_web.service.common.S3Service;
@@ -25,6 +26,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class S3Controller {
 
     private final S3Service s3Service;
+    private final S3PresignedUrlCache s3PresignedUrlCache;
 
     // TTS나 VC로 반환한 유닛 오디오를 업로드하는 api
     @Operation(summary = "유닛(TTS or VC) 오디오 업로드", description = "유닛 오디오를 S3 버킷에 저장하고 메타데이터를 DB에 저장하는 api입니다."
@@ -63,6 +65,13 @@ public class S3Controller {
         return DataResponseDto.of(presignedUrl, "파일 다운로드 URL 생성 성공");
     }
 
+    @Operation(summary = "Presigned URL 캐시 지표 조회", description =
+            "캐시 적중/미스 횟수, 적중률(%), 제거된 항목 수, 현재 항목 수, URL 유효 시간(초)을 조회합니다.")
+    @GetMapping("/presigned-url/stats")
+    public ResponseDto presignedUrlStats() {
+        return DataResponseDto.of(s3PresignedUrlCache.getStats(), "Presigned URL 캐시 지표 조회 성공");
+    }
+
     @Operation(summary = "유저가 가지고 있는 오디오를 버킷에 저장", description =
             "VC, CONCAT으로 변환할 오디오를 클라이언트 로컬컴퓨터로부터 버킷에 저장하는 api입니다."
                     + "<br><br>매개변수:<br>- 파일, <br>- 멤버Id, <br>- projectId, <br>- audioType"
@@ -18,15 +18,18 @@ public class SSEController {
     private final SseEmitterService sseEmitterService;
 
     /**
-     * 클라이언트의 SSE 구독 요청을 처리 (새 연결 생성)
+     * 클라이언트의 SSE 구독 요청을 처리 (새 연결 생성, 같은 회원의 여러 탭 연결 가능)
+     * 재연결 시 브라우저가 보내는 Last-Event-ID 이후의 이벤트를 다시 전송합니다.
      */
     @GetMapping(value = "/{clientId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@PathVariable Long clientId, HttpServletResponse response) {
+    public SseEmitter subscribe(@PathVariable Long clientId,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                HttpServletResponse response) {
         // Content-Type 설정
         response.setHeader("Content-Type", MediaType.TEXT_EVENT_STREAM_VALUE);
         response.setHeader("Cache-Control", "no-cache");
         response.setHeader("Connection", "keep-alive");
-        return sseEmitterService.subscribe(clientId);
+        return sseEmitterService.subscribe(clientId, lastEventId);
     }
 
     /**
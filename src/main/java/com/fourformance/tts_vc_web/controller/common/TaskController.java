@@ -2,13 +2,18 @@ package com.fourformance.tts_vc_web.controller.common;
 
 import com.fourformance.tts_vc_web.common.exception.common.BusinessException;
 import com.fourformance.tts_vc_web.common.exception.common.ErrorCode;
+import com.fourformance.tts_vc_web.common.util.ExternalApiGuard;
 import com.fourformance.tts_vc_web.dto.common.TaskLoadDto;
 import com.fourformance.tts_vc_web.dto.concat.ConcatRequestDto;
 import com.fourformance.tts_vc_web.dto.response.DataResponseDto;
 import com.fourformance.tts_vc_web.dto.response.ResponseDto;
 import com.fourformance.tts_vc_web.dto.tts.TTSRequestDto;
 import com.fourformance.tts_vc_web.dto.vc.VCSaveRequestDto;
+import com.fourformance.tts_vc_web.service.common.OutboxRelay;
+import com.fourformance.tts_vc_web.service.common.TaskHistoryWriter;
 import com.fourformance.tts_vc_web.service.common.TaskProducer;
+import com.fourformance.tts_vc_web.service.common.TaskQueueMigrator;
+import com.fourformance.tts_vc_web.service.common.TaskRetryService;
 import com.fourformance.tts_vc_web.service.common.TaskService;
 import com.fourformance.tts_vc_web.service.concat.ConcatService_TaskJob;
 import com.fourformance.tts_vc_web.service.tts.TTSService_TaskJob;
@@ -34,6 +39,11 @@ public class TaskController {
     private final VCService_TaskJob vcServiceTask;
     private final ConcatService_TaskJob concatTaskService; // 병합 서비스 의존성 주입
     private final TaskService taskService;
+    private final OutboxRelay outboxRelay; // 아웃박스 릴레이 (지표 조회, 실패 메시지 재전송)
+    private final TaskHistoryWriter taskHistoryWriter; // 작업 이력 일괄 저장 (지표 조회용)
+    private final ExternalApiGuard externalApiGuard; // 외부 API 호출 보호 (지표 조회용)
+    private final TaskRetryService taskRetryService; // 작업 지연 재시도 (지표 조회용)
+    private final TaskQueueMigrator taskQueueMigrator; // 이전 작업 큐 정리 (지표 조회용)
 
     @Operation(
             summary = "작업 가져오기",
@@ -78,6 +88,64 @@ public class TaskController {
         return DataResponseDto.of("총 " + restartedCount + "개의 실패 작업이 재실행되었습니다.");
     }
 
+    @Operation(
+            summary = "실패 작업 일괄 재전송",
+            description = "DLQ 메시지를 페이지 단위로 원래 작업 큐에 재전송하고 재전송/건너뜀/남은 메시지 수를 반환합니다." )
+    @PostMapping("/dlq/redrive")
+    public ResponseDto redriveDeadLetters(
+            @Parameter(description = "한 번에 처리할 메시지 수") @RequestParam(defaultValue = "100") int pageSize,
+            @Parameter(description = "최대 처리 메시지 수") @RequestParam(defaultValue = "10000") long maxMessages){
+        return DataResponseDto.of(taskService.redriveDeadLetters(pageSize, maxMessages), "실패 작업 재전송 완료");
+    }
+
+    @Operation(
+            summary = "작업 재시도 지표 조회",
+            description = "재시도 큐로 보낸 횟수, 최대 재시도 초과로 DLQ로 보낸 횟수, 재시도할 수 없는 오류 횟수, 외부 API 호출 제한으로 지연시킨 횟수를 조회합니다." )
+    @GetMapping("/retry/stats")
+    public ResponseDto retryStats(){
+        return DataResponseDto.of(taskRetryService.getStats(), "작업 재시도 지표 조회 성공");
+    }
+
+    @Operation(
+            summary = "아웃박스 지표 조회",
+            description = "전송 대기 메시지 수, 가장 오래된 대기 메시지의 지연 시간(ms), 전송 성공/실패 횟수를 조회합니다." )
+    @GetMapping("/outbox/stats")
+    public ResponseDto outboxStats(){
+        return DataResponseDto.of(outboxRelay.getOutboxStats(), "아웃박스 지표 조회 성공");
+    }
+
+    @Operation(
+            summary = "실패한 아웃박스 메시지 재전송",
+            description = "최대 시도 횟수를 넘겨 FAILED가 된 아웃박스 메시지를 다시 전송 대기로 바꾸고 릴레이를 실행합니다." )
+    @PostMapping("/outbox/redrive")
+    public ResponseDto redriveOutbox(){
+        return DataResponseDto.of(outboxRelay.redriveFailed(), "실패한 아웃박스 메시지 재전송 요청 완료");
+    }
+
+    @Operation(
+            summary = "작업 이력 저장 지표 조회",
+            description = "버퍼에 쌓인 작업 이력 수와 저장 성공/실패 건수를 조회합니다." )
+    @GetMapping("/history/stats")
+    public ResponseDto historyStats(){
+        return DataResponseDto.of(taskHistoryWriter.getStats(), "작업 이력 저장 지표 조회 성공");
+    }
+
+    @Operation(
+            summary = "외부 API 호출 제한 지표 조회",
+            description = "제공자별 서킷 상태, 현재 동시 호출 한도, 허가/거절 수, 429 응답과 실패 횟수를 조회합니다." )
+    @GetMapping("/external-api/stats")
+    public ResponseDto externalApiStats(){
+        return DataResponseDto.of(externalApiGuard.getStats(), "외부 API 호출 제한 지표 조회 성공");
+    }
+
+    @Operation(
+            summary = "이전 작업 큐 정리 지표 조회",
+            description = "우선순위 도입 전 작업 큐에서 새 작업 큐(*.v2)로 옮긴 메시지 수, 삭제한 큐 수, 정리 완료 여부를 조회합니다." )
+    @GetMapping("/queue-migration/stats")
+    public ResponseDto queueMigrationStats(){
+        return DataResponseDto.of(taskQueueMigrator.getStats(), "이전 작업 큐 정리 지표 조회 성공");
+    }
+
 
     @PostMapping("/convert/tts")
     public ResponseDto convertBatchTexts(
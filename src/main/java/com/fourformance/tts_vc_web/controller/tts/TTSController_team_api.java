@@ -7,11 +7,13 @@ import com.fourformance.tts_vc_web.dto.response.ResponseDto;
 import com.fourformance.tts_vc_web.dto.tts.TTSRequestDto;
 import com.fourformance.tts_vc_web.dto.tts.TTSResponseDto;
 import com.fourformance.tts_vc_web.service.tts.TTSService_team_api;
+import com.fourformance.tts_vc_web.service.tts.TTSSynthesisCacheService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.servlet.http.HttpSession;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -32,14 +34,17 @@ public class TTSController_team_api {
     private static final Logger LOGGER = Logger.getLogger(TTSController_team_api.class.getName()); // 로깅을 위한 Logger
 
     private final TTSService_team_api ttsService; // TTS 변환 로직을 처리하는 서비스
+    private final TTSSynthesisCacheService ttsSynthesisCacheService; // TTS 합성 결과 캐시
 
     /**
      * 생성자: 서비스 의존성을 주입받아 초기화
      *
      * @param ttsService TTS 변환 서비스
+     * @param ttsSynthesisCacheService TTS 합성 결과 캐시
      */
-    public TTSController_team_api(TTSService_team_api ttsService) {
+    public TTSController_team_api(TTSService_team_api ttsService, TTSSynthesisCacheService ttsSynthesisCacheService) {
         this.ttsService = ttsService;
+        this.ttsSynthesisCacheService = ttsSynthesisCacheService;
     }
 
     /**
@@ -100,6 +105,17 @@ public class TTSController_team_api {
         }
     }
 
+    /**
+     * TTS 합성 캐시 적중/미스 지표 조회 API
+     *
+     * @return 캐시 지표 (메모리 적중, DB 적중, 미스, 제거 수, 적중률)
+     */
+    @Operation(summary = "TTS 합성 캐시 지표", description = "TTS 합성 캐시의 적중/미스 지표를 조회합니다.")
+    @GetMapping("/cache/stats")
+    public ResponseDto getCacheStats() {
+        return DataResponseDto.of(ttsSynthesisCacheService.getCacheStats());
+    }
+
     /**
      * 요청 데이터 유효성 검사
      *
@@ -1,5 +1,6 @@
 package com.fourformance.tts_vc_web.controller.workspace;
 
+import com.fourformance.tts_vc_web.common.constant.SearchDocType;
 import com.fourformance.tts_vc_web.dto.response.DataResponseDto;
 import com.fourformance.tts_vc_web.dto.response.ResponseDto;
 import com.fourformance.tts_vc_web.dto.workspace.ExportWithDownloadLinkDto;
@@ -11,17 +12,24 @@ import com.fourformance.tts_vc_web.repository.ProjectRepository;
 import com.fourformance.tts_vc_web.repository.workspace.OutputAudioMetaRepositoryCustomImpl;
 import com.fourformance.tts_vc_web.service.common.ProjectService_team_aws;
 import com.fourformance.tts_vc_web.service.common.S3Service;
+import com.fourformance.tts_vc_web.service.workspace.ProjectSummaryUpdater;
+import com.fourformance.tts_vc_web.service.workspace.SearchIndexService;
 import com.fourformance.tts_vc_web.service.workspace.WorkspaceService;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.servlet.http.HttpSession;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -38,6 +46,8 @@ public class WorkSpaceController {
     private final OutputAudioMetaRepository outputAudioMetaRepository;
     private final OutputAudioMetaRepositoryCustomImpl outputAudioMetaRepositoryCustomImpl;
     private final S3Service s3Service;
+    private final ProjectSummaryUpdater projectSummaryUpdater;
+    private final SearchIndexService searchIndexService;
 
     // 최근 5개의 프로젝트를 조회하는 api
     @Operation(summary = "최근 프로젝트 5개 조회", description = "해당 유저의 최근 프로젝트 5개를 조회합니다. <br>"
@@ -102,6 +112,69 @@ public class WorkSpaceController {
         return DataResponseDto.of(projects);
     }
 
+    @Operation(summary = "프로젝트 목록 키셋 조회", description = "프로젝트 목록을 (updatedAt, id) 기준 키셋 방식으로 조회합니다. <br>"
+            + "첫 페이지는 lastUpdatedAt, lastProjectId 없이 요청하고, 다음 페이지는 이전 응답의 마지막 프로젝트 값을 넘깁니다.")
+    @GetMapping("/projects/scroll")
+    public ResponseDto scrollProjects(
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestParam(name = "lastUpdatedAt", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastUpdatedAt,
+            @RequestParam(name = "lastProjectId", required = false) Long lastProjectId,
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            HttpSession session
+    ) {
+        Long memberId = (Long) session.getAttribute("memberId");
+
+        Slice<ProjectListDto> projects = projectRepository.findProjectsBySearchCriteria(memberId, keyword,
+                lastUpdatedAt, lastProjectId, Math.max(1, Math.min(size, 100)));
+        return DataResponseDto.of(projects);
+    }
+
+    @Operation(summary = "프로젝트 요약 재생성", description = "모든 프로젝트의 요약(첫 스크립트, 디테일 수, 최근 상태, 마지막 Export)을 "
+            + "원본 테이블에서 다시 계산합니다. <br>백그라운드에서 진행되며, 이미 진행 중이면 새로 시작하지 않습니다.")
+    @PostMapping("/project-summary/rebuild")
+    public ResponseDto rebuildProjectSummaries() {
+        boolean started = projectSummaryUpdater.rebuildAllAsync();
+        return DataResponseDto.of(started ? "프로젝트 요약 재생성을 시작했습니다." : "프로젝트 요약 재생성이 이미 진행 중입니다.");
+    }
+
+    @Operation(summary = "프로젝트 요약 갱신 지표", description = "프로젝트 요약 갱신/삭제/실패 건수와 대기 중인 변경 수를 조회합니다.")
+    @GetMapping("/project-summary/stats")
+    public ResponseDto getProjectSummaryStats() {
+        Map<String, Long> stats = projectSummaryUpdater.getStats();
+        return DataResponseDto.of(stats);
+    }
+
+    @Operation(summary = "프로젝트 / Export 검색", description = "키워드와 일치하는 프로젝트 또는 Export ID를 관련도 순으로 조회합니다. <br>"
+            + "type은 PROJECT 또는 EXPORT 이고, 공백으로 나눈 단어를 모두 포함하는 항목만 조회됩니다.")
+    @GetMapping("/search")
+    public ResponseDto search(
+            @RequestParam(name = "keyword") String keyword,
+            @RequestParam(name = "type", defaultValue = "PROJECT") SearchDocType type,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            HttpSession session
+    ) {
+        Long memberId = (Long) session.getAttribute("memberId");
+
+        List<Long> ids = searchIndexService.search(memberId, type, keyword, size);
+        return DataResponseDto.of(ids);
+    }
+
+    @Operation(summary = "검색 색인 재생성", description = "모든 프로젝트와 Export의 검색 문서를 다시 만듭니다. <br>"
+            + "프로젝트 요약 재생성과 함께 백그라운드에서 진행됩니다.")
+    @PostMapping("/search/reindex")
+    public ResponseDto reindexSearch() {
+        boolean started = projectSummaryUpdater.rebuildAllAsync();
+        return DataResponseDto.of(started ? "검색 색인 재생성을 시작했습니다." : "검색 색인 재생성이 이미 진행 중입니다.");
+    }
+
+    @Operation(summary = "검색 색인 지표", description = "검색 문서 색인/삭제 건수와 검색 횟수, FULLTEXT 사용 여부, 목록 검색 최대 후보 수를 조회합니다.")
+    @GetMapping("/search/stats")
+    public ResponseDto getSearchStats() {
+        Map<String, Long> stats = searchIndexService.getStats();
+        return DataResponseDto.of(stats);
+    }
+
     @GetMapping("/api/v1/exports-test")
     public ResponseDto getExports(
             @RequestParam(name = "keyword", required = false) String keyword,
@@ -133,6 +206,24 @@ public class WorkSpaceController {
         return DataResponseDto.of(exports);
     }
 
+    @Operation(summary = "Export 내역 키셋 조회", description = "Export 내역을 (createdAt, id) 기준 키셋 방식으로 조회합니다. <br>"
+            + "첫 페이지는 lastCreatedAt, lastMetaId 없이 요청하고, 다음 페이지는 이전 응답의 마지막 Export 값을 넘깁니다.")
+    @GetMapping("/exports/scroll")
+    public ResponseDto scrollExports(
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestParam(name = "lastCreatedAt", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastCreatedAt,
+            @RequestParam(name = "lastMetaId", required = false) Long lastMetaId,
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            HttpSession session
+    ) {
+        Long memberId = (Long) session.getAttribute("memberId");
+
+        Slice<ExportWithDownloadLinkDto> exports = outputAudioMetaRepository.findExportHistoryBySearchCriteria(memberId,
+                keyword, lastCreatedAt, lastMetaId, Math.max(1, Math.min(size, 100)));
+        return DataResponseDto.of(exports);
+    }
+
     @DeleteMapping("/delete/project")
     public ResponseDto deleteProjects(@RequestBody List<Long> projectIds) {
         // 서비스 호출 및 삭제 로직 수행
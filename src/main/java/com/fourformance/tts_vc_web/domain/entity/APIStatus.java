@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @ToString
+@EntityListeners(ProjectSummaryListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "api_status")
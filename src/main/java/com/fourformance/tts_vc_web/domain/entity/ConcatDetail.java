@@ -3,6 +3,7 @@ package com.fourformance.tts_vc_web.domain.entity;
 import com.fourformance.tts_vc_web.domain.baseEntity.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -18,6 +19,7 @@ import lombok.ToString;
 
 @Entity
 @ToString
+@EntityListeners(ProjectSummaryListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ConcatDetail extends BaseEntity {
@@ -0,0 +1,97 @@
+package com.fourformance.tts_vc_web.domain.entity;
+
+import com.fourformance.tts_vc_web.common.constant.OutboxStatusConst;
+import com.fourformance.tts_vc_web.domain.baseEntity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 트랜잭셔널 아웃박스 메시지
+ * Task와 같은 트랜잭션에서 저장되고, OutboxRelay가 커밋된 메시지만 RabbitMQ로 전송합니다.
+ */
+@Entity
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_message",
+        indexes = @Index(name = "idx_outbox_message_status", columnList = "status, outbox_message_id"))
+public class OutboxMessage extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_message_id")
+    private Long id;
+
+    private String exchangeName;
+    private String routingKey;
+
+    @Column(name = "payload", columnDefinition = "JSON", nullable = false)
+    private String payload; // 전송할 메시지 JSON
+
+    private Long taskId;
+    private Integer priority; // 메시지 우선순위 (TaskConfig.PRIORITY_*)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OutboxStatusConst status = OutboxStatusConst.PENDING;
+
+    private Integer attempts = 0; // 메시지 자체의 실패(nack, unroutable 등) 횟수
+    private String lastError;
+    private LocalDateTime nextAttemptAt; // 이 시각 이후에 다시 전송 (null이면 바로 전송, SENDING이면 lease 만료 시각)
+
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+
+    // 생성 메서드
+    public static OutboxMessage createOutboxMessage(String exchangeName, String routingKey,
+                                                    String payload, Long taskId, Integer priority) {
+        OutboxMessage outboxMessage = new OutboxMessage();
+        outboxMessage.exchangeName = exchangeName;
+        outboxMessage.routingKey = routingKey;
+        outboxMessage.payload = payload;
+        outboxMessage.taskId = taskId;
+        outboxMessage.priority = priority;
+        outboxMessage.createdAt = LocalDateTime.now();
+        return outboxMessage;
+    }
+
+    // 릴레이가 전송할 메시지로 가져감 (lease 만료 전에 결과를 반영하지 못하면 다른 릴레이가 다시 가져감)
+    public void claim(LocalDateTime leaseUntil) {
+        this.status = OutboxStatusConst.SENDING;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    // 전송 완료 처리 메서드
+    public void markSent() {
+        this.status = OutboxStatusConst.SENT;
+        this.sentAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    // 전송 실패 기록 메서드 (최대 횟수를 넘으면 더 이상 재전송하지 않음)
+    public void recordFailure(String error, int maxAttempts, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error;
+        this.nextAttemptAt = nextAttemptAt;
+        this.status = this.attempts >= maxAttempts ? OutboxStatusConst.FAILED : OutboxStatusConst.PENDING;
+    }
+
+    // 브로커 연결 실패 / confirm 시간 초과 기록 메서드 (시도 횟수에 포함하지 않고 다음 전송 시각만 미룸)
+    public void deferRetry(String error, LocalDateTime nextAttemptAt) {
+        this.lastError = error;
+        this.nextAttemptAt = nextAttemptAt;
+        this.status = OutboxStatusConst.PENDING;
+    }
+}
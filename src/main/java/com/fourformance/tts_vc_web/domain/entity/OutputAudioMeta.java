@@ -13,6 +13,10 @@
 
     @Entity
     @ToString
+    @EntityListeners(ProjectSummaryListener.class)
+    // 인덱스는 db/migration/V5__output_audio_meta_created_index.sql로 생성 (ddl-auto=none, 여기서는 스키마 문서용)
+    @Table(indexes = @Index(name = "idx_output_audio_meta_created",
+            columnList = "is_deleted, created_at, generated_audio_meta_id"))
     @Getter
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public class OutputAudioMeta extends BaseEntity {
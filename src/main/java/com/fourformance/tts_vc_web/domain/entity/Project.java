@@ -4,6 +4,7 @@ import com.fourformance.tts_vc_web.domain.baseEntity.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorColumn;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -20,6 +21,7 @@ import lombok.ToString;
 
 @Inheritance(strategy = InheritanceType.JOINED)
 @Entity
+@EntityListeners(ProjectSummaryListener.class)
 @ToString
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
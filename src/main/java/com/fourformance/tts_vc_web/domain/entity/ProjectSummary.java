@@ -0,0 +1,100 @@
+package com.fourformance.tts_vc_web.domain.entity;
+
+import com.fourformance.tts_vc_web.common.constant.APIStatusConst;
+import com.fourformance.tts_vc_web.common.constant.APIUnitStatusConst;
+import com.fourformance.tts_vc_web.common.constant.ProjectType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 워크스페이스 프로젝트 목록용 요약 (읽기 모델)
+ * 첫 번째 스크립트, 디테일 수, 최근 API 처리 결과, 마지막 Export 시각을 프로젝트마다 한 행으로 보관합니다.
+ * 프로젝트/디테일/APIStatus/OutputAudioMeta가 바뀌면 ProjectSummaryUpdater가 해당 프로젝트만 다시 계산합니다.
+ * 테이블, 인덱스와 기존 프로젝트 채우기는 db/migration/V9__project_summary.sql (ddl-auto=none)
+ */
+@Entity
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "project_summary", indexes = {
+        @Index(name = "idx_project_summary_member_updated", columnList = "member_id, is_deleted, updated_at, project_id"),
+        @Index(name = "idx_project_summary_member_created", columnList = "member_id, is_deleted, created_at")})
+public class ProjectSummary {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    private ProjectType projectType;
+
+    private String projectName;
+
+    @Enumerated(EnumType.STRING)
+    private APIStatusConst apiStatus; // TTS / VC 프로젝트만
+
+    private String firstScript;
+    private Integer detailCount;
+
+    @Enumerated(EnumType.STRING)
+    private APIUnitStatusConst latestUnitStatus;
+
+    private LocalDateTime lastExportAt;
+    private Boolean isDeleted;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime refreshedAt;
+
+    // 생성 메서드
+    public static ProjectSummary createProjectSummary(Long projectId, Long memberId, ProjectType projectType,
+                                                      String projectName, APIStatusConst apiStatus,
+                                                      String firstScript, Integer detailCount,
+                                                      APIUnitStatusConst latestUnitStatus,
+                                                      LocalDateTime lastExportAt, Boolean isDeleted,
+                                                      LocalDateTime createdAt, LocalDateTime updatedAt) {
+        ProjectSummary summary = new ProjectSummary();
+        summary.projectId = projectId;
+        summary.memberId = memberId;
+        summary.projectType = projectType;
+        summary.projectName = projectName;
+        summary.apiStatus = apiStatus;
+        summary.firstScript = firstScript;
+        summary.detailCount = detailCount;
+        summary.latestUnitStatus = latestUnitStatus;
+        summary.lastExportAt = lastExportAt;
+        summary.isDeleted = isDeleted;
+        summary.createdAt = createdAt;
+        summary.updatedAt = updatedAt;
+        summary.refreshedAt = LocalDateTime.now();
+        return summary;
+    }
+
+    // 다시 계산한 값으로 갱신
+    public void refresh(ProjectSummary source) {
+        this.memberId = source.memberId;
+        this.projectType = source.projectType;
+        this.projectName = source.projectName;
+        this.apiStatus = source.apiStatus;
+        this.firstScript = source.firstScript;
+        this.detailCount = source.detailCount;
+        this.latestUnitStatus = source.latestUnitStatus;
+        this.lastExportAt = source.lastExportAt;
+        this.isDeleted = source.isDeleted;
+        this.createdAt = source.createdAt;
+        this.updatedAt = source.updatedAt;
+        this.refreshedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,58 @@
+package com.fourformance.tts_vc_web.domain.entity;
+
+import com.fourformance.tts_vc_web.service.workspace.ProjectSummaryUpdater;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 프로젝트 요약(ProjectSummary)에 영향을 주는 엔티티 변경 감지
+ * 변경된 엔티티의 프로젝트(또는 디테일) ID만 ProjectSummaryUpdater에 알리고, 실제 재계산은 커밋 이후에 합니다.
+ * - 콜백 안에서는 지연 로딩을 하지 않도록 연관 엔티티의 ID만 꺼냅니다.
+ */
+public class ProjectSummaryListener {
+
+    private final ObjectProvider<ProjectSummaryUpdater> updaterProvider;
+
+    public ProjectSummaryListener(ObjectProvider<ProjectSummaryUpdater> updaterProvider) {
+        this.updaterProvider = updaterProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        ProjectSummaryUpdater updater = updaterProvider.getIfAvailable();
+        if (updater == null) {
+            return;
+        }
+
+        if (entity instanceof Project project) {
+            updater.markProject(project.getId());
+        } else if (entity instanceof TTSDetail detail) {
+            updater.markProject(idOf(detail.getTtsProject()));
+        } else if (entity instanceof VCDetail detail) {
+            updater.markProject(idOf(detail.getVcProject()));
+        } else if (entity instanceof ConcatDetail detail) {
+            updater.markProject(idOf(detail.getConcatProject()));
+        } else if (entity instanceof APIStatus apiStatus) {
+            updater.markDetails(idOf(apiStatus.getTtsDetail()), idOf(apiStatus.getVcDetail()));
+        } else if (entity instanceof OutputAudioMeta meta) {
+            updater.markDetails(idOf(meta.getTtsDetail()), idOf(meta.getVcDetail()));
+            updater.markProject(idOf(meta.getConcatProject()));
+        }
+    }
+
+    private Long idOf(Project project) {
+        return project != null ? project.getId() : null;
+    }
+
+    private Long idOf(TTSDetail detail) {
+        return detail != null ? detail.getId() : null;
+    }
+
+    private Long idOf(VCDetail detail) {
+        return detail != null ? detail.getId() : null;
+    }
+}
@@ -0,0 +1,89 @@
+package com.fourformance.tts_vc_web.domain.entity;
+
+import com.fourformance.tts_vc_web.common.constant.SearchDocType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 워크스페이스 키워드 검색용 문서
+ * 프로젝트 / Export 한 건마다 검색 대상 텍스트(이름, 스크립트, 유형, 상태)를 한 행으로 모아 둡니다.
+ * content 컬럼의 FULLTEXT(ngram) 인덱스는 JPA로 선언할 수 없어 테이블과 함께 V4__search_document.sql 마이그레이션으로 만듭니다.
+ */
+@Entity
+@ToString(exclude = "content")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "search_document",
+        uniqueConstraints = @UniqueConstraint(name = "uk_search_document_ref", columnNames = {"doc_type", "ref_id"}),
+        indexes = {
+                @Index(name = "idx_search_document_member", columnList = "member_id, doc_type, is_deleted"),
+                @Index(name = "idx_search_document_project", columnList = "project_id")})
+public class SearchDocument {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "search_document_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "doc_type", length = 20, nullable = false)
+    private SearchDocType docType;
+
+    // 프로젝트 ID 또는 OutputAudioMeta ID
+    @Column(name = "ref_id", nullable = false)
+    private Long refId;
+
+    // 문서가 속한 프로젝트 (재색인 범위)
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Lob
+    private String content;
+
+    private Boolean isDeleted;
+    private LocalDateTime updatedAt;
+
+    // 생성 메서드
+    public static SearchDocument createSearchDocument(SearchDocType docType, Long refId, Long projectId,
+                                                      Long memberId, String content, Boolean isDeleted) {
+        SearchDocument document = new SearchDocument();
+        document.docType = docType;
+        document.refId = refId;
+        document.projectId = projectId;
+        document.memberId = memberId;
+        document.content = content;
+        document.isDeleted = isDeleted;
+        document.updatedAt = LocalDateTime.now();
+        return document;
+    }
+
+    // 다시 만든 문서로 갱신 (내용이 같으면 변경하지 않음)
+    public void update(SearchDocument source) {
+        if (Objects.equals(memberId, source.memberId) && Objects.equals(content, source.content)
+                && Objects.equals(isDeleted, source.isDeleted)) {
+            return;
+        }
+        this.memberId = source.memberId;
+        this.content = source.content;
+        this.isDeleted = source.isDeleted;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,56 @@
+package com.fourformance.tts_vc_web.domain.entity;
+
+import com.fourformance.tts_vc_web.domain.baseEntity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * TTS 합성 결과 캐시 인덱스
+ * 정규화된 합성 파라미터의 해시(cacheKey)로 이미 생성된 S3 오디오를 찾습니다.
+ * 테이블은 db/migration/V7__tts_synthesis_cache.sql로 생성하며, 적중 횟수는 TTSSynthesisCacheService가 모아서 반영합니다.
+ */
+@Entity
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "tts_synthesis_cache",
+        uniqueConstraints = @UniqueConstraint(name = "uk_tts_synthesis_cache_key", columnNames = "cache_key"))
+public class TTSSynthesisCache extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tts_synthesis_cache_id")
+    private Long id;
+
+    @Column(name = "cache_key", length = 64, nullable = false)
+    private String cacheKey;
+
+    private String bucketRoute;
+    private String languageCode;
+    private String gender;
+    private Long hitCount = 0L;
+    private LocalDateTime createdAt;
+    private LocalDateTime lastHitAt;
+
+    // 생성 메서드
+    public static TTSSynthesisCache createTTSSynthesisCache(String cacheKey, String bucketRoute,
+                                                            String languageCode, String gender) {
+        TTSSynthesisCache cache = new TTSSynthesisCache();
+        cache.cacheKey = cacheKey;
+        cache.bucketRoute = bucketRoute;
+        cache.languageCode = languageCode;
+        cache.gender = gender;
+        cache.createdAt = LocalDateTime.now();
+        return cache;
+    }
+}
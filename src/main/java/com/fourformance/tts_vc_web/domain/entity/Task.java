@@ -41,6 +41,9 @@ public class Task extends BaseEntity {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version = 0L; // 상태 전이 compare-and-set 용 버전 (V6__task_version.sql)
+
 
     public static Task createTask( Project project, ProjectType projectType, String taskData) {
         Task task = new Task();
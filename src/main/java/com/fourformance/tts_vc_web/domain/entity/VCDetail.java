@@ -14,6 +14,7 @@ import java.util.List;
 
 @Entity
 @ToString
+@EntityListeners(ProjectSummaryListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "vc_detail")
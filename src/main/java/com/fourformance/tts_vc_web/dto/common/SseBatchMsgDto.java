@@ -0,0 +1,31 @@
+package com.fourformance.tts_vc_web.dto.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 노드 간 SSE 알림 메시지 (일정 시간 동안 모은 이벤트를 회원별로 묶어서 한 번에 전송)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SseBatchMsgDto {
+    private String originNodeId;                  // 보낸 노드 (로그 추적용)
+    private Map<Long, List<Event>> eventsByClientId; // 회원별 이벤트 (발생 순서 유지)
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Event {
+        private Long id;
+        private String name;
+        private String text;   // 문자열 데이터
+        private JsonNode json; // 객체 데이터 (JSON)
+        private long createdAt;
+    }
+}
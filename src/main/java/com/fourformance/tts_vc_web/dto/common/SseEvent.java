@@ -0,0 +1,23 @@
+package com.fourformance.tts_vc_web.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * SSE로 전송할 이벤트 (재연결 시 Last-Event-ID 이후 이벤트를 다시 보내기 위해 보관)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class SseEvent {
+    private final Long id;        // 단조 증가하는 이벤트 ID, null이면 id 없이 전송 (연결 알림 등)
+    private final String name;    // 이벤트 이름
+    private final Object data;    // 전송 데이터
+    private final long createdAt; // 생성 시각 (ms)
+    private final Long taskId;    // 작업 알림이면 작업 ID (발행 전 같은 작업의 이전 알림은 최신 알림으로 대체), 아니면 null
+
+    public SseEvent(Long id, String name, Object data, long createdAt) {
+        this(id, name, data, createdAt, null);
+    }
+}
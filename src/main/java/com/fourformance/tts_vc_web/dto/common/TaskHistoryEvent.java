@@ -0,0 +1,23 @@
+package com.fourformance.tts_vc_web.dto.common;
+
+import com.fourformance.tts_vc_web.common.constant.TaskStatusConst;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 작업 상태 전이 이벤트 (TaskHistoryWriter가 모아서 task_history에 일괄 저장)
+ * 이전 상태를 이벤트에 담아 최신 이력을 다시 조회하지 않습니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class TaskHistoryEvent {
+    private final Long taskId;
+    private final TaskStatusConst oldStatus;
+    private final TaskStatusConst newStatus;
+    private final String modMsg;
+    private final LocalDateTime createdAt;
+    private final Long auditor; // 전이를 발생시킨 사용자 (flush 스레드에는 요청 컨텍스트가 없으므로 미리 담아둠)
+}
@@ -11,4 +11,5 @@ public class ConcatMsgDetailDto {
     private String unitScript;
     private Float endSilence;
     private String srcUrl;
+    private Long memberAudioMetaId; // 소스 오디오 메타 ID (증분 병합 세그먼트 키)
 }
@@ -34,6 +34,6 @@ public class ExportListDto {
         this.unitStatus = unitStatus;
         this.createAt = createAt;
         this.url = url;
-
+        this.bucketRoute = url; // url에는 버킷 루트를 전달 (Presigned URL 생성에 사용)
     }
 }
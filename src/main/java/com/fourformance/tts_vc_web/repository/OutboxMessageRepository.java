@@ -0,0 +1,48 @@
+package com.fourformance.tts_vc_web.repository;
+
+import com.fourformance.tts_vc_web.common.constant.OutboxStatusConst;
+import com.fourformance.tts_vc_web.domain.entity.OutboxMessage;
+import com.fourformance.tts_vc_web.repository.common.OutboxMessageRepositoryCustom;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long>, OutboxMessageRepositoryCustom {
+
+    // 다시 보낼 시각이 된 전송 대기 메시지와 lease가 만료된 전송 중 메시지를 오래된 순으로 잠금 조회
+    // (다른 인스턴스의 릴레이가 잠근 행은 건너뜀, 전송 중 메시지는 릴레이가 결과를 반영하지 못하고 죽은 경우)
+    @Query(value = """
+            SELECT *
+            FROM outbox_message
+            WHERE status IN ('PENDING', 'SENDING')
+              AND (next_attempt_at IS NULL OR next_attempt_at <= :now)
+            ORDER BY outbox_message_id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxMessage> findPendingForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 상태별 메시지 수
+    long countByStatus(OutboxStatusConst status);
+
+    // 가장 오래된 전송 대기 메시지의 생성 시각 (아웃박스 지연 측정용)
+    @Query("SELECT MIN(o.createdAt) FROM OutboxMessage o WHERE o.status = :status")
+    LocalDateTime findOldestCreatedAtByStatus(@Param("status") OutboxStatusConst status);
+
+    // 최종 실패한 메시지를 다시 전송 대기로 변경
+    @Modifying
+    @Query("UPDATE OutboxMessage o SET o.status = :pending, o.attempts = 0, o.nextAttemptAt = null "
+            + "WHERE o.status = :failed")
+    int redrive(@Param("failed") OutboxStatusConst failed, @Param("pending") OutboxStatusConst pending);
+
+    // 보관 기간이 지난 전송 완료 메시지 삭제
+    @Modifying
+    @Query("DELETE FROM OutboxMessage o WHERE o.status = :status AND o.sentAt < :before")
+    int deleteByStatusAndSentAtBefore(@Param("status") OutboxStatusConst status,
+                                      @Param("before") LocalDateTime before);
+}
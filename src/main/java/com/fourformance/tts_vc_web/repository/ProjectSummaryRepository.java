@@ -0,0 +1,13 @@
+package com.fourformance.tts_vc_web.repository;
+
+import com.fourformance.tts_vc_web.domain.entity.ProjectSummary;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProjectSummaryRepository extends JpaRepository<ProjectSummary, Long> {
+
+    // 최근 생성된 프로젝트 5개 (삭제되지 않은 프로젝트만)
+    List<ProjectSummary> findTop5ByMemberIdAndIsDeletedFalseOrderByCreatedAtDesc(Long memberId);
+}
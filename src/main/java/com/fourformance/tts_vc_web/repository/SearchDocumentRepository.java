@@ -0,0 +1,16 @@
+package com.fourformance.tts_vc_web.repository;
+
+import com.fourformance.tts_vc_web.domain.entity.SearchDocument;
+import com.fourformance.tts_vc_web.repository.workspace.SearchDocumentRepositoryCustom;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SearchDocumentRepository extends JpaRepository<SearchDocument, Long>,
+        SearchDocumentRepositoryCustom {
+
+    // 프로젝트에 속한 검색 문서 (프로젝트 문서와 Export 문서)
+    List<SearchDocument> findByProjectIdIn(Collection<Long> projectIds);
+}
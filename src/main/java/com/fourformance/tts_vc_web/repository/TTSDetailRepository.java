@@ -2,6 +2,7 @@ package com.fourformance.tts_vc_web.repository;
 
 import com.fourformance.tts_vc_web.domain.entity.TTSDetail;
 import com.fourformance.tts_vc_web.domain.entity.VoiceStyle;
+import com.fourformance.tts_vc_web.repository.common.TTSDetailRepositoryCustom;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -9,7 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TTSDetailRepository extends JpaRepository<TTSDetail, Long> {
+public interface TTSDetailRepository extends JpaRepository<TTSDetail, Long>, TTSDetailRepositoryCustom {
 
     // 프로젝트 ID로 TTS 상세 값들을 찾아 리스트로 반환 - 승민
     List<TTSDetail> findByTtsProject_Id(Long projectId);
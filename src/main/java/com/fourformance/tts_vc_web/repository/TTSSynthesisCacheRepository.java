@@ -0,0 +1,40 @@
+package com.fourformance.tts_vc_web.repository;
+
+import com.fourformance.tts_vc_web.domain.entity.TTSSynthesisCache;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TTSSynthesisCacheRepository extends JpaRepository<TTSSynthesisCache, Long> {
+
+    // 합성 파라미터 해시로 캐시 조회
+    Optional<TTSSynthesisCache> findByCacheKey(String cacheKey);
+
+    // 합성 파라미터 해시로 캐시 삭제
+    void deleteByCacheKey(String cacheKey);
+
+    // 캐시 등록 (같은 키를 다른 작업이 먼저 등록했으면 경로만 교체, uk_tts_synthesis_cache_key 충돌 없음)
+    @Modifying
+    @Query(value = """
+            INSERT INTO tts_synthesis_cache
+                (cache_key, bucket_route, language_code, gender, hit_count, created_at, created_date, last_modified_date)
+            VALUES (:cacheKey, :bucketRoute, :languageCode, :gender, 0, :now, :now, :now)
+            ON DUPLICATE KEY UPDATE bucket_route = VALUES(bucket_route),
+                                    last_modified_date = VALUES(last_modified_date)
+            """, nativeQuery = true)
+    int upsert(@Param("cacheKey") String cacheKey, @Param("bucketRoute") String bucketRoute,
+               @Param("languageCode") String languageCode, @Param("gender") String gender,
+               @Param("now") LocalDateTime now);
+
+    // 모아 둔 적중 횟수 반영
+    @Modifying
+    @Query("UPDATE TTSSynthesisCache c SET c.hitCount = c.hitCount + :hits, c.lastHitAt = :lastHitAt "
+            + "WHERE c.cacheKey = :cacheKey")
+    int addHits(@Param("cacheKey") String cacheKey, @Param("hits") long hits,
+                @Param("lastHitAt") LocalDateTime lastHitAt);
+}
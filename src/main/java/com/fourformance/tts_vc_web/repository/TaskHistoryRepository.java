@@ -1,13 +1,14 @@
 package com.fourformance.tts_vc_web.repository;
 
 import com.fourformance.tts_vc_web.domain.entity.TaskHistory;
+import com.fourformance.tts_vc_web.repository.common.TaskHistoryRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TaskHistoryRepository extends JpaRepository<TaskHistory, Long> {
+public interface TaskHistoryRepository extends JpaRepository<TaskHistory, Long>, TaskHistoryRepositoryCustom {
 
     // 작업ID로 이전 작업 상태 찾기 - 승민
     @Query("SELECT th FROM TaskHistory th " +
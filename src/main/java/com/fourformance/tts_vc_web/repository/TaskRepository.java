@@ -1,17 +1,21 @@
 package com.fourformance.tts_vc_web.repository;
 
+import com.fourformance.tts_vc_web.common.constant.TaskStatusConst;
 import com.fourformance.tts_vc_web.domain.entity.Project;
 import com.fourformance.tts_vc_web.domain.entity.Task;
+import com.fourformance.tts_vc_web.repository.common.TaskRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
     
 
     // 작업 조회 - 승민
@@ -36,4 +40,22 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             """, nativeQuery = true)
     List<Task> findByStatus(@Param("projectIdList") List<Long> projectIdList);
 
+    // 읽은 버전과 상태가 그대로일 때만 상태 변경 (compare-and-set), 변경된 행 수 반환
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Task t
+            SET t.taskStatusConst = :newStatus,
+                t.version = t.version + 1,
+                t.updatedAt = :now,
+                t.lastModifiedDate = :now
+            WHERE t.id = :taskId
+              AND t.version = :version
+              AND t.taskStatusConst = :expectedStatus
+            """)
+    int compareAndSetStatus(@Param("taskId") Long taskId,
+                            @Param("version") Long version,
+                            @Param("expectedStatus") TaskStatusConst expectedStatus,
+                            @Param("newStatus") TaskStatusConst newStatus,
+                            @Param("now") LocalDateTime now);
+
 }
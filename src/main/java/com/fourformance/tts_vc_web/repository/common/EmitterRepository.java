@@ -1,29 +1,52 @@
 package com.fourformance.tts_vc_web.repository.common;
 
+import com.fourformance.tts_vc_web.service.common.SseConnection;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 회원별 SSE 연결 저장소 (회원 한 명이 여러 탭에서 동시에 연결 가능)
+ */
 @Repository
 public class EmitterRepository {
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, SseConnection>> connections = new ConcurrentHashMap<>();
 
-    public void save(Long clientId, SseEmitter emitter) {
-        emitters.put(clientId, emitter);
+    public void save(SseConnection connection) {
+        connections.computeIfAbsent(connection.getClientId(), id -> new ConcurrentHashMap<>())
+                .put(connection.getConnectionId(), connection);
     }
 
-    public SseEmitter get(Long clientId) {
-        return emitters.get(clientId);
+    public Collection<SseConnection> findAllByClientId(Long clientId) {
+        Map<String, SseConnection> clientConnections = connections.get(clientId);
+        return clientConnections != null ? clientConnections.values() : List.of();
+    }
+
+    public List<SseConnection> findAll() {
+        List<SseConnection> all = new ArrayList<>();
+        connections.values().forEach(clientConnections -> all.addAll(clientConnections.values()));
+        return all;
+    }
+
+    public void delete(SseConnection connection) {
+        connections.computeIfPresent(connection.getClientId(), (id, clientConnections) -> {
+            clientConnections.remove(connection.getConnectionId());
+            return clientConnections.isEmpty() ? null : clientConnections;
+        });
     }
 
     public void deleteById(Long clientId) {
-        emitters.remove(clientId);
+        connections.remove(clientId);
     }
 
-    public void deleteAll() {emitters.clear();}
+    public void deleteAll() {connections.clear();}
 
-    public int count() {return emitters.size();}
+    public int count() {
+        return connections.values().stream().mapToInt(Map::size).sum();
+    }
 
 }
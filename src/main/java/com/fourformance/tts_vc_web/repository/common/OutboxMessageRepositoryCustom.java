@@ -0,0 +1,15 @@
+package com.fourformance.tts_vc_web.repository.common;
+
+import com.fourformance.tts_vc_web.domain.entity.OutboxMessage;
+import java.util.List;
+
+public interface OutboxMessageRepositoryCustom {
+
+    /**
+     * 아웃박스 메시지 목록을 JDBC 배치로 한 번에 저장
+     * (IDENTITY 키라 saveAll은 행마다 INSERT를 실행하므로 일괄 등록에서는 이 메서드를 사용)
+     *
+     * @param outboxMessages 저장할 메시지 목록 (영속화되지 않은 새 엔티티)
+     */
+    void insertAllInBatch(List<OutboxMessage> outboxMessages);
+}
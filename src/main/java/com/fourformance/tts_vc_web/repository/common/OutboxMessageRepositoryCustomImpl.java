@@ -0,0 +1,63 @@
+package com.fourformance.tts_vc_web.repository.common;
+
+import com.fourformance.tts_vc_web.domain.entity.OutboxMessage;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class OutboxMessageRepositoryCustomImpl implements OutboxMessageRepositoryCustom {
+
+    private static final String INSERT_OUTBOX_MESSAGE_SQL = """
+            INSERT INTO outbox_message (exchange_name, routing_key, payload, task_id, priority, status, attempts,
+                                        created_at, created_date, last_modified_date, created_by, last_modified_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<Long> auditorProvider;
+
+    public OutboxMessageRepositoryCustomImpl(JdbcTemplate jdbcTemplate, AuditorAware<Long> auditorProvider) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditorProvider = auditorProvider;
+    }
+
+    @Override
+    public void insertAllInBatch(List<OutboxMessage> outboxMessages) {
+        if (outboxMessages.isEmpty()) {
+            return;
+        }
+
+        // JDBC 배치는 JPA Auditing을 거치지 않으므로 감사 필드를 직접 채움
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long auditor = auditorProvider.getCurrentAuditor().orElse(-1L);
+
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_MESSAGE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                OutboxMessage message = outboxMessages.get(i);
+                ps.setString(1, message.getExchangeName());
+                ps.setString(2, message.getRoutingKey());
+                ps.setString(3, message.getPayload());
+                ps.setLong(4, message.getTaskId());
+                ps.setInt(5, message.getPriority());
+                ps.setString(6, message.getStatus().name());
+                ps.setInt(7, message.getAttempts());
+                ps.setTimestamp(8, Timestamp.valueOf(message.getCreatedAt()));
+                ps.setTimestamp(9, now);
+                ps.setTimestamp(10, now);
+                ps.setLong(11, auditor);
+                ps.setLong(12, auditor);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return outboxMessages.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package com.fourformance.tts_vc_web.repository.common;
+
+import com.fourformance.tts_vc_web.domain.entity.TTSDetail;
+import java.util.List;
+
+public interface TTSDetailRepositoryCustom {
+
+    /**
+     * 새 TTS 디테일 목록을 JDBC 배치로 한 번에 저장
+     * 엔티티 리스너를 거치지 않으므로 프로젝트 요약 갱신은 호출 측에서 알려야 합니다.
+     *
+     * @param ttsDetails 저장할 디테일 목록 (영속화되지 않은 새 엔티티)
+     * @return 저장된 디테일 ID 목록 (입력 순서와 동일)
+     */
+    List<Long> insertAllInBatch(List<TTSDetail> ttsDetails);
+}
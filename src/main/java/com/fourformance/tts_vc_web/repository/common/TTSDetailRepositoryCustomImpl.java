@@ -0,0 +1,108 @@
+package com.fourformance.tts_vc_web.repository.common;
+
+import com.fourformance.tts_vc_web.domain.entity.TTSDetail;
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+public class TTSDetailRepositoryCustomImpl implements TTSDetailRepositoryCustom {
+
+    private static final String INSERT_TTS_DETAIL_SQL = """
+            INSERT INTO tts_detail (project_id, voice_style_id, unit_script, unit_speed, unit_pitch, unit_volume,
+                                    is_deleted, unit_sequence, created_at, updated_at,
+                                    created_date, last_modified_date, created_by, last_modified_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<Long> auditorProvider;
+
+    public TTSDetailRepositoryCustomImpl(EntityManager em, JdbcTemplate jdbcTemplate,
+                                         AuditorAware<Long> auditorProvider) {
+        this.em = em;
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditorProvider = auditorProvider;
+    }
+
+    @Override
+    public List<Long> insertAllInBatch(List<TTSDetail> ttsDetails) {
+        if (ttsDetails.isEmpty()) {
+            return List.of();
+        }
+
+        // 같은 트랜잭션에서 저장한 프로젝트 / 기존 디테일 변경을 먼저 DB에 반영
+        em.flush();
+
+        // JDBC 배치는 JPA Auditing을 거치지 않으므로 감사 필드를 직접 채움
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long auditor = auditorProvider.getCurrentAuditor().orElse(-1L);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_TTS_DETAIL_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        TTSDetail detail = ttsDetails.get(i);
+                        ps.setLong(1, detail.getTtsProject().getId());
+                        if (detail.getVoiceStyle() != null) {
+                            ps.setLong(2, detail.getVoiceStyle().getId());
+                        } else {
+                            ps.setNull(2, Types.BIGINT);
+                        }
+                        ps.setString(3, detail.getUnitScript());
+                        setFloat(ps, 4, detail.getUnitSpeed());
+                        setFloat(ps, 5, detail.getUnitPitch());
+                        setFloat(ps, 6, detail.getUnitVolume());
+                        if (detail.getIsDeleted() != null) {
+                            ps.setBoolean(7, detail.getIsDeleted());
+                        } else {
+                            ps.setNull(7, Types.BIT);
+                        }
+                        if (detail.getUnitSequence() != null) {
+                            ps.setInt(8, detail.getUnitSequence());
+                        } else {
+                            ps.setNull(8, Types.INTEGER);
+                        }
+                        ps.setTimestamp(9, Timestamp.valueOf(detail.getCreatedAt()));
+                        ps.setTimestamp(10, Timestamp.valueOf(detail.getUpdatedAt()));
+                        ps.setTimestamp(11, now);
+                        ps.setTimestamp(12, now);
+                        ps.setLong(13, auditor);
+                        ps.setLong(14, auditor);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return ttsDetails.size();
+                    }
+                },
+                keyHolder);
+
+        // 생성된 키는 입력 순서대로 반환됨
+        return keyHolder.getKeyList().stream()
+                .map(Map::values)
+                .map(values -> ((Number) values.iterator().next()).longValue())
+                .toList();
+    }
+
+    private void setFloat(PreparedStatement ps, int index, Float value) throws SQLException {
+        if (value != null) {
+            ps.setFloat(index, value);
+        } else {
+            ps.setNull(index, Types.FLOAT);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.fourformance.tts_vc_web.repository.common;
+
+import com.fourformance.tts_vc_web.dto.common.TaskHistoryEvent;
+import java.util.List;
+
+public interface TaskHistoryRepositoryCustom {
+
+    /**
+     * 작업 상태 전이 이벤트를 JDBC 배치로 한 번에 저장
+     *
+     * @param events 저장할 이벤트 목록
+     */
+    void insertAllInBatch(List<TaskHistoryEvent> events);
+}
@@ -0,0 +1,54 @@
+package com.fourformance.tts_vc_web.repository.common;
+
+import com.fourformance.tts_vc_web.dto.common.TaskHistoryEvent;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class TaskHistoryRepositoryCustomImpl implements TaskHistoryRepositoryCustom {
+
+    private static final String INSERT_TASK_HISTORY_SQL = """
+            INSERT INTO task_history (task_id, old_status, new_status, mod_msg, created_at,
+                                      created_date, last_modified_date, created_by, last_modified_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskHistoryRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAllInBatch(List<TaskHistoryEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        // JDBC 배치는 JPA Auditing을 거치지 않으므로 감사 필드를 이벤트 값으로 채움
+        jdbcTemplate.batchUpdate(INSERT_TASK_HISTORY_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                TaskHistoryEvent event = events.get(i);
+                Timestamp createdAt = Timestamp.valueOf(event.getCreatedAt());
+                ps.setLong(1, event.getTaskId());
+                ps.setString(2, event.getOldStatus().name());
+                ps.setString(3, event.getNewStatus().name());
+                ps.setString(4, event.getModMsg());
+                ps.setTimestamp(5, createdAt);
+                ps.setTimestamp(6, createdAt);
+                ps.setTimestamp(7, createdAt);
+                ps.setLong(8, event.getAuditor());
+                ps.setLong(9, event.getAuditor());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package com.fourformance.tts_vc_web.repository.common;
+
+import com.fourformance.tts_vc_web.domain.entity.Task;
+import java.util.List;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Task 목록을 JDBC 배치로 한 번에 저장
+     *
+     * @param tasks 저장할 Task 목록 (영속화되지 않은 새 엔티티)
+     * @return 저장된 Task ID 목록 (입력 순서와 동일)
+     */
+    List<Long> insertAllInBatch(List<Task> tasks);
+}
@@ -0,0 +1,85 @@
+package com.fourformance.tts_vc_web.repository.common;
+
+import com.fourformance.tts_vc_web.domain.entity.Task;
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final String INSERT_TASK_SQL = """
+            INSERT INTO task (project_id, project_type, task_status_const, task_data, created_at,
+                              created_date, last_modified_date, created_by, last_modified_by, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<Long> auditorProvider;
+
+    public TaskRepositoryCustomImpl(EntityManager em, JdbcTemplate jdbcTemplate, AuditorAware<Long> auditorProvider) {
+        this.em = em;
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditorProvider = auditorProvider;
+    }
+
+    @Override
+    public List<Long> insertAllInBatch(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+
+        // 같은 트랜잭션에서 저장한 프로젝트/디테일을 먼저 DB에 반영
+        em.flush();
+
+        // JDBC 배치는 JPA Auditing을 거치지 않으므로 감사 필드를 직접 채움
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long auditor = auditorProvider.getCurrentAuditor().orElse(-1L);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_TASK_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Task task = tasks.get(i);
+                        ps.setLong(1, task.getProject().getId());
+                        ps.setString(2, task.getProjectType().name());
+                        ps.setString(3, task.getTaskStatusConst().name());
+                        ps.setString(4, task.getTaskData());
+                        if (task.getCreatedAt() != null) {
+                            ps.setTimestamp(5, Timestamp.valueOf(task.getCreatedAt()));
+                        } else {
+                            ps.setNull(5, Types.TIMESTAMP);
+                        }
+                        ps.setTimestamp(6, now);
+                        ps.setTimestamp(7, now);
+                        ps.setLong(8, auditor);
+                        ps.setLong(9, auditor);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return tasks.size();
+                    }
+                },
+                keyHolder);
+
+        // 생성된 키는 입력 순서대로 반환됨
+        return keyHolder.getKeyList().stream()
+                .map(Map::values)
+                .map(values -> ((Number) values.iterator().next()).longValue())
+                .toList();
+    }
+}
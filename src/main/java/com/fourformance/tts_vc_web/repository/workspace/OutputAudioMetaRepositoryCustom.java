@@ -2,9 +2,11 @@ package com.fourformance.tts_vc_web.repository.workspace;
 
 import com.fourformance.tts_vc_web.dto.workspace.ExportListDto;
 import com.fourformance.tts_vc_web.dto.workspace.ExportWithDownloadLinkDto;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface OutputAudioMetaRepositoryCustom {
 
@@ -13,4 +15,12 @@ public interface OutputAudioMetaRepositoryCustom {
     //    Page<ExportListDto> findExportHistoryBySearchCriteria(Long memberId, String keyword, Pageable pageable);
     Page<ExportWithDownloadLinkDto> findExportHistoryBySearchCriteria(Long memberId, String keyword, Pageable pageable);
 
+    /**
+     * (createdAt, id) 키셋 페이지네이션 (개수 조회 없음)
+     * lastCreatedAt / lastMetaId 는 이전 페이지 마지막 Export의 값 (첫 페이지는 null)
+     */
+    Slice<ExportWithDownloadLinkDto> findExportHistoryBySearchCriteria(Long memberId, String keyword,
+                                                                       LocalDateTime lastCreatedAt, Long lastMetaId,
+                                                                       int size);
+
 }
@@ -1,9 +1,10 @@
 package com.fourformance.tts_vc_web.repository.workspace;
 
+import com.fourformance.tts_vc_web.common.constant.APIUnitStatusConst;
+import com.fourformance.tts_vc_web.common.constant.SearchDocType;
 import com.fourformance.tts_vc_web.domain.entity.QAPIStatus;
 import com.fourformance.tts_vc_web.domain.entity.QConcatDetail;
 import com.fourformance.tts_vc_web.domain.entity.QConcatProject;
-import com.fourformance.tts_vc_web.domain.entity.QMember;
 import com.fourformance.tts_vc_web.domain.entity.QOutputAudioMeta;
 import com.fourformance.tts_vc_web.domain.entity.QTTSDetail;
 import com.fourformance.tts_vc_web.domain.entity.QTTSProject;
@@ -11,26 +12,37 @@ import com.fourformance.tts_vc_web.domain.entity.QVCDetail;
 import com.fourformance.tts_vc_web.domain.entity.QVCProject;
 import com.fourformance.tts_vc_web.dto.workspace.ExportListDto;
 import com.fourformance.tts_vc_web.dto.workspace.ExportWithDownloadLinkDto;
+import com.fourformance.tts_vc_web.repository.SearchDocumentRepository;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.QueryResults;
-import com.querydsl.core.types.Projections;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+/**
+ * Export 내역 조회
+ * Export 한 건마다 디테일/프로젝트와, 디테일의 가장 최근 APIStatus 한 건, Concat 프로젝트의 가장 최근 디테일 한 건을
+ * 조인 한 번으로 붙입니다. (최근 행은 FK 인덱스를 타는 max(id) 서브쿼리로 한 번만 계산)
+ * - 키워드 검색은 검색 문서(search_document)에서 찾은 Export ID로 거르고 관련도 순으로 정렬합니다.
+ * - 회원 조건은 프로젝트의 member_id 컬럼으로 비교해 회원 테이블은 조인하지 않습니다.
+ */
 @Repository
 public class OutputAudioMetaRepositoryCustomImpl implements OutputAudioMetaRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
 
-    // 이번에 추가한거
-    QConcatDetail subConcatDetail = new QConcatDetail("subConcatDetail");
     // Q-타입 인스턴스
     private final QTTSProject ttsProject = QTTSProject.tTSProject;
     private final QVCProject vcProject = QVCProject.vCProject;
@@ -39,148 +51,38 @@ public class OutputAudioMetaRepositoryCustomImpl implements OutputAudioMetaRepos
     private final QVCDetail vcDetail = QVCDetail.vCDetail;
     private final QConcatProject concatProject = QConcatProject.concatProject;
     private final QConcatDetail concatDetail = QConcatDetail.concatDetail;
-    private final QAPIStatus apiStatus = QAPIStatus.aPIStatus;
 
-    // 각 프로젝트의 멤버를 위한 QMember 인스턴스
+    // 디테일별 가장 최근 APIStatus (TTS / VC 따로 조인해서 서브쿼리가 각 FK 인덱스만 사용)
+    private final QAPIStatus ttsApiStatus = new QAPIStatus("ttsApiStatus");
+    private final QAPIStatus vcApiStatus = new QAPIStatus("vcApiStatus");
 
-    private final QMember ttsMember = new QMember("ttsMember");
-    private final QMember vcMember = new QMember("vcMember");
-    private final QMember concatMember = new QMember("concatMember");
+    // 최근 행을 고르는 서브쿼리용 별칭 (바깥 조인과 같은 별칭을 쓰면 서브쿼리가 바깥 행을 참조함)
+    private final QAPIStatus latestApiStatus = new QAPIStatus("latestApiStatus");
+    private final QConcatDetail latestConcatDetail = new QConcatDetail("latestConcatDetail");
 
-    public OutputAudioMetaRepositoryCustomImpl(EntityManager em) {
+    private final SearchDocumentRepository searchDocumentRepository;
+
+    public OutputAudioMetaRepositoryCustomImpl(EntityManager em, SearchDocumentRepository searchDocumentRepository) {
         this.queryFactory = new JPAQueryFactory(em);
+        this.searchDocumentRepository = searchDocumentRepository;
     }
 
     @Override
     public List<ExportListDto> findExportHistoryBySearchCriteria(Long memberId, String keyword) {
-        BooleanBuilder whereClause = new BooleanBuilder();
-
-        // 멤버 조건 추가
-        BooleanBuilder memberCondition = new BooleanBuilder();
-        memberCondition.or(
-                ttsDetail.isNotNull()
-                        .and(ttsProject.isNotNull())
-                        .and(ttsMember.isNotNull())
-                        .and(ttsMember.id.eq(memberId))
-        );
-        memberCondition.or(
-                vcDetail.isNotNull()
-                        .and(vcProject.isNotNull())
-                        .and(vcMember.isNotNull())
-                        .and(vcMember.id.eq(memberId))
-        );
-        memberCondition.or(
-                concatProject.isNotNull()
-                        .and(concatMember.isNotNull())
-                        .and(concatMember.id.eq(memberId))
-        );
-
-        whereClause.and(memberCondition);
-        whereClause.and(outputAudioMeta.isDeleted.isFalse());
-
-        // 키워드 조건 추가
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            BooleanBuilder keywordConditions = new BooleanBuilder();
-            keywordConditions.or(ttsProject.projectName.containsIgnoreCase(keyword));
-            keywordConditions.or(vcProject.projectName.containsIgnoreCase(keyword));
-            keywordConditions.or(concatProject.projectName.containsIgnoreCase(keyword));
-            keywordConditions.or(
-                    Expressions.stringTemplate(
-                            "SUBSTRING({0}, LOCATE('/', {0}) + 1)",
-                            outputAudioMeta.bucketRoute
-                    ).containsIgnoreCase(keyword)
-            );
-
-            keywordConditions.or(ttsDetail.unitScript.containsIgnoreCase(keyword));
-            keywordConditions.or(vcDetail.unitScript.containsIgnoreCase(keyword));
-//            keywordConditions.or(concatDetail.unitScript.containsIgnoreCase(keyword));
-
-            keywordConditions.or(
-                    JPAExpressions.select(apiStatus.apiUnitStatusConst.stringValue())
-                            .from(apiStatus)
-                            .where(
-                                    apiStatus.ttsDetail.eq(ttsDetail)
-                                            .or(apiStatus.vcDetail.eq(vcDetail))
-                                            .and(apiStatus.apiUnitStatusConst.stringValue()
-                                                    .containsIgnoreCase(keyword)) // 키워드 조건
-                                            .and(apiStatus.createdDate.eq(
-                                                    JPAExpressions.select(apiStatus.createdDate.max())
-                                                            .from(apiStatus)
-                                                            .where(
-                                                                    apiStatus.ttsDetail.eq(ttsDetail)
-                                                                            .or(apiStatus.vcDetail.eq(vcDetail))
-                                                            )
-                                            ))
-                            )
-                            .exists() // 키워드 조건에 맞는 데이터가 있는 경우만
-            );
-            whereClause.and(keywordConditions);
+        // 키워드 검색은 관련도 순
+        if (hasKeyword(keyword)) {
+            return findRankedExportRows(memberId, findRankedExportIds(memberId, keyword)).stream()
+                    .map(this::toExportListDto)
+                    .toList();
         }
 
-        // 전체 개수 조회
-        long total = queryFactory.select(outputAudioMeta.countDistinct())
-                .from(outputAudioMeta)
-                .leftJoin(outputAudioMeta.ttsDetail, ttsDetail)
-                .leftJoin(ttsDetail.ttsProject, ttsProject)
-                .leftJoin(ttsProject.member, ttsMember)
-                .leftJoin(outputAudioMeta.vcDetail, vcDetail)
-                .leftJoin(vcDetail.vcProject, vcProject)
-                .leftJoin(vcProject.member, vcMember)
-                .leftJoin(outputAudioMeta.concatProject, concatProject)
-                .leftJoin(concatProject.member, concatMember)
-                .where(whereClause)
-                .fetchOne();
-
-        List<ExportListDto> results = queryFactory.select(
-                        Projections.constructor(ExportListDto.class,
-                                outputAudioMeta.id,
-                                outputAudioMeta.projectType.stringValue(),
-                                concatProject.projectName.coalesce(ttsProject.projectName, vcProject.projectName),
-                                Expressions.stringTemplate("SUBSTRING_INDEX({0}, '/', -1)", outputAudioMeta.audioUrl),
-                                concatDetail.unitScript.coalesce(ttsDetail.unitScript, vcDetail.unitScript),
-                                JPAExpressions.select(apiStatus.apiUnitStatusConst.stringValue())
-                                        .from(apiStatus)
-                                        .where(
-                                                apiStatus.ttsDetail.eq(ttsDetail) // TTS에 해당
-                                                        .or(apiStatus.vcDetail.eq(vcDetail)) // VC에 해당
-                                                        .and(apiStatus.createdDate.eq(
-                                                                JPAExpressions.select(apiStatus.createdDate.max())
-                                                                        .from(apiStatus)
-                                                                        .where(
-                                                                                apiStatus.ttsDetail.eq(ttsDetail)
-                                                                                        .or(apiStatus.vcDetail.eq(vcDetail))
-                                                                        )
-                                                        ))
-                                        ),
-                                outputAudioMeta.createdAt,
-                                outputAudioMeta.bucketRoute
-                        )
-                )
-                .from(outputAudioMeta)
-                .leftJoin(outputAudioMeta.ttsDetail, ttsDetail)
-                .leftJoin(ttsDetail.ttsProject, ttsProject)
-                .leftJoin(ttsProject.member, ttsMember)
-                .leftJoin(outputAudioMeta.vcDetail, vcDetail)
-                .leftJoin(vcDetail.vcProject, vcProject)
-                .leftJoin(vcProject.member, vcMember)
-                .leftJoin(outputAudioMeta.concatProject, concatProject)
-                .leftJoin(concatProject.member, concatMember)
-                .leftJoin(concatDetail).on(concatDetail.concatProject.eq(outputAudioMeta.concatProject))
-                .leftJoin(apiStatus).on(
-                        apiStatus.createdDate.eq(
-                                JPAExpressions.select(apiStatus.createdDate.max())
-                                        .from(apiStatus)
-                                        .where(
-                                                apiStatus.ttsDetail.eq(ttsDetail)
-                                                        .or(apiStatus.vcDetail.eq(vcDetail))
-                                        )
-                        )
-                )
-                .where(whereClause)
-                .orderBy(outputAudioMeta.createdAt.desc())
-                .fetch();
-
-        return results;
+        return selectExportRows()
+                .where(searchCondition(memberId, keyword))
+                .orderBy(outputAudioMeta.createdAt.desc(), outputAudioMeta.id.desc())
+                .fetch()
+                .stream()
+                .map(this::toExportListDto)
+                .toList();
     }
 
 //    @Override
@@ -319,142 +221,200 @@ public class OutputAudioMetaRepositoryCustomImpl implements OutputAudioMetaRepos
 //    }
 
 
+
     @Override
     public Page<ExportWithDownloadLinkDto> findExportHistoryBySearchCriteria(Long memberId, String keyword,
                                                                              Pageable pageable) {
-        BooleanBuilder whereClause = new BooleanBuilder();
+        // 키워드 검색은 관련도 순 후보 안에서 페이지를 자름 (전체 개수 = 후보 수)
+        if (hasKeyword(keyword)) {
+            List<Long> rankedIds = findRankedExportIds(memberId, keyword);
+            List<ExportWithDownloadLinkDto> results = findRankedExportRows(memberId,
+                    RankedPaging.pageIds(rankedIds, pageable)).stream()
+                    .map(this::toExportWithDownloadLinkDto)
+                    .toList();
+            return new PageImpl<>(results, pageable, rankedIds.size());
+        }
+
+        BooleanBuilder whereClause = searchCondition(memberId, keyword);
+
+        List<ExportWithDownloadLinkDto> results = selectExportRows()
+                .where(whereClause)
+                .orderBy(outputAudioMeta.createdAt.desc(), outputAudioMeta.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch()
+                .stream()
+                .map(this::toExportWithDownloadLinkDto)
+                .toList();
+
+        // 전체 개수는 필요할 때만 조회 (첫 페이지나 마지막 페이지에서 내용 수로 알 수 있으면 생략)
+        // 개수 쿼리는 회원 조건에 필요한 테이블만 조인
+        return PageableExecutionUtils.getPage(results, pageable, () -> {
+            Long total = joinProjects(queryFactory.select(outputAudioMeta.count()))
+                    .where(whereClause)
+                    .fetchOne();
+            return total != null ? total : 0L;
+        });
+    }
+
+    @Override
+    public Slice<ExportWithDownloadLinkDto> findExportHistoryBySearchCriteria(Long memberId, String keyword,
+                                                                              LocalDateTime lastCreatedAt,
+                                                                              Long lastMetaId, int size) {
+        BooleanBuilder whereClause = searchCondition(memberId, keyword);
+
+        // 키셋 조건: 이전 페이지 마지막 행 (createdAt, id) 보다 뒤에 오는 행만 조회
+        if (lastCreatedAt != null && lastMetaId != null) {
+            whereClause.and(outputAudioMeta.createdAt.lt(lastCreatedAt)
+                    .or(outputAudioMeta.createdAt.eq(lastCreatedAt).and(outputAudioMeta.id.lt(lastMetaId))));
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회 (개수 쿼리 없음)
+        List<ExportWithDownloadLinkDto> results = selectExportRows()
+                .where(whereClause)
+                .orderBy(outputAudioMeta.createdAt.desc(), outputAudioMeta.id.desc())
+                .limit(size + 1L)
+                .fetch()
+                .stream()
+                .map(this::toExportWithDownloadLinkDto)
+                .toList();
+
+        boolean hasNext = results.size() > size;
+        return new SliceImpl<>(hasNext ? results.subList(0, size) : results, PageRequest.ofSize(size), hasNext);
+    }
 
-        // 멤버 조건 추가
-        BooleanBuilder memberCondition = new BooleanBuilder();
-        memberCondition.or(
-                ttsDetail.isNotNull()
-                        .and(ttsProject.isNotNull())
-                        .and(ttsMember.isNotNull())
-                        .and(ttsMember.id.eq(memberId))
-        );
-        memberCondition.or(
-                vcDetail.isNotNull()
-                        .and(vcProject.isNotNull())
-                        .and(vcMember.isNotNull())
-                        .and(vcMember.id.eq(memberId))
-        );
-        memberCondition.or(
-                concatProject.isNotNull()
-                        .and(concatMember.isNotNull())
-                        .and(concatMember.id.eq(memberId))
-        );
-
-        whereClause.and(memberCondition);
+    // 공통 필터 조건 (회원, 삭제 여부, 키워드)
+    private BooleanBuilder searchCondition(Long memberId, String keyword) {
+        BooleanBuilder whereClause = ownedBy(memberId);
+
+        // 키워드 조건 추가 (키셋 조회용: 관련도 순 후보 안에서 최신 Export 순으로 이어서 읽음)
+        if (hasKeyword(keyword)) {
+            List<Long> matchedIds = findRankedExportIds(memberId, keyword);
+            whereClause.and(matchedIds.isEmpty()
+                    ? Expressions.FALSE.isTrue()
+                    : outputAudioMeta.id.in(matchedIds));
+        }
+        return whereClause;
+    }
+
+    // 회원 소유의 삭제되지 않은 Export (TTS / VC / Concat 중 하나의 프로젝트가 회원 소유)
+    private BooleanBuilder ownedBy(Long memberId) {
+        BooleanBuilder whereClause = new BooleanBuilder();
+        whereClause.and(ttsProject.member.id.eq(memberId)
+                .or(vcProject.member.id.eq(memberId))
+                .or(concatProject.member.id.eq(memberId)));
         whereClause.and(outputAudioMeta.isDeleted.isFalse());
+        return whereClause;
+    }
 
-        // 키워드 조건 추가
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            BooleanBuilder keywordConditions = new BooleanBuilder();
-            keywordConditions.or(ttsProject.projectName.containsIgnoreCase(keyword));
-            keywordConditions.or(vcProject.projectName.containsIgnoreCase(keyword));
-            keywordConditions.or(concatProject.projectName.containsIgnoreCase(keyword));
-            keywordConditions.or(
-                    Expressions.stringTemplate(
-                            "SUBSTRING({0}, LOCATE('/', {0}) + 1)",
-                            outputAudioMeta.bucketRoute
-                    ).containsIgnoreCase(keyword)
-            );
-
-            keywordConditions.or(ttsDetail.unitScript.containsIgnoreCase(keyword));
-            keywordConditions.or(vcDetail.unitScript.containsIgnoreCase(keyword));
-            keywordConditions.or(concatDetail.unitScript.containsIgnoreCase(keyword));
-
-            keywordConditions.or(
-                    JPAExpressions.select(apiStatus.apiUnitStatusConst.stringValue())
-                            .from(apiStatus)
-                            .where(
-                                    apiStatus.ttsDetail.eq(ttsDetail)
-                                            .or(apiStatus.vcDetail.eq(vcDetail))
-                                            .and(apiStatus.apiUnitStatusConst.stringValue()
-                                                    .containsIgnoreCase(keyword))
-                                            .and(apiStatus.createdDate.eq(
-                                                    JPAExpressions.select(apiStatus.createdDate.max())
-                                                            .from(apiStatus)
-                                                            .where(
-                                                                    apiStatus.ttsDetail.eq(ttsDetail)
-                                                                            .or(apiStatus.vcDetail.eq(vcDetail))
-                                                            )
-                                            ))
-                            )
-                            .exists()
-            );
-            whereClause.and(keywordConditions);
+    private boolean hasKeyword(String keyword) {
+        return keyword != null && !keyword.trim().isEmpty();
+    }
+
+    // 프로젝트 이름, 파일명, 스크립트, 상태를 색인한 검색 문서에서 일치하는 Export ID
+    // 관련도 순 상위 search.max-candidates 개까지만 목록에 나타남
+    private List<Long> findRankedExportIds(Long memberId, String keyword) {
+        return searchDocumentRepository.findRankedRefIds(memberId, SearchDocType.EXPORT, keyword);
+    }
+
+    // 관련도 순 ID의 Export 행을 조회해서 같은 순서로 반환
+    private List<Tuple> findRankedExportRows(Long memberId, List<Long> rankedIds) {
+        if (rankedIds.isEmpty()) {
+            return List.of();
         }
+        List<Tuple> rows = selectExportRows()
+                .where(ownedBy(memberId).and(outputAudioMeta.id.in(rankedIds)))
+                .fetch();
+        return RankedPaging.inRankOrder(rankedIds, rows, row -> row.get(outputAudioMeta.id));
+    }
+
+    // Export 목록에 필요한 컬럼 (최근 APIStatus, Concat 최근 디테일 포함)
+    private JPAQuery<Tuple> selectExportRows() {
+        return joinProjects(queryFactory
+                .select(outputAudioMeta.id, outputAudioMeta.audioUrl, outputAudioMeta.bucketRoute,
+                        outputAudioMeta.projectType, outputAudioMeta.createdAt,
+                        ttsProject.id, ttsProject.projectName, ttsDetail.unitScript, ttsApiStatus.apiUnitStatusConst,
+                        vcProject.id, vcProject.projectName, vcDetail.unitScript, vcApiStatus.apiUnitStatusConst,
+                        concatProject.id, concatProject.projectName, concatDetail.unitScript))
+                .leftJoin(ttsApiStatus).on(ttsApiStatus.id.eq(
+                        JPAExpressions.select(latestApiStatus.id.max())
+                                .from(latestApiStatus)
+                                .where(latestApiStatus.ttsDetail.id.eq(ttsDetail.id))))
+                .leftJoin(vcApiStatus).on(vcApiStatus.id.eq(
+                        JPAExpressions.select(latestApiStatus.id.max())
+                                .from(latestApiStatus)
+                                .where(latestApiStatus.vcDetail.id.eq(vcDetail.id))))
+                .leftJoin(concatDetail).on(concatDetail.id.eq(
+                        JPAExpressions.select(latestConcatDetail.id.max())
+                                .from(latestConcatDetail)
+                                .where(latestConcatDetail.concatProject.id.eq(concatProject.id))));
+    }
 
-        // QueryResults로 데이터와 총 개수 조회
-        QueryResults<ExportWithDownloadLinkDto> queryResults = queryFactory
-                .select(
-                        Projections.constructor(ExportWithDownloadLinkDto.class,
-                                outputAudioMeta.id,
-                                // projectId: TTS, VC, Concat 중 하나의 프로젝트 ID
-                                ttsProject.id.coalesce(vcProject.id, concatProject.id), // 수정된 부분
-                                Expressions.stringTemplate("SUBSTRING_INDEX({0}, '/', -1)", outputAudioMeta.audioUrl),
-                                outputAudioMeta.audioUrl,
-                                JPAExpressions.select(apiStatus.apiUnitStatusConst.stringValue())
-                                        .from(apiStatus)
-                                        .where(
-                                                apiStatus.ttsDetail.eq(ttsDetail)
-                                                        .or(apiStatus.vcDetail.eq(vcDetail))
-                                                        .and(apiStatus.createdDate.eq(
-                                                                JPAExpressions.select(apiStatus.createdDate.max())
-                                                                        .from(apiStatus)
-                                                                        .where(
-                                                                                apiStatus.ttsDetail.eq(ttsDetail)
-                                                                                        .or(apiStatus.vcDetail.eq(
-                                                                                                vcDetail))
-                                                                        )
-                                                        ))
-                                        ),
-                                concatProject.projectName.coalesce(ttsProject.projectName, vcProject.projectName),
-                                outputAudioMeta.projectType.stringValue(),
-                                concatDetail.unitScript.coalesce(ttsDetail.unitScript, vcDetail.unitScript),
-                                outputAudioMeta.createdAt
-                        )
-                )
+    // Export와 디테일/프로젝트 조인 (회원 조건에 필요한 테이블)
+    private <T> JPAQuery<T> joinProjects(JPAQuery<T> query) {
+        return query
                 .from(outputAudioMeta)
                 .leftJoin(outputAudioMeta.ttsDetail, ttsDetail)
                 .leftJoin(ttsDetail.ttsProject, ttsProject)
-                .leftJoin(ttsProject.member, ttsMember)
                 .leftJoin(outputAudioMeta.vcDetail, vcDetail)
                 .leftJoin(vcDetail.vcProject, vcProject)
-                .leftJoin(vcProject.member, vcMember)
-                .leftJoin(outputAudioMeta.concatProject, concatProject)
-                .leftJoin(concatProject.member, concatMember)
-                .leftJoin(concatDetail).on(
-                        concatDetail.concatProject.eq(outputAudioMeta.concatProject)
-                                .and(concatDetail.createdAt.eq(
-                                        JPAExpressions.select(concatDetail.createdAt.max())
-                                                .from(concatDetail)
-                                                .where(concatDetail.concatProject.eq(outputAudioMeta.concatProject))
-                                ))
-                ).leftJoin(apiStatus).on(
-                        apiStatus.createdDate.eq(
-                                JPAExpressions.select(apiStatus.createdDate.max())
-                                        .from(apiStatus)
-                                        .where(
-                                                apiStatus.ttsDetail.eq(ttsDetail)
-                                                        .or(apiStatus.vcDetail.eq(vcDetail))
-                                        )
-                        )
-                )
-                .where(whereClause)
-                .distinct() // 중복 제거
-                .orderBy(outputAudioMeta.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetchResults();
+                .leftJoin(outputAudioMeta.concatProject, concatProject);
+    }
 
-        // QueryResults에서 데이터와 전체 개수 추출
-        List<ExportWithDownloadLinkDto> results = queryResults.getResults();
-        long total = queryResults.getTotal();
+    private ExportListDto toExportListDto(Tuple row) {
+        return new ExportListDto(
+                row.get(outputAudioMeta.id),
+                row.get(outputAudioMeta.projectType) != null ? row.get(outputAudioMeta.projectType).name() : null,
+                projectName(row),
+                extractFileName(row.get(outputAudioMeta.audioUrl)),
+                script(row),
+                unitStatus(row),
+                row.get(outputAudioMeta.createdAt),
+                row.get(outputAudioMeta.bucketRoute));
+    }
 
-        // Page 객체로 반환
-        return new PageImpl<>(results, pageable, total);
+    private ExportWithDownloadLinkDto toExportWithDownloadLinkDto(Tuple row) {
+        Long projectId = row.get(ttsProject.id) != null ? row.get(ttsProject.id)
+                : row.get(vcProject.id) != null ? row.get(vcProject.id) : row.get(concatProject.id);
+        return new ExportWithDownloadLinkDto(
+                row.get(outputAudioMeta.id),
+                projectId,
+                extractFileName(row.get(outputAudioMeta.audioUrl)),
+                row.get(outputAudioMeta.audioUrl),
+                unitStatus(row),
+                projectName(row),
+                row.get(outputAudioMeta.projectType) != null ? row.get(outputAudioMeta.projectType).name() : null,
+                script(row),
+                row.get(outputAudioMeta.createdAt));
+    }
+
+    // Concat → TTS → VC 순서로 값이 있는 프로젝트 이름
+    private String projectName(Tuple row) {
+        return firstNonNull(row.get(concatProject.projectName), row.get(ttsProject.projectName),
+                row.get(vcProject.projectName));
     }
-}
 
+    private String script(Tuple row) {
+        return firstNonNull(row.get(concatDetail.unitScript), row.get(ttsDetail.unitScript),
+                row.get(vcDetail.unitScript));
+    }
+
+    private String unitStatus(Tuple row) {
+        APIUnitStatusConst status = row.get(ttsApiStatus.apiUnitStatusConst) != null
+                ? row.get(ttsApiStatus.apiUnitStatusConst)
+                : row.get(vcApiStatus.apiUnitStatusConst);
+        return status != null ? status.name() : null;
+    }
+
+    private String firstNonNull(String first, String second, String third) {
+        return first != null ? first : second != null ? second : third;
+    }
+
+    // 경로의 마지막 '/' 뒤 파일명
+    private String extractFileName(String path) {
+        if (path == null) {
+            return null;
+        }
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+}
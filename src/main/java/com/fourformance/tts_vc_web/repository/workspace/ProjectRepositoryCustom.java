@@ -1,12 +1,42 @@
 package com.fourformance.tts_vc_web.repository.workspace;
 
+import com.fourformance.tts_vc_web.domain.entity.ProjectSummary;
 import com.fourformance.tts_vc_web.dto.workspace.ProjectListDto;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface ProjectRepositoryCustom {
     List<ProjectListDto> findProjectsBySearchCriteria(Long memberId, String keyword);
 
     Page<ProjectListDto> findProjectsBySearchCriteria(Long memberId, String keyword, Pageable pageable);
+
+    /**
+     * (updatedAt, id) 키셋 페이지네이션
+     * lastUpdatedAt / lastProjectId 는 이전 페이지 마지막 프로젝트의 값 (첫 페이지는 null)
+     */
+    Slice<ProjectListDto> findProjectsBySearchCriteria(Long memberId, String keyword,
+                                                       LocalDateTime lastUpdatedAt, Long lastProjectId, int size);
+
+    /**
+     * 프로젝트 요약을 원본 테이블에서 다시 계산 (저장하지 않은 새 객체)
+     * 삭제되어 조회되지 않는 프로젝트는 결과에서 빠집니다.
+     */
+    List<ProjectSummary> computeProjectSummaries(Collection<Long> projectIds);
+
+    // 요약 재생성용: lastProjectId 다음 프로젝트 ID를 size 개 조회 (첫 페이지는 null)
+    List<Long> findProjectIdsAfter(Long lastProjectId, int size);
+
+    // 디테일 ID로 프로젝트 ID 조회
+    Set<Long> findProjectIdsByDetailIds(Collection<Long> ttsDetailIds, Collection<Long> vcDetailIds);
+
+    /**
+     * 요약 누락 복구용: since 이후 원본(프로젝트, 디테일, APIStatus, OutputAudioMeta)이 바뀌었는데
+     * 요약이 없거나 요약을 마지막으로 계산한 시각(refreshedAt)이 원본 변경 시각보다 이른 프로젝트 ID 조회
+     */
+    Set<Long> findStaleProjectIds(LocalDateTime since);
 }
@@ -1,289 +1,480 @@
 package com.fourformance.tts_vc_web.repository.workspace;
 
+import static com.fourformance.tts_vc_web.domain.entity.QAPIStatus.aPIStatus;
 import static com.fourformance.tts_vc_web.domain.entity.QConcatDetail.concatDetail;
 import static com.fourformance.tts_vc_web.domain.entity.QConcatProject.concatProject;
+import static com.fourformance.tts_vc_web.domain.entity.QOutputAudioMeta.outputAudioMeta;
 import static com.fourformance.tts_vc_web.domain.entity.QProject.project;
+import static com.fourformance.tts_vc_web.domain.entity.QProjectSummary.projectSummary;
 import static com.fourformance.tts_vc_web.domain.entity.QTTSDetail.tTSDetail;
 import static com.fourformance.tts_vc_web.domain.entity.QTTSProject.tTSProject;
 import static com.fourformance.tts_vc_web.domain.entity.QVCDetail.vCDetail;
 import static com.fourformance.tts_vc_web.domain.entity.QVCProject.vCProject;
 
-import com.fourformance.tts_vc_web.domain.entity.ConcatProject;
-import com.fourformance.tts_vc_web.domain.entity.Project;
-import com.fourformance.tts_vc_web.domain.entity.TTSProject;
-import com.fourformance.tts_vc_web.domain.entity.VCProject;
+import com.fourformance.tts_vc_web.common.constant.APIStatusConst;
+import com.fourformance.tts_vc_web.common.constant.APIUnitStatusConst;
+import com.fourformance.tts_vc_web.common.constant.ProjectType;
+import com.fourformance.tts_vc_web.common.constant.SearchDocType;
+import com.fourformance.tts_vc_web.domain.entity.ProjectSummary;
+import com.fourformance.tts_vc_web.domain.entity.QAPIStatus;
+import com.fourformance.tts_vc_web.domain.entity.QConcatDetail;
+import com.fourformance.tts_vc_web.domain.entity.QTTSDetail;
+import com.fourformance.tts_vc_web.domain.entity.QVCDetail;
 import com.fourformance.tts_vc_web.dto.workspace.ProjectListDto;
+import com.fourformance.tts_vc_web.repository.SearchDocumentRepository;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.QueryResults;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
 
+    // 첫 번째 디테일을 고르는 서브쿼리용 별칭 (바깥 조인과 같은 별칭을 쓰면 서브쿼리가 바깥 행을 참조함)
+    private static final QTTSDetail firstTtsDetail = new QTTSDetail("firstTtsDetail");
+    private static final QTTSDetail minTtsDetail = new QTTSDetail("minTtsDetail");
+    private static final QVCDetail firstVcDetail = new QVCDetail("firstVcDetail");
+    private static final QVCDetail minVcDetail = new QVCDetail("minVcDetail");
+    private static final QConcatDetail firstConcatDetail = new QConcatDetail("firstConcatDetail");
+    private static final QConcatDetail minConcatDetail = new QConcatDetail("minConcatDetail");
+    private static final QAPIStatus latestApiStatus = new QAPIStatus("latestApiStatus");
+
     private final JPAQueryFactory queryFactory;
+    private final SearchDocumentRepository searchDocumentRepository;
 
-    public ProjectRepositoryCustomImpl(EntityManager em) {
+    public ProjectRepositoryCustomImpl(EntityManager em, SearchDocumentRepository searchDocumentRepository) {
         this.queryFactory = new JPAQueryFactory(em);
+        this.searchDocumentRepository = searchDocumentRepository;
     }
 
 
     @Override
     public List<ProjectListDto> findProjectsBySearchCriteria(Long memberId, String keyword) {
 
-        // 공통 필터 조건
-        BooleanBuilder whereClause = new BooleanBuilder();
-//        commmonFilter(whereClause, project, memberId);
+        // 키워드 검색은 관련도 순
+        if (hasKeyword(keyword)) {
+            return findRankedSummaries(memberId, findRankedProjectIds(memberId, keyword));
+        }
+
+        // 프로젝트 요약 테이블에서 한 번에 조회 (첫 번째 스크립트는 쓰기 시점에 계산되어 있음)
+        List<ProjectSummary> summaries = queryFactory
+                .selectFrom(projectSummary)
+                .where(searchCondition(memberId, keyword)) // 검색 필터 조건 적용
+                .orderBy(projectSummary.updatedAt.desc(), projectSummary.projectId.desc()) // 프로젝트 업데이트 날짜 기준 내림차순 정렬
+                .fetch();
+
+        return summaries.stream().map(this::toProjectListDto).toList();
+    }
+
+
+    @Override
+    public Page<ProjectListDto> findProjectsBySearchCriteria(Long memberId, String keyword, Pageable pageable) {
+
+        // 키워드 검색은 관련도 순 후보 안에서 페이지를 자름 (전체 개수 = 후보 수)
+        if (hasKeyword(keyword)) {
+            List<Long> rankedIds = findRankedProjectIds(memberId, keyword);
+            List<ProjectListDto> results = findRankedSummaries(memberId, RankedPaging.pageIds(rankedIds, pageable));
+            return new PageImpl<>(results, pageable, rankedIds.size());
+        }
 
-        whereClause.and(project.member.id.eq(memberId)); // 멤버 ID 조건
-        whereClause.and(project.isDeleted.isFalse());    // 삭제되지 않은 프로젝트
+        BooleanBuilder whereClause = searchCondition(memberId, keyword);
 
-        // 키워드 검색 조건 (아래 중 하나라도 만족해야 검색 됨)
-        if (keyword != null && !keyword.isEmpty()) {
-            BooleanBuilder keywordConditions = new BooleanBuilder();
-            keywordConditions.or(project.projectName.containsIgnoreCase(keyword)); // 프로젝트 이름 검색
+        List<ProjectListDto> results = queryFactory
+                .selectFrom(projectSummary)
+                .where(whereClause)
+                .orderBy(projectSummary.updatedAt.desc(), projectSummary.projectId.desc()) // 최신 업데이트 순으로 정렬
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch()
+                .stream()
+                .map(this::toProjectListDto)
+                .toList();
 
-            keywordConditions.or(tTSDetail.unitScript.containsIgnoreCase(keyword)); // TTS 스크립트 검색
+        // 전체 개수
+        Long total = queryFactory
+                .select(projectSummary.count())
+                .from(projectSummary)
+                .where(whereClause)
+                .fetchOne();
+
+        // Page 객체로 반환
+        return new PageImpl<>(results, pageable, total != null ? total : 0L);
+    }
 
-            keywordConditions.or(vCDetail.unitScript.containsIgnoreCase(keyword)); // VC 스크립트 검색
-            keywordConditions.or(concatDetail.unitScript.containsIgnoreCase(keyword)); // Concat 스크립트 검색
 
-            keywordConditions.or(tTSProject.apiStatus.stringValue().containsIgnoreCase(keyword)); // TTS 상태 검색
-            keywordConditions.or(vCProject.apiStatus.stringValue().containsIgnoreCase(keyword)); // VC 상태 검색
-//            keywordConditions.or(concatProject..stringValue().containsIgnoreCase(keyword)); // Concat도 그냥 컬럼으로 관리할걸 히스토리 상태에 대한 키가 히스토리 엔티티에 있는데... 일단 보류
+    @Override
+    public Slice<ProjectListDto> findProjectsBySearchCriteria(Long memberId, String keyword,
+                                                              LocalDateTime lastUpdatedAt, Long lastProjectId,
+                                                              int size) {
 
-            keywordConditions.or(tTSProject.projectType.containsIgnoreCase(keyword)); // TTS 타입
-            keywordConditions.or(vCProject.projectType.containsIgnoreCase(keyword)); // VC 타입
-            keywordConditions.or(concatProject.projectType.containsIgnoreCase(keyword)); // Concat 타입
+        BooleanBuilder whereClause = searchCondition(memberId, keyword);
 
-            whereClause.and(keywordConditions); // 키워드 조건을 최종적으로 AND 조건에 추가
+        // 키셋 조건: 이전 페이지 마지막 행 (updatedAt, id) 보다 뒤에 오는 행만 조회 (OFFSET 없이 인덱스에서 바로 이어서 읽음)
+        if (lastUpdatedAt != null && lastProjectId != null) {
+            whereClause.and(projectSummary.updatedAt.lt(lastUpdatedAt)
+                    .or(projectSummary.updatedAt.eq(lastUpdatedAt).and(projectSummary.projectId.lt(lastProjectId))));
         }
 
-        // QueryDSL로 데이터 조회
-        List<ProjectListDto> result = queryFactory
-                .selectFrom(project)
-                // TTSDetail과 firstScript 조건으로 디테일 조인
-                .leftJoin(tTSProject).on(tTSProject.id.eq(project.id))
-                .leftJoin(tTSDetail).on(
-                        tTSDetail.ttsProject.id.eq(tTSProject.id)
-                                .and(tTSDetail.isDeleted.isFalse())
-                                .and(tTSDetail.unitSequence.eq(
-                                        JPAExpressions.select(tTSDetail.unitSequence.min())
-                                                .from(tTSDetail)
-                                                .where(tTSDetail.ttsProject.id.eq(tTSProject.id)
-                                                        .and(tTSDetail.isDeleted.isFalse()))
-                                ))
-                )
-                // VCDetail과 firstScript 조건 조인
-                .leftJoin(vCProject).on(vCProject.id.eq(project.id))
-                .leftJoin(vCDetail).on(
-                        vCDetail.vcProject.id.eq(vCProject.id)
-                                .and(vCDetail.isDeleted.isFalse())
-                                .and(vCDetail.createdAt.eq(
-                                        JPAExpressions.select(vCDetail.createdAt.min())
-                                                .from(vCDetail)
-                                                .where(vCDetail.vcProject.id.eq(vCProject.id)
-                                                        .and(vCDetail.isDeleted.isFalse()))
-                                ))
-                )
-                // ConcatDetail과 firstScript 조건 조인
-                .leftJoin(concatProject).on(concatProject.id.eq(project.id))
-                .leftJoin(concatDetail).on(
-                        concatDetail.concatProject.id.eq(concatProject.id)
-                                .and(concatDetail.isDeleted.isFalse())
-                                .and(concatDetail.audioSeq.eq(
-                                        JPAExpressions.select(concatDetail.audioSeq.min())
-                                                .from(concatDetail)
-                                                .where(concatDetail.concatProject.id.eq(concatProject.id)
-                                                        .and(concatDetail.isDeleted.isFalse()))
-                                ))
-                )
-                .where(whereClause) // 검색 필터 조건 적용
-                .orderBy(project.updatedAt.desc()) // 프로젝트 업데이트 날짜 기준 내림차순 정렬
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<ProjectListDto> results = queryFactory
+                .selectFrom(projectSummary)
+                .where(whereClause)
+                .orderBy(projectSummary.updatedAt.desc(), projectSummary.projectId.desc())
+                .limit(size + 1L)
                 .fetch()
                 .stream()
-                .map(p -> {
-                    ProjectListDto dto = new ProjectListDto();
-                    dto.setProjectId(p.getId());
-                    dto.setProjectName(p.getProjectName());
-                    dto.setUpdatedAt(p.getUpdatedAt());
-                    dto.setCreatedAt(p.getCreatedAt());
-
-                    // TTS 프로젝트 처리
-                    if (p instanceof TTSProject tts) {
-                        String firstScript = queryFactory
-                                .select(tTSDetail.unitScript)
-                                .from(tTSDetail)
-                                .where(tTSDetail.ttsProject.id.eq(tts.getId())
-                                        .and(tTSDetail.isDeleted.isFalse()))
-                                .orderBy(tTSDetail.unitSequence.asc())
-                                .fetchFirst();
-                        dto.setScript(firstScript);
-                        dto.setProjectStatus(tts.getApiStatus().toString());
-                        dto.setProjectType("TTS");
-
-                        // VC 프로젝트 처리
-                    } else if (p instanceof VCProject vc) {
-                        String firstScript = queryFactory
-                                .select(vCDetail.unitScript)
-                                .from(vCDetail)
-                                .where(vCDetail.vcProject.id.eq(vc.getId())
-                                        .and(vCDetail.isDeleted.isFalse()))
-                                .orderBy(vCDetail.createdAt.asc())
-                                .fetchFirst();
-                        dto.setScript(firstScript);
-                        dto.setProjectStatus(vc.getApiStatus().toString());
-                        dto.setProjectType("VC");
-
-                        // Concat 프로젝트 처리
-                    } else if (p instanceof ConcatProject concat) {
-                        String firstScript = queryFactory
-                                .select(concatDetail.unitScript)
-                                .from(concatDetail)
-                                .where(concatDetail.concatProject.id.eq(concat.getId())
-                                        .and(concatDetail.isDeleted.isFalse()))
-                                .orderBy(concatDetail.audioSeq.asc())
-                                .fetchFirst();
-                        dto.setScript(firstScript);
-                        System.out.println("concatScript = " + firstScript);
-                        dto.setProjectType("CONCAT");
-                    }
-
-                    return dto;
-                })
+                .map(this::toProjectListDto)
                 .toList();
 
-        return result;
+        boolean hasNext = results.size() > size;
+        return new SliceImpl<>(hasNext ? results.subList(0, size) : results, PageRequest.ofSize(size), hasNext);
     }
 
 
     @Override
-    public Page<ProjectListDto> findProjectsBySearchCriteria(Long memberId, String keyword, Pageable pageable) {
+    public List<ProjectSummary> computeProjectSummaries(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
 
-        // 공통 필터 조건
-        BooleanBuilder whereClause = new BooleanBuilder();
-        whereClause.and(project.member.id.eq(memberId)); // 멤버 ID 조건
-        whereClause.and(project.isDeleted.isFalse());    // 삭제되지 않은 프로젝트
-
-        // 키워드 검색 조건 추가
-        if (keyword != null && !keyword.isEmpty()) {
-            BooleanBuilder keywordConditions = new BooleanBuilder();
-            keywordConditions.or(project.projectName.containsIgnoreCase(keyword)); // 프로젝트 이름 검색
-            keywordConditions.or(tTSDetail.unitScript.containsIgnoreCase(keyword)); // TTS 스크립트 검색
-            keywordConditions.or(vCDetail.unitScript.containsIgnoreCase(keyword)); // VC 스크립트 검색
-            keywordConditions.or(concatDetail.unitScript.containsIgnoreCase(keyword)); // Concat 스크립트 검색
-            keywordConditions.or(tTSProject.apiStatus.stringValue().containsIgnoreCase(keyword)); // TTS 상태 검색
-            keywordConditions.or(vCProject.apiStatus.stringValue().containsIgnoreCase(keyword)); // VC 상태 검색
-            keywordConditions.or(tTSProject.projectType.containsIgnoreCase(keyword)); // TTS 타입
-            keywordConditions.or(vCProject.projectType.containsIgnoreCase(keyword)); // VC 타입
-            keywordConditions.or(concatProject.projectType.containsIgnoreCase(keyword)); // Concat 타입
-
-            whereClause.and(keywordConditions);
+        // 1. 프로젝트 기본 정보와 첫 번째 스크립트 (한 번의 쿼리)
+        List<Tuple> rows = selectProjectRows()
+                .where(project.id.in(projectIds))
+                .fetch();
+
+        // 2. 디테일 수, 최근 API 처리 결과, 마지막 Export 시각 (프로젝트 유형별 GROUP BY)
+        Map<Long, Long> detailCounts = new HashMap<>();
+        detailCounts.putAll(countDetails(tTSDetail, tTSDetail.ttsProject.id, tTSDetail.isDeleted.isFalse(),
+                projectIds));
+        detailCounts.putAll(countDetails(vCDetail, vCDetail.vcProject.id, vCDetail.isDeleted.isFalse(), projectIds));
+        detailCounts.putAll(countDetails(concatDetail, concatDetail.concatProject.id,
+                concatDetail.isDeleted.isFalse(), projectIds));
+
+        Map<Long, APIUnitStatusConst> latestUnitStatuses = new HashMap<>();
+        latestUnitStatuses.putAll(findLatestUnitStatuses(aPIStatus.ttsDetail.ttsProject.id,
+                latestApiStatus.ttsDetail.ttsProject.id, projectIds));
+        latestUnitStatuses.putAll(findLatestUnitStatuses(aPIStatus.vcDetail.vcProject.id,
+                latestApiStatus.vcDetail.vcProject.id, projectIds));
+
+        Map<Long, LocalDateTime> lastExports = new HashMap<>();
+        lastExports.putAll(findLastExports(outputAudioMeta.ttsDetail.ttsProject.id, projectIds));
+        lastExports.putAll(findLastExports(outputAudioMeta.vcDetail.vcProject.id, projectIds));
+        lastExports.putAll(findLastExports(outputAudioMeta.concatProject.id, projectIds));
+
+        List<ProjectSummary> summaries = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Long projectId = row.get(project.id);
+            Long detailCount = detailCounts.getOrDefault(projectId, 0L);
+            summaries.add(toProjectSummary(row, detailCount.intValue(), latestUnitStatuses.get(projectId),
+                    lastExports.get(projectId)));
         }
+        return summaries;
+    }
+
 
-        // QueryDSL fetchResults로 데이터 조회 및 변환
-        QueryResults<Project> queryResults = queryFactory
-                .selectDistinct(project) // 중복 데이터 방지
+    @Override
+    public List<Long> findProjectIdsAfter(Long lastProjectId, int size) {
+        return queryFactory
+                .select(project.id)
                 .from(project)
+                .where(lastProjectId != null ? project.id.gt(lastProjectId) : null)
+                .orderBy(project.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+
+    @Override
+    public Set<Long> findProjectIdsByDetailIds(Collection<Long> ttsDetailIds, Collection<Long> vcDetailIds) {
+        Set<Long> projectIds = new LinkedHashSet<>();
+        if (!ttsDetailIds.isEmpty()) {
+            projectIds.addAll(queryFactory
+                    .select(tTSDetail.ttsProject.id)
+                    .from(tTSDetail)
+                    .where(tTSDetail.id.in(ttsDetailIds))
+                    .fetch());
+        }
+        if (!vcDetailIds.isEmpty()) {
+            projectIds.addAll(queryFactory
+                    .select(vCDetail.vcProject.id)
+                    .from(vCDetail)
+                    .where(vCDetail.id.in(vcDetailIds))
+                    .fetch());
+        }
+        return projectIds;
+    }
+
+
+    @Override
+    public Set<Long> findStaleProjectIds(LocalDateTime since) {
+        // 1. 원본 테이블별로 since 이후 마지막 변경 시각 (프로젝트별 최댓값)
+        Map<Long, LocalDateTime> modifiedAt = new HashMap<>();
+        mergeLastModified(modifiedAt, project, project.id, project.lastModifiedDate, since);
+        mergeLastModified(modifiedAt, tTSDetail, tTSDetail.ttsProject.id, tTSDetail.lastModifiedDate, since);
+        mergeLastModified(modifiedAt, vCDetail, vCDetail.vcProject.id, vCDetail.lastModifiedDate, since);
+        mergeLastModified(modifiedAt, concatDetail, concatDetail.concatProject.id, concatDetail.lastModifiedDate,
+                since);
+        mergeLastModified(modifiedAt, aPIStatus, aPIStatus.ttsDetail.ttsProject.id, aPIStatus.lastModifiedDate, since);
+        mergeLastModified(modifiedAt, aPIStatus, aPIStatus.vcDetail.vcProject.id, aPIStatus.lastModifiedDate, since);
+        mergeLastModified(modifiedAt, outputAudioMeta, outputAudioMeta.ttsDetail.ttsProject.id,
+                outputAudioMeta.lastModifiedDate, since);
+        mergeLastModified(modifiedAt, outputAudioMeta, outputAudioMeta.vcDetail.vcProject.id,
+                outputAudioMeta.lastModifiedDate, since);
+        mergeLastModified(modifiedAt, outputAudioMeta, outputAudioMeta.concatProject.id,
+                outputAudioMeta.lastModifiedDate, since);
+        if (modifiedAt.isEmpty()) {
+            return Set.of();
+        }
+
+        // 2. 요약을 다시 계산한 시각과 비교
+        Map<Long, LocalDateTime> refreshedAt = new HashMap<>();
+        List<Tuple> rows = queryFactory
+                .select(projectSummary.projectId, projectSummary.refreshedAt)
+                .from(projectSummary)
+                .where(projectSummary.projectId.in(modifiedAt.keySet()))
+                .fetch();
+        for (Tuple row : rows) {
+            refreshedAt.put(row.get(projectSummary.projectId), row.get(projectSummary.refreshedAt));
+        }
+
+        Set<Long> staleIds = new LinkedHashSet<>();
+        modifiedAt.forEach((projectId, modified) -> {
+            LocalDateTime refreshed = refreshedAt.get(projectId);
+            if (refreshed == null || refreshed.isBefore(modified)) {
+                staleIds.add(projectId);
+            }
+        });
+        return staleIds;
+    }
+
+
+    // 공통 필터 조건
+    private BooleanBuilder searchCondition(Long memberId, String keyword) {
+        BooleanBuilder whereClause = new BooleanBuilder();
+        whereClause.and(projectSummary.memberId.eq(memberId)); // 멤버 ID 조건
+        whereClause.and(projectSummary.isDeleted.isFalse());    // 삭제되지 않은 프로젝트
+
+        // 키워드 검색 조건 (키셋 조회용: 관련도 순 후보 안에서 최신 업데이트 순으로 이어서 읽음)
+        if (hasKeyword(keyword)) {
+            List<Long> matchedIds = findRankedProjectIds(memberId, keyword);
+            whereClause.and(matchedIds.isEmpty()
+                    ? Expressions.FALSE.isTrue()
+                    : projectSummary.projectId.in(matchedIds));
+        }
+        return whereClause;
+    }
+
+    private boolean hasKeyword(String keyword) {
+        return keyword != null && !keyword.isBlank();
+    }
+
+    // 프로젝트 이름, 스크립트, 상태, 타입을 색인한 검색 문서에서 일치하는 프로젝트 ID
+    // 관련도 순 상위 search.max-candidates 개까지만 목록에 나타남
+    private List<Long> findRankedProjectIds(Long memberId, String keyword) {
+        return searchDocumentRepository.findRankedRefIds(memberId, SearchDocType.PROJECT, keyword);
+    }
+
+    // 관련도 순 ID의 요약을 조회해서 같은 순서로 반환
+    private List<ProjectListDto> findRankedSummaries(Long memberId, List<Long> rankedIds) {
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        List<ProjectSummary> summaries = queryFactory
+                .selectFrom(projectSummary)
+                .where(projectSummary.memberId.eq(memberId),
+                        projectSummary.isDeleted.isFalse(),
+                        projectSummary.projectId.in(rankedIds))
+                .fetch();
+        return RankedPaging.inRankOrder(rankedIds, summaries, ProjectSummary::getProjectId).stream()
+                .map(this::toProjectListDto)
+                .toList();
+    }
+
+    // 프로젝트별 삭제되지 않은 디테일 수
+    private Map<Long, Long> countDetails(EntityPathBase<?> detail, NumberPath<Long> projectIdPath,
+                                         BooleanExpression notDeleted, Collection<Long> projectIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        List<Tuple> rows = queryFactory
+                .select(projectIdPath, projectIdPath.count())
+                .from(detail)
+                .where(projectIdPath.in(projectIds), notDeleted)
+                .groupBy(projectIdPath)
+                .fetch();
+        for (Tuple row : rows) {
+            counts.put(row.get(projectIdPath), row.get(projectIdPath.count()));
+        }
+        return counts;
+    }
+
+    // 프로젝트별 가장 최근 응답의 API 처리 결과
+    private Map<Long, APIUnitStatusConst> findLatestUnitStatuses(NumberPath<Long> projectIdPath,
+                                                                 NumberPath<Long> latestProjectIdPath,
+                                                                 Collection<Long> projectIds) {
+        Map<Long, APIUnitStatusConst> statuses = new HashMap<>();
+        List<Tuple> rows = queryFactory
+                .select(projectIdPath, aPIStatus.apiUnitStatusConst)
+                .from(aPIStatus)
+                .where(projectIdPath.in(projectIds),
+                        aPIStatus.responseAt.eq(JPAExpressions.select(latestApiStatus.responseAt.max())
+                                .from(latestApiStatus)
+                                .where(latestProjectIdPath.eq(projectIdPath))))
+                .fetch();
+        for (Tuple row : rows) {
+            statuses.putIfAbsent(row.get(projectIdPath), row.get(aPIStatus.apiUnitStatusConst));
+        }
+        return statuses;
+    }
+
+    // 프로젝트별 마지막 Export 시각
+    private Map<Long, LocalDateTime> findLastExports(NumberPath<Long> projectIdPath, Collection<Long> projectIds) {
+        Map<Long, LocalDateTime> lastExports = new HashMap<>();
+        List<Tuple> rows = queryFactory
+                .select(projectIdPath, outputAudioMeta.createdAt.max())
+                .from(outputAudioMeta)
+                .where(projectIdPath.in(projectIds), outputAudioMeta.isDeleted.isFalse())
+                .groupBy(projectIdPath)
+                .fetch();
+        for (Tuple row : rows) {
+            lastExports.put(row.get(projectIdPath), row.get(outputAudioMeta.createdAt.max()));
+        }
+        return lastExports;
+    }
+
+    // since 이후 바뀐 행의 프로젝트별 마지막 변경 시각을 modifiedAt에 합침
+    private void mergeLastModified(Map<Long, LocalDateTime> modifiedAt, EntityPathBase<?> source,
+                                   NumberPath<Long> projectIdPath, DateTimePath<LocalDateTime> lastModifiedPath,
+                                   LocalDateTime since) {
+        List<Tuple> rows = queryFactory
+                .select(projectIdPath, lastModifiedPath.max())
+                .from(source)
+                .where(lastModifiedPath.goe(since))
+                .groupBy(projectIdPath)
+                .fetch();
+        for (Tuple row : rows) {
+            Long projectId = row.get(projectIdPath);
+            LocalDateTime modified = row.get(lastModifiedPath.max());
+            if (projectId != null && modified != null) {
+                modifiedAt.merge(projectId, modified, (a, b) -> a.isAfter(b) ? a : b);
+            }
+        }
+    }
+
+    // 요약에 필요한 컬럼과 첫 번째 스크립트를 한 번에 조회
+    private JPAQuery<Tuple> selectProjectRows() {
+        return joinFirstDetails(queryFactory
+                .select(project.id, project.member.id, project.projectName, project.isDeleted,
+                        project.updatedAt, project.createdAt,
+                        tTSProject.id, tTSProject.apiStatus,
+                        vCProject.id, vCProject.apiStatus,
+                        concatProject.id,
+                        tTSDetail.unitScript, vCDetail.unitScript, concatDetail.unitScript)
+                .from(project));
+    }
+
+    /**
+     * 프로젝트 유형별 테이블과 첫 번째 디테일을 조인
+     * 첫 번째 디테일: TTS는 unitSequence, VC는 createdAt, Concat은 audioSeq 가 가장 작은 디테일
+     * (값이 같은 디테일이 여러 개면 id가 가장 작은 하나만 조인해서 프로젝트당 한 행이 되도록 함)
+     */
+    private <T> JPAQuery<T> joinFirstDetails(JPAQuery<T> query) {
+        return query
+                // TTSDetail과 firstScript 조건으로 디테일 조인
                 .leftJoin(tTSProject).on(tTSProject.id.eq(project.id))
-                .leftJoin(tTSDetail).on(
-                        tTSDetail.ttsProject.id.eq(tTSProject.id)
-                                .and(tTSDetail.isDeleted.isFalse())
-                                .and(tTSDetail.unitSequence.eq(
-                                        JPAExpressions.select(tTSDetail.unitSequence.min())
-                                                .from(tTSDetail)
-                                                .where(tTSDetail.ttsProject.id.eq(tTSProject.id)
-                                                        .and(tTSDetail.isDeleted.isFalse()))
-                                ))
-                )
+                .leftJoin(tTSDetail).on(tTSDetail.id.eq(
+                        JPAExpressions.select(firstTtsDetail.id.min())
+                                .from(firstTtsDetail)
+                                .where(firstTtsDetail.ttsProject.id.eq(tTSProject.id)
+                                        .and(firstTtsDetail.isDeleted.isFalse())
+                                        .and(firstTtsDetail.unitSequence.eq(
+                                                JPAExpressions.select(minTtsDetail.unitSequence.min())
+                                                        .from(minTtsDetail)
+                                                        .where(minTtsDetail.ttsProject.id.eq(tTSProject.id)
+                                                                .and(minTtsDetail.isDeleted.isFalse())))))))
+                // VCDetail과 firstScript 조건 조인
                 .leftJoin(vCProject).on(vCProject.id.eq(project.id))
-                .leftJoin(vCDetail).on(
-                        vCDetail.vcProject.id.eq(vCProject.id)
-                                .and(vCDetail.isDeleted.isFalse())
-                                .and(vCDetail.createdAt.eq(
-                                        JPAExpressions.select(vCDetail.createdAt.min())
-                                                .from(vCDetail)
-                                                .where(vCDetail.vcProject.id.eq(vCProject.id)
-                                                        .and(vCDetail.isDeleted.isFalse()))
-                                ))
-                )
+                .leftJoin(vCDetail).on(vCDetail.id.eq(
+                        JPAExpressions.select(firstVcDetail.id.min())
+                                .from(firstVcDetail)
+                                .where(firstVcDetail.vcProject.id.eq(vCProject.id)
+                                        .and(firstVcDetail.isDeleted.isFalse())
+                                        .and(firstVcDetail.createdAt.eq(
+                                                JPAExpressions.select(minVcDetail.createdAt.min())
+                                                        .from(minVcDetail)
+                                                        .where(minVcDetail.vcProject.id.eq(vCProject.id)
+                                                                .and(minVcDetail.isDeleted.isFalse())))))))
+                // ConcatDetail과 firstScript 조건 조인
                 .leftJoin(concatProject).on(concatProject.id.eq(project.id))
-                .leftJoin(concatDetail).on(
-                        concatDetail.concatProject.id.eq(concatProject.id)
-                                .and(concatDetail.isDeleted.isFalse())
-                                .and(concatDetail.audioSeq.eq(
-                                        JPAExpressions.select(concatDetail.audioSeq.min())
-                                                .from(concatDetail)
-                                                .where(concatDetail.concatProject.id.eq(concatProject.id)
-                                                        .and(concatDetail.isDeleted.isFalse()))
-                                ))
-                )
-                .where(whereClause)
-                .orderBy(project.updatedAt.desc()) // 최신 업데이트 순으로 정렬
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetchResults(); // fetchResults 사용
-
-        // 결과 DTO로 변환
-        List<ProjectListDto> results = queryResults.getResults().stream()
-                .map(p -> {
-                    ProjectListDto dto = new ProjectListDto();
-                    dto.setProjectId(p.getId());
-                    dto.setProjectName(p.getProjectName());
-                    dto.setUpdatedAt(p.getUpdatedAt());
-                    dto.setCreatedAt(p.getCreatedAt());
-
-                    // TTS 프로젝트 처리
-                    if (p instanceof TTSProject tts) {
-                        String firstScript = queryFactory
-                                .select(tTSDetail.unitScript)
-                                .from(tTSDetail)
-                                .where(tTSDetail.ttsProject.id.eq(tts.getId())
-                                        .and(tTSDetail.isDeleted.isFalse()))
-                                .orderBy(tTSDetail.unitSequence.asc())
-                                .fetchFirst();
-                        dto.setScript(firstScript);
-                        dto.setProjectStatus(tts.getApiStatus().toString());
-                        dto.setProjectType("TTS");
-                    }
-                    // VC 프로젝트 처리
-                    else if (p instanceof VCProject vc) {
-                        String firstScript = queryFactory
-                                .select(vCDetail.unitScript)
-                                .from(vCDetail)
-                                .where(vCDetail.vcProject.id.eq(vc.getId())
-                                        .and(vCDetail.isDeleted.isFalse()))
-                                .orderBy(vCDetail.createdAt.asc())
-                                .fetchFirst();
-                        dto.setScript(firstScript);
-                        dto.setProjectStatus(vc.getApiStatus().toString());
-                        dto.setProjectType("VC");
-                    }
-                    // Concat 프로젝트 처리
-                    else if (p instanceof ConcatProject concat) {
-                        String firstScript = queryFactory
-                                .select(concatDetail.unitScript)
-                                .from(concatDetail)
-                                .where(concatDetail.concatProject.id.eq(concat.getId())
-                                        .and(concatDetail.isDeleted.isFalse()))
-                                .orderBy(concatDetail.audioSeq.asc())
-                                .fetchFirst();
-                        dto.setScript(firstScript);
-                        dto.setProjectType("CONCAT");
-                    }
-
-                    return dto;
-                })
-                .toList();
+                .leftJoin(concatDetail).on(concatDetail.id.eq(
+                        JPAExpressions.select(firstConcatDetail.id.min())
+                                .from(firstConcatDetail)
+                                .where(firstConcatDetail.concatProject.id.eq(concatProject.id)
+                                        .and(firstConcatDetail.isDeleted.isFalse())
+                                        .and(firstConcatDetail.audioSeq.eq(
+                                                JPAExpressions.select(minConcatDetail.audioSeq.min())
+                                                        .from(minConcatDetail)
+                                                        .where(minConcatDetail.concatProject.id.eq(concatProject.id)
+                                                                .and(minConcatDetail.isDeleted.isFalse())))))));
+    }
 
-        // 전체 개수
-        long total = queryResults.getTotal();
+    // 조회 행을 요약으로 변환
+    private ProjectSummary toProjectSummary(Tuple row, int detailCount, APIUnitStatusConst latestUnitStatus,
+                                            LocalDateTime lastExportAt) {
+        ProjectType projectType = null;
+        String firstScript = null;
+        APIStatusConst apiStatus = null;
+
+        // TTS 프로젝트 처리
+        if (row.get(tTSProject.id) != null) {
+            projectType = ProjectType.TTS;
+            firstScript = row.get(tTSDetail.unitScript);
+            apiStatus = row.get(tTSProject.apiStatus);
+
+            // VC 프로젝트 처리
+        } else if (row.get(vCProject.id) != null) {
+            projectType = ProjectType.VC;
+            firstScript = row.get(vCDetail.unitScript);
+            apiStatus = row.get(vCProject.apiStatus);
+
+            // Concat 프로젝트 처리
+        } else if (row.get(concatProject.id) != null) {
+            projectType = ProjectType.CONCAT;
+            firstScript = row.get(concatDetail.unitScript);
+        }
 
-        // Page 객체로 반환
-        return new PageImpl<>(results, pageable, total);
+        return ProjectSummary.createProjectSummary(row.get(project.id), row.get(project.member.id), projectType,
+                row.get(project.projectName), apiStatus, firstScript, detailCount, latestUnitStatus, lastExportAt,
+                row.get(project.isDeleted), row.get(project.createdAt), row.get(project.updatedAt));
+    }
+
+    // 요약을 목록 DTO로 변환
+    private ProjectListDto toProjectListDto(ProjectSummary summary) {
+        return new ProjectListDto(
+                summary.getProjectId(),
+                summary.getProjectType() != null ? summary.getProjectType().name() : null,
+                summary.getProjectName(),
+                summary.getFirstScript(),
+                summary.getApiStatus() != null ? summary.getApiStatus().toString() : null,
+                summary.getUpdatedAt(),
+                summary.getCreatedAt());
     }
-}
\ No newline at end of file
+}
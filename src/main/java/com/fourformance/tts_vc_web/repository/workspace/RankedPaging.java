@@ -0,0 +1,41 @@
+package com.fourformance.tts_vc_web.repository.workspace;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 키워드 검색 결과 페이징
+ * 검색 문서에서 찾은 관련도 순 ID 목록(최대 search.max-candidates 개) 안에서 페이지를 자르고,
+ * 그 ID로 조회한 행을 다시 관련도 순으로 맞춥니다.
+ * (전체 개수는 ID 목록의 크기이므로 후보 수를 넘는 빈 페이지가 생기지 않음)
+ */
+final class RankedPaging {
+
+    private RankedPaging() {
+    }
+
+    /**
+     * 요청한 페이지에 해당하는 ID (관련도 순 목록을 벗어나면 빈 목록)
+     */
+    static List<Long> pageIds(List<Long> rankedIds, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+        return rankedIds.subList(from, to);
+    }
+
+    /**
+     * 조회한 행을 ID 목록 순서로 정렬 (그 사이 삭제되어 조회되지 않은 ID는 건너뜀)
+     */
+    static <T> List<T> inRankOrder(List<Long> ids, Collection<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> rowsById = new HashMap<>();
+        for (T row : rows) {
+            rowsById.put(idOf.apply(row), row);
+        }
+        return ids.stream().map(rowsById::get).filter(Objects::nonNull).toList();
+    }
+}
@@ -0,0 +1,32 @@
+package com.fourformance.tts_vc_web.repository.workspace;
+
+import com.fourformance.tts_vc_web.common.constant.SearchDocType;
+import com.fourformance.tts_vc_web.domain.entity.SearchDocument;
+import java.util.Collection;
+import java.util.List;
+
+public interface SearchDocumentRepositoryCustom {
+
+    /**
+     * 키워드와 일치하는 문서의 ID (프로젝트 ID 또는 OutputAudioMeta ID)를 관련도 순으로 조회
+     * 최대 search.max-candidates 개까지 반환합니다. (목록 조회에서는 이 순위 안의 결과만 이 순서로 나타남)
+     */
+    List<Long> findRankedRefIds(Long memberId, SearchDocType docType, String keyword);
+
+    List<Long> findRankedRefIds(Long memberId, SearchDocType docType, String keyword, int limit);
+
+    /**
+     * 프로젝트와 그 Export들의 검색 문서를 원본 테이블에서 다시 만듦 (저장하지 않은 새 객체)
+     * 삭제되어 조회되지 않는 프로젝트의 문서는 결과에서 빠집니다.
+     */
+    List<SearchDocument> computeSearchDocuments(Collection<Long> projectIds);
+
+    /**
+     * content 컬럼의 FULLTEXT(ngram) 인덱스가 있는지 확인하고, 있으면 이후 검색에 FULLTEXT를 사용
+     * 인덱스는 마이그레이션(V4__search_document.sql)으로 만들며 여기서는 생성하지 않습니다.
+     * (MySQL이 아니면 예외가 발생하고 LIKE 검색을 계속 사용)
+     *
+     * @return 인덱스 존재 여부
+     */
+    boolean detectFullTextIndex();
+}
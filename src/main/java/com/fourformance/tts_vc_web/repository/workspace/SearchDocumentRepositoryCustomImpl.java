@@ -0,0 +1,332 @@
+package com.fourformance.tts_vc_web.repository.workspace;
+
+import static com.fourformance.tts_vc_web.domain.entity.QAPIStatus.aPIStatus;
+import static com.fourformance.tts_vc_web.domain.entity.QConcatDetail.concatDetail;
+import static com.fourformance.tts_vc_web.domain.entity.QOutputAudioMeta.outputAudioMeta;
+import static com.fourformance.tts_vc_web.domain.entity.QProject.project;
+import static com.fourformance.tts_vc_web.domain.entity.QTTSDetail.tTSDetail;
+import static com.fourformance.tts_vc_web.domain.entity.QTTSProject.tTSProject;
+import static com.fourformance.tts_vc_web.domain.entity.QVCDetail.vCDetail;
+import static com.fourformance.tts_vc_web.domain.entity.QVCProject.vCProject;
+
+import com.fourformance.tts_vc_web.common.constant.APIStatusConst;
+import com.fourformance.tts_vc_web.common.constant.APIUnitStatusConst;
+import com.fourformance.tts_vc_web.common.constant.ProjectType;
+import com.fourformance.tts_vc_web.common.constant.SearchDocType;
+import com.fourformance.tts_vc_web.domain.entity.SearchDocument;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class SearchDocumentRepositoryCustomImpl implements SearchDocumentRepositoryCustom {
+
+    private static final String FULLTEXT_INDEX = "ft_search_document_content";
+
+    // 한 문서에 저장하는 최대 글자 수 (스크립트가 아주 많은 프로젝트)
+    private static final int MAX_CONTENT_LENGTH = 20000;
+
+    // 검색어에서 쓰는 최대 단어 수
+    private static final int MAX_TERMS = 10;
+
+    // BOOLEAN MODE 연산자 (검색어에서 제거)
+    private static final String BOOLEAN_OPERATORS = "[+\\-<>()~*\"@]";
+
+    private final EntityManager em;
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    // MySQL ngram_token_size 서버 설정과 같은 값 (이보다 짧은 단어가 있으면 LIKE로 검색)
+    @Value("${search.ngram-token-size:2}")
+    private int ngramTokenSize;
+
+    // 목록 조회에서 키워드 검색 결과로 사용할 최대 후보 수
+    @Value("${search.max-candidates:1000}")
+    private int maxCandidates;
+
+    private volatile boolean fullTextAvailable;
+
+    public SearchDocumentRepositoryCustomImpl(EntityManager em, JdbcTemplate jdbcTemplate) {
+        this.em = em;
+        this.queryFactory = new JPAQueryFactory(em);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+
+    @Override
+    public List<Long> findRankedRefIds(Long memberId, SearchDocType docType, String keyword) {
+        return findRankedRefIds(memberId, docType, keyword, maxCandidates);
+    }
+
+
+    @Override
+    public List<Long> findRankedRefIds(Long memberId, SearchDocType docType, String keyword, int limit) {
+        List<String> terms = tokenize(keyword);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        Query query;
+        if (useFullText(terms)) {
+            // 모든 단어를 구문으로 포함해야 함: +"단어1" +"단어2" (ngram 파서라 부분 문자열도 일치)
+            query = em.createNativeQuery("SELECT ref_id FROM search_document WHERE " + matchCondition(terms)
+                    + " ORDER BY MATCH(content) AGAINST (:query IN BOOLEAN MODE) DESC, ref_id DESC");
+        } else {
+            // FULLTEXT를 쓸 수 없으면 단일 테이블 LIKE 검색 (최근 변경 순)
+            query = em.createNativeQuery("SELECT ref_id FROM search_document WHERE " + matchCondition(terms)
+                    + " ORDER BY updated_at DESC, ref_id DESC");
+        }
+
+        List<?> rows = bindMatchParameters(query, memberId, docType, terms)
+                .setMaxResults(limit)
+                .getResultList();
+        return rows.stream().map(row -> ((Number) row).longValue()).toList();
+    }
+
+
+    @Override
+    public List<SearchDocument> computeSearchDocuments(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. 프로젝트 기본 정보
+        Map<Long, ProjectRow> projects = new HashMap<>();
+        List<Tuple> projectRows = queryFactory
+                .select(project.id, project.member.id, project.projectName, project.isDeleted,
+                        tTSProject.id, tTSProject.apiStatus, vCProject.id, vCProject.apiStatus)
+                .from(project)
+                .leftJoin(tTSProject).on(tTSProject.id.eq(project.id))
+                .leftJoin(vCProject).on(vCProject.id.eq(project.id))
+                .where(project.id.in(projectIds))
+                .fetch();
+        for (Tuple row : projectRows) {
+            ProjectType projectType = row.get(tTSProject.id) != null ? ProjectType.TTS
+                    : row.get(vCProject.id) != null ? ProjectType.VC : ProjectType.CONCAT;
+            APIStatusConst apiStatus = row.get(tTSProject.apiStatus) != null ? row.get(tTSProject.apiStatus)
+                    : row.get(vCProject.apiStatus);
+            projects.put(row.get(project.id), new ProjectRow(row.get(project.member.id),
+                    row.get(project.projectName), Boolean.TRUE.equals(row.get(project.isDeleted)), projectType,
+                    apiStatus));
+        }
+
+        // 2. 프로젝트별 스크립트 (삭제되지 않은 디테일, 화면 순서대로)
+        Map<Long, List<String>> scripts = new HashMap<>();
+        collectScripts(scripts, tTSDetail, tTSDetail.ttsProject.id, tTSDetail.unitScript,
+                tTSDetail.isDeleted.isFalse(), tTSDetail.unitSequence.asc(), projectIds);
+        collectScripts(scripts, vCDetail, vCDetail.vcProject.id, vCDetail.unitScript,
+                vCDetail.isDeleted.isFalse(), vCDetail.createdAt.asc(), projectIds);
+        collectScripts(scripts, concatDetail, concatDetail.concatProject.id, concatDetail.unitScript,
+                concatDetail.isDeleted.isFalse(), concatDetail.audioSeq.asc(), projectIds);
+
+        // 3. 프로젝트의 Export와 디테일별 최근 API 처리 결과
+        List<Tuple> exportRows = queryFactory
+                .select(outputAudioMeta.id, outputAudioMeta.bucketRoute, outputAudioMeta.isDeleted,
+                        tTSDetail.id, tTSDetail.ttsProject.id, tTSDetail.unitScript,
+                        vCDetail.id, vCDetail.vcProject.id, vCDetail.unitScript,
+                        outputAudioMeta.concatProject.id)
+                .from(outputAudioMeta)
+                .leftJoin(outputAudioMeta.ttsDetail, tTSDetail)
+                .leftJoin(outputAudioMeta.vcDetail, vCDetail)
+                .where(tTSDetail.ttsProject.id.in(projectIds)
+                        .or(vCDetail.vcProject.id.in(projectIds))
+                        .or(outputAudioMeta.concatProject.id.in(projectIds)))
+                .fetch();
+
+        List<Long> ttsDetailIds = exportRows.stream().map(row -> row.get(tTSDetail.id)).filter(Objects::nonNull)
+                .toList();
+        List<Long> vcDetailIds = exportRows.stream().map(row -> row.get(vCDetail.id)).filter(Objects::nonNull)
+                .toList();
+        Map<Long, APIUnitStatusConst> ttsStatuses = findLatestUnitStatuses(aPIStatus.ttsDetail.id, ttsDetailIds);
+        Map<Long, APIUnitStatusConst> vcStatuses = findLatestUnitStatuses(aPIStatus.vcDetail.id, vcDetailIds);
+
+        // 4. 문서 생성
+        List<SearchDocument> documents = new ArrayList<>();
+        for (Map.Entry<Long, ProjectRow> entry : projects.entrySet()) {
+            ProjectRow row = entry.getValue();
+            List<String> parts = new ArrayList<>();
+            parts.add(row.projectName);
+            parts.add(row.projectType.name());
+            parts.add(row.apiStatus != null ? row.apiStatus.name() : null);
+            parts.addAll(scripts.getOrDefault(entry.getKey(), List.of()));
+            documents.add(SearchDocument.createSearchDocument(SearchDocType.PROJECT, entry.getKey(), entry.getKey(),
+                    row.memberId, buildContent(parts), row.isDeleted));
+        }
+
+        for (Tuple export : exportRows) {
+            Long projectId;
+            String script;
+            APIUnitStatusConst unitStatus;
+            if (export.get(tTSDetail.id) != null) {
+                projectId = export.get(tTSDetail.ttsProject.id);
+                script = export.get(tTSDetail.unitScript);
+                unitStatus = ttsStatuses.get(export.get(tTSDetail.id));
+            } else if (export.get(vCDetail.id) != null) {
+                projectId = export.get(vCDetail.vcProject.id);
+                script = export.get(vCDetail.unitScript);
+                unitStatus = vcStatuses.get(export.get(vCDetail.id));
+            } else {
+                projectId = export.get(outputAudioMeta.concatProject.id);
+                script = String.join(" ", scripts.getOrDefault(projectId, List.of()));
+                unitStatus = null;
+            }
+
+            ProjectRow row = projects.get(projectId);
+            if (row == null) {
+                continue;
+            }
+            List<String> parts = new ArrayList<>();
+            parts.add(extractFileName(export.get(outputAudioMeta.bucketRoute)));
+            parts.add(row.projectName);
+            parts.add(row.projectType.name());
+            parts.add(unitStatus != null ? unitStatus.name() : null);
+            parts.add(script);
+            boolean isDeleted = row.isDeleted || Boolean.TRUE.equals(export.get(outputAudioMeta.isDeleted));
+            documents.add(SearchDocument.createSearchDocument(SearchDocType.EXPORT, export.get(outputAudioMeta.id),
+                    projectId, row.memberId, buildContent(parts), isDeleted));
+        }
+        return documents;
+    }
+
+
+    @Override
+    public boolean detectFullTextIndex() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics "
+                        + "WHERE table_schema = DATABASE() AND table_name = 'search_document' AND index_name = ?",
+                Integer.class, FULLTEXT_INDEX);
+        fullTextAvailable = count != null && count > 0;
+        return fullTextAvailable;
+    }
+
+
+    // 모든 단어가 ngram 토큰보다 길고 인덱스가 있을 때만 FULLTEXT 검색
+    private boolean useFullText(List<String> terms) {
+        return fullTextAvailable && terms.stream().allMatch(term -> term.length() >= ngramTokenSize);
+    }
+
+    // 회원 / 문서 유형 / 키워드 조건 (목록 조회와 개수 조회가 같은 조건을 사용)
+    private String matchCondition(List<String> terms) {
+        StringBuilder sql = new StringBuilder("member_id = :memberId AND doc_type = :docType AND is_deleted = false");
+        if (useFullText(terms)) {
+            sql.append(" AND MATCH(content) AGAINST (:query IN BOOLEAN MODE)");
+        } else {
+            for (int i = 0; i < terms.size(); i++) {
+                sql.append(" AND content LIKE :term").append(i).append(" ESCAPE '!'");
+            }
+        }
+        return sql.toString();
+    }
+
+    private Query bindMatchParameters(Query query, Long memberId, SearchDocType docType, List<String> terms) {
+        if (useFullText(terms)) {
+            String against = terms.stream().map(term -> "+\"" + term + "\"").collect(Collectors.joining(" "));
+            query.setParameter("query", against);
+        } else {
+            for (int i = 0; i < terms.size(); i++) {
+                query.setParameter("term" + i, "%" + escapeLike(terms.get(i)) + "%");
+            }
+        }
+        return query
+                .setParameter("memberId", memberId)
+                .setParameter("docType", docType.name());
+    }
+
+
+    // 프로젝트별 스크립트 목록
+    private void collectScripts(Map<Long, List<String>> scripts, EntityPathBase<?> detail,
+                                NumberPath<Long> projectIdPath, StringPath scriptPath, BooleanExpression notDeleted,
+                                OrderSpecifier<?> order, Collection<Long> projectIds) {
+        List<Tuple> rows = queryFactory
+                .select(projectIdPath, scriptPath)
+                .from(detail)
+                .where(projectIdPath.in(projectIds), notDeleted)
+                .orderBy(order)
+                .fetch();
+        for (Tuple row : rows) {
+            String script = row.get(scriptPath);
+            if (script != null) {
+                scripts.computeIfAbsent(row.get(projectIdPath), id -> new ArrayList<>()).add(script);
+            }
+        }
+    }
+
+    // 디테일별 가장 최근 응답의 API 처리 결과
+    private Map<Long, APIUnitStatusConst> findLatestUnitStatuses(NumberPath<Long> detailIdPath,
+                                                                 Collection<Long> detailIds) {
+        Map<Long, APIUnitStatusConst> statuses = new HashMap<>();
+        if (detailIds.isEmpty()) {
+            return statuses;
+        }
+        Map<Long, LocalDateTime> latestResponses = new HashMap<>();
+        List<Tuple> rows = queryFactory
+                .select(detailIdPath, aPIStatus.apiUnitStatusConst, aPIStatus.responseAt)
+                .from(aPIStatus)
+                .where(detailIdPath.in(detailIds))
+                .fetch();
+        for (Tuple row : rows) {
+            Long detailId = row.get(detailIdPath);
+            LocalDateTime responseAt = row.get(aPIStatus.responseAt);
+            LocalDateTime latest = latestResponses.get(detailId);
+            if (!statuses.containsKey(detailId)
+                    || (responseAt != null && (latest == null || responseAt.isAfter(latest)))) {
+                statuses.put(detailId, row.get(aPIStatus.apiUnitStatusConst));
+                latestResponses.put(detailId, responseAt);
+            }
+        }
+        return statuses;
+    }
+
+    // 검색용 텍스트 (소문자, 줄바꿈으로 연결, 최대 길이 제한)
+    private String buildContent(List<String> parts) {
+        String content = parts.stream()
+                .filter(part -> part != null && !part.isBlank())
+                .collect(Collectors.joining("\n"))
+                .toLowerCase(Locale.ROOT);
+        return content.length() > MAX_CONTENT_LENGTH ? content.substring(0, MAX_CONTENT_LENGTH) : content;
+    }
+
+    // 검색어를 소문자 단어 목록으로 (BOOLEAN MODE 연산자 제거, 중복 제거)
+    private List<String> tokenize(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(keyword.toLowerCase(Locale.ROOT).replaceAll(BOOLEAN_OPERATORS, " ").trim().split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+    }
+
+    private String escapeLike(String term) {
+        return term.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private String extractFileName(String bucketRoute) {
+        if (bucketRoute == null || bucketRoute.isEmpty()) {
+            return null;
+        }
+        return bucketRoute.substring(bucketRoute.lastIndexOf('/') + 1);
+    }
+
+    private record ProjectRow(Long memberId, String projectName, boolean isDeleted, ProjectType projectType,
+                              APIStatusConst apiStatus) {
+    }
+}
@@ -0,0 +1,386 @@
+package com.fourformance.tts_vc_web.service.common;
+
+import com.fourformance.tts_vc_web.common.constant.OutboxStatusConst;
+import com.fourformance.tts_vc_web.domain.entity.OutboxMessage;
+import com.fourformance.tts_vc_web.repository.OutboxMessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+/**
+ * 아웃박스 릴레이
+ * outbox_message 테이블의 전송 대기 메시지를 배치로 꺼내 RabbitMQ로 전송하고 publisher confirm을 확인합니다.
+ * - 메시지는 SENDING(lease)으로 바꿔 커밋한 뒤 트랜잭션 밖에서 전송하므로, confirm을 기다리는 동안 행 잠금과 DB 커넥션을 잡지 않습니다.
+ * - 주기적 폴링 + 커밋 직후 알림(wakeUp)으로 동작
+ * - confirm(ack)을 받은 메시지만 SENT로 변경하므로 최소 한 번(at-least-once) 전송이 보장됩니다.
+ *   (ack 후 상태 변경 커밋 전에 장애가 나면 중복 전송될 수 있으므로 소비자는 taskId 기준으로 멱등하게 처리해야 함)
+ * - 실패한 메시지는 next_attempt_at까지 지수 백오프 후 다시 전송합니다.
+ *   브로커 연결 실패와 confirm 시간 초과는 메시지 문제가 아니므로 시도 횟수에 넣지 않아, 브로커 장애가 길어져도 FAILED가 되지 않습니다.
+ * - nack / unroutable 등으로 최종 실패(FAILED)한 메시지는 {@link #redriveFailed()}로 다시 전송할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final Logger LOGGER = Logger.getLogger(OutboxRelay.class.getName());
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.relay.notify-on-commit:true}")
+    private boolean notifyOnCommit;
+
+    // 재전송 대기 시간 (첫 실패 후 initial, 이후 두 배씩 최대 max까지)
+    @Value("${outbox.relay.backoff-initial-ms:1000}")
+    private long backoffInitialMs;
+
+    @Value("${outbox.relay.backoff-max-ms:300000}")
+    private long backoffMaxMs;
+
+    @Value("${outbox.relay.retention-hours:24}")
+    private long retentionHours;
+
+    @Value("${task.publish.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    // 가져간 메시지의 결과를 이 시간 안에 반영하지 못하면 다른 릴레이가 다시 전송 (confirm 대기 시간보다 길어야 함)
+    @Value("${outbox.relay.lease-ms:60000}")
+    private long leaseMs;
+
+    // 릴레이는 한 번에 하나만 실행 (다른 인스턴스와는 SKIP LOCKED로 분산)
+    private ExecutorService relayExecutor;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean(false);
+
+    // 릴레이 지표
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong publishFailureCount = new AtomicLong();
+    private final AtomicLong deadCount = new AtomicLong();
+    private final AtomicLong deferredCount = new AtomicLong();
+    private final AtomicLong redrivenCount = new AtomicLong();
+
+    // 연속으로 브로커 연결 실패 / confirm 시간 초과가 난 배치 수 (ack를 받으면 0으로 초기화)
+    private final AtomicLong brokerFailureStreak = new AtomicLong();
+    private volatile long pausedUntilMs;
+    private final AtomicReference<LocalDateTime> lastRelayAt = new AtomicReference<>();
+
+    @PostConstruct
+    public void init() {
+        batchSize = Math.max(batchSize, 1);
+        maxAttempts = Math.max(maxAttempts, 1);
+        backoffInitialMs = Math.max(backoffInitialMs, 1);
+        backoffMaxMs = Math.max(backoffMaxMs, backoffInitialMs);
+        leaseMs = Math.max(leaseMs, confirmTimeoutMs * 2);
+        relayExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        LOGGER.info("OutboxRelay 초기화 완료: batchSize=" + batchSize + ", maxAttempts=" + maxAttempts
+                + ", notifyOnCommit=" + notifyOnCommit);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (relayExecutor != null) {
+            relayExecutor.shutdown();
+        }
+    }
+
+    /**
+     * 아웃박스 저장 트랜잭션이 커밋된 직후 호출되어 폴링 주기를 기다리지 않고 바로 전송합니다.
+     */
+    public void wakeUp() {
+        if (notifyOnCommit) {
+            trigger();
+        }
+    }
+
+    /**
+     * 커밋 알림이 누락되거나 전송에 실패한 메시지를 주기적으로 다시 전송합니다.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:1000}")
+    public void poll() {
+        trigger();
+    }
+
+    /**
+     * 보관 기간이 지난 전송 완료 메시지 정리
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.cleanup-interval-ms:3600000}")
+    public void purgeSentMessages() {
+        LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxMessageRepository.deleteByStatusAndSentAtBefore(OutboxStatusConst.SENT, before));
+        if (deleted != null && deleted > 0) {
+            LOGGER.info("전송 완료된 아웃박스 메시지 정리: " + deleted + "건");
+        }
+    }
+
+    /**
+     * 최종 실패(FAILED)한 메시지를 시도 횟수를 초기화해 다시 전송 대기로 변경하고 릴레이를 실행합니다.
+     *
+     * @return 다시 전송 대기로 바뀐 메시지 수
+     */
+    public int redriveFailed() {
+        Integer redriven = transactionTemplate.execute(status ->
+                outboxMessageRepository.redrive(OutboxStatusConst.FAILED, OutboxStatusConst.PENDING));
+        int count = redriven == null ? 0 : redriven;
+        if (count > 0) {
+            redrivenCount.addAndGet(count);
+            pausedUntilMs = 0;
+            LOGGER.info("실패한 아웃박스 메시지 재전송 요청: " + count + "건");
+            trigger();
+        }
+        return count;
+    }
+
+    /**
+     * 아웃박스 지표 반환
+     */
+    public Map<String, Object> getOutboxStats() {
+        LocalDateTime oldestPending = outboxMessageRepository.findOldestCreatedAtByStatus(OutboxStatusConst.PENDING);
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pending", outboxMessageRepository.countByStatus(OutboxStatusConst.PENDING));
+        stats.put("sending", outboxMessageRepository.countByStatus(OutboxStatusConst.SENDING));
+        stats.put("failed", outboxMessageRepository.countByStatus(OutboxStatusConst.FAILED));
+        stats.put("oldestPendingLagMs",
+                oldestPending == null ? 0L : Duration.between(oldestPending, LocalDateTime.now()).toMillis());
+        stats.put("published", publishedCount.get());
+        stats.put("publishFailures", publishFailureCount.get());
+        stats.put("dead", deadCount.get());
+        stats.put("deferred", deferredCount.get());
+        stats.put("redriven", redrivenCount.get());
+        stats.put("brokerFailureStreak", brokerFailureStreak.get());
+        stats.put("lastRelayAt", lastRelayAt.get());
+        return stats;
+    }
+
+    private void trigger() {
+        wakeUpRequested.set(true);
+        if (!draining.compareAndSet(false, true)) {
+            return; // 이미 실행 중인 릴레이가 wakeUpRequested를 보고 한 번 더 돌게 됨
+        }
+        try {
+            relayExecutor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false); // 종료 중
+        }
+    }
+
+    private void drain() {
+        try {
+            while (wakeUpRequested.getAndSet(false)) {
+                // 배치가 가득 차 있으면 남은 메시지가 있을 수 있으므로 계속 전송
+                while (relayBatch() >= batchSize) {
+                    wakeUpRequested.set(false);
+                }
+            }
+        } catch (Exception e) {
+            wakeUpRequested.set(false); // 다음 폴링 주기에 재시도
+            LOGGER.severe("아웃박스 릴레이 실패: " + e.getMessage());
+        } finally {
+            draining.set(false);
+        }
+
+        // 종료 직전에 들어온 요청이 있으면 다시 실행
+        if (wakeUpRequested.get()) {
+            trigger();
+        }
+    }
+
+    /**
+     * 전송 대기 메시지 한 배치를 가져가 전송하고 confirm 결과에 따라 상태를 변경합니다.
+     * 1. 짧은 트랜잭션에서 잠금 조회한 메시지를 SENDING(lease)으로 바꾸고 바로 커밋
+     * 2. 트랜잭션 밖에서 전송하고 confirm 대기 (행 잠금과 DB 커넥션을 잡고 있지 않음)
+     * 3. 짧은 트랜잭션에서 결과 반영 (lease가 만료되어 다른 릴레이가 다시 가져간 메시지는 건너뜀)
+     *
+     * @return 처리한 메시지 수
+     */
+    int relayBatch() {
+        if (System.currentTimeMillis() < pausedUntilMs) {
+            return 0; // 브로커 장애 중에는 다음 백오프 시각까지 전송하지 않음
+        }
+
+        // DATETIME(6)에 저장된 값과 비교하므로 마이크로초 단위로 맞춤
+        LocalDateTime leaseUntil = LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMs))
+                .truncatedTo(ChronoUnit.MICROS);
+        List<OutboxMessage> messages = transactionTemplate.execute(status -> {
+            List<OutboxMessage> claimed = outboxMessageRepository.findPendingForUpdate(LocalDateTime.now(), batchSize);
+            claimed.forEach(message -> message.claim(leaseUntil));
+            return claimed;
+        });
+        lastRelayAt.set(LocalDateTime.now());
+        if (messages == null || messages.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, PublishFailure> failures = publishAndAwaitConfirms(messages);
+
+        // 브로커 쪽 실패만 이어지는 동안은 배치마다 대기 시간을 늘리고 릴레이도 그동안 쉼
+        boolean brokerFailure = failures.values().stream().anyMatch(failure -> failure.brokerFailure);
+        boolean anySent = failures.size() < messages.size();
+        if (anySent) {
+            brokerFailureStreak.set(0);
+        }
+        long streak = brokerFailure && !anySent ? brokerFailureStreak.incrementAndGet() : 1;
+        if (brokerFailure && !anySent) {
+            pausedUntilMs = System.currentTimeMillis() + backoffDelayMs(streak);
+        }
+
+        List<Long> messageIds = messages.stream().map(OutboxMessage::getId).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (OutboxMessage message : outboxMessageRepository.findAllById(messageIds)) {
+                if (message.getStatus() != OutboxStatusConst.SENDING
+                        || !leaseUntil.equals(message.getNextAttemptAt())) {
+                    continue; // lease 만료 후 다른 릴레이가 가져감 (그쪽 결과를 따름)
+                }
+                PublishFailure failure = failures.get(message.getId());
+                if (failure == null) {
+                    message.markSent();
+                    publishedCount.incrementAndGet();
+                } else if (failure.brokerFailure) {
+                    message.deferRetry(failure.error, nextAttemptAt(streak));
+                    deferredCount.incrementAndGet();
+                } else {
+                    message.recordFailure(failure.error, maxAttempts, nextAttemptAt(message.getAttempts() + 1));
+                    publishFailureCount.incrementAndGet();
+                    if (message.getStatus() == OutboxStatusConst.FAILED) {
+                        deadCount.incrementAndGet();
+                        LOGGER.severe("아웃박스 메시지 전송 최종 실패: outboxMessageId = " + message.getId()
+                                + ", taskId = " + message.getTaskId() + ", error = " + failure.error);
+                    }
+                }
+            }
+        });
+        if (brokerFailure) {
+            LOGGER.warning("브로커 전송 실패로 아웃박스 메시지 재전송 연기: streak = " + streak);
+        }
+        return messages.size();
+    }
+
+    /**
+     * 하나의 채널로 메시지를 연속 전송한 뒤 publisher confirm을 모아서 확인합니다.
+     *
+     * @return 실패한 메시지의 outboxMessageId별 실패 사유
+     */
+    private Map<Long, PublishFailure> publishAndAwaitConfirms(List<OutboxMessage> messages) {
+        Map<Long, PublishFailure> failures = new LinkedHashMap<>();
+
+        // 1. 하나의 채널에서 모든 메시지 전송 (outboxMessageId를 correlation data로 사용)
+        List<CorrelationData> correlations;
+        try {
+            correlations = rabbitTemplate.invoke(operations -> {
+                List<CorrelationData> sent = new ArrayList<>(messages.size());
+                for (OutboxMessage message : messages) {
+                    CorrelationData correlationData = new CorrelationData(String.valueOf(message.getId()));
+                    operations.convertAndSend(message.getExchangeName(), message.getRoutingKey(),
+                            message.getPayload(), amqpMessage -> {
+                                if (message.getPriority() != null) {
+                                    amqpMessage.getMessageProperties().setPriority(message.getPriority());
+                                }
+                                return amqpMessage;
+                            }, correlationData);
+                    sent.add(correlationData);
+                }
+                return sent;
+            });
+        } catch (Exception e) {
+            // 연결 / 채널 오류: 브로커 쪽 실패
+            messages.forEach(message -> failures.put(message.getId(),
+                    PublishFailure.broker(truncate("전송 실패: " + e.getMessage()))));
+            return failures;
+        }
+
+        // 2. 전송이 끝난 뒤 confirm 결과를 모아서 확인
+        long deadline = System.currentTimeMillis() + confirmTimeoutMs;
+        for (CorrelationData correlationData : correlations) {
+            Long outboxMessageId = Long.valueOf(correlationData.getId());
+            try {
+                long remaining = Math.max(deadline - System.currentTimeMillis(), 0);
+                CorrelationData.Confirm confirm = correlationData.getFuture().get(remaining, TimeUnit.MILLISECONDS);
+                if (!confirm.isAck()) {
+                    failures.put(outboxMessageId, PublishFailure.message(truncate("nack: " + confirm.getReason())));
+                } else if (correlationData.getReturned() != null) {
+                    failures.put(outboxMessageId, PublishFailure.message(
+                            truncate("unroutable: " + correlationData.getReturned().getReplyText())));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failures.put(outboxMessageId, PublishFailure.broker("interrupted"));
+            } catch (ExecutionException e) {
+                failures.put(outboxMessageId, PublishFailure.message(truncate("confirm 오류: " + e.getMessage())));
+            } catch (TimeoutException e) {
+                failures.put(outboxMessageId, PublishFailure.broker("confirm 시간 초과"));
+            }
+        }
+        return failures;
+    }
+
+    // n번째 실패 후 다음 전송 시각
+    private LocalDateTime nextAttemptAt(long failures) {
+        return LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(backoffDelayMs(failures)));
+    }
+
+    // n번째 실패 후 대기 시간 (initial * 2^(n-1), 최대 max)
+    private long backoffDelayMs(long failures) {
+        int shift = (int) Math.min(Math.max(failures - 1, 0), 30);
+        return Math.min(backoffInitialMs << shift, backoffMaxMs);
+    }
+
+    private String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private static final class PublishFailure {
+        private final String error;
+        private final boolean brokerFailure; // 연결 실패 / confirm 시간 초과 (시도 횟수에 넣지 않음)
+
+        private PublishFailure(String error, boolean brokerFailure) {
+            this.error = error;
+            this.brokerFailure = brokerFailure;
+        }
+
+        private static PublishFailure broker(String error) {
+            return new PublishFailure(error, true);
+        }
+
+        private static PublishFailure message(String error) {
+            return new PublishFailure(error, false);
+        }
+    }
+}
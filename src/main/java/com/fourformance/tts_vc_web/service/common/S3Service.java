@@ -1,20 +1,20 @@
 package com.fourformance.tts_vc_web.service.common;
 
 import com.amazonaws.AmazonClientException;
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
-import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
-import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.S3Object;
-import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.fourformance.tts_vc_web.common.constant.AudioType;
 import com.fourformance.tts_vc_web.common.constant.ProjectType;
 import com.fourformance.tts_vc_web.common.exception.common.BusinessException;
 import com.fourformance.tts_vc_web.common.exception.common.ErrorCode;
+import com.fourformance.tts_vc_web.common.util.S3MultipartUploader;
+import com.fourformance.tts_vc_web.common.util.S3ObjectCache;
+import com.fourformance.tts_vc_web.common.util.S3PresignedUrlCache;
 import com.fourformance.tts_vc_web.domain.entity.ConcatDetail;
 import com.fourformance.tts_vc_web.domain.entity.ConcatProject;
 import com.fourformance.tts_vc_web.domain.entity.Member;
@@ -34,24 +34,28 @@ import com.fourformance.tts_vc_web.repository.ProjectRepository;
 import com.fourformance.tts_vc_web.repository.TTSDetailRepository;
 import com.fourformance.tts_vc_web.repository.VCDetailRepository;
 import com.fourformance.tts_vc_web.repository.VCProjectRepository;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
-import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.Normalizer;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -75,102 +79,218 @@ public class S3Service {
 //    private final ExecutorService executorService; // 멀티스레드 처리용 스레드 풀
 
     private final AmazonS3 amazonS3;
+    private final S3MultipartUploader s3MultipartUploader; // 스트림 멀티파트 업로드
+    private final S3ObjectCache s3ObjectCache; // 로컬 캐시를 거친 병렬 다운로드
+    private final S3PresignedUrlCache s3PresignedUrlCache; // 서명 URL 캐시
+    private final TransactionTemplate transactionTemplate; // NOT_SUPPORTED 업로드 메서드에서 메타 저장용
 
     // TTS와 VC로 반환한 유닛 오디오를 S3 버킷에 저장
     public String uploadUnitSaveFile(MultipartFile file, Long userId, Long projectId, Long detailId) {
 
-        try {
-            // 파일이 비어 있는지 확인
-            if (file.isEmpty()) {
-                throw new BusinessException(ErrorCode.EMPTY_FILE);
-            }
+        // 파일이 비어 있는지 확인
+        if (file.isEmpty()) {
+            throw new BusinessException(ErrorCode.EMPTY_FILE);
+        }
 
-            // Project의 실제 타입에 따라 ProjectType 설정
-            Project project = projectRepository.findById(projectId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_NOT_FOUND));
+        try (InputStream inputStream = file.getInputStream()) {
+            return uploadUnitSaveStream(inputStream, file.getSize(), file.getContentType(), userId, projectId,
+                    detailId);
+        } catch (IOException e) {
+            // 파일 처리 중 발생하는 예외
+            throw new BusinessException(ErrorCode.FILE_PROCESSING_ERROR);
+        }
+    }
 
-            ProjectType projectType;
-            String fileName;
-
-            // 오디오파일 이름으로 사용할 날짜 포맷 지정
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd_HHmmss");
-            String timeStamp = sdf.format(new Date());
-
-            if (project instanceof TTSProject) {
-                projectType = ProjectType.TTS;
-                fileName =
-                        "Generated/" + userId + "/" + projectType + "/" + projectId + "/" + detailId + "/" + timeStamp
-                                + ".wav";
-            } else if (project instanceof VCProject) {
-                projectType = ProjectType.VC;
-                fileName =
-                        "Generated/" + userId + "/" + projectType + "/" + projectId + "/" + detailId + "/" + timeStamp
-                                + ".mp3";
-            } else {
-                throw new BusinessException(ErrorCode.UNSUPPORTED_PROJECT_TYPE);
-            }
+    /**
+     * TTS와 VC로 반환한 유닛 오디오를 임시 파일 없이 스트림으로 S3 버킷에 저장
+     *
+     * @param inputStream   업로드할 오디오 스트림 (호출자가 닫음)
+     * @param contentLength 오디오 길이, 모르면 -1
+     * @param contentType   Content-Type
+     * @return 저장된 오디오 파일 URL
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 업로드 동안 DB 커넥션을 잡지 않음, 메타 저장만 새 트랜잭션
+    public String uploadUnitSaveStream(InputStream inputStream, long contentLength, String contentType,
+                                       Long userId, Long projectId, Long detailId) {
 
-            // 메타데이터 저장
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentType(file.getContentType());
-            metadata.setContentLength(file.getSize());
+        // 길이를 아는데 비어 있는 경우
+        if (contentLength == 0) {
+            throw new BusinessException(ErrorCode.EMPTY_FILE);
+        }
 
-            // S3에 파일 업로드 (전체 경로 포함)
-            amazonS3Client.putObject(bucket, fileName, file.getInputStream(), metadata);
+        // Project의 실제 타입에 따라 ProjectType 설정 및 저장 경로 생성
+        ProjectType projectType = resolveUnitProjectType(projectId);
+        String fileName = createUnitFileName(projectType, userId, projectId, detailId);
 
-            // 파일의 전체 URL 반환
-            String fileUrl = amazonS3Client.getUrl(bucket, fileName).toString();
+        // S3에 스트림 업로드 (전체 경로 포함)
+        String fileUrl = uploadStream(fileName, inputStream, contentLength, contentType);
 
-            // 반환된 오디오 메타를 DB에 저장
-            saveTTSOrVCOutputAudioMeta(fileName, detailId, projectType, fileUrl);
+        // 반환된 오디오 메타를 DB에 저장 (자기 호출은 프록시를 거치지 않으므로 트랜잭션을 직접 시작)
+        transactionTemplate.executeWithoutResult(
+                status -> saveTTSOrVCOutputAudioMeta(fileName, detailId, projectType, fileUrl));
 
-            return fileUrl;
+        return fileUrl;
+    }
+
+    /**
+     * 이미 버킷에 있는 유닛 오디오를 서버 측 복사로 새 디테일 경로에 저장 (TTS 합성 캐시 적중 시 사용)
+     *
+     * @param sourceBucketRoute 복사할 원본 오디오의 버킷 경로
+     * @return 저장된 오디오 파일 URL
+     */
+    public String copyUnitSaveFile(String sourceBucketRoute, Long userId, Long projectId, Long detailId) {
+
+        ProjectType projectType = resolveUnitProjectType(projectId);
+        String fileName = createUnitFileName(projectType, userId, projectId, detailId);
 
+        try {
+            // 데이터가 서버를 거치지 않도록 S3 내부에서 복사
+            amazonS3Client.copyObject(bucket, sourceBucketRoute, bucket, fileName);
         } catch (AmazonClientException e) {
-            // S3 업로드 중 발생하는 예외
-            throw new BusinessException(ErrorCode.S3_UPLOAD_FAILED);
+            // 원본이 삭제되었거나 복사 중 발생하는 예외
+            throw new BusinessException(ErrorCode.S3_COPY_FAILED);
+        }
+
+        String fileUrl = amazonS3Client.getUrl(bucket, fileName).toString();
+
+        // 복사된 오디오 메타를 DB에 저장
+        saveTTSOrVCOutputAudioMeta(fileName, detailId, projectType, fileUrl);
+
+        return fileUrl;
+    }
+
+    // 버킷에 해당 경로의 오디오가 존재하는지 확인
+    public boolean existsObject(String bucketRoute) {
+        try {
+            return amazonS3Client.doesObjectExist(bucket, bucketRoute);
+        } catch (AmazonClientException e) {
+            return false;
+        }
+    }
+
+    // 버킷 URL에서 버킷 경로(key)를 추출
+    public String extractBucketRoute(String fileUrl) {
+        return URI.create(fileUrl).getPath().substring(1); // '/' 제거
+    }
+
+    // 유닛 오디오를 저장할 프로젝트의 타입 확인
+    private ProjectType resolveUnitProjectType(Long projectId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_NOT_FOUND));
+
+        if (project instanceof TTSProject) {
+            return ProjectType.TTS;
+        } else if (project instanceof VCProject) {
+            return ProjectType.VC;
+        }
+        throw new BusinessException(ErrorCode.UNSUPPORTED_PROJECT_TYPE);
+    }
+
+    // 유닛 오디오의 버킷 경로 생성
+    private String createUnitFileName(ProjectType projectType, Long userId, Long projectId, Long detailId) {
+        // 오디오파일 이름으로 사용할 날짜 포맷 지정
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd_HHmmss");
+        String timeStamp = sdf.format(new Date());
+        String extension = projectType == ProjectType.TTS ? ".wav" : ".mp3";
+
+        return "Generated/" + userId + "/" + projectType + "/" + projectId + "/" + detailId + "/" + timeStamp
+                + extension;
+    }
+
+    /**
+     * 메타 저장 없이 유닛 오디오만 S3에 스트림 업로드 (병렬 작업 스레드에서 사용)
+     * 오디오 메타는 호출 측 트랜잭션에서 saveTTSOrVCOutputAudioMeta 로 저장해야 합니다.
+     *
+     * @return 저장된 오디오의 버킷 경로
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String uploadUnitStream(InputStream inputStream, long contentLength, String contentType,
+                                   ProjectType projectType, Long userId, Long projectId, Long detailId) {
+
+        // 길이를 아는데 비어 있는 경우
+        if (contentLength == 0) {
+            throw new BusinessException(ErrorCode.EMPTY_FILE);
+        }
+
+        String fileName = createUnitFileName(projectType, userId, projectId, detailId);
+        uploadStream(fileName, inputStream, contentLength, contentType);
+        return fileName;
+    }
+
+    // 버킷 경로의 전체 URL 반환
+    public String getFileUrl(String bucketRoute) {
+        return amazonS3Client.getUrl(bucket, bucketRoute).toString();
+    }
+
+    // Concat 기능을 수행해서 반환한 오디오를 S3 버킷에 저장
+    public String uploadConcatSaveFile(MultipartFile file, Long userId, Long projectId) {
+
+        // 파일이 비어 있는지 확인
+        if (file.isEmpty()) {
+            throw new BusinessException(ErrorCode.EMPTY_FILE);
+        }
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return uploadConcatSaveStream(inputStream, file.getSize(), file.getContentType(), userId, projectId);
         } catch (IOException e) {
             // 파일 처리 중 발생하는 예외
             throw new BusinessException(ErrorCode.FILE_PROCESSING_ERROR);
         }
     }
 
-    // Concat 기능을 수행해서 반환한 오디오를 S3 버킷에 저장
-    public String uploadConcatSaveFile(MultipartFile file, Long userId, Long projectId) {
+    /**
+     * Concat 기능을 수행해서 반환한 오디오를 임시 파일 변환 없이 스트림으로 S3 버킷에 저장
+     *
+     * @param inputStream   업로드할 오디오 스트림 (호출자가 닫음)
+     * @param contentLength 오디오 길이, 모르면 -1
+     * @param contentType   Content-Type
+     * @return 저장된 오디오 파일 URL
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 업로드 동안 DB 커넥션을 잡지 않음, 메타 저장만 새 트랜잭션
+    public String uploadConcatSaveStream(InputStream inputStream, long contentLength, String contentType,
+                                         Long userId, Long projectId) {
 
-        try {
-            // 파일이 비어 있는지 확인
-            if (file.isEmpty()) {
-                throw new BusinessException(ErrorCode.EMPTY_FILE);
-            }
+        // 길이를 아는데 비어 있는 경우
+        if (contentLength == 0) {
+            throw new BusinessException(ErrorCode.EMPTY_FILE);
+        }
 
-            // 오디오파일 이름으로 사용할 날짜 포맷 지정
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd_HHmmss");
-            String timeStamp = sdf.format(new Date());
+        // 오디오파일 이름으로 사용할 날짜 포맷 지정
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd_HHmmss");
+        String timeStamp = sdf.format(new Date());
 
-            // 전체 경로를 포함한 파일 이름 설정
-            String fileName = "Generated/" + userId + "/CONCAT" + "/" + projectId + "/" + timeStamp + ".wav";
+        // 전체 경로를 포함한 파일 이름 설정
+        String fileName = "Generated/" + userId + "/CONCAT" + "/" + projectId + "/" + timeStamp + ".wav";
 
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentType(file.getContentType());
-            metadata.setContentLength(file.getSize());
+        // S3에 스트림 업로드 (전체 경로 포함)
+        String fileUrl = uploadStream(fileName, inputStream, contentLength, contentType);
 
-            // S3에 파일 업로드 (전체 경로 포함)
-            amazonS3Client.putObject(bucket, fileName, file.getInputStream(), metadata);
+        // 반환된 오디오 메타를 DB에 저장 (자기 호출은 프록시를 거치지 않으므로 트랜잭션을 직접 시작)
+        transactionTemplate.executeWithoutResult(status -> saveConcatAudioMeta(fileName, projectId, fileUrl));
 
-            // 파일의 전체 URL 반환
-            String fileUrl = amazonS3Client.getUrl(bucket, fileName).toString();
+        return fileUrl;
+    }
 
-            // 반환된 오디오 메타를 DB에 저장
-            saveConcatAudioMeta(fileName, projectId, fileUrl);
+    /**
+     * 스트림을 S3에 업로드하고 전체 URL을 반환
+     * 큰 파일이나 길이를 모르는 스트림은 멀티파트로 병렬 업로드됩니다.
+     */
+    private String uploadStream(String fileName, InputStream inputStream, long contentLength, String contentType) {
+        try {
+            long uploadedBytes = s3MultipartUploader.upload(fileName, inputStream, contentLength, contentType);
+            if (uploadedBytes == 0) {
+                amazonS3Client.deleteObject(bucket, fileName);
+                throw new BusinessException(ErrorCode.EMPTY_FILE);
+            }
 
-            return fileUrl;
+            // 파일의 전체 URL 반환
+            return amazonS3Client.getUrl(bucket, fileName).toString();
 
         } catch (AmazonClientException e) {
             // S3 업로드 중 발생하는 예외
             throw new BusinessException(ErrorCode.S3_UPLOAD_FAILED);
         } catch (IOException e) {
-            // 파일 처리 중 발생하는 예외
+            // 스트림 처리 중 발생하는 예외
             throw new BusinessException(ErrorCode.FILE_PROCESSING_ERROR);
         }
     }
@@ -216,20 +336,14 @@ public class S3Service {
         return outputAudioMetaRepository.save(outputAudioMeta);
     }
 
-    // 다운로드 받을 오디오의 버킷 URL을 제공하는 메서드
+    // 다운로드 받을 오디오의 버킷 URL을 제공하는 메서드 (만료 전까지 캐시된 URL 재사용)
     public String generatePresignedUrl(String bucketRoute) {
-        try {
-            // presigned url 생성
-            GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, bucketRoute);
-            request.withMethod(com.amazonaws.HttpMethod.GET)
-                    .withExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 5));
-            URL presignedUrl = amazonS3Client.generatePresignedUrl(request);
+        return s3PresignedUrlCache.get(bucketRoute, HttpMethod.GET);
+    }
 
-            return presignedUrl.toString();
-        } catch (AmazonClientException e) {
-            // Presigned URL 생성 실패 예외
-            throw new BusinessException(ErrorCode.S3_PRESIGNED_URL_FAILED);
-        }
+    // 여러 오디오의 다운로드 URL을 한 번에 제공하는 메서드 (bucketRoute → presigned url)
+    public Map<String, String> generatePresignedUrls(Collection<String> bucketRoutes) {
+        return s3PresignedUrlCache.getAll(bucketRoutes, HttpMethod.GET);
     }
 
     // 유저 오디오를 S3에 업로드하고 DB에 저장하는 메서드
@@ -611,30 +725,44 @@ public class S3Service {
      */
     public String downloadFileFromS3(String fileUrl, String localDir) {
         try {
-            // S3 버킷 이름과 키를 추출
-            URI uri = URI.create(fileUrl);
-            String bucketName = bucket; // 버킷 이름은 설정된 값을 사용
-            String key = uri.getPath().substring(1); // '/' 제거
+            // S3 버킷 경로(key) 추출
+            String key = extractBucketRoute(fileUrl);
 
-            // 파일 이름 추출
+            // 파일 이름 추출 후 로컬 저장 경로 설정 (동시에 같은 파일을 받는 작업과 겹치지 않도록 UUID를 붙임)
             String fileName = Paths.get(key).getFileName().toString();
+            Path localFilePath = Paths.get(localDir, UUID.randomUUID() + "_" + fileName);
 
-            // 로컬 저장 경로 설정
-            Path localFilePath = Paths.get(localDir, fileName);
-            Files.createDirectories(localFilePath.getParent()); // 디렉토리 생성
-
-            // S3에서 파일 다운로드
-            S3Object s3Object = amazonS3Client.getObject(new GetObjectRequest(bucketName, key));
-            try (S3ObjectInputStream s3is = s3Object.getObjectContent();
-                 FileOutputStream fos = new FileOutputStream(localFilePath.toFile())) {
-                byte[] readBuf = new byte[1024];
-                int readLen;
-                while ((readLen = s3is.read(readBuf)) > 0) {
-                    fos.write(readBuf, 0, readLen);
-                }
-            }
+            // 로컬 캐시를 거쳐 S3에서 파일 다운로드
+            return s3ObjectCache.fetch(key, localFilePath).toString();
+        } catch (AmazonClientException e) {
+            throw new BusinessException(ErrorCode.S3_DOWNLOAD_FAILED);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_PROCESSING_ERROR);
+        }
+    }
 
-            return localFilePath.toString();
+    /**
+     * 여러 파일을 로컬 캐시를 거쳐 동시에 다운로드합니다.
+     * 같은 파일이 여러 번 포함되거나 다른 작업과 이름이 겹쳐도 덮어쓰지 않도록 로컬 파일명에 순번과 UUID를 붙입니다.
+     *
+     * @param fileUrls 다운로드할 S3 URL 목록
+     * @param localDir 저장할 로컬 디렉토리
+     * @return 로컬 파일 경로 목록 (fileUrls와 같은 순서)
+     */
+    public List<String> downloadFilesFromS3(List<String> fileUrls, String localDir) {
+        List<String> keys = new ArrayList<>(fileUrls.size());
+        List<Path> localFilePaths = new ArrayList<>(fileUrls.size());
+        for (int i = 0; i < fileUrls.size(); i++) {
+            String key = extractBucketRoute(fileUrls.get(i));
+            String fileName = Paths.get(key).getFileName().toString();
+            keys.add(key);
+            localFilePaths.add(Paths.get(localDir, i + "_" + UUID.randomUUID() + "_" + fileName));
+        }
+
+        try {
+            return s3ObjectCache.fetchAll(keys, localFilePaths).stream()
+                    .map(Path::toString)
+                    .toList();
         } catch (AmazonClientException e) {
             throw new BusinessException(ErrorCode.S3_DOWNLOAD_FAILED);
         } catch (IOException e) {
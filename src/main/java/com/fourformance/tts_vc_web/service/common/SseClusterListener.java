@@ -0,0 +1,49 @@
+package com.fourformance.tts_vc_web.service.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourformance.tts_vc_web.dto.common.SseBatchMsgDto;
+import com.fourformance.tts_vc_web.dto.common.SseEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * 다른 노드(자기 자신 포함)가 발행한 SSE 알림을 받아 현재 노드에 연결된 클라이언트에게 전달
+ */
+@Component
+@RequiredArgsConstructor
+public class SseClusterListener {
+
+    private static final Logger LOGGER = Logger.getLogger(SseClusterListener.class.getName());
+
+    private final SseEmitterService sseEmitterService;
+    private final ObjectMapper objectMapper;
+
+    @RabbitListener(queues = "#{sseNodeQueue.name}", autoStartup = "${sse.cluster.enabled:true}")
+    public void handleSseBatch(String message) {
+        SseBatchMsgDto batch;
+        try {
+            batch = objectMapper.readValue(message, SseBatchMsgDto.class);
+        } catch (Exception e) {
+            // 잘못된 메시지는 재시도해도 실패하므로 버림
+            LOGGER.warning("SSE 알림 메시지 파싱 실패: " + e.getMessage());
+            return;
+        }
+        if (batch.getEventsByClientId() == null) {
+            return;
+        }
+
+        batch.getEventsByClientId().forEach((clientId, messageEvents) -> {
+            List<SseEvent> events = new ArrayList<>(messageEvents.size());
+            for (SseBatchMsgDto.Event event : messageEvents) {
+                Object data = event.getText() != null ? event.getText() : event.getJson();
+                events.add(new SseEvent(event.getId(), event.getName(), data, event.getCreatedAt()));
+            }
+            sseEmitterService.deliverLocal(clientId, events);
+        });
+    }
+}
@@ -0,0 +1,154 @@
+package com.fourformance.tts_vc_web.service.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourformance.tts_vc_web.common.config.SseClusterConfig;
+import com.fourformance.tts_vc_web.dto.common.SseBatchMsgDto;
+import com.fourformance.tts_vc_web.dto.common.SseEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+/**
+ * SSE 이벤트를 모든 노드로 전달하는 발행기
+ * 이벤트를 잠시 모았다가 회원별로 묶어 fanout exchange에 한 번에 발행합니다.
+ * 같은 주기 안에 같은 작업(회원, taskId)의 알림이 다시 오면 이전 알림은 버리고 최신 알림만 발행합니다.
+ * 클러스터 전달이 꺼져 있거나 발행에 실패하면 현재 노드의 연결로 직접 전달합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SseClusterPublisher {
+
+    private static final Logger LOGGER = Logger.getLogger(SseClusterPublisher.class.getName());
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${sse.cluster.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sse.cluster.flush-interval-ms:50}")
+    private long flushIntervalMs;
+
+    @Value("${sse.cluster.batch-size:200}")
+    private int batchSize;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 발행 대기 중인 이벤트 (회원별, 발생 순서 유지)
+    private Map<Long, List<SseEvent>> pending = new LinkedHashMap<>();
+    private int pendingCount;
+
+    private ScheduledExecutorService flushExecutor;
+
+    // 현재 노드 연결로 직접 전달 (SseEmitterService가 등록)
+    private volatile BiConsumer<Long, List<SseEvent>> localDelivery;
+
+    @PostConstruct
+    public void init() {
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-cluster-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void close() {
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    public void setLocalDelivery(BiConsumer<Long, List<SseEvent>> localDelivery) {
+        this.localDelivery = localDelivery;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 이벤트 발행 요청 (블로킹하지 않음)
+     */
+    public void publish(Long clientId, SseEvent event) {
+        if (!enabled) {
+            localDelivery.accept(clientId, List.of(event));
+            return;
+        }
+
+        boolean full;
+        synchronized (this) {
+            List<SseEvent> events = pending.computeIfAbsent(clientId, id -> new ArrayList<>());
+            if (event.getTaskId() != null) {
+                // 같은 작업의 이전 상태 알림은 최신 알림으로 대체 (최신 알림이 마지막 순서)
+                int before = events.size();
+                events.removeIf(e -> event.getTaskId().equals(e.getTaskId()));
+                pendingCount -= before - events.size();
+            }
+            events.add(event);
+            full = ++pendingCount >= batchSize;
+        }
+
+        // 배치가 가득 차면 주기를 기다리지 않고 바로 발행
+        if (full) {
+            try {
+                flushExecutor.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                flush(); // 종료 중
+            }
+        }
+    }
+
+    /**
+     * 모아둔 이벤트를 회원별로 묶어 한 번에 발행
+     */
+    void flush() {
+        Map<Long, List<SseEvent>> batch;
+        synchronized (this) {
+            if (pendingCount == 0) {
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            pendingCount = 0;
+        }
+
+        try {
+            Map<Long, List<SseBatchMsgDto.Event>> eventsByClientId = new LinkedHashMap<>();
+            batch.forEach((clientId, events) -> eventsByClientId.put(clientId,
+                    events.stream().map(this::toMessageEvent).toList()));
+
+            String message = objectMapper.writeValueAsString(new SseBatchMsgDto(nodeId, eventsByClientId));
+            rabbitTemplate.convertAndSend(SseClusterConfig.SSE_EXCHANGE_NAME, "", message);
+        } catch (Exception e) {
+            // 브로커 장애 시 최소한 현재 노드의 연결에는 전달
+            LOGGER.warning("SSE 클러스터 발행 실패, 현재 노드로만 전달: " + e.getMessage());
+            batch.forEach(localDelivery);
+        }
+    }
+
+    private SseBatchMsgDto.Event toMessageEvent(SseEvent event) {
+        Object data = event.getData();
+        if (data instanceof String) {
+            return new SseBatchMsgDto.Event(event.getId(), event.getName(), (String) data, null,
+                    event.getCreatedAt());
+        }
+        return new SseBatchMsgDto.Event(event.getId(), event.getName(), null, objectMapper.valueToTree(data),
+                event.getCreatedAt());
+    }
+}
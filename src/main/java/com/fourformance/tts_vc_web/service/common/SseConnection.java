@@ -0,0 +1,139 @@
+package com.fourformance.tts_vc_web.service.common;
+
+import com.fourformance.tts_vc_web.dto.common.SseEvent;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * SSE 연결 하나 (브라우저 탭 하나)
+ * 이벤트는 연결별 고정 크기 큐에 넣고, 공용 스레드 풀에서 연결마다 한 번에 하나의 드레인 작업만 실행해 순서대로 전송합니다.
+ * 전송하는 쪽(RabbitMQ 리스너 등)은 느린 클라이언트 때문에 막히지 않습니다.
+ */
+public class SseConnection {
+
+    private static final Logger LOGGER = Logger.getLogger(SseConnection.class.getName());
+
+    @Getter
+    private final String connectionId;
+    @Getter
+    private final Long clientId;
+    @Getter
+    private final SseEmitter emitter;
+
+    private final BlockingQueue<SseEvent> sendQueue;
+    private final Executor sendExecutor;
+    private final Consumer<SseConnection> onClose; // 연결 종료 시 저장소에서 제거
+
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    @Getter
+    private volatile long lastActivityAt = System.currentTimeMillis();
+
+    public SseConnection(String connectionId, Long clientId, SseEmitter emitter, int queueCapacity,
+                         Executor sendExecutor, Consumer<SseConnection> onClose) {
+        this.connectionId = connectionId;
+        this.clientId = clientId;
+        this.emitter = emitter;
+        this.sendQueue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+        this.sendExecutor = sendExecutor;
+        this.onClose = onClose;
+    }
+
+    /**
+     * 이벤트를 전송 큐에 추가 (블로킹하지 않음)
+     * 큐가 가득 찬 느린 연결은 닫고, 클라이언트는 재연결하면서 Last-Event-ID로 놓친 이벤트를 다시 받습니다.
+     *
+     * @return 큐에 추가했으면 true
+     */
+    public boolean enqueue(SseEvent event) {
+        if (closed.get()) {
+            return false;
+        }
+        if (!sendQueue.offer(event)) {
+            LOGGER.warning("SSE 전송 큐 초과로 연결 종료: clientId = " + clientId + ", connectionId = " + connectionId);
+            close(null);
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * 연결 종료 (중복 호출 가능)
+     *
+     * @param error 오류로 종료하는 경우 원인, 정상 종료면 null
+     */
+    public void close(Throwable error) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        sendQueue.clear();
+        onClose.accept(this);
+        try {
+            if (error != null) {
+                emitter.completeWithError(error);
+            } else {
+                emitter.complete();
+            }
+        } catch (RuntimeException e) {
+            // 이미 완료된 emitter
+        }
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return; // 실행 중인 드레인 작업이 이어서 전송
+        }
+        try {
+            sendExecutor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            close(null);
+        }
+    }
+
+    private void drain() {
+        try {
+            SseEvent event;
+            while (!closed.get() && (event = sendQueue.poll()) != null) {
+                send(event);
+            }
+        } finally {
+            draining.set(false);
+        }
+
+        // 드레인 종료 직전에 들어온 이벤트가 있으면 다시 실행
+        if (!closed.get() && !sendQueue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private void send(SseEvent event) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.getName()).data(event.getData());
+        if (event.getId() != null) {
+            builder.id(String.valueOf(event.getId()));
+        }
+
+        try {
+            emitter.send(builder);
+            lastActivityAt = System.currentTimeMillis();
+        } catch (IOException | IllegalStateException e) {
+            LOGGER.warning("SSE 전송 실패로 연결 종료: clientId = " + clientId + ", connectionId = " + connectionId);
+            close(e);
+        }
+    }
+}
@@ -2,18 +2,38 @@ package com.fourformance.tts_vc_web.service.common;
 
 import com.fourformance.tts_vc_web.common.exception.common.BusinessException;
 import com.fourformance.tts_vc_web.common.exception.common.ErrorCode;
+import com.fourformance.tts_vc_web.dto.common.SseEvent;
 import com.fourformance.tts_vc_web.repository.MemberRepository;
-import com.fourformance.tts_vc_web.repository.ProjectRepository;
 import com.fourformance.tts_vc_web.repository.common.EmitterRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+/**
+ * SSE 연결 관리 및 이벤트 전송
+ * - 회원 한 명이 여러 탭에서 동시에 연결할 수 있습니다.
+ * - 전송은 연결별 큐에 넣기만 하고 바로 반환하므로 호출 스레드(RabbitMQ 리스너)가 느린 클라이언트를 기다리지 않습니다.
+ * - 이벤트 ID는 단조 증가하며, 회원별 최근 이벤트를 보관했다가 재연결 시 Last-Event-ID 이후 이벤트를 다시 보냅니다.
+ * - 이벤트는 fanout exchange를 거쳐 모든 노드로 전달되므로, 작업을 처리한 노드와 클라이언트가 연결된 노드가 달라도 됩니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class SseEmitterService {
@@ -24,14 +44,52 @@ public class SseEmitterService {
     private final Logger log = Logger.getLogger(SseEmitterService.class.getName());
 
     private final MemberRepository memberRepository;
+    private final SseClusterPublisher sseClusterPublisher; // 노드 간 이벤트 전달
 
-    // 클라이언트 마지막 작업 시간 추적
-    private final Map<Long, Long> lastActivityMap = new ConcurrentHashMap<>();
+    @Value("${sse.connection.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${sse.send.threads:4}")
+    private int sendThreads;
+
+    @Value("${sse.replay.size:50}")
+    private int replaySize;
+
+    @Value("${sse.replay.ttl-ms:300000}")
+    private long replayTtlMs;
+
+    // 재시작 후나 다른 노드에서 발급한 ID와도 순서가 맞도록 현재 시각 기반으로 증가
+    private final AtomicLong eventIdSequence = new AtomicLong();
+
+    // 회원별 최근 이벤트 (재연결 시 재전송용), 연결 등록과 이벤트 전송 순서를 맞추는 잠금으로도 사용
+    private final Map<Long, Deque<SseEvent>> replayBuffers = new ConcurrentHashMap<>();
+
+    private ExecutorService sendExecutor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        sendExecutor = Executors.newFixedThreadPool(Math.max(sendThreads, 1), runnable -> {
+            Thread thread = new Thread(runnable, "sse-send-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        sseClusterPublisher.setLocalDelivery(this::deliverLocal);
+    }
+
+    @PreDestroy
+    public void close() {
+        disconnectAll();
+        sendExecutor.shutdown();
+    }
 
     /**
      * 클라이언트의 SSE 구독 요청을 처리
+     *
+     * @param clientId    회원 ID
+     * @param lastEventId 재연결 시 브라우저가 보내는 마지막 이벤트 ID (없으면 null)
      */
-    public SseEmitter subscribe(Long clientId) {
+    public SseEmitter subscribe(Long clientId, String lastEventId) {
         log.info("Validating client ID: " + clientId);
 
         // 유효성 검증: clientId가 Member 테이블에 존재하는지 확인
@@ -40,58 +98,68 @@ public class SseEmitterService {
             throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND); // 적절한 예외 반환
         }
 
-        log.info("Subscribing client with ID: " + clientId);
-        SseEmitter emitter = createEmitter(clientId);
+        SseConnection connection = createConnection(clientId);
 
-        try {
-            // 초기 메시지 전송
-            emitter.send(SseEmitter.event()
-                    .id(String.valueOf(clientId))
-                    .name("connection")
-                    .data("Connection established for clientId: " + clientId));
-            log.info("SSE subscription completed for clientId: " + clientId);
-
-            updateLastActivity(clientId); // 초기 작업 시간 갱신
-        } catch (IOException exception) {
-            log.warning("Failed to send initial message to clientId: " + clientId);
-            emitterRepository.deleteById(clientId); // 초기 전송 실패 시 Emitter 삭제
-        }
+        withReplayBuffer(clientId, replayBuffer -> {
+            emitterRepository.save(connection);
 
-        return emitter;
+            // 초기 메시지 전송 (재연결 시 Last-Event-ID가 바뀌지 않도록 id 없이 전송)
+            connection.enqueue(new SseEvent(null, "connection",
+                    "Connection established for clientId: " + clientId, System.currentTimeMillis()));
+
+            // 놓친 이벤트 재전송
+            Long lastId = parseEventId(lastEventId);
+            if (lastId != null) {
+                long minCreatedAt = System.currentTimeMillis() - replayTtlMs;
+                int replayed = 0;
+                for (SseEvent event : replayBuffer) {
+                    if (event.getId() > lastId && event.getCreatedAt() >= minCreatedAt) {
+                        connection.enqueue(event);
+                        replayed++;
+                    }
+                }
+                log.info("Replayed " + replayed + " events for clientId: " + clientId + " after id " + lastId);
+            }
+        });
+
+        log.info("SSE subscription completed for clientId: " + clientId
+                + ", connectionId: " + connection.getConnectionId());
+        return connection.getEmitter();
     }
 
     /**
-     * SSE Emitter 생성 및 저장
+     * SSE 연결 생성 (연결 종료/타임아웃/오류 시 저장소에서 제거)
      */
-    private SseEmitter createEmitter(Long clientId) {
+    private SseConnection createConnection(Long clientId) {
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        emitterRepository.save(clientId, emitter);
-        log.info("Created SSE Emitter for clientId: " + clientId);
-
-        // Emitter 완료/타임아웃 처리
-        emitter.onCompletion(() -> {
-            log.info("SSE Emitter completed for clientId: " + clientId);
-            emitterRepository.deleteById(clientId);
-            lastActivityMap.remove(clientId);
-        });
+        SseConnection connection = new SseConnection(UUID.randomUUID().toString(), clientId, emitter,
+                queueCapacity, sendExecutor, emitterRepository::delete);
+
+        emitter.onCompletion(() -> connection.close(null));
         emitter.onTimeout(() -> {
             log.info("SSE Emitter timed out for clientId: " + clientId);
-            emitterRepository.deleteById(clientId);
-            lastActivityMap.remove(clientId);
+            connection.close(null);
         });
         emitter.onError(e -> {
             log.warning("Error in SSE Emitter for clientId: " + clientId + ", removing emitter.");
-            emitterRepository.deleteById(clientId);
-            lastActivityMap.remove(clientId);
+            connection.close(null);
         });
 
-        return emitter;
+        return connection;
     }
 
     /**
-     * 클라이언트에게 데이터 전송
+     * 클라이언트에게 데이터 전송 (모든 노드로 발행하며 호출 스레드는 기다리지 않음)
      */
     public void sendToClient(Long clientId, Object data) {
+        sendToClient(clientId, null, data);
+    }
+
+    /**
+     * 작업 상태 알림 전송
+     * 발행 주기 안에 같은 작업의 알림이 여러 번 오면 마지막 알림만 전송합니다. (taskId가 없으면 모두 전송)
+     */
+    public void sendToClient(Long clientId, Long taskId, Object data) {
         if (clientId == null) {
             throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
         }
@@ -99,50 +167,52 @@ public class SseEmitterService {
             data = "서버에서 넘어온 데이터가 없습니다.";
         }
 
-        SseEmitter emitter = emitterRepository.get(clientId);
-        if (emitter != null) {
-            try {
-                log.info("Sending data to clientId: " + clientId);
-                emitter.send(SseEmitter.event()
-                        .id(String.valueOf(clientId))
-                        .name("taskUpdate")
-                        .data(data));
-                lastActivityMap.remove(clientId); // 데이터 전송 시 활동 시간 갱신
-            } catch (IOException exception) {
-                log.warning("Failed to send data to clientId: " + clientId + ", removing emitter.");
-                emitterRepository.deleteById(clientId);
-                lastActivityMap.remove(clientId);
-                emitter.completeWithError(exception);
-            }
-        } else {
-            log.warning("No active SSE connection for clientId: " + clientId);
-        }
+        long now = System.currentTimeMillis();
+        long eventId = eventIdSequence.updateAndGet(prev -> Math.max(prev + 1, now * 1000));
+        Long coalesceTaskId = taskId != null && taskId > 0 ? taskId : null;
+        sseClusterPublisher.publish(clientId, new SseEvent(eventId, "taskUpdate", data, now, coalesceTaskId));
     }
 
     /**
-     * 특정 클라이언트 연결 강제 종료
+     * 현재 노드에 연결된 클라이언트에게 이벤트 전달 (재전송용으로 보관 후 모든 연결에 비동기로 전송)
+     * 클라이언트가 다른 노드에 연결되어 있으면 보관만 합니다.
      */
-    public void disconnect(Long clientId) {
-        SseEmitter emitter = emitterRepository.get(clientId);
-
-        if (emitter != null) {
-            long lastActivityTime = lastActivityMap.getOrDefault(clientId, 0L);
-            long currentTime = System.currentTimeMillis();
-
-            if (currentTime - lastActivityTime > INACTIVITY_TIMEOUT) {
-                log.info("ClientId: " + clientId + " exceeded inactivity timeout. Disconnecting.");
+    public void deliverLocal(Long clientId, List<SseEvent> events) {
+        withReplayBuffer(clientId, replayBuffer -> {
+            for (SseEvent event : events) {
+                replayBuffer.addLast(event);
+            }
+            while (replayBuffer.size() > replaySize) {
+                replayBuffer.removeFirst();
+            }
 
-                emitter.complete();
+            Collection<SseConnection> connections = emitterRepository.findAllByClientId(clientId);
+            for (SseConnection connection : connections) {
+                events.forEach(connection::enqueue);
+            }
+        });
+    }
 
-                emitterRepository.deleteById(clientId);
-                lastActivityMap.remove(clientId);
+    /**
+     * 특정 클라이언트의 유휴 연결 강제 종료
+     */
+    public void disconnect(Long clientId) {
+        Collection<SseConnection> connections = emitterRepository.findAllByClientId(clientId);
+        if (connections.isEmpty()) {
+            log.warning("No active SSE connection for clientId: " + clientId);
+            return;
+        }
 
-                log.info("Disconnected clientId: " + clientId + " due to inactivity.");
+        long currentTime = System.currentTimeMillis();
+        for (SseConnection connection : connections) {
+            if (currentTime - connection.getLastActivityAt() > INACTIVITY_TIMEOUT) {
+                connection.close(null);
+                log.info("Disconnected clientId: " + clientId + ", connectionId: " + connection.getConnectionId()
+                        + " due to inactivity.");
             } else {
-                log.info("ClientId: " + clientId + " is still active.");
+                log.info("ClientId: " + clientId + ", connectionId: " + connection.getConnectionId()
+                        + " is still active.");
             }
-        } else {
-            log.warning("No active SSE connection for clientId: " + clientId);
         }
     }
 
@@ -150,8 +220,8 @@ public class SseEmitterService {
      * 모든 클라이언트 연결 강제 종료
      */
     public void disconnectAll() {
+        emitterRepository.findAll().forEach(connection -> connection.close(null));
         emitterRepository.deleteAll();
-        lastActivityMap.clear();
         log.info("All SSE connections have been disconnected");
     }
 
@@ -163,10 +233,50 @@ public class SseEmitterService {
     }
 
     /**
-     * 마지막 작업 시간 갱신
+     * 보관 기간이 지난 재전송용 이벤트 정리
      */
-    private void updateLastActivity(Long clientId) {
-        lastActivityMap.put(clientId, System.currentTimeMillis());
-        log.info("Updated last activity for clientId: " + clientId);
+    @Scheduled(fixedDelayString = "${sse.replay.cleanup-interval-ms:60000}")
+    public void purgeExpiredReplayEvents() {
+        long minCreatedAt = System.currentTimeMillis() - replayTtlMs;
+        for (Long clientId : replayBuffers.keySet()) {
+            // 버퍼 잠금을 잡은 상태에서 비어 있고 연결이 없을 때만 맵에서 제거
+            replayBuffers.computeIfPresent(clientId, (id, replayBuffer) -> {
+                synchronized (replayBuffer) {
+                    while (!replayBuffer.isEmpty() && replayBuffer.peekFirst().getCreatedAt() < minCreatedAt) {
+                        replayBuffer.removeFirst();
+                    }
+                    return replayBuffer.isEmpty() && emitterRepository.findAllByClientId(id).isEmpty()
+                            ? null : replayBuffer;
+                }
+            });
+        }
+    }
+
+    /**
+     * 클라이언트의 재전송 버퍼 잠금을 잡고 작업 실행
+     * 잠금을 기다리는 사이 정리 작업이 버퍼를 맵에서 제거했다면 새 버퍼로 다시 시도합니다.
+     * (제거된 버퍼에 이벤트를 넣거나 연결을 등록하면 재전송 이벤트가 사라지므로)
+     */
+    private void withReplayBuffer(Long clientId, Consumer<Deque<SseEvent>> action) {
+        while (true) {
+            Deque<SseEvent> replayBuffer = replayBuffers.computeIfAbsent(clientId, id -> new ArrayDeque<>());
+            synchronized (replayBuffer) {
+                if (replayBuffers.get(clientId) == replayBuffer) {
+                    action.accept(replayBuffer);
+                    return;
+                }
+            }
+        }
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 }
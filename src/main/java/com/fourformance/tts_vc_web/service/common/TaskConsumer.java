@@ -8,10 +8,9 @@ import com.fourformance.tts_vc_web.common.constant.APIUnitStatusConst;
 import com.fourformance.tts_vc_web.common.constant.TaskStatusConst;
 import com.fourformance.tts_vc_web.common.exception.common.BusinessException;
 import com.fourformance.tts_vc_web.common.exception.common.ErrorCode;
+import com.fourformance.tts_vc_web.common.util.ExternalApiGuard;
 import com.fourformance.tts_vc_web.controller.common.SSEController;
 import com.fourformance.tts_vc_web.domain.entity.TTSProject;
-import com.fourformance.tts_vc_web.domain.entity.Task;
-import com.fourformance.tts_vc_web.domain.entity.TaskHistory;
 import com.fourformance.tts_vc_web.dto.common.ConcatMsgDto;
 import com.fourformance.tts_vc_web.dto.common.TTSMsgDto;
 import com.fourformance.tts_vc_web.dto.common.VCMsgDto;
@@ -24,54 +23,65 @@ import com.fourformance.tts_vc_web.dto.tts.TTSResponseDetailDto;
 import com.fourformance.tts_vc_web.dto.vc.VCDetailResDto;
 import com.fourformance.tts_vc_web.repository.ProjectRepository;
 import com.fourformance.tts_vc_web.repository.TTSProjectRepository;
-import com.fourformance.tts_vc_web.repository.TaskHistoryRepository;
-import com.fourformance.tts_vc_web.repository.TaskRepository;
 import com.fourformance.tts_vc_web.service.concat.AudioProcessingService;
 import com.fourformance.tts_vc_web.service.tts.TTSService_TaskJob;
 import com.fourformance.tts_vc_web.service.vc.VCService_TaskJob;
 import lombok.RequiredArgsConstructor;
 import com.rabbitmq.client.Channel;
 
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.support.AmqpHeaders;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Isolation;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 작업 큐 소비자
+ * 리스너는 트랜잭션 없이 실행되며, 작업 상태 변경만 TaskStateService의 짧은 트랜잭션으로 처리합니다.
+ * 외부 API 호출과 S3 업로드 동안에는 DB 커넥션을 잡고 있지 않습니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class TaskConsumer {
 
+    private static final Logger LOGGER = Logger.getLogger(TaskConsumer.class.getName());
+
     private final ProjectRepository projectRepository;
     @Value("${upload.dir}")
     private String uploadDir;
 
     private final ObjectMapper objectMapper;
-    private final TaskRepository taskRepository;
-    private final TaskHistoryRepository historyRepository;
+    private final TaskStateService taskStateService; // 작업 상태 전이 (짧은 트랜잭션)
     private final TTSService_TaskJob ttsService;
     private final TTSProjectRepository ttsProjectRepository;
     private final VCService_TaskJob vcService;
     private final SseEmitterService sseService;
     private final AudioProcessingService audioProcessingService;
     private final S3Service s3Service;
+    private final TaskRetryService taskRetryService; // 일시적인 실패 지연 재시도
 
     /**
      * TTS 작업 처리: 큐에서 작업을 꺼내 TTS 작업 처리
      *
      */
-    @RabbitListener(queues = TaskConfig.TTS_QUEUE, ackMode = "MANUAL")
-    @Transactional(isolation = Isolation.SERIALIZABLE, propagation = Propagation.REQUIRES_NEW)
-    public void handleTTSTask(String message, Channel channel, @Header(AmqpHeaders.DELIVERY_TAG) long tag) {
+    @RabbitListener(id = "ttsTaskListener", queues = TaskConfig.TTS_QUEUE, ackMode = "MANUAL",
+            containerFactory = "ttsListenerContainerFactory")
+    public void handleTTSTask(@Payload String message, Message amqpMessage, Channel channel,
+                              @Header(AmqpHeaders.DELIVERY_TAG) long tag) {
 
 
         Long projectId = -1L;
@@ -92,18 +102,12 @@ public class TaskConsumer {
             if(projectId == -1L || detailId == -1L || taskId == -1) { throw new BusinessException(ErrorCode.JSON_PROCESSING_ERROR); }
 
 
-            // 상태가 TERMINATED인 작업은 처리하지 않고 ACK 후 종료
-            Task task = taskRepository.findById(taskId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.TASK_NOT_FOUND));
-
-            if (task.getTaskStatusConst() == TaskStatusConst.TERMINATED) {
-                channel.basicAck(tag, false); // 메시지 큐에서 제거
+            // 상태 업데이트 (이미 실행 중인 작업의 중복 전달, TERMINATED / COMPLETED 등 시작할 수 없는 작업은 처리하지 않고 ACK 후 종료)
+            if (!startTask(amqpMessage, taskId)) {
+                skipDuplicateTask(channel, tag, taskId);
                 return;
             }
-
-            // 상태 업데이트
-            updateStatus(task.getId(), TaskStatusConst.RUNNABLE, "작업 시작");
-            sseService.sendToClient(memberId,  "TTS 작업이 시작되었습니다.");
+            sseService.sendToClient(memberId, taskId, "TTS 작업이 시작되었습니다.");
 
             // TTS 작업
             TTSProject ttsProject = ttsProjectRepository.findById(projectId)
@@ -131,28 +135,25 @@ public class TaskConsumer {
             // 메시지 처리 완료 시 (1. RabbitMQ에 ACK 전송, 2. SSE로 전달, 3. 상태값 변환(완료))
             channel.basicAck(tag, false);
 
-            updateStatus(taskId, TaskStatusConst.COMPLETED, "작업 완료");
-            sseService.sendToClient(memberId, response);
+            taskStateService.transition(taskId, TaskStatusConst.COMPLETED, "작업 완료");
+            sseService.sendToClient(memberId, taskId, response);
 
         } catch (JsonProcessingException JsonError) { // JSON 파싱 에러 처리
 
-            updateStatus(taskId, TaskStatusConst.FAILED, "작업 실패");
-            sseService.sendToClient(memberId, null);
+            taskStateService.transition(taskId, TaskStatusConst.FAILED, "작업 실패");
+            sseService.sendToClient(memberId, taskId, null);
             throw new BusinessException(ErrorCode.JSON_PROCESSING_ERROR);
 
         } catch (Exception e) {
 
-            e.printStackTrace();
-            System.out.println("에러나서 작업 실패" );
-
-            try { // Dead Letter Queue로 메시지 전달
-                channel.basicNack(tag, false, false);
-            } catch (IOException ioException) {
-                throw new BusinessException(ErrorCode.FAILED_TASK_PROCESSING_ERROR);
-            } finally {
-                updateStatus(taskId, TaskStatusConst.FAILED, "작업 실패");
-                sseService.sendToClient(memberId, null);
+            if (ExternalApiGuard.isRejection(e)) {
+                deferRejectedTask(amqpMessage, channel, tag, TaskConfig.TTS_QUEUE, taskId);
+                return;
             }
+
+            LOGGER.log(Level.WARNING, "TTS 작업 실패: taskId = " + taskId, e);
+
+            handleFailure(amqpMessage, channel, tag, TaskConfig.TTS_QUEUE, taskId, memberId, e);
         }
     }
 
@@ -162,9 +163,10 @@ public class TaskConsumer {
      * VC 작업 처리: 큐에서 작업을 꺼내 VC 작업 처리
      *
      */
-    @RabbitListener(queues = TaskConfig.VC_QUEUE, ackMode = "MANUAL")
-    @Transactional(isolation = Isolation.SERIALIZABLE, propagation = Propagation.REQUIRES_NEW)
-    public void handleVCTask(String message, Channel channel, @Header(AmqpHeaders.DELIVERY_TAG) long tag) {
+    @RabbitListener(id = "vcTaskListener", queues = TaskConfig.VC_QUEUE, ackMode = "MANUAL",
+            containerFactory = "vcListenerContainerFactory")
+    public void handleVCTask(@Payload String message, Message amqpMessage, Channel channel,
+                             @Header(AmqpHeaders.DELIVERY_TAG) long tag) {
 
         Long projectId = -1L;
         Long detailId  = -1L;
@@ -183,18 +185,12 @@ public class TaskConsumer {
 
             if(projectId == -1L || detailId == -1L || taskId == -1) { throw new BusinessException(ErrorCode.JSON_PROCESSING_ERROR); }
 
-            // 상태가 TERMINATED인 작업은 처리하지 않고 ACK 후 종료
-            Task task = taskRepository.findById(taskId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.TASK_NOT_FOUND));
-
-            if (task.getTaskStatusConst() == TaskStatusConst.TERMINATED) {
-                channel.basicAck(tag, false); // 메시지 큐에서 제거
+            // 상태 업데이트 (이미 실행 중인 작업의 중복 전달, TERMINATED / COMPLETED 등 시작할 수 없는 작업은 처리하지 않고 ACK 후 종료)
+            if (!startTask(amqpMessage, taskId)) {
+                skipDuplicateTask(channel, tag, taskId);
                 return;
             }
-
-            // 상태 업데이트
-            updateStatus(taskId, TaskStatusConst.RUNNABLE, "작업 시작");
-            sseService.sendToClient(memberId, "VC 작업이 시작되었습니다.");
+            sseService.sendToClient(memberId, taskId, "VC 작업이 시작되었습니다.");
 
             // VC 작업
             VCDetailResDto vcDetailsRes = vcService.processSourceFile(vcMsgDto);
@@ -203,26 +199,24 @@ public class TaskConsumer {
 
             // 메시지 처리 완료 시 (1. RabbitMQ에 ACK 전송, 2. SSE로 전달, 3. 상태값 변환(완료))
             channel.basicAck(tag, false);
-            updateStatus(taskId, TaskStatusConst.COMPLETED, "작업 완료");
-            sseService.sendToClient(memberId, response);
+            taskStateService.transition(taskId, TaskStatusConst.COMPLETED, "작업 완료");
+            sseService.sendToClient(memberId, taskId, response);
 
 
         }catch (JsonProcessingException JsonError) { // JSON 파싱 에러 처리
 
-            updateStatus(taskId, TaskStatusConst.FAILED, "작업 실패");
-            sseService.sendToClient(memberId, null);
+            taskStateService.transition(taskId, TaskStatusConst.FAILED, "작업 실패");
+            sseService.sendToClient(memberId, taskId, null);
             throw new BusinessException(ErrorCode.JSON_PROCESSING_ERROR);
 
         } catch (Exception e) {
 
-            try { // Dead Letter Queue로 메시지 전달
-                channel.basicNack(tag, false, false);
-            } catch (IOException ioException) {
-                throw new BusinessException(ErrorCode.FAILED_TASK_PROCESSING_ERROR);
-            } finally {
-                updateStatus(taskId, TaskStatusConst.FAILED, "작업 실패");
-                sseService.sendToClient(memberId, null);
+            if (ExternalApiGuard.isRejection(e)) {
+                deferRejectedTask(amqpMessage, channel, tag, TaskConfig.VC_QUEUE, taskId);
+                return;
             }
+
+            handleFailure(amqpMessage, channel, tag, TaskConfig.VC_QUEUE, taskId, memberId, e);
         }
     }
 
@@ -230,9 +224,9 @@ public class TaskConsumer {
      * Concat 작업 처리: 큐에서 작업을 꺼내 Concat 작업 처리
      *
      */
-    @RabbitListener(queues = TaskConfig.CONCAT_QUEUE, ackMode = "MANUAL")
-    @Transactional(isolation = Isolation.SERIALIZABLE, propagation = Propagation.REQUIRES_NEW)
-    public void handleConcatTask(String message, Channel channel, @Header(AmqpHeaders.DELIVERY_TAG) long tag) {
+    @RabbitListener(queues = TaskConfig.CONCAT_QUEUE, ackMode = "MANUAL", containerFactory = "concatListenerContainerFactory")
+    public void handleConcatTask(@Payload String message, Message amqpMessage, Channel channel,
+                                 @Header(AmqpHeaders.DELIVERY_TAG) long tag) {
         Long projectId = -1L;
         Long taskId    = -1L;
         Long memberId = null;
@@ -248,43 +242,44 @@ public class TaskConsumer {
 
             if(projectId == -1L || taskId == -1) { throw new BusinessException(ErrorCode.JSON_PROCESSING_ERROR); }
 
-            // 상태가 TERMINATED인 작업은 처리하지 않고 ACK 후 종료
-            Task task = taskRepository.findById(taskId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.TASK_NOT_FOUND));
-
-            if (task.getTaskStatusConst() == TaskStatusConst.TERMINATED) {
-                channel.basicAck(tag, false); // 메시지 큐에서 제거
+            // 상태 업데이트 (이미 실행 중인 작업의 중복 전달, TERMINATED / COMPLETED 등 시작할 수 없는 작업은 처리하지 않고 ACK 후 종료)
+            if (!startTask(amqpMessage, taskId)) {
+                skipDuplicateTask(channel, tag, taskId);
                 return;
             }
-
-            // 상태 업데이트
-            updateStatus(taskId, TaskStatusConst.RUNNABLE, "작업 시작");
-            sseService.sendToClient(memberId, "Concat 작업이 시작되었습니다.");
+            sseService.sendToClient(memberId, taskId, "Concat 작업이 시작되었습니다.");
 
 
             // Concat 작업 시작
-            // 2. S3에서 파일 다운로드 및 침묵 파일 생성
-            List<String> savedFilePaths = new ArrayList<>();
-            List<String> silenceFilePaths = new ArrayList<>();
-            String mergedFilePath = null;
-
+            // 2. 소스 URL이 있는 디테일만 병합
+            List<ConcatMsgDetailDto> sourceDetails = new ArrayList<>();
             for (ConcatMsgDetailDto detail : concatMsgDto.getConcatMsgDetailDtos()) {
                 if (detail.getSrcUrl() != null) {
-                    String savedFilePath = s3Service.downloadFileFromS3(detail.getSrcUrl(), uploadDir);
-                    savedFilePaths.add(savedFilePath);
-
-                    String silenceFilePath = audioProcessingService.createSilenceFile(detail.getEndSilence().longValue(), uploadDir);
-                    if (silenceFilePath != null) silenceFilePaths.add(silenceFilePath);
+                    sourceDetails.add(detail);
                 } else {
                     // src url 이 없을 경우 에러 처리
                 }
             }
 
-            // 3. 병합된 파일 생성
-            mergedFilePath = audioProcessingService.mergeAudioFilesWithSilence(savedFilePaths, silenceFilePaths, uploadDir);
+            String mergedFilePath = null;
+            String mergedFileUrl;
 
-            // 4. 병합된 파일을 S3에 업로드 후 URL 반환
-            String mergedFileUrl = s3Service.uploadConcatSaveFile(audioProcessingService.convertToMultipartFile(mergedFilePath), concatMsgDto.getMemberId(), projectId);
+            try {
+                // 3. 병합된 파일 생성 (바뀐 디테일의 세그먼트만 새로 만듦)
+                mergedFilePath = audioProcessingService.renderConcat(sourceDetails, uploadDir);
+
+                // 4. 병합된 파일을 MultipartFile 변환 없이 스트림으로 S3에 업로드 후 URL 반환
+                Path mergedPath = Paths.get(mergedFilePath);
+                try (InputStream mergedStream = Files.newInputStream(mergedPath)) {
+                    mergedFileUrl = s3Service.uploadConcatSaveStream(mergedStream, Files.size(mergedPath),
+                            audioProcessingService.getContentType(mergedFilePath), concatMsgDto.getMemberId(), projectId);
+                }
+            } finally {
+                // 5. 임시 파일 정리
+                if (mergedFilePath != null) {
+                    audioProcessingService.deleteFiles(List.of(mergedFilePath));
+                }
+            }
 
             ConcatResponseDto concatResponseDto = ConcatResponseDto.builder()
                     .projectId(concatMsgDto.getProjectId())
@@ -297,47 +292,80 @@ public class TaskConsumer {
 
             // 메시지 처리 완료 시 (1. RabbitMQ에 ACK 전송, 2. SSE로 전달, 3. 상태값 변환(완료))
             channel.basicAck(tag, false);
-            updateStatus(taskId, TaskStatusConst.COMPLETED, "작업 완료");
-            sseService.sendToClient(memberId, response);
+            taskStateService.transition(taskId, TaskStatusConst.COMPLETED, "작업 완료");
+            sseService.sendToClient(memberId, taskId, response);
 
 
         }catch(Exception e){
-            try { // Dead Letter Queue로 메시지 전달
-                channel.basicNack(tag, false, false);
+            handleFailure(amqpMessage, channel, tag, TaskConfig.CONCAT_QUEUE, taskId, memberId, e);
+        }
+    }
+
+    /**
+     * 실패한 작업 처리
+     * 일시적인 오류면 재시도 큐로 보내고 원본 메시지를 ACK 하며, 재시도할 수 없거나 최대 횟수를 넘으면 DLQ로 보냅니다.
+     */
+    private void handleFailure(Message amqpMessage, Channel channel, long tag, String taskQueue,
+                               Long taskId, Long memberId, Exception e) {
+        if (taskRetryService.scheduleRetry(amqpMessage, taskQueue, e)) {
+            int attempt = taskRetryService.getAttempt(amqpMessage) + 1;
+            taskStateService.transition(taskId, TaskStatusConst.WAITING,
+                    "재시도 대기 (" + attempt + "/" + taskRetryService.getMaxAttempts() + ")");
+            try {
+                channel.basicAck(tag, false); // 재시도 큐에 복사본을 보냈으므로 원본 제거
             } catch (IOException ioException) {
                 throw new BusinessException(ErrorCode.FAILED_TASK_PROCESSING_ERROR);
-            } finally {
-                updateStatus(taskId, TaskStatusConst.FAILED, "작업 실패");
-                sseService.sendToClient(memberId, null);
             }
+            sseService.sendToClient(memberId, taskId, "작업이 실패하여 잠시 후 다시 시도합니다.");
+            return;
+        }
+
+        try { // Dead Letter Queue로 메시지 전달
+            channel.basicNack(tag, false, false);
+        } catch (IOException ioException) {
+            throw new BusinessException(ErrorCode.FAILED_TASK_PROCESSING_ERROR);
+        } finally {
+            taskStateService.transition(taskId, TaskStatusConst.FAILED, "작업 실패");
+            sseService.sendToClient(memberId, taskId, null);
         }
     }
 
+    /**
+     * 작업을 RUNNABLE로 전이
+     * 브로커가 다시 전달한 메시지(이전 소비자가 ACK 전에 종료)는 RUNNABLE로 남은 작업을 이어받고,
+     * 그 외에 이미 RUNNABLE인 작업은 다른 소비자가 처리 중인 중복 전달로 보고 시작하지 않습니다.
+     */
+    private boolean startTask(Message amqpMessage, Long taskId) {
+        if (Boolean.TRUE.equals(amqpMessage.getMessageProperties().getRedelivered())) {
+            return taskStateService.takeOver(taskId, "작업 재시작 (재전달된 메시지)");
+        }
+        return taskStateService.transition(taskId, TaskStatusConst.RUNNABLE, "작업 시작");
+    }
 
     /**
-     * 작업 상태 update: 작업 상태 업데이트 처리
-     *
+     * 시작할 수 없는 작업의 메시지는 처리하지 않고 ACK
+     * 재전달이 아닌데 이미 RUNNABLE인 작업의 메시지는 다른 소비자가 처리 중인 중복 전달이므로 외부 API를 다시 호출하지 않습니다.
+     */
+    private void skipDuplicateTask(Channel channel, long tag, Long taskId) throws IOException {
+        LOGGER.info("시작할 수 없는 작업 메시지 ACK (중복 전달 또는 종료된 작업): taskId = " + taskId);
+        channel.basicAck(tag, false); // 메시지 큐에서 제거
+    }
+
+    /**
+     * 외부 API 호출량 제한 / 서킷 브레이커로 처리하지 못한 작업은 실패 처리하지 않고 지연 재시도 큐에서 기다리게 함
+     * (바로 다시 큐에 넣으면 같은 메시지를 계속 받았다가 거절하므로, 재시도 큐 전송에 실패했을 때만 다시 큐에 넣음)
      */
-    @Transactional
-    public void updateStatus(Long taskId, TaskStatusConst newStatusConst, String msg) {
-        System.out.println("==============업데이트 스테이터스 메서드 초입");
-        // 1. Task 엔티티 조회 및 상태 update
-        Task task = taskRepository.findById(taskId)
-                 .orElseThrow(() ->  new BusinessException(ErrorCode.TASK_NOT_FOUND));
-             task.updateStatus(newStatusConst);
-         taskRepository.save(task);
-
-        // 2. 최신 TaskHistory 조회
-        TaskHistory latestHistory = historyRepository.findLatestTaskHistoryByTaskId(task.getId());
-
-        // 3. 최신 이력이 없는 경우 처리 (최초 TaskHistory 생성)
-        TaskStatusConst oldStatus = latestHistory != null ? latestHistory.getNewStatus() : TaskStatusConst.NEW;
-
-        // 4. 새로운 TaskHistory 생성
-        TaskHistory taskHistory = TaskHistory.createTaskHistory(task, oldStatus, newStatusConst, msg);
-
-        // 5. TaskHistory 저장
-        historyRepository.save(taskHistory);
+    private void deferRejectedTask(Message amqpMessage, Channel channel, long tag, String taskQueue, Long taskId) {
+        taskStateService.transition(taskId, TaskStatusConst.WAITING, "외부 API 호출 제한으로 대기");
+        try {
+            if (taskRetryService.deferRejected(amqpMessage, taskQueue)) {
+                channel.basicAck(tag, false); // 재시도 큐에 복사본을 보냈으므로 원본 제거
+            } else {
+                channel.basicNack(tag, false, true);
+            }
+        } catch (IOException ioException) {
+            throw new BusinessException(ErrorCode.FAILED_TASK_PROCESSING_ERROR);
+        }
     }
 
 }
@@ -0,0 +1,199 @@
+package com.fourformance.tts_vc_web.service.common;
+
+import com.fourformance.tts_vc_web.common.constant.TaskStatusConst;
+import com.fourformance.tts_vc_web.dto.common.TaskHistoryEvent;
+import com.fourformance.tts_vc_web.repository.TaskHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * 작업 상태 이력(TaskHistory) 비동기 일괄 저장
+ * 상태 전이 이벤트를 고정 크기 버퍼에 쌓아두고, 배치 크기가 차거나 일정 시간이 지나면 JDBC 배치로 저장합니다.
+ * - 버퍼가 가득 차면 호출 스레드가 잠시 대기하고, 그래도 자리가 없으면 직접 저장합니다. (이력은 버리지 않음)
+ * - 애플리케이션 종료 시 남은 이벤트를 모두 저장한 뒤 종료합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskHistoryWriter {
+
+    private static final Logger LOGGER = Logger.getLogger(TaskHistoryWriter.class.getName());
+
+    private final TaskHistoryRepository historyRepository;
+    private final AuditorAware<Long> auditorProvider;
+
+    @Value("${task.history.buffer-capacity:10000}")
+    private int bufferCapacity;
+
+    @Value("${task.history.batch-size:200}")
+    private int batchSize;
+
+    @Value("${task.history.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    @Value("${task.history.append-timeout-ms:100}")
+    private long appendTimeoutMs;
+
+    @Value("${task.history.max-retries:3}")
+    private int maxRetries;
+
+    private BlockingQueue<TaskHistoryEvent> buffer;
+    private Thread flushThread;
+    private volatile boolean running;
+
+    // 지표
+    private final AtomicLong appendedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong callerWriteCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        batchSize = Math.max(batchSize, 1);
+        buffer = new ArrayBlockingQueue<>(Math.max(bufferCapacity, batchSize));
+        running = true;
+
+        flushThread = new Thread(this::runFlushLoop, "task-history-writer");
+        flushThread.setDaemon(true);
+        flushThread.start();
+        LOGGER.info("TaskHistoryWriter 초기화 완료: bufferCapacity=" + bufferCapacity + ", batchSize=" + batchSize
+                + ", flushIntervalMs=" + flushIntervalMs);
+    }
+
+    /**
+     * 종료 시 flush 스레드를 멈추고 버퍼에 남은 이벤트를 모두 저장
+     */
+    @PreDestroy
+    public void close() {
+        running = false;
+        flushThread.interrupt();
+        try {
+            flushThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<TaskHistoryEvent> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            write(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+        LOGGER.info("TaskHistoryWriter 종료: 남은 이력 " + remaining.size() + "건 저장");
+    }
+
+    /**
+     * 상태 전이 이벤트 추가
+     *
+     * @param taskId    작업 ID
+     * @param oldStatus 이전 상태
+     * @param newStatus 변경된 상태
+     * @param msg       이력 메시지
+     */
+    public void append(Long taskId, TaskStatusConst oldStatus, TaskStatusConst newStatus, String msg) {
+        TaskHistoryEvent event = new TaskHistoryEvent(taskId, oldStatus, newStatus, msg, LocalDateTime.now(),
+                auditorProvider.getCurrentAuditor().orElse(-1L));
+        appendedCount.incrementAndGet();
+
+        if (running && buffer.offer(event)) {
+            return;
+        }
+
+        // 버퍼가 가득 찬 경우 flush 스레드가 비울 때까지 잠시 대기
+        try {
+            if (running && buffer.offer(event, appendTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 그래도 자리가 없거나 종료 중이면 호출 스레드에서 직접 저장
+        callerWriteCount.incrementAndGet();
+        write(List.of(event));
+    }
+
+    /**
+     * 이력 저장 지표 반환
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("appended", appendedCount.get());
+        stats.put("written", writtenCount.get());
+        stats.put("buffered", (long) buffer.size());
+        stats.put("callerWrites", callerWriteCount.get());
+        stats.put("failed", failedCount.get());
+        return stats;
+    }
+
+    private void runFlushLoop() {
+        List<TaskHistoryEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                // 첫 이벤트가 들어온 시점부터 flushIntervalMs 동안 또는 배치가 찰 때까지 모음
+                TaskHistoryEvent first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.currentTimeMillis() + flushIntervalMs;
+                while (batch.size() < batchSize) {
+                    buffer.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    TaskHistoryEvent next = buffer.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 요청: 모아둔 배치는 저장하고 나머지는 close()에서 처리
+            }
+
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    // 실패 시 재시도하고, 끝내 실패하면 로그로 남김
+    private void write(List<TaskHistoryEvent> events) {
+        for (int attempt = 1; attempt <= maxRetries; attempt++) {
+            try {
+                historyRepository.insertAllInBatch(events);
+                writtenCount.addAndGet(events.size());
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.warning("작업 이력 저장 실패 (" + attempt + "/" + maxRetries + "): " + e.getMessage());
+                if (attempt < maxRetries) {
+                    try {
+                        Thread.sleep(100L * attempt);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        }
+
+        failedCount.addAndGet(events.size());
+        LOGGER.severe("작업 이력 저장 최종 실패: " + events);
+    }
+}
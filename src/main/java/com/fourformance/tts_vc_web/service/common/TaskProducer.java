@@ -1,12 +1,22 @@
 package com.fourformance.tts_vc_web.service.common;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fourformance.tts_vc_web.common.config.TaskConfig;
 import com.fourformance.tts_vc_web.common.exception.common.BusinessException;
 import com.fourformance.tts_vc_web.common.exception.common.ErrorCode;
+import com.fourformance.tts_vc_web.domain.entity.OutboxMessage;
+import com.fourformance.tts_vc_web.repository.OutboxMessageRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -14,9 +24,11 @@ public class TaskProducer {
 
     private final RabbitTemplate rabbitTemplate;
     private final ObjectMapper objectMapper; // JSON 직렬화를 위한 ObjectMapper
+    private final OutboxMessageRepository outboxMessageRepository; // 아웃박스 저장소
+    private final OutboxRelay outboxRelay; // 아웃박스 전송 릴레이
 
 
-    // 오디오 작업 메시지 전송
+    // 오디오 작업 메시지 즉시 전송 (트랜잭션 밖에서 사용, 요청 경로에서는 sendTasksAfterCommit 사용)
     public void sendTask(String taskType, Object messageDto) {
         try {
             String routingKey = getRoutingKey(taskType);
@@ -31,6 +43,68 @@ public class TaskProducer {
         }
     }
 
+    /**
+     * 오디오 작업 메시지를 아웃박스에 저장
+     * 호출한 트랜잭션과 같은 트랜잭션에서 저장되므로 롤백되면 메시지도 함께 사라지고,
+     * 실제 전송은 커밋 이후 OutboxRelay가 수행하므로 요청 스레드가 브로커를 기다리지 않습니다.
+     *
+     * @param taskType            작업 유형 (AUDIO_TTS, AUDIO_VC, AUDIO_CONCAT)
+     * @param messageDtosByTaskId Task ID별 메시지 DTO (순서 유지)
+     * @param priority            메시지 우선순위 (TaskConfig.PRIORITY_*)
+     */
+    public void sendTasksAfterCommit(String taskType, Map<Long, ?> messageDtosByTaskId, int priority) {
+        String routingKey = getRoutingKey(taskType);
+
+        List<OutboxMessage> outboxMessages = new ArrayList<>(messageDtosByTaskId.size());
+        for (Map.Entry<Long, ?> entry : messageDtosByTaskId.entrySet()) {
+            try {
+                String payload = objectMapper.writeValueAsString(entry.getValue());
+                outboxMessages.add(OutboxMessage.createOutboxMessage(
+                        TaskConfig.EXCHANGE_NAME, routingKey, payload, entry.getKey(), priority));
+            } catch (JsonProcessingException e) {
+                throw new BusinessException(ErrorCode.JSON_PROCESSING_ERROR);
+            }
+        }
+        // 한 번의 JDBC 배치로 저장 (rewriteBatchedStatements로 multi-row INSERT)
+        outboxMessageRepository.insertAllInBatch(outboxMessages);
+
+        // 커밋 직후 릴레이를 깨워 폴링 주기를 기다리지 않도록 함
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxRelay.wakeUp();
+                }
+            });
+        } else {
+            outboxRelay.wakeUp();
+        }
+    }
+
+    // 일괄 작업 우선순위로 아웃박스에 저장
+    public void sendTasksAfterCommit(String taskType, Map<Long, ?> messageDtosByTaskId) {
+        sendTasksAfterCommit(taskType, messageDtosByTaskId, TaskConfig.PRIORITY_BULK);
+    }
+
+    /**
+     * 오디오 작업 메시지 한 건을 아웃박스에 저장
+     *
+     * @param taskType   작업 유형 (AUDIO_TTS, AUDIO_VC, AUDIO_CONCAT)
+     * @param taskId     Task ID
+     * @param messageDto 메시지 DTO
+     * @param priority   메시지 우선순위 (TaskConfig.PRIORITY_*)
+     */
+    public void sendTaskAfterCommit(String taskType, Long taskId, Object messageDto, int priority) {
+        Map<Long, Object> messageDtosByTaskId = new LinkedHashMap<>();
+        messageDtosByTaskId.put(taskId, messageDto);
+        sendTasksAfterCommit(taskType, messageDtosByTaskId, priority);
+    }
+
+    // 일괄 작업 우선순위로 한 건 저장
+    public void sendTaskAfterCommit(String taskType, Long taskId, Object messageDto) {
+        sendTaskAfterCommit(taskType, taskId, messageDto, TaskConfig.PRIORITY_BULK);
+    }
+
     // 작업 유형에 따른 Routing Key 반환
     public String getRoutingKey(String taskType) {
         switch (taskType) {
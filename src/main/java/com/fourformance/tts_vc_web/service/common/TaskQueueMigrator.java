@@ -0,0 +1,175 @@
+package com.fourformance.tts_vc_web.service.common;
+
+import com.fourformance.tts_vc_web.common.config.TaskConfig;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * 우선순위 도입 전 작업 큐(audioTTSQueue 등)를 새 작업 큐(*.v2)로 옮기는 컴포넌트
+ * 이미 있는 durable 큐에는 x-max-priority 인자를 추가할 수 없으므로 새 이름의 큐를 선언하고,
+ * 이전 큐는 다음 순서로 정리합니다.
+ * 1. Main Exchange 바인딩을 해제해 새 메시지가 들어오지 않게 함
+ * 2. 남은 메시지를 같은 routing key로 다시 전송 (confirm을 받은 메시지만 ACK)
+ * 3. 비어 있고 소비자가 없으면 큐 삭제
+ * 롤링 배포 중에는 이전 버전 인스턴스가 큐를 다시 선언하거나 소비 중일 수 있으므로,
+ * 이전 큐가 모두 사라질 때까지 주기적으로 반복합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskQueueMigrator {
+
+    private static final Logger LOGGER = Logger.getLogger(TaskQueueMigrator.class.getName());
+
+    private static final List<String> LEGACY_QUEUES = List.of(
+            TaskConfig.LEGACY_TTS_QUEUE, TaskConfig.LEGACY_VC_QUEUE, TaskConfig.LEGACY_CONCAT_QUEUE);
+
+    private final AmqpAdmin amqpAdmin;
+    private final ConnectionFactory connectionFactory;
+
+    @Value("${task.queue.legacy-migration.enabled:true}")
+    private boolean enabled;
+
+    // 한 번에 옮길 메시지 수 (이만큼 전송 후 confirm을 기다리고 ACK)
+    @Value("${task.queue.legacy-migration.batch-size:100}")
+    private int batchSize;
+
+    @Value("${task.queue.legacy-migration.confirm-timeout-ms:10000}")
+    private long confirmTimeoutMs;
+
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+
+    // 지표
+    private final AtomicLong movedCount = new AtomicLong();
+    private final AtomicLong deletedQueueCount = new AtomicLong();
+
+    /**
+     * 이전 작업 큐가 남아 있으면 바인딩 해제, 메시지 이동, 삭제를 시도합니다.
+     * 모든 이전 큐가 삭제되면 더 이상 브로커를 조회하지 않습니다.
+     */
+    @Scheduled(initialDelayString = "${task.queue.legacy-migration.initial-delay-ms:10000}",
+            fixedDelayString = "${task.queue.legacy-migration.interval-ms:60000}")
+    public void migrate() {
+        if (!enabled || completed.get()) {
+            return;
+        }
+
+        boolean remaining = false;
+        for (String legacyQueue : LEGACY_QUEUES) {
+            try {
+                remaining |= migrateQueue(legacyQueue);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 다음 주기에 다시 시도 (ACK 전에 실패한 메시지는 이전 큐에 그대로 남음)
+                LOGGER.warning("이전 작업 큐 이동 실패: queue = " + legacyQueue + ", " + e.getMessage());
+                remaining = true;
+            }
+        }
+
+        if (!remaining && completed.compareAndSet(false, true)) {
+            LOGGER.info("이전 작업 큐 정리 완료: moved = " + movedCount.get() + ", deletedQueues = " + deletedQueueCount.get());
+        }
+    }
+
+    /**
+     * 큐 이동 지표 반환
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("moved", movedCount.get());
+        stats.put("deletedQueues", deletedQueueCount.get());
+        stats.put("completed", completed.get() ? 1L : 0L);
+        return stats;
+    }
+
+    // 이전 큐 하나를 정리하고, 아직 남아 있으면 true 반환
+    private boolean migrateQueue(String legacyQueue) throws IOException, InterruptedException, TimeoutException {
+        Properties properties = amqpAdmin.getQueueProperties(legacyQueue);
+        if (properties == null) {
+            return false;
+        }
+
+        String routingKey = TaskConfig.routingKeyOf(legacyQueue);
+        Binding legacyBinding = BindingBuilder.bind(new Queue(legacyQueue))
+                .to(new DirectExchange(TaskConfig.EXCHANGE_NAME))
+                .with(routingKey);
+        amqpAdmin.removeBinding(legacyBinding);
+
+        long moved = moveMessages(legacyQueue, routingKey);
+
+        Properties after = amqpAdmin.getQueueProperties(legacyQueue);
+        if (after == null) {
+            return false;
+        }
+        int messageCount = ((Number) after.get(RabbitAdmin.QUEUE_MESSAGE_COUNT)).intValue();
+        int consumerCount = ((Number) after.get(RabbitAdmin.QUEUE_CONSUMER_COUNT)).intValue();
+        if (messageCount > 0 || consumerCount > 0) {
+            // 이전 버전 인스턴스가 아직 소비 중이면 삭제하지 않고 다음 주기에 다시 확인
+            LOGGER.info("이전 작업 큐 유지: queue = " + legacyQueue + ", moved = " + moved
+                    + ", messages = " + messageCount + ", consumers = " + consumerCount);
+            return true;
+        }
+
+        amqpAdmin.deleteQueue(legacyQueue, true, true);
+        deletedQueueCount.incrementAndGet();
+        LOGGER.info("이전 작업 큐 삭제: queue = " + legacyQueue + " -> " + TaskConfig.migratedQueueOf(legacyQueue)
+                + ", moved = " + moved);
+        return false;
+    }
+
+    // 이전 큐의 메시지를 Main Exchange로 다시 전송 (우선순위 등 속성은 그대로 유지)
+    private long moveMessages(String legacyQueue, String routingKey) throws IOException, InterruptedException,
+            TimeoutException {
+        long moved = 0;
+        try (Connection connection = connectionFactory.createConnection();
+             Channel channel = connection.createChannel(false)) {
+            channel.confirmSelect();
+
+            while (true) {
+                long lastDeliveryTag = -1;
+                int batch = 0;
+                while (batch < batchSize) {
+                    GetResponse response = channel.basicGet(legacyQueue, false);
+                    if (response == null) {
+                        break;
+                    }
+                    channel.basicPublish(TaskConfig.EXCHANGE_NAME, routingKey, response.getProps(), response.getBody());
+                    lastDeliveryTag = response.getEnvelope().getDeliveryTag();
+                    batch++;
+                }
+                if (batch == 0) {
+                    return moved;
+                }
+
+                // confirm을 받은 뒤에만 이전 큐에서 제거
+                channel.waitForConfirmsOrDie(confirmTimeoutMs);
+                channel.basicAck(lastDeliveryTag, true);
+                moved += batch;
+                movedCount.addAndGet(batch);
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.fourformance.tts_vc_web.service.common;
+
+import com.amazonaws.AmazonClientException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fourformance.tts_vc_web.common.config.TaskConfig;
+import com.fourformance.tts_vc_web.common.exception.common.BusinessException;
+import com.google.api.gax.rpc.ApiException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * 작업 메시지 지연 재시도
+ * 일시적인 오류로 실패한 메시지는 재시도 횟수 헤더를 올려 TTL 재시도 큐로 보내고,
+ * 대기 시간이 지나면 원래 작업 큐로 돌아옵니다. (5초 → 30초 → 5분 ...)
+ * 재시도할 수 없는 오류이거나 최대 횟수를 넘으면 호출 측이 기존처럼 DLQ로 보냅니다.
+ * 외부 API 호출 제한으로 거절된 작업은 실패가 아니므로 재시도 횟수를 올리지 않고 첫 단계 재시도 큐에서 기다립니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskRetryService {
+
+    private static final Logger LOGGER = Logger.getLogger(TaskRetryService.class.getName());
+
+    private final RabbitTemplate rabbitTemplate;
+
+    // 재시도 대기 시간 단계 (ms, TaskConfig와 같은 설정)
+    @Value("${task.retry.delays-ms:5000,30000,300000}")
+    private long[] retryDelaysMs;
+
+    // 최대 재시도 횟수 (넘으면 DLQ)
+    @Value("${task.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    // 재시도 큐 전송 confirm 대기 시간 (ms)
+    @Value("${task.retry.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    // 지표
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong exhaustedCount = new AtomicLong();
+    private final AtomicLong fatalCount = new AtomicLong();
+    private final AtomicLong deferredCount = new AtomicLong();
+
+    /**
+     * 실패한 메시지를 재시도 큐로 보냅니다.
+     * true를 반환하면 호출 측은 원래 메시지를 ACK 해야 하고, false면 DLQ로 보내야 합니다.
+     *
+     * @param message   실패한 원본 메시지
+     * @param taskQueue 원래 작업 큐 이름
+     * @param error     실패 원인
+     * @return 재시도 큐 전송 여부
+     */
+    public boolean scheduleRetry(Message message, String taskQueue, Throwable error) {
+        if (!isRetryable(error)) {
+            fatalCount.incrementAndGet();
+            LOGGER.warning("재시도할 수 없는 오류로 DLQ 이동: queue = " + taskQueue + ", error = " + error);
+            return false;
+        }
+
+        int attempt = getAttempt(message);
+        if (attempt >= maxAttempts || retryDelaysMs.length == 0) {
+            exhaustedCount.incrementAndGet();
+            LOGGER.warning("최대 재시도 횟수 초과로 DLQ 이동: queue = " + taskQueue + ", attempt = " + attempt);
+            return false;
+        }
+
+        long delayMs = retryDelaysMs[Math.min(attempt, retryDelaysMs.length - 1)];
+        String retryQueue = TaskConfig.retryQueueName(taskQueue, delayMs);
+
+        // 본문과 속성(우선순위 등)은 그대로, 재시도 횟수만 올려서 전송
+        Message retryMessage = MessageBuilder.fromClonedMessage(message)
+                .setHeader(TaskConfig.ATTEMPT_HEADER, attempt + 1)
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .build();
+
+        if (!publish(retryQueue, retryMessage)) {
+            return false;
+        }
+        retriedCount.incrementAndGet();
+        LOGGER.info("작업 재시도 예약: queue = " + taskQueue + ", attempt = " + (attempt + 1) + "/" + maxAttempts
+                + ", delayMs = " + delayMs);
+        return true;
+    }
+
+    /**
+     * 외부 API 호출 제한 / 서킷 브레이커로 거절된 메시지를 첫 단계 재시도 큐로 보냅니다.
+     * 바로 다시 큐에 넣으면 서킷이 열려 있는 동안 같은 메시지를 계속 받았다가 거절하므로, 대기 시간 뒤에 돌아오게 합니다.
+     * 재시도 횟수는 올리지 않으므로 거절이 길어져도 DLQ로 가지 않습니다.
+     *
+     * @return 재시도 큐 전송 여부 (false면 호출 측이 다시 큐에 넣어야 함)
+     */
+    public boolean deferRejected(Message message, String taskQueue) {
+        if (retryDelaysMs.length == 0) {
+            return false;
+        }
+
+        long delayMs = retryDelaysMs[0];
+        Message deferredMessage = MessageBuilder.fromClonedMessage(message)
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .build();
+        if (!publish(TaskConfig.retryQueueName(taskQueue, delayMs), deferredMessage)) {
+            return false;
+        }
+        deferredCount.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * 재시도할 수 있는 일시적인 오류인지 분류
+     * - 재시도: 네트워크/IO 오류, 재시도 가능한 S3·Google API 오류, 일시적인 DB 오류, 5xx/429 BusinessException
+     * - 즉시 DLQ: JSON 오류, 4xx BusinessException(데이터 없음, 잘못된 요청 등), 그 밖의 프로그램 오류
+     */
+    public boolean isRetryable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof JsonProcessingException) {
+                return false;
+            }
+            if (cause instanceof BusinessException) {
+                HttpStatus status = ((BusinessException) cause).getErrorCode().getHttpStatus();
+                return status.is5xxServerError() || status == HttpStatus.TOO_MANY_REQUESTS;
+            }
+            if (cause instanceof IOException || cause instanceof UncheckedIOException
+                    || cause instanceof TimeoutException || cause instanceof TransientDataAccessException) {
+                return true;
+            }
+            if (cause instanceof AmazonClientException) {
+                return ((AmazonClientException) cause).isRetryable();
+            }
+            if (cause instanceof ApiException) {
+                return ((ApiException) cause).isRetryable();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 메시지의 재시도 횟수 (헤더가 없으면 0)
+     */
+    public int getAttempt(Message message) {
+        Object attempt = message.getMessageProperties().getHeader(TaskConfig.ATTEMPT_HEADER);
+        return attempt instanceof Number ? ((Number) attempt).intValue() : 0;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * 재시도 지표 반환
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("retried", retriedCount.get());
+        stats.put("exhausted", exhaustedCount.get());
+        stats.put("fatal", fatalCount.get());
+        stats.put("deferredRejections", deferredCount.get());
+        return stats;
+    }
+
+    // 기본 Exchange로 재시도 큐에 전송하고 confirm 확인
+    private boolean publish(String retryQueue, Message retryMessage) {
+        CorrelationData correlationData = new CorrelationData(UUID.randomUUID().toString());
+        try {
+            rabbitTemplate.send("", retryQueue, retryMessage, correlationData);
+            CorrelationData.Confirm confirm = correlationData.getFuture().get(confirmTimeoutMs, TimeUnit.MILLISECONDS);
+            if (!confirm.isAck() || correlationData.getReturned() != null) {
+                LOGGER.severe("재시도 큐 전송 실패: queue = " + retryQueue + ", reason = " + confirm.getReason());
+                return false;
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            LOGGER.severe("재시도 큐 전송 실패: queue = " + retryQueue + ", error = " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -1,49 +1,64 @@
 package com.fourformance.tts_vc_web.service.common;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fourformance.tts_vc_web.common.config.TaskConfig;
 import com.fourformance.tts_vc_web.common.constant.TaskStatusConst;
 import com.fourformance.tts_vc_web.common.exception.common.BusinessException;
 import com.fourformance.tts_vc_web.common.exception.common.ErrorCode;
 import com.fourformance.tts_vc_web.domain.entity.Member;
-import com.fourformance.tts_vc_web.domain.entity.Project;
 import com.fourformance.tts_vc_web.domain.entity.Task;
-import com.fourformance.tts_vc_web.dto.common.ConcatMsgDto;
-import com.fourformance.tts_vc_web.dto.common.TTSMsgDto;
 import com.fourformance.tts_vc_web.dto.common.TaskLoadDto;
-import com.fourformance.tts_vc_web.dto.common.VCMsgDto;
-import com.fourformance.tts_vc_web.dto.response.ResponseDto;
 import com.fourformance.tts_vc_web.repository.MemberRepository;
 import com.fourformance.tts_vc_web.repository.ProjectRepository;
 import com.fourformance.tts_vc_web.repository.TaskRepository;
 import com.rabbitmq.client.AMQP;
 import com.rabbitmq.client.Channel;
-import com.rabbitmq.client.GetResponse;
+import com.rabbitmq.client.Delivery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.amqp.rabbit.connection.Connection;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    private static final Logger LOGGER = Logger.getLogger(TaskService.class.getName());
+
+    // DLQ 재전송 페이지 크기 상한
+    private static final int MAX_REDRIVE_PAGE_SIZE = 1000;
+
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
     private final ConnectionFactory connectionFactory;
-    private final TaskProducer taskProducer;
-    private final ObjectMapper objectMapper;
     private final MemberRepository memberRepository;
+    private final TaskStateService taskStateService;
+
+    // DLQ 재전송 기본 페이지 크기
+    @Value("${task.dlq.redrive.page-size:100}")
+    private int redrivePageSize;
+
+    // DLQ 메시지를 더 기다리지 않고 재전송을 끝내는 대기 시간 (ms)
+    @Value("${task.dlq.redrive.idle-timeout-ms:1000}")
+    private long redriveIdleTimeoutMs;
+
+    // 페이지별 재전송 confirm 대기 시간 (ms)
+    @Value("${task.dlq.redrive.confirm-timeout-ms:10000}")
+    private long redriveConfirmTimeoutMs;
 
     @Transactional
     public List<TaskLoadDto> getTasksByMemberAndConditions(Long memberId) {
@@ -58,7 +73,6 @@ public class TaskService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional
     public void terminatePendingTasks(Long memberId) {
 
         // 1. 존재하는 회원 ID가 있는지 찾기
@@ -71,10 +85,9 @@ public class TaskService {
         // 3. 프로젝트Id 로 completed, terminated가 아닌 모든 상태의 작업 조회
         List<Task> pendingTasks = taskRepository.findByStatus(projectIdList);
 
-        // 4. 상태를 Terminated로 변경
+        // 4. 상태를 Terminated로 변경 (처리 중인 소비자와 경합할 수 있으므로 버전 비교 UPDATE 사용)
         for (Task task : pendingTasks) {
-            task.updateStatus(TaskStatusConst.TERMINATED);
-            taskRepository.save(task);
+            taskStateService.transition(task.getId(), TaskStatusConst.TERMINATED, "작업 초기화");
         }
 
     }
@@ -85,99 +98,131 @@ public class TaskService {
      * @return 재시도된 작업 수
      */
     public int restartFailedTasks() {
-        int restartedCount = 0;
+        return redriveDeadLetters(redrivePageSize, Long.MAX_VALUE).get("redriven").intValue();
+    }
+
+    /**
+     * DLQ 메시지를 원래 작업 큐로 일괄 재전송합니다.
+     * 메시지마다 basicGet 하지 않고 소비자로 pageSize 만큼씩 받아 원래 큐로 전송한 뒤,
+     * 페이지 단위로 publisher confirm을 확인하고 ACK 해서 DLQ에서 제거합니다.
+     * 재전송한 메시지가 다시 실패해 DLQ로 돌아와도 반복하지 않도록 시작 시점의 메시지 수까지만 처리합니다.
+     *
+     * @param pageSize    한 번에 받아 처리할 메시지 수 (prefetch)
+     * @param maxMessages 최대 처리 메시지 수
+     * @return 재전송(redriven) / 원래 큐를 알 수 없어 남겨둔(skipped) / 처리 후 DLQ에 남은(remaining) 메시지 수
+     */
+    public Map<String, Long> redriveDeadLetters(int pageSize, long maxMessages) {
+        int prefetch = Math.max(1, Math.min(pageSize, MAX_REDRIVE_PAGE_SIZE));
+        long redriven = 0;
+        long skipped = 0;
 
         try (
                 Connection connection = connectionFactory.createConnection();
                 Channel channel = connection.createChannel(false)) {
 
-            while (true) {
-                // DLQ에서 메시지를 하나 가져옴 (Ack 없이 가져옴)
-                GetResponse result = channel.basicGet(TaskConfig.DEAD_LETTER_QUEUE, false);
+            long limit = Math.min(maxMessages,
+                    channel.queueDeclarePassive(TaskConfig.DEAD_LETTER_QUEUE).getMessageCount());
 
+            if (limit > 0) {
+                channel.confirmSelect();
+                channel.basicQos(prefetch);
 
-                if (result == null) {
-                    // DLQ에 더 이상 메시지가 없으면 반복 종료 => 로거로 수정
-                    System.out.println("DLQ에 더 이상 메시지가 없습니다.");
-                    break;
-                }
+                BlockingQueue<Delivery> deliveries = new LinkedBlockingQueue<>();
+                String consumerTag = channel.basicConsume(TaskConfig.DEAD_LETTER_QUEUE, false,
+                        (tag, delivery) -> deliveries.add(delivery), tag -> { });
 
+                List<Long> skippedTags = new ArrayList<>();
                 try {
-                    // 메시지 바디 및 속성 가져오기
-                    byte[] body = result.getBody(); // payload
-                    String jsonString = new String(body);
-                    System.out.println("jsonString = " + jsonString);
-                    //  {"taskId":12,"detailId":57,"projectId":31,"unitScript":"This is the first detail script.","unitSpeed":1.0,"unitPitch":0.3,"unitVolume":0.5,"unitVoiceStyleId":1}
-
-                    AMQP.BasicProperties properties = result.getProps();
-
-                    // x-death 헤더에서 원래 큐 정보 추출
-                    String originalQueue = getOriginalQueue(properties);
-
-                    if (originalQueue == null) {
-                        // DLQ에서 메시지 제거하지 않고 다음 메시지로 넘어감
-                        continue;
+                    List<Long> pageTags = new ArrayList<>(prefetch);
+                    while (redriven + skipped < limit) {
+                        // 받을 메시지가 없으면 종료 (원래 큐를 알 수 없는 메시지가 prefetch를 모두 채운 경우 포함)
+                        Delivery delivery = deliveries.poll(redriveIdleTimeoutMs, TimeUnit.MILLISECONDS);
+                        if (delivery == null) {
+                            break;
+                        }
+
+                        long deliveryTag = delivery.getEnvelope().getDeliveryTag();
+                        String originalQueue = getOriginalQueue(delivery.getProperties());
+                        if (!isTaskQueue(originalQueue)) {
+                            skippedTags.add(deliveryTag);
+                            skipped++;
+                            continue;
+                        }
+
+                        channel.basicPublish(TaskConfig.EXCHANGE_NAME, TaskConfig.routingKeyOf(originalQueue),
+                                resetRetryHeaders(delivery.getProperties()), delivery.getBody());
+                        pageTags.add(deliveryTag);
+                        redriven++;
+
+                        if (pageTags.size() >= prefetch) {
+                            confirmAndAck(channel, pageTags);
+                        }
                     }
+                    confirmAndAck(channel, pageTags);
+                } finally {
+                    channel.basicCancel(consumerTag);
+                    // 원래 큐를 알 수 없는 메시지는 DLQ에 그대로 남김
+                    for (Long skippedTag : skippedTags) {
+                        channel.basicNack(skippedTag, false, true);
+                    }
+                }
+            }
 
-                    // 메시지에서 taskType 추출
-                    String taskType = extractTaskType(originalQueue);
-
-                    // 메시지를 적절한 DTO로 매핑
-                    String messageAsString = mapMessageToDto(originalQueue, jsonString);
-
-                    // TaskProducer를 통해 메시지 전송
-                    taskProducer.sendTask(taskType, messageAsString);
-
-
-                    // DLQ에서 메시지 Ack 처리 (DLQ에서 제거)
-                    channel.basicAck(result.getEnvelope().getDeliveryTag(), false);
+            long remaining = channel.queueDeclarePassive(TaskConfig.DEAD_LETTER_QUEUE).getMessageCount();
+            LOGGER.info("DLQ 재전송 완료: redriven = " + redriven + ", skipped = " + skipped + ", remaining = " + remaining);
 
-                    restartedCount++;
+            Map<String, Long> result = new LinkedHashMap<>();
+            result.put("redriven", redriven);
+            result.put("skipped", skipped);
+            result.put("remaining", remaining);
+            return result;
 
-                } catch (Exception e) {
-                    // 처리 중 실패한 메시지는 다시 DLQ에 남김
-                    channel.basicNack(result.getEnvelope().getDeliveryTag(), false, true);
-                    e.printStackTrace();
-                    throw new BusinessException(ErrorCode.DLQ_MESSAGE_PROCESSING_FAILED);
-                }
-            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.DLQ_RETRY_FAILED);
         } catch (IOException | TimeoutException e) {
+            // confirm 전에 실패한 페이지는 ACK 되지 않았으므로 DLQ에 그대로 남음
+            LOGGER.severe("DLQ 재전송 실패: " + e.getMessage());
             throw new BusinessException(ErrorCode.DLQ_RETRY_FAILED);
         }
+    }
 
-        return restartedCount;
+    // 페이지의 전송 confirm을 기다린 뒤 DLQ 메시지 ACK
+    private void confirmAndAck(Channel channel, List<Long> pageTags) throws IOException, InterruptedException,
+            TimeoutException {
+        if (pageTags.isEmpty()) {
+            return;
+        }
+        channel.waitForConfirmsOrDie(redriveConfirmTimeoutMs);
+        for (Long deliveryTag : pageTags) {
+            channel.basicAck(deliveryTag, false);
+        }
+        pageTags.clear();
     }
 
-    /**
-     * 원래 큐에 따라 메시지를 적절한 DTO로 매핑 후 직렬화합니다.
-     *
-     * @param originalQueue 원래 큐 이름
-     * @param jsonString    DLQ에서 가져온 메시지 JSON 문자열
-     * @return 직렬화된 DTO 문자열
-     */
-    private String mapMessageToDto(String originalQueue, String jsonString) {
-        try {
-            switch (originalQueue) {
-                case TaskConfig.TTS_QUEUE:
-                    TTSMsgDto ttsMsgDto = objectMapper.readValue(jsonString, TTSMsgDto.class);
-                    return objectMapper.writeValueAsString(ttsMsgDto);
-
-                case TaskConfig.VC_QUEUE:
-                    VCMsgDto vcMsgDto = objectMapper.readValue(jsonString, VCMsgDto.class);
-                    return objectMapper.writeValueAsString(vcMsgDto);
-
-                case TaskConfig.CONCAT_QUEUE:
-                    ConcatMsgDto concatMsgDto = objectMapper.readValue(jsonString, ConcatMsgDto.class);
-                    return objectMapper.writeValueAsString(concatMsgDto);
-
-                default:
-                    System.out.println("지원하지 않는 큐 유형입니다: ");
-                    throw new BusinessException(ErrorCode.UNKNOWN_TASK_TYPE);
-            }
-        } catch (JsonProcessingException e) {
-            System.out.println("DTO 매핑 중 오류 발생: "+e.getMessage());
-            throw new BusinessException(ErrorCode.JSON_PROCESSING_ERROR);
+    // 재전송 메시지는 새 작업처럼 처리되도록 dead letter / 재시도 헤더 제거 (우선순위 등 나머지 속성은 유지)
+    private AMQP.BasicProperties resetRetryHeaders(AMQP.BasicProperties properties) {
+        Map<String, Object> headers = new HashMap<>();
+        if (properties.getHeaders() != null) {
+            properties.getHeaders().forEach((key, value) -> {
+                if (!key.startsWith("x-death") && !key.startsWith("x-first-death") && !key.startsWith("x-last-death")
+                        && !TaskConfig.ATTEMPT_HEADER.equals(key)) {
+                    headers.put(key, value);
+                }
+            });
         }
+        return properties.builder()
+                .headers(headers)
+                .deliveryMode(2) // persistent
+                .build();
+    }
+
+    // 우선순위 큐 도입 전에 DLQ로 간 메시지는 이전 큐 이름을 가지고 있음 (routing key로 새 큐에 전달됨)
+    private boolean isTaskQueue(String queueName) {
+        return TaskConfig.TTS_QUEUE.equals(queueName) || TaskConfig.VC_QUEUE.equals(queueName)
+                || TaskConfig.CONCAT_QUEUE.equals(queueName)
+                || TaskConfig.LEGACY_TTS_QUEUE.equals(queueName) || TaskConfig.LEGACY_VC_QUEUE.equals(queueName)
+                || TaskConfig.LEGACY_CONCAT_QUEUE.equals(queueName);
     }
 
     /**
@@ -202,25 +247,4 @@ public class TaskService {
 
         return null;
     }
-
-    /**
-     * 원래 큐 이름에 따라 작업 유형(taskType)을 추출합니다.
-     *
-     * @param originalQueue 원래 큐 이름
-     * @return 작업 유형 (taskType)
-     */
-    private String extractTaskType(String originalQueue) {
-        switch (originalQueue) {
-            case TaskConfig.TTS_QUEUE:
-                return "AUDIO_TTS";
-            case TaskConfig.VC_QUEUE:
-                return "AUDIO_VC";
-            case TaskConfig.CONCAT_QUEUE:
-                return "AUDIO_CONCAT";
-            default:
-                throw new BusinessException(ErrorCode.UNKNOWN_TASK_TYPE);
-        }
-    }
 }
-
-
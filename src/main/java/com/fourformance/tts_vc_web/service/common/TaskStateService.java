@@ -0,0 +1,117 @@
+package com.fourformance.tts_vc_web.service.common;
+
+import com.fourformance.tts_vc_web.common.constant.TaskStatusConst;
+import com.fourformance.tts_vc_web.common.exception.common.BusinessException;
+import com.fourformance.tts_vc_web.common.exception.common.ErrorCode;
+import com.fourformance.tts_vc_web.domain.entity.Task;
+import com.fourformance.tts_vc_web.repository.TaskRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.logging.Logger;
+
+/**
+ * 작업(Task) 상태 전이 서비스
+ * 상태 변경만 짧은 트랜잭션으로 수행하고, 버전 비교 UPDATE(compare-and-set)로 동시 변경을 감지합니다.
+ * 외부 API 호출이나 S3 업로드처럼 오래 걸리는 작업은 이 트랜잭션 밖에서 수행해야 합니다.
+ */
+@Service
+public class TaskStateService {
+
+    private static final Logger LOGGER = Logger.getLogger(TaskStateService.class.getName());
+
+    // 다른 스레드와 경합해서 실패한 경우 다시 시도하는 횟수
+    private static final int MAX_CAS_ATTEMPTS = 3;
+
+    private final TaskRepository taskRepository;
+    private final TaskHistoryWriter taskHistoryWriter; // 상태 이력 비동기 일괄 저장
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskStateService(TaskRepository taskRepository, TaskHistoryWriter taskHistoryWriter,
+                            PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.taskHistoryWriter = taskHistoryWriter;
+
+        // 호출 측 트랜잭션과 관계없이 상태 변경마다 독립된 짧은 트랜잭션 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    private enum CasResult { APPLIED, REJECTED, CONFLICT }
+
+    // 전이 결과와 변경 전 상태 (이력 이벤트에 그대로 담음)
+    private static final class CasOutcome {
+        private final CasResult result;
+        private final TaskStatusConst oldStatus;
+
+        private CasOutcome(CasResult result, TaskStatusConst oldStatus) {
+            this.result = result;
+            this.oldStatus = oldStatus;
+        }
+    }
+
+    /**
+     * 작업 상태 전이
+     *
+     * @param taskId    작업 ID
+     * @param newStatus 변경할 상태
+     * @param msg       이력 메시지
+     * @return 상태가 변경되었으면 true, 허용되지 않는 전이(이미 종료/완료 등)이거나 경합이 계속되면 false
+     */
+    public boolean transition(Long taskId, TaskStatusConst newStatus, String msg) {
+        return transition(taskId, newStatus, msg, false);
+    }
+
+    /**
+     * 브로커가 다시 전달(redelivered)한 메시지로 작업 시작
+     * 처리하던 소비자가 ACK 전에 종료되면 작업이 RUNNABLE로 남으므로, 이 경우에도 RUNNABLE로 다시 전이해 작업을 이어받습니다.
+     * (버전이 올라가므로 같은 작업을 두 소비자가 동시에 이어받지는 않음)
+     *
+     * @return 작업을 시작할 수 있으면 true
+     */
+    public boolean takeOver(Long taskId, String msg) {
+        return transition(taskId, TaskStatusConst.RUNNABLE, msg, true);
+    }
+
+    private boolean transition(Long taskId, TaskStatusConst newStatus, String msg, boolean takeOver) {
+        for (int attempt = 1; attempt <= MAX_CAS_ATTEMPTS; attempt++) {
+            CasOutcome outcome = transactionTemplate.execute(status -> tryTransition(taskId, newStatus, takeOver));
+
+            if (outcome.result == CasResult.APPLIED) {
+                // 커밋된 전이만 이력으로 남김
+                taskHistoryWriter.append(taskId, outcome.oldStatus, newStatus, msg);
+                return true;
+            }
+            if (outcome.result == CasResult.REJECTED) {
+                return false;
+            }
+        }
+
+        LOGGER.warning("작업 상태 변경 경합으로 실패: taskId = " + taskId + ", newStatus = " + newStatus);
+        return false;
+    }
+
+    private CasOutcome tryTransition(Long taskId, TaskStatusConst newStatus, boolean takeOver) {
+        // 1. 현재 상태와 버전 조회
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TASK_NOT_FOUND));
+        TaskStatusConst oldStatus = task.getTaskStatusConst();
+
+        boolean takingOver = takeOver && oldStatus == TaskStatusConst.RUNNABLE;
+        if (!takingOver && !oldStatus.canTransitionTo(newStatus)) {
+            LOGGER.info("허용되지 않는 작업 상태 전이: taskId = " + taskId + ", " + oldStatus + " -> " + newStatus);
+            return new CasOutcome(CasResult.REJECTED, oldStatus);
+        }
+
+        // 2. 읽은 버전 그대로일 때만 변경
+        int updated = taskRepository.compareAndSetStatus(taskId, task.getVersion(), oldStatus, newStatus,
+                LocalDateTime.now());
+        if (updated == 0) {
+            return new CasOutcome(CasResult.CONFLICT, oldStatus);
+        }
+        return new CasOutcome(CasResult.APPLIED, oldStatus);
+    }
+}
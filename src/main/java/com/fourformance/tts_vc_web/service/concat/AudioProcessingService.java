@@ -1,5 +1,7 @@
 package com.fourformance.tts_vc_web.service.concat;
 
+import com.fourformance.tts_vc_web.dto.concat.ConcatMsgDetailDto;
+import com.fourformance.tts_vc_web.service.common.S3Service;
 import lombok.RequiredArgsConstructor;
 import net.bramp.ffmpeg.FFmpeg;
 import net.bramp.ffmpeg.FFmpegExecutor;
@@ -18,15 +20,30 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
 
 @Service
 @RequiredArgsConstructor
 public class AudioProcessingService {
 
+    private static final Logger LOGGER = Logger.getLogger(AudioProcessingService.class.getName());
+
+    private final PcmConcatEngine pcmConcatEngine; // WAV 클립 직접 병합
+    private final SilenceSegmentCache silenceSegmentCache; // FFmpeg concat용 무음 파일 캐시
+    private final ConcatSegmentCache concatSegmentCache; // 증분 병합용 세그먼트 캐시
+    private final S3Service s3Service; // 소스 오디오 다운로드
+
     @Value("${ffmpeg.path}")
     private String ffmpegPath;
 
+    // WAV 클립을 FFmpeg 없이 병합할지 여부 (false면 항상 FFmpeg concat 사용)
+    @Value("${concat.native.enabled:true}")
+    private boolean nativeConcatEnabled;
+
+    // 병합 결과 형식 (mp3 또는 wav)
+    @Value("${concat.output.format:mp3}")
+    private String outputFormat;
+
     /**
      * 오디오 파일을 로컬로 저장합니다.
      */
@@ -37,34 +54,6 @@ public class AudioProcessingService {
         return savedFile.getAbsolutePath();
     }
 
-    /**
-     * 침묵 파일을 생성합니다.
-     */
-    public String createSilenceFile(Long silenceDurationSec, String uploadDir) throws IOException {
-        if (silenceDurationSec == null || silenceDurationSec <= 0) {
-            return null; // 길이가 0 이하이면 무음 파일 생성하지 않음
-        }
-
-        String silenceFileName = "temp_silence_" + UUID.randomUUID() + ".mp3";
-        Path silenceFilePath = Paths.get(uploadDir, silenceFileName);
-
-        FFmpeg ffmpeg = new FFmpeg(ffmpegPath);
-        FFmpegBuilder silenceBuilder = new FFmpegBuilder()
-                .setInput("anullsrc")
-                .addExtraArgs("-f", "lavfi")
-                .overrideOutputFiles(true)
-                .addOutput(silenceFilePath.toString())
-                .setAudioCodec("libmp3lame")
-                .setAudioChannels(2)
-                .setAudioSampleRate(44100)
-                .setDuration(silenceDurationSec, TimeUnit.SECONDS)
-                .done();
-
-        new FFmpegExecutor(ffmpeg).createJob(silenceBuilder).run();
-        return silenceFilePath.toString();
-    }
-
-
     /**
      * 오디오 파일과 침묵 파일을 병합합니다.
      */
@@ -108,6 +97,141 @@ public class AudioProcessingService {
         return mergedFilePath.toString();
     }
 
+    /**
+     * Concat 디테일을 순서대로 병합합니다.
+     * 세그먼트 캐시를 사용할 수 있으면 바뀐 디테일의 세그먼트만 새로 만들어 이어 붙이고,
+     * 그렇지 않으면 모든 소스를 내려받아 한 번에 병합합니다.
+     *
+     * @param details 병합할 디테일 (순서대로)
+     * @return 병합된 파일 경로 (호출 측에서 삭제)
+     */
+    public String renderConcat(List<ConcatMsgDetailDto> details, String uploadDir) throws IOException {
+        if (concatSegmentCache.supports(details)) {
+            try (ConcatSegmentCache.SegmentSet segments = concatSegmentCache.acquireAll(details, uploadDir)) {
+                return concatSegments(segments, uploadDir);
+            }
+        }
+
+        List<String> srcUrls = details.stream().map(ConcatMsgDetailDto::getSrcUrl).toList();
+        List<Float> silenceSeconds = details.stream().map(ConcatMsgDetailDto::getEndSilence).toList();
+        List<String> savedFilePaths = new ArrayList<>();
+        try {
+            savedFilePaths = s3Service.downloadFilesFromS3(srcUrls, uploadDir);
+            return concatAudioFiles(savedFilePaths, silenceSeconds, uploadDir);
+        } finally {
+            deleteFiles(savedFilePaths);
+        }
+    }
+
+    /**
+     * 오디오 파일 사이에 무음을 넣어 하나의 파일로 병합합니다.
+     * 모든 클립이 같은 샘플레이트의 16bit PCM WAV이면 JVM 안에서 바로 이어 붙이고,
+     * MP3 결과가 필요할 때만 FFmpeg로 한 번 인코딩합니다. 그 외 형식이 섞여 있으면 FFmpeg concat으로 처리합니다.
+     *
+     * @param audioPaths     병합할 오디오 파일 경로 (순서대로)
+     * @param silenceSeconds 각 오디오 뒤에 넣을 무음 길이 (초)
+     * @return 병합된 파일 경로
+     */
+    public String concatAudioFiles(List<String> audioPaths, List<Float> silenceSeconds, String uploadDir) throws IOException {
+        if (nativeConcatEnabled) {
+            List<Path> clipPaths = audioPaths.stream().map(Paths::get).toList();
+            List<PcmConcatEngine.WavInfo> clipInfos = pcmConcatEngine.inspect(clipPaths);
+            if (clipInfos != null && !clipInfos.isEmpty()) {
+                return concatNative(clipPaths, clipInfos, silenceSeconds, uploadDir);
+            }
+            LOGGER.info("PCM WAV가 아닌 클립이 있어 FFmpeg로 병합합니다.");
+        }
+
+        // 오디오와 무음 순서를 맞추기 위해 무음이 없는 자리는 null로 둠
+        // 무음 파일은 캐시된 파일을 함께 쓰므로 병합이 끝나면 사용권만 반납
+        List<SilenceSegmentCache.Lease> leases = new ArrayList<>();
+        List<String> silencePaths = new ArrayList<>();
+        try {
+            for (Float silence : silenceSeconds) {
+                SilenceSegmentCache.Lease lease = silenceSegmentCache.acquire(silence);
+                if (lease != null) {
+                    leases.add(lease);
+                }
+                silencePaths.add(lease == null ? null : lease.getPath());
+            }
+            return mergeAudioFilesWithSilence(audioPaths, silencePaths, uploadDir);
+        } finally {
+            leases.forEach(SilenceSegmentCache.Lease::close);
+        }
+    }
+
+    private String concatNative(List<Path> clipPaths, List<PcmConcatEngine.WavInfo> clipInfos,
+                                List<Float> silenceSeconds, String uploadDir) throws IOException {
+        Path wavPath = Paths.get(uploadDir, "merged_" + UUID.randomUUID() + ".wav");
+        boolean completed = false;
+        try {
+            pcmConcatEngine.concat(clipPaths, clipInfos, silenceSeconds, wavPath);
+            completed = true;
+        } finally {
+            // 병합 도중 실패하면 쓰다 만 WAV 임시 파일 삭제
+            if (!completed) {
+                Files.deleteIfExists(wavPath);
+            }
+        }
+        return encodeOutput(wavPath, uploadDir);
+    }
+
+    /**
+     * 증분 병합: 미리 만들어 둔 PCM 세그먼트를 순서대로 이어 붙입니다.
+     *
+     * @param segments 세그먼트 묶음 (호출 측에서 close)
+     * @return 병합된 파일 경로
+     */
+    public String concatSegments(ConcatSegmentCache.SegmentSet segments, String uploadDir) throws IOException {
+        Path wavPath = Paths.get(uploadDir, "merged_" + UUID.randomUUID() + ".wav");
+        boolean completed = false;
+        try {
+            pcmConcatEngine.concatRaw(segments.getPaths(), concatSegmentCache.getSampleRate(),
+                    concatSegmentCache.getChannels(), wavPath);
+            completed = true;
+        } finally {
+            if (!completed) {
+                Files.deleteIfExists(wavPath);
+            }
+        }
+        return encodeOutput(wavPath, uploadDir);
+    }
+
+    // 결과 형식이 MP3이면 FFmpeg로 한 번만 인코딩
+    private String encodeOutput(Path wavPath, String uploadDir) throws IOException {
+        if (!"mp3".equalsIgnoreCase(outputFormat)) {
+            return wavPath.toString();
+        }
+
+        Path mp3Path = Paths.get(uploadDir, "merged_" + UUID.randomUUID() + ".mp3");
+        boolean encoded = false;
+        try {
+            FFmpegBuilder encodeBuilder = new FFmpegBuilder()
+                    .setInput(wavPath.toString())
+                    .overrideOutputFiles(true)
+                    .addOutput(mp3Path.toString())
+                    .setAudioCodec("libmp3lame")
+                    .setAudioChannels(2)
+                    .setAudioBitRate(192000)
+                    .done();
+            new FFmpegExecutor(new FFmpeg(ffmpegPath)).createJob(encodeBuilder).run();
+            encoded = true;
+        } finally {
+            Files.deleteIfExists(wavPath);
+            if (!encoded) {
+                Files.deleteIfExists(mp3Path);
+            }
+        }
+        return mp3Path.toString();
+    }
+
+    /**
+     * 병합 결과 파일의 Content-Type
+     */
+    public String getContentType(String filePath) {
+        return filePath.endsWith(".wav") ? "audio/wav" : "audio/mpeg";
+    }
+
     /**
      * 로컬 파일을 MultipartFile로 변환합니다.
      */
@@ -0,0 +1,353 @@
+package com.fourformance.tts_vc_web.service.concat;
+
+import com.fourformance.tts_vc_web.dto.concat.ConcatMsgDetailDto;
+import com.fourformance.tts_vc_web.service.common.S3Service;
+import lombok.RequiredArgsConstructor;
+import net.bramp.ffmpeg.FFmpeg;
+import net.bramp.ffmpeg.FFmpegExecutor;
+import net.bramp.ffmpeg.builder.FFmpegBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * 증분 Concat용 세그먼트 캐시
+ * 디테일 하나(소스 오디오 + 뒤 무음)를 공통 PCM 형식(16bit, 고정 샘플레이트/채널)으로 변환한 세그먼트를
+ * (MemberAudioMeta ID, 무음 길이) 기준으로 upload.dir 아래에 보관합니다.
+ * 다시 병합할 때는 바뀐 디테일의 세그먼트만 새로 만들고, 나머지는 그대로 이어 붙입니다.
+ * - 세그먼트는 임시 이름으로 만든 뒤 원자적으로 이동합니다.
+ * - 병합 중인 세그먼트는 참조 수로 관리해서 용량 초과로 정리할 때 지우지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConcatSegmentCache {
+
+    private static final Logger LOGGER = Logger.getLogger(ConcatSegmentCache.class.getName());
+
+    private final S3Service s3Service;
+    private final PcmConcatEngine pcmConcatEngine;
+
+    @Value("${upload.dir}")
+    private String uploadDir;
+
+    @Value("${ffmpeg.path}")
+    private String ffmpegPath;
+
+    @Value("${concat.incremental.enabled:true}")
+    private boolean enabled;
+
+    // 세그먼트 공통 형식
+    @Value("${concat.segment.sample-rate:44100}")
+    private int sampleRate;
+
+    @Value("${concat.segment.channels:2}")
+    private int channels;
+
+    // 세그먼트 캐시 최대 용량 (bytes)
+    @Value("${concat.segment.max-bytes:2147483648}")
+    private long maxBytes;
+
+    private Path segmentDir;
+
+    // 세그먼트 항목 (this로 동기화)
+    private final Map<String, Segment> segments = new HashMap<>();
+    private long totalBytes;
+
+    // 지표
+    private final AtomicLong reusedCount = new AtomicLong();
+    private final AtomicLong renderedCount = new AtomicLong();
+
+    private static final class Segment {
+        private final String key;
+        private final Path path;
+        private int refCount;
+        private long size;
+        private long lastAccessAt;
+        private boolean ready;
+
+        private Segment(String key, Path path) {
+            this.key = key;
+            this.path = path;
+        }
+    }
+
+    /**
+     * 병합에 사용할 세그먼트 묶음 (close 시 참조 해제, 파일은 캐시에 남음)
+     */
+    public final class SegmentSet implements AutoCloseable {
+        private final List<Segment> orderedSegments;
+        private boolean closed;
+
+        private SegmentSet(List<Segment> orderedSegments) {
+            this.orderedSegments = orderedSegments;
+        }
+
+        public List<Path> getPaths() {
+            return orderedSegments.stream().map(segment -> segment.path).toList();
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                releaseAll(orderedSegments);
+            }
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        segmentDir = Paths.get(uploadDir, "concat-segments");
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(segmentDir);
+            loadExistingFiles();
+        } catch (IOException e) {
+            // 세그먼트를 보관할 수 없으면 전체 병합 방식만 사용
+            LOGGER.warning("Concat 세그먼트 디렉토리 초기화 실패: " + segmentDir + ", " + e.getMessage());
+            enabled = false;
+        }
+    }
+
+    /**
+     * 증분 병합을 사용할 수 있는지 확인 (모든 디테일에 소스 오디오 메타 ID가 있어야 함)
+     */
+    public boolean supports(List<ConcatMsgDetailDto> details) {
+        return enabled && !details.isEmpty()
+                && details.stream().allMatch(detail -> detail.getMemberAudioMetaId() != null);
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+    /**
+     * 디테일 순서대로 세그먼트를 준비합니다. 없는 세그먼트만 소스를 내려받아 새로 만듭니다.
+     *
+     * @param details      병합할 디테일 (순서대로)
+     * @param workDir      소스 오디오를 임시로 내려받을 디렉토리
+     * @return 세그먼트 묶음 (병합이 끝나면 close)
+     */
+    public SegmentSet acquireAll(List<ConcatMsgDetailDto> details, String workDir) throws IOException {
+        List<Segment> ordered = new ArrayList<>(details.size());
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            for (ConcatMsgDetailDto detail : details) {
+                String key = createKey(detail.getMemberAudioMetaId(), detail.getEndSilence());
+                Segment segment = segments.computeIfAbsent(key, k -> new Segment(k, segmentDir.resolve(k + ".pcm")));
+                segment.refCount++;
+                segment.lastAccessAt = now;
+                ordered.add(segment);
+            }
+        }
+
+        List<String> downloadedPaths = new ArrayList<>();
+        try {
+            // 아직 없는 세그먼트의 소스만 모아서 동시에 다운로드
+            Map<Segment, ConcatMsgDetailDto> missing = new LinkedHashMap<>();
+            for (int i = 0; i < ordered.size(); i++) {
+                Segment segment = ordered.get(i);
+                if (!isReady(segment)) {
+                    missing.putIfAbsent(segment, details.get(i));
+                }
+            }
+            reusedCount.addAndGet(ordered.size() - missing.size());
+
+            if (!missing.isEmpty()) {
+                List<String> srcUrls = missing.values().stream().map(ConcatMsgDetailDto::getSrcUrl).toList();
+                downloadedPaths = s3Service.downloadFilesFromS3(srcUrls, workDir);
+
+                int index = 0;
+                for (Map.Entry<Segment, ConcatMsgDetailDto> entry : missing.entrySet()) {
+                    render(entry.getKey(), Paths.get(downloadedPaths.get(index++)), entry.getValue().getEndSilence());
+                }
+            }
+            evictIfNeeded();
+
+            LOGGER.info("Concat 세그먼트 준비 완료: 전체 " + ordered.size() + "개, 새로 생성 " + missing.size() + "개");
+            return new SegmentSet(ordered);
+        } catch (IOException | RuntimeException e) {
+            releaseAll(ordered);
+            throw e;
+        } finally {
+            for (String downloadedPath : downloadedPaths) {
+                Files.deleteIfExists(Paths.get(downloadedPath));
+            }
+        }
+    }
+
+    /**
+     * 세그먼트 캐시 지표 반환
+     */
+    public synchronized Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("segments", (long) segments.size());
+        stats.put("totalBytes", totalBytes);
+        stats.put("maxBytes", maxBytes);
+        stats.put("reused", reusedCount.get());
+        stats.put("rendered", renderedCount.get());
+        return stats;
+    }
+
+    // 같은 세그먼트를 다른 작업이 동시에 만들고 있으면 기다렸다가 결과를 사용
+    private void render(Segment segment, Path sourcePath, Float silenceSeconds) throws IOException {
+        synchronized (segment) {
+            if (isReady(segment)) {
+                return;
+            }
+
+            Path tempPath = segmentDir.resolve(".tmp_" + UUID.randomUUID() + ".pcm");
+            try {
+                writeSegment(sourcePath, silenceSeconds, tempPath);
+                try {
+                    Files.move(tempPath, segment.path, StandardCopyOption.ATOMIC_MOVE,
+                            StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempPath, segment.path, StandardCopyOption.REPLACE_EXISTING);
+                }
+
+                long size = Files.size(segment.path);
+                synchronized (this) {
+                    segment.size = size;
+                    segment.ready = true;
+                    totalBytes += size;
+                }
+                renderedCount.incrementAndGet();
+            } finally {
+                Files.deleteIfExists(tempPath);
+            }
+        }
+    }
+
+    // 소스를 공통 PCM 형식으로 변환한 뒤 뒤에 무음 프레임을 붙임
+    private void writeSegment(Path sourcePath, Float silenceSeconds, Path targetPath) throws IOException {
+        PcmConcatEngine.WavInfo info = pcmConcatEngine.inspect(sourcePath);
+        boolean direct = info != null && info.getSampleRate() == sampleRate
+                && (info.getChannels() == channels || (info.getChannels() == 1 && channels == 2));
+
+        if (direct) {
+            // 이미 같은 형식의 WAV는 JVM 안에서 바로 복사
+            try (FileChannel out = FileChannel.open(targetPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                pcmConcatEngine.appendClip(sourcePath, info, channels, out);
+                pcmConcatEngine.appendSilence(silenceSeconds, sampleRate, channels, out);
+            }
+            return;
+        }
+
+        // 그 외 형식은 FFmpeg로 한 번만 디코딩 (이후 병합에서는 재사용)
+        FFmpegBuilder decodeBuilder = new FFmpegBuilder()
+                .setInput(sourcePath.toString())
+                .overrideOutputFiles(true)
+                .addOutput(targetPath.toString())
+                .setFormat("s16le")
+                .setAudioCodec("pcm_s16le")
+                .setAudioChannels(channels)
+                .setAudioSampleRate(sampleRate)
+                .done();
+        new FFmpegExecutor(new FFmpeg(ffmpegPath)).createJob(decodeBuilder).run();
+
+        try (FileChannel out = FileChannel.open(targetPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            pcmConcatEngine.appendSilence(silenceSeconds, sampleRate, channels, out);
+        }
+    }
+
+    private synchronized boolean isReady(Segment segment) {
+        return segment.ready;
+    }
+
+    private synchronized void releaseAll(List<Segment> acquired) {
+        for (Segment segment : acquired) {
+            segment.refCount--;
+            if (segment.refCount <= 0 && !segment.ready && segments.get(segment.key) == segment) {
+                segments.remove(segment.key); // 생성 실패한 항목
+            }
+        }
+    }
+
+    // 사용하지 않는 세그먼트부터 오래된 순으로 삭제
+    private synchronized void evictIfNeeded() {
+        while (totalBytes > maxBytes) {
+            Segment oldest = null;
+            for (Segment candidate : segments.values()) {
+                if (candidate.ready && candidate.refCount == 0
+                        && (oldest == null || candidate.lastAccessAt < oldest.lastAccessAt)) {
+                    oldest = candidate;
+                }
+            }
+            if (oldest == null) {
+                return; // 모두 사용 중
+            }
+
+            segments.remove(oldest.key);
+            totalBytes -= oldest.size;
+            try {
+                Files.deleteIfExists(oldest.path);
+            } catch (IOException e) {
+                LOGGER.warning("Concat 세그먼트 삭제 실패: " + oldest.path + ", " + e.getMessage());
+            }
+        }
+    }
+
+    // 재시작 전에 만들어 둔 세그먼트를 다시 등록하고, 만들다 만 임시 파일은 삭제
+    private synchronized void loadExistingFiles() throws IOException {
+        String formatSuffix = createFormatSuffix() + ".pcm";
+        Set<Path> files = new LinkedHashSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(segmentDir)) {
+            stream.forEach(files::add);
+        }
+
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            if (fileName.startsWith(".tmp_") || !fileName.endsWith(formatSuffix)) {
+                Files.deleteIfExists(file); // 임시 파일이거나 형식 설정이 바뀐 이전 세그먼트
+                continue;
+            }
+
+            String key = fileName.substring(0, fileName.length() - ".pcm".length());
+            Segment segment = new Segment(key, file);
+            segment.size = Files.size(file);
+            segment.lastAccessAt = Files.getLastModifiedTime(file).toMillis();
+            segment.ready = true;
+            segments.put(key, segment);
+            totalBytes += segment.size;
+        }
+        evictIfNeeded();
+        LOGGER.info("Concat 세그먼트 로드 완료: " + segments.size() + "개, " + totalBytes + " bytes");
+    }
+
+    private String createKey(Long memberAudioMetaId, Float silenceSeconds) {
+        long silenceMs = silenceSeconds == null || silenceSeconds <= 0 ? 0 : Math.round(silenceSeconds * 1000.0);
+        return "seg_" + memberAudioMetaId + "_" + silenceMs + "ms" + createFormatSuffix();
+    }
+
+    private String createFormatSuffix() {
+        return "_" + sampleRate + "hz_" + channels + "ch";
+    }
+}
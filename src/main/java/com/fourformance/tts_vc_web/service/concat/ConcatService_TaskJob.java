@@ -108,6 +108,7 @@ public class ConcatService_TaskJob {
                         .unitScript(detail.getUnitScript()) // 대본 내용
                         .endSilence(detail.getEndSilence()) // 종료 후 정적 길이
                         .srcUrl(detail.getMemberAudioMeta().getAudioUrl()) // 파일 URL
+                        .memberAudioMetaId(detail.getMemberAudioMeta().getId()) // 소스 오디오 메타 ID
                         .build())
                 .collect(Collectors.toList());
 
@@ -359,9 +360,9 @@ public class ConcatService_TaskJob {
         Task task = Task.createTask(concatProject, ProjectType.CONCAT, taskData);
         taskRepository.save(task);
 
-        // RabbitMQ로 메시지 전송
+        // 아웃박스에 저장 (커밋 이후 RabbitMQ로 전송)
         msgDto.setTaskId(task.getId());
-        taskProducer.sendTask("AUDIO_CONCAT", msgDto);
+        taskProducer.sendTaskAfterCommit("AUDIO_CONCAT", task.getId(), msgDto);
     }
 
     //    @Transactional(isolation = Isolation.SERIALIZABLE, propagation = Propagation.REQUIRED)
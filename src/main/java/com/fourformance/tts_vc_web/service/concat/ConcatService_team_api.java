@@ -208,7 +208,7 @@ public class ConcatService_team_api {
      */
     public String mergeAudioFilesAndUploadToS3(List<ConcatResponseDetailDto> audioDetails, String uploadDir, Long userId, Long projectId) {
         List<String> savedFilePaths = new ArrayList<>();   // 다운로드된 오디오 파일 경로 리스트
-        List<String> silenceFilePaths = new ArrayList<>(); // 생성된 무음 파일 경로 리스트
+        List<Float> silenceSeconds = new ArrayList<>();    // 오디오별 뒤 무음 길이 (초)
         String mergedFilePath = null;                      // 병합된 오디오 파일 경로
 
         try {
@@ -227,24 +227,21 @@ public class ConcatService_team_api {
                 throw new BusinessException(ErrorCode.NO_FILES_TO_MERGE);
             }
 
-            // 2. S3에서 파일 다운로드 및 무음 파일 생성
+            // 2. S3에서 파일 동시 다운로드 (무음은 병합 시 생성)
+            List<String> audioUrls = new ArrayList<>();
             for (ConcatResponseDetailDto detail : filteredDetails) {
                 if (detail.getAudioUrl() != null && !detail.getAudioUrl().isEmpty()) {
-                    // S3에서 오디오 파일 다운로드
-                    String savedFilePath = s3Service.downloadFileFromS3(detail.getAudioUrl(), uploadDir);
-                    savedFilePaths.add(savedFilePath);
-
-                    // 무음 파일 생성
-                    String silenceFilePath = audioProcessingService.createSilenceFile(detail.getEndSilence().longValue(), uploadDir);
-                    if (silenceFilePath != null) silenceFilePaths.add(silenceFilePath);
+                    audioUrls.add(detail.getAudioUrl());
+                    silenceSeconds.add(detail.getEndSilence());
                 } else {
                     LOGGER.warning("Audio URL이 없습니다. Detail ID: " + detail.getId());
                     throw new BusinessException(ErrorCode.AUDIO_URL_NOT_FOUND);
                 }
             }
+            savedFilePaths = s3Service.downloadFilesFromS3(audioUrls, uploadDir);
 
             // 3. 오디오 파일 병합
-            mergedFilePath = audioProcessingService.mergeAudioFilesWithSilence(savedFilePaths, silenceFilePaths, uploadDir);
+            mergedFilePath = audioProcessingService.concatAudioFiles(savedFilePaths, silenceSeconds, uploadDir);
 
             // 4. 병합된 파일을 S3에 업로드하고 URL 반환
             return s3Service.uploadConcatSaveFile(audioProcessingService.convertToMultipartFile(mergedFilePath), userId, projectId);
@@ -257,7 +254,7 @@ public class ConcatService_team_api {
             throw e;
         } finally {
             // 5. 임시 파일 삭제
-            cleanupTemporaryFiles(savedFilePaths, silenceFilePaths, mergedFilePath);
+            cleanupTemporaryFiles(savedFilePaths, mergedFilePath);
         }
     }
 
@@ -439,13 +436,11 @@ public class ConcatService_team_api {
     /**
      * 임시 파일들을 정리합니다.
      *
-     * @param savedFilePaths   다운로드된 오디오 파일 경로 리스트
-     * @param silenceFilePaths 생성된 무음 파일 경로 리스트
-     * @param mergedFilePath   병합된 오디오 파일 경로
+     * @param savedFilePaths 다운로드된 오디오 파일 경로 리스트
+     * @param mergedFilePath 병합된 오디오 파일 경로
      */
-    private void cleanupTemporaryFiles(List<String> savedFilePaths, List<String> silenceFilePaths, String mergedFilePath) {
+    private void cleanupTemporaryFiles(List<String> savedFilePaths, String mergedFilePath) {
         audioProcessingService.deleteFiles(savedFilePaths);
-        audioProcessingService.deleteFiles(silenceFilePaths);
         if (mergedFilePath != null) {
             audioProcessingService.deleteFiles(Collections.singletonList(mergedFilePath));
         }
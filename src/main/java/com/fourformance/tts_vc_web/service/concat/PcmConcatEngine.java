@@ -0,0 +1,308 @@
+package com.fourformance.tts_vc_web.service.concat;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WAV(LINEAR16) 파일을 FFmpeg 없이 JVM 안에서 이어 붙이는 엔진
+ * - 클립의 PCM 데이터를 FileChannel로 그대로 복사하고, 무음은 0으로 채운 샘플 프레임을 직접 씁니다.
+ * - 모노 클립은 출력이 스테레오이면 샘플을 복제해서 씁니다.
+ * - 샘플레이트나 비트 수가 다른 클립은 처리하지 않으므로 호출 측에서 {@link #inspect(List)}로 먼저 확인해야 합니다.
+ * - 증분 병합용으로 헤더 없는 PCM 세그먼트를 이어 붙이는 기능도 제공합니다.
+ */
+@Component
+public class PcmConcatEngine {
+
+    private static final int WAV_HEADER_SIZE = 44;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final int FORMAT_PCM = 1;
+    private static final int FORMAT_EXTENSIBLE = 0xFFFE;
+
+    /**
+     * PCM WAV 파일 정보
+     */
+    public static final class WavInfo {
+        private final int channels;
+        private final int sampleRate;
+        private final int bitsPerSample;
+        private final long dataOffset;
+        private final long dataSize;
+
+        private WavInfo(int channels, int sampleRate, int bitsPerSample, long dataOffset, long dataSize) {
+            this.channels = channels;
+            this.sampleRate = sampleRate;
+            this.bitsPerSample = bitsPerSample;
+            this.dataOffset = dataOffset;
+            this.dataSize = dataSize;
+        }
+
+        public int getChannels() {
+            return channels;
+        }
+
+        public int getSampleRate() {
+            return sampleRate;
+        }
+
+        private int blockAlign() {
+            return channels * bitsPerSample / 8;
+        }
+    }
+
+    /**
+     * 모든 클립이 함께 이어 붙일 수 있는 16bit PCM WAV인지 확인
+     *
+     * @return 클립별 WAV 정보, 하나라도 지원하지 않는 형식이면 null
+     */
+    public List<WavInfo> inspect(List<Path> clipPaths) throws IOException {
+        List<WavInfo> infos = new ArrayList<>(clipPaths.size());
+        for (Path clipPath : clipPaths) {
+            WavInfo info = inspect(clipPath);
+            if (info == null) {
+                return null;
+            }
+            if (!infos.isEmpty() && infos.get(0).sampleRate != info.sampleRate) {
+                return null;
+            }
+            infos.add(info);
+        }
+        return infos;
+    }
+
+    /**
+     * 클립 하나가 직접 처리할 수 있는 16bit PCM WAV(모노/스테레오)인지 확인
+     *
+     * @return WAV 정보, 지원하지 않는 형식이면 null
+     */
+    public WavInfo inspect(Path clipPath) throws IOException {
+        WavInfo info = readWavInfo(clipPath);
+        if (info == null || info.bitsPerSample != 16 || info.channels > 2) {
+            return null;
+        }
+        return info;
+    }
+
+    /**
+     * 클립과 각 클립 뒤의 무음을 하나의 WAV 파일로 이어 붙임
+     *
+     * @param clipPaths      클립 경로 (순서대로)
+     * @param clipInfos      {@link #inspect(List)} 결과
+     * @param silenceSeconds 클립별 뒤 무음 길이 (초, null 또는 0 이하이면 무음 없음)
+     * @param outputPath     출력 WAV 경로
+     */
+    public void concat(List<Path> clipPaths, List<WavInfo> clipInfos, List<Float> silenceSeconds, Path outputPath)
+            throws IOException {
+        int sampleRate = clipInfos.get(0).sampleRate;
+        int channels = clipInfos.stream().mapToInt(info -> info.channels).max().orElse(1);
+
+        try (FileChannel out = FileChannel.open(outputPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            out.position(WAV_HEADER_SIZE); // 헤더는 데이터 길이를 알게 된 뒤에 씀
+
+            long dataSize = 0;
+            for (int i = 0; i < clipPaths.size(); i++) {
+                dataSize += appendClip(clipPaths.get(i), clipInfos.get(i), channels, out);
+                dataSize += appendSilence(i < silenceSeconds.size() ? silenceSeconds.get(i) : null,
+                        sampleRate, channels, out);
+            }
+
+            out.write(createHeader(channels, sampleRate, dataSize), 0);
+        }
+    }
+
+    /**
+     * 헤더 없는 PCM(16bit) 세그먼트 파일들을 하나의 WAV 파일로 이어 붙임
+     *
+     * @param segmentPaths 세그먼트 경로 (순서대로, 모두 같은 샘플레이트/채널)
+     * @param outputPath   출력 WAV 경로
+     */
+    public void concatRaw(List<Path> segmentPaths, int sampleRate, int channels, Path outputPath) throws IOException {
+        try (FileChannel out = FileChannel.open(outputPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            out.position(WAV_HEADER_SIZE);
+
+            long dataSize = 0;
+            for (Path segmentPath : segmentPaths) {
+                try (FileChannel in = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+                    dataSize += transfer(in, 0, in.size(), out);
+                }
+            }
+
+            out.write(createHeader(channels, sampleRate, dataSize), 0);
+        }
+    }
+
+    /**
+     * 클립의 PCM 데이터를 출력 채널 수에 맞춰 현재 위치에 씀
+     *
+     * @return 쓴 바이트 수
+     */
+    public long appendClip(Path clipPath, WavInfo info, int channels, FileChannel out) throws IOException {
+        if (info.channels == channels) {
+            return copyPcm(clipPath, info, out);
+        }
+        return copyMonoAsStereo(clipPath, info, out, ByteBuffer.allocateDirect(COPY_BUFFER_SIZE));
+    }
+
+    /**
+     * 0으로 채운 무음 샘플 프레임을 현재 위치에 씀
+     *
+     * @param silenceSeconds 무음 길이 (초, null 또는 0 이하이면 쓰지 않음)
+     * @return 쓴 바이트 수
+     */
+    public long appendSilence(Float silenceSeconds, int sampleRate, int channels, FileChannel out) throws IOException {
+        if (silenceSeconds == null || silenceSeconds <= 0) {
+            return 0;
+        }
+        long frames = Math.round(silenceSeconds * (double) sampleRate);
+        return writeSilence(frames * channels * 2, out, ByteBuffer.allocateDirect(COPY_BUFFER_SIZE));
+    }
+
+    // 클립의 data 청크를 그대로 복사
+    private long copyPcm(Path clipPath, WavInfo info, FileChannel out) throws IOException {
+        try (FileChannel in = FileChannel.open(clipPath, StandardOpenOption.READ)) {
+            return transfer(in, info.dataOffset, info.dataSize, out);
+        }
+    }
+
+    private long transfer(FileChannel in, long offset, long length, FileChannel out) throws IOException {
+        long position = offset;
+        long end = offset + length;
+        while (position < end) {
+            long transferred = in.transferTo(position, end - position, out);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+        }
+        return position - offset;
+    }
+
+    // 모노 샘플을 좌우 채널에 복제해서 복사
+    private long copyMonoAsStereo(Path clipPath, WavInfo info, FileChannel out, ByteBuffer buffer) throws IOException {
+        ByteBuffer stereo = ByteBuffer.allocateDirect(COPY_BUFFER_SIZE * 2);
+        long written = 0;
+        try (FileChannel in = FileChannel.open(clipPath, StandardOpenOption.READ)) {
+            in.position(info.dataOffset);
+            long remaining = info.dataSize - (info.dataSize % 2);
+            while (remaining > 0) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), remaining));
+                int read = in.read(buffer);
+                if (read <= 0) {
+                    break;
+                }
+                remaining -= read;
+                buffer.flip();
+
+                stereo.clear();
+                while (buffer.remaining() >= 2) {
+                    byte low = buffer.get();
+                    byte high = buffer.get();
+                    stereo.put(low).put(high).put(low).put(high);
+                }
+                stereo.flip();
+                while (stereo.hasRemaining()) {
+                    written += out.write(stereo);
+                }
+            }
+        }
+        return written;
+    }
+
+    // 0으로 채운 샘플 프레임 쓰기
+    private long writeSilence(long bytes, FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining()) {
+            buffer.put((byte) 0);
+        }
+
+        long remaining = bytes;
+        while (remaining > 0) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), remaining));
+            while (buffer.hasRemaining()) {
+                remaining -= out.write(buffer);
+            }
+        }
+        return bytes;
+    }
+
+    // RIFF 청크를 따라가며 fmt / data 청크 위치를 찾음
+    private WavInfo readWavInfo(Path path) throws IOException {
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = in.size();
+            ByteBuffer header = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+            if (in.read(header, 0) < 12) {
+                return null;
+            }
+            header.flip();
+            if (header.getInt(0) != 0x46464952 || header.getInt(8) != 0x45564157) { // "RIFF", "WAVE"
+                return null;
+            }
+
+            int format = -1;
+            int channels = 0;
+            int sampleRate = 0;
+            int bitsPerSample = 0;
+            long position = 12;
+            ByteBuffer chunk = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+            while (position + 8 <= fileSize) {
+                chunk.clear();
+                in.read(chunk, position);
+                String chunkId = new String(chunk.array(), 0, 4, StandardCharsets.US_ASCII);
+                long chunkSize = Integer.toUnsignedLong(chunk.getInt(4));
+                long body = position + 8;
+
+                if ("fmt ".equals(chunkId)) {
+                    ByteBuffer fmt = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+                    in.read(fmt, body);
+                    format = Short.toUnsignedInt(fmt.getShort(0));
+                    channels = Short.toUnsignedInt(fmt.getShort(2));
+                    sampleRate = fmt.getInt(4);
+                    bitsPerSample = Short.toUnsignedInt(fmt.getShort(14));
+                } else if ("data".equals(chunkId)) {
+                    if (format != FORMAT_PCM && format != FORMAT_EXTENSIBLE) {
+                        return null;
+                    }
+                    // 스트리밍으로 만든 파일은 data 길이가 비어 있을 수 있으므로 파일 크기로 보정
+                    long dataSize = chunkSize == 0 || body + chunkSize > fileSize ? fileSize - body : chunkSize;
+                    WavInfo info = new WavInfo(channels, sampleRate, bitsPerSample, body, dataSize);
+                    return info.blockAlign() > 0 ? info : null;
+                }
+                position = body + chunkSize + (chunkSize % 2); // 청크는 짝수 바이트 단위로 정렬
+            }
+            return null;
+        }
+    }
+
+    private ByteBuffer createHeader(int channels, int sampleRate, long dataSize) {
+        int blockAlign = channels * 2;
+        ByteBuffer header = ByteBuffer.allocate(WAV_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(0x46464952);                              // "RIFF"
+        header.putInt((int) Math.min(36 + dataSize, 0xFFFFFFFFL));
+        header.putInt(0x45564157);                              // "WAVE"
+        header.putInt(0x20746D66);                              // "fmt "
+        header.putInt(16);
+        header.putShort((short) FORMAT_PCM);
+        header.putShort((short) channels);
+        header.putInt(sampleRate);
+        header.putInt(sampleRate * blockAlign);
+        header.putShort((short) blockAlign);
+        header.putShort((short) 16);
+        header.putInt(0x61746164);                              // "data"
+        header.putInt((int) Math.min(dataSize, 0xFFFFFFFFL));
+        header.flip();
+        return header;
+    }
+}
@@ -0,0 +1,284 @@
+package com.fourformance.tts_vc_web.service.concat;
+
+import net.bramp.ffmpeg.FFmpeg;
+import net.bramp.ffmpeg.FFmpegExecutor;
+import net.bramp.ffmpeg.builder.FFmpegBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * FFmpeg concat에 쓰는 무음 파일 캐시
+ * 같은 길이/형식의 무음은 한 번만 만들어 upload.dir 아래에 보관하고 모든 병합 작업이 함께 사용합니다.
+ * - 파일은 임시 이름으로 만든 뒤 원자적으로 이동해서, 만들다 만 파일이 다른 작업에 보이지 않습니다.
+ * - 사용 중인 파일은 참조 수로 관리해서, 용량 초과로 정리할 때 병합 중인 파일은 지우지 않습니다.
+ * - 애플리케이션 시작 시 자주 쓰는 길이를 미리 만들어 둡니다.
+ */
+@Component
+public class SilenceSegmentCache {
+
+    private static final Logger LOGGER = Logger.getLogger(SilenceSegmentCache.class.getName());
+
+    // 무음 파일 형식 (FFmpeg concat 출력과 동일)
+    private static final int SAMPLE_RATE = 44100;
+    private static final int CHANNELS = 2;
+    private static final String CODEC = "libmp3lame";
+
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("silence_(\\d+)ms_(\\d+)hz_(\\d+)ch_(\\w+)\\.mp3");
+
+    @Value("${upload.dir}")
+    private String uploadDir;
+
+    @Value("${ffmpeg.path}")
+    private String ffmpegPath;
+
+    @Value("${concat.silence-cache.max-bytes:52428800}")
+    private long maxBytes;
+
+    // 시작 시 미리 만들 무음 길이 (초, 쉼표로 구분)
+    @Value("${concat.silence-cache.warmup-seconds:0.5,1,2,3,5}")
+    private String warmupSeconds;
+
+    private Path cacheDir;
+
+    // 캐시 항목 (this로 동기화)
+    private final Map<String, Entry> entries = new HashMap<>();
+    private long totalBytes;
+
+    private static final class Entry {
+        private final String key;
+        private final Path path;
+        private int refCount;
+        private long size;
+        private long lastAccessAt;
+        private boolean ready;
+
+        private Entry(String key, Path path) {
+            this.key = key;
+            this.path = path;
+        }
+    }
+
+    /**
+     * 무음 파일 사용권 (close 시 참조 해제, 파일은 삭제하지 않음)
+     */
+    public final class Lease implements AutoCloseable {
+        private final Entry entry;
+        private boolean closed;
+
+        private Lease(Entry entry) {
+            this.entry = entry;
+        }
+
+        public String getPath() {
+            return entry.path.toString();
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(entry);
+            }
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        cacheDir = Paths.get(uploadDir, "silence-cache");
+        try {
+            Files.createDirectories(cacheDir);
+            loadExistingFiles();
+        } catch (IOException e) {
+            // 캐시를 쓰지 못해도 애플리케이션은 시작 (첫 사용 시 다시 디렉토리 생성 시도)
+            LOGGER.warning("무음 캐시 디렉토리 초기화 실패: " + cacheDir + ", " + e.getMessage());
+            return;
+        }
+
+        // FFmpeg가 없는 환경(테스트 등)에서는 미리 만들지 않음
+        if (!new File(ffmpegPath).canExecute()) {
+            LOGGER.info("FFmpeg를 찾을 수 없어 무음 캐시 미리 생성을 건너뜁니다: " + ffmpegPath);
+            return;
+        }
+        Thread warmupThread = new Thread(this::warmUp, "silence-cache-warmup");
+        warmupThread.setDaemon(true);
+        warmupThread.start();
+    }
+
+    /**
+     * 무음 파일 사용권 획득 (없으면 생성)
+     *
+     * @param silenceSeconds 무음 길이 (초)
+     * @return 사용권, 길이가 0 이하이면 null
+     */
+    public Lease acquire(Float silenceSeconds) throws IOException {
+        if (silenceSeconds == null || silenceSeconds <= 0) {
+            return null;
+        }
+        long durationMs = Math.round(silenceSeconds * 1000.0);
+        if (durationMs <= 0) {
+            return null;
+        }
+
+        String key = createKey(durationMs);
+        Entry entry;
+        synchronized (this) {
+            entry = entries.computeIfAbsent(key, k -> new Entry(k, cacheDir.resolve(k + ".mp3")));
+            entry.refCount++;
+            entry.lastAccessAt = System.currentTimeMillis();
+        }
+
+        try {
+            // 같은 무음을 동시에 요청해도 한 번만 생성
+            synchronized (entry) {
+                if (!entry.ready) {
+                    long size = generate(entry.path, durationMs);
+                    synchronized (this) {
+                        entry.size = size;
+                        entry.ready = true;
+                        totalBytes += size;
+                    }
+                    evictIfNeeded();
+                }
+            }
+            return new Lease(entry);
+        } catch (IOException | RuntimeException e) {
+            release(entry);
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시 상태 반환
+     */
+    public synchronized Map<String, Long> getStats() {
+        Map<String, Long> stats = new HashMap<>();
+        stats.put("entries", (long) entries.size());
+        stats.put("totalBytes", totalBytes);
+        stats.put("maxBytes", maxBytes);
+        return stats;
+    }
+
+    private synchronized void release(Entry entry) {
+        entry.refCount--;
+        if (entry.refCount <= 0 && !entry.ready && entries.get(entry.key) == entry) {
+            entries.remove(entry.key); // 생성 실패한 항목
+        }
+    }
+
+    // 사용하지 않는 항목부터 오래된 순으로 삭제
+    private synchronized void evictIfNeeded() {
+        while (totalBytes > maxBytes) {
+            Entry oldest = null;
+            for (Entry candidate : entries.values()) {
+                if (candidate.ready && candidate.refCount == 0
+                        && (oldest == null || candidate.lastAccessAt < oldest.lastAccessAt)) {
+                    oldest = candidate;
+                }
+            }
+            if (oldest == null) {
+                return; // 모두 사용 중
+            }
+
+            entries.remove(oldest.key);
+            totalBytes -= oldest.size;
+            try {
+                Files.deleteIfExists(oldest.path);
+            } catch (IOException e) {
+                LOGGER.warning("무음 캐시 파일 삭제 실패: " + oldest.path + ", " + e.getMessage());
+            }
+        }
+    }
+
+    // 임시 파일로 생성한 뒤 원자적으로 이동
+    private long generate(Path target, long durationMs) throws IOException {
+        Files.createDirectories(cacheDir);
+        Path tempPath = cacheDir.resolve(".tmp_" + UUID.randomUUID() + ".mp3");
+        try {
+            FFmpegBuilder silenceBuilder = new FFmpegBuilder()
+                    .setInput("anullsrc")
+                    .addExtraArgs("-f", "lavfi")
+                    .overrideOutputFiles(true)
+                    .addOutput(tempPath.toString())
+                    .setAudioCodec(CODEC)
+                    .setAudioChannels(CHANNELS)
+                    .setAudioSampleRate(SAMPLE_RATE)
+                    .setDuration(durationMs, TimeUnit.MILLISECONDS)
+                    .done();
+            new FFmpegExecutor(new FFmpeg(ffmpegPath)).createJob(silenceBuilder).run();
+
+            try {
+                Files.move(tempPath, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return Files.size(target);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    // 재시작 전에 만들어 둔 파일을 캐시에 다시 등록하고, 만들다 만 임시 파일은 삭제
+    private synchronized void loadExistingFiles() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDir)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.startsWith(".tmp_")) {
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+
+                Matcher matcher = FILE_NAME_PATTERN.matcher(fileName);
+                if (!matcher.matches()) {
+                    continue;
+                }
+                String key = fileName.substring(0, fileName.length() - ".mp3".length());
+                if (!key.equals(createKey(Long.parseLong(matcher.group(1))))) {
+                    continue; // 형식이 바뀐 이전 파일
+                }
+
+                Entry entry = new Entry(key, file);
+                entry.size = Files.size(file);
+                entry.lastAccessAt = Files.getLastModifiedTime(file).toMillis();
+                entry.ready = true;
+                entries.put(key, entry);
+                totalBytes += entry.size;
+            }
+        }
+        evictIfNeeded();
+        LOGGER.info("무음 캐시 로드 완료: " + entries.size() + "개, " + totalBytes + " bytes");
+    }
+
+    private void warmUp() {
+        for (String value : warmupSeconds.split(",")) {
+            if (value.isBlank()) {
+                continue;
+            }
+            try (Lease lease = acquire(Float.valueOf(value.trim()))) {
+                // 생성만 하고 바로 해제
+            } catch (Exception e) {
+                LOGGER.warning("무음 캐시 미리 생성 실패: " + value + "초, " + e.getMessage());
+            }
+        }
+    }
+
+    private String createKey(long durationMs) {
+        return "silence_" + durationMs + "ms_" + SAMPLE_RATE + "hz_" + CHANNELS + "ch_" + CODEC;
+    }
+}
@@ -0,0 +1,201 @@
+package com.fourformance.tts_vc_web.service.tts;
+
+import com.fourformance.tts_vc_web.common.util.GoogleTTSClient;
+import com.google.cloud.texttospeech.v1.AudioConfig;
+import com.google.cloud.texttospeech.v1.VoiceSelectionParams;
+import com.google.protobuf.ByteString;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+/**
+ * 프로젝트 단위 TTS 일괄 합성
+ * 음성 설정이 같은 연속 디테일의 스크립트를 줄 경계마다 <mark> 태그를 넣은 하나의 SSML로 합성한 뒤,
+ * 응답의 타임포인트 위치에서 오디오(LINEAR16 WAV)를 잘라 디테일별 WAV로 돌려줍니다.
+ * - 요청은 GoogleTTSClient의 gRPC 채널에 비동기로 보내므로 그룹 여러 개가 동시에 진행됩니다.
+ * - 타임포인트가 빠졌거나 순서가 맞지 않으면 null을 돌려주고, 호출 측은 디테일별 합성으로 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TTSBatchSynthesizer {
+
+    private static final Logger LOGGER = Logger.getLogger(TTSBatchSynthesizer.class.getName());
+
+    private static final String MARK_PREFIX = "d";
+    private static final int WAV_HEADER_SIZE = 44;
+
+    // <speak></speak> 와 줄마다 붙는 <mark name="dNN"/> 의 대략적인 크기 (SSML 길이 계산용)
+    private static final int SPEAK_TAG_BYTES = 15;
+    private static final int MARK_TAG_BYTES = 24;
+
+    private final GoogleTTSClient googleTTSClient;
+
+    // false면 디테일마다 따로 합성
+    @Value("${tts.batch.enabled:true}")
+    private boolean enabled;
+
+    // 한 SSML 요청에 넣을 최대 디테일 수
+    @Value("${tts.batch.max-details:20}")
+    private int maxDetails;
+
+    // 한 SSML 요청의 최대 크기 (bytes, Google TTS 입력 제한 5000 bytes)
+    @Value("${tts.batch.max-ssml-bytes:4800}")
+    private int maxSsmlBytes;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 현재 그룹에 스크립트를 하나 더 넣을 수 있는지 확인
+     *
+     * @param groupSize  현재 그룹의 디테일 수
+     * @param groupBytes 현재 그룹의 SSML 크기 ({@link #ssmlBytes(String)}의 합)
+     * @param script     추가할 스크립트
+     */
+    public boolean canAppend(int groupSize, int groupBytes, String script) {
+        return groupSize < maxDetails && SPEAK_TAG_BYTES + groupBytes + ssmlBytes(script) <= maxSsmlBytes;
+    }
+
+    /**
+     * 스크립트 한 줄이 SSML에서 차지하는 크기 (mark 태그 포함)
+     */
+    public int ssmlBytes(String script) {
+        return escapeXml(script).getBytes(StandardCharsets.UTF_8).length + MARK_TAG_BYTES;
+    }
+
+    /**
+     * 스크립트들을 하나의 SSML로 합성하고 디테일별 WAV로 나눔
+     *
+     * @param memberId 요청한 회원 ID (회원별 호출량 제한)
+     * @param scripts  디테일 스크립트 (순서대로)
+     * @return 디테일별 WAV 오디오 (순서대로), 타임포인트로 나눌 수 없으면 null
+     */
+    public CompletableFuture<List<ByteString>> synthesize(Long memberId, List<String> scripts,
+                                                          VoiceSelectionParams voice, AudioConfig audioConfig) {
+        return googleTTSClient.synthesizeMarkedSsmlAsync(memberId, buildSsml(scripts), voice, audioConfig)
+                .thenApply(speech -> {
+                    List<ByteString> segments = split(speech.getAudioContent(), speech.getMarkSeconds(), scripts.size());
+                    if (segments == null) {
+                        LOGGER.warning("TTS 일괄 합성 결과를 타임포인트로 나누지 못함: details = " + scripts.size()
+                                + ", marks = " + speech.getMarkSeconds().size());
+                    }
+                    return segments;
+                });
+    }
+
+    // 줄마다 앞에 <mark name="d{i}"/>를 붙인 SSML
+    private String buildSsml(List<String> scripts) {
+        StringBuilder ssml = new StringBuilder("<speak>");
+        for (int i = 0; i < scripts.size(); i++) {
+            ssml.append("<mark name=\"").append(MARK_PREFIX).append(i).append("\"/>")
+                    .append(escapeXml(scripts.get(i))).append(' ');
+        }
+        return ssml.append("</speak>").toString();
+    }
+
+    // 디테일 i의 오디오: mark d{i} ~ mark d{i+1} (첫 디테일은 처음부터, 마지막 디테일은 끝까지)
+    private List<ByteString> split(ByteString wav, Map<String, Double> markSeconds, int count) {
+        ByteBuffer header = ByteBuffer.wrap(wav.substring(0, Math.min(wav.size(), 4096)).toByteArray())
+                .order(ByteOrder.LITTLE_ENDIAN);
+        if (header.remaining() < 12 || header.getInt(0) != 0x46464952 || header.getInt(8) != 0x45564157) {
+            return null; // RIFF / WAVE 아님
+        }
+
+        // RIFF 청크를 따라가며 fmt / data 청크 위치를 찾음
+        int channels = 0;
+        int sampleRate = 0;
+        int bitsPerSample = 0;
+        int dataOffset = -1;
+        int position = 12;
+        while (position + 8 <= header.limit()) {
+            int chunkId = header.getInt(position);
+            long chunkSize = Integer.toUnsignedLong(header.getInt(position + 4));
+            if (chunkId == 0x20746D66 && position + 24 <= header.limit()) { // "fmt "
+                channels = Short.toUnsignedInt(header.getShort(position + 10));
+                sampleRate = header.getInt(position + 12);
+                bitsPerSample = Short.toUnsignedInt(header.getShort(position + 22));
+            } else if (chunkId == 0x61746164) { // "data"
+                dataOffset = position + 8;
+                break;
+            }
+            position += 8 + (int) (chunkSize + (chunkSize % 2));
+        }
+        int blockAlign = channels * bitsPerSample / 8;
+        if (dataOffset < 0 || blockAlign <= 0 || sampleRate <= 0) {
+            return null;
+        }
+
+        // 줄 경계 오프셋 (블록 단위로 맞추고, 앞 경계보다 작아지지 않게)
+        long dataSize = wav.size() - dataOffset;
+        long[] boundaries = new long[count + 1];
+        boundaries[count] = dataSize - (dataSize % blockAlign);
+        for (int i = 1; i < count; i++) {
+            Double seconds = markSeconds.get(MARK_PREFIX + i);
+            if (seconds == null) {
+                return null;
+            }
+            long offset = Math.round(seconds * sampleRate) * blockAlign;
+            if (offset < boundaries[i - 1] || offset > boundaries[count]) {
+                return null;
+            }
+            boundaries[i] = offset;
+        }
+
+        List<ByteString> segments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int start = dataOffset + (int) boundaries[i];
+            int end = dataOffset + (int) boundaries[i + 1];
+            ByteString pcm = wav.substring(start, end);
+            segments.add(createHeader(channels, sampleRate, bitsPerSample, pcm.size()).concat(pcm));
+        }
+        return segments;
+    }
+
+    private ByteString createHeader(int channels, int sampleRate, int bitsPerSample, int dataSize) {
+        int blockAlign = channels * bitsPerSample / 8;
+        ByteBuffer header = ByteBuffer.allocate(WAV_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(0x46464952);                              // "RIFF"
+        header.putInt(36 + dataSize);
+        header.putInt(0x45564157);                              // "WAVE"
+        header.putInt(0x20746D66);                              // "fmt "
+        header.putInt(16);
+        header.putShort((short) 1);                             // PCM
+        header.putShort((short) channels);
+        header.putInt(sampleRate);
+        header.putInt(sampleRate * blockAlign);
+        header.putShort((short) blockAlign);
+        header.putShort((short) bitsPerSample);
+        header.putInt(0x61746164);                              // "data"
+        header.putInt(dataSize);
+        header.flip();
+        return ByteString.copyFrom(header);
+    }
+
+    private String escapeXml(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            switch (c) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '"' -> escaped.append("&quot;");
+                case '\'' -> escaped.append("&apos;");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
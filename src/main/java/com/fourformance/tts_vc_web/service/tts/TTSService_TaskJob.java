@@ -2,12 +2,13 @@ package com.fourformance.tts_vc_web.service.tts;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourformance.tts_vc_web.common.config.TaskConfig;
 import com.fourformance.tts_vc_web.common.constant.APIStatusConst;
 import com.fourformance.tts_vc_web.common.constant.APIUnitStatusConst;
 import com.fourformance.tts_vc_web.common.constant.ProjectType;
 import com.fourformance.tts_vc_web.common.exception.common.BusinessException;
 import com.fourformance.tts_vc_web.common.exception.common.ErrorCode;
-import com.fourformance.tts_vc_web.common.util.CommonFileUtils;
+import com.fourformance.tts_vc_web.common.util.ExternalApiGuard;
 import com.fourformance.tts_vc_web.common.util.GoogleTTSClient;
 import com.fourformance.tts_vc_web.domain.entity.*;
 import com.fourformance.tts_vc_web.dto.common.TTSMsgDto;
@@ -16,6 +17,7 @@ import com.fourformance.tts_vc_web.dto.tts.TTSRequestDto;
 import com.fourformance.tts_vc_web.repository.*;
 import com.fourformance.tts_vc_web.service.common.S3Service;
 import com.fourformance.tts_vc_web.service.common.TaskProducer;
+import com.fourformance.tts_vc_web.service.workspace.ProjectSummaryUpdater;
 import com.google.cloud.texttospeech.v1.*;
 import com.google.protobuf.ByteString;
 import lombok.RequiredArgsConstructor;
@@ -23,11 +25,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 import java.util.logging.Logger;
 
@@ -47,6 +47,8 @@ public class TTSService_TaskJob {
     private final TaskRepository taskRepository;
     private final TaskProducer taskProducer;
     private final ObjectMapper objectMapper; // JSON 직렬화를 위한 ObjectMapper
+    private final TTSSynthesisCacheService ttsSynthesisCacheService; // TTS 합성 결과 캐시
+    private final ProjectSummaryUpdater projectSummaryUpdater; // 배치 저장한 디테일의 프로젝트 요약 갱신
 
     private static final Logger LOGGER = Logger.getLogger(TTSService_TaskJob.class.getName()); // 로그 기록을 위한 Logger
 
@@ -76,23 +78,76 @@ public class TTSService_TaskJob {
     }
 
     /**
-     * TTS 디테일 저장 또는 업데이트
+     * TTS 디테일 일괄 저장 또는 업데이트
+     * 음성 스타일과 기존 디테일은 한 번씩만 조회하고, 기존 디테일 변경은 Hibernate 배치 UPDATE로,
+     * 새 디테일은 JDBC 배치 INSERT로 저장합니다. (IDENTITY 키라 save는 행마다 INSERT를 실행함)
      *
-     * @param ttsRequestDetailDto TTS 디테일 데이터를 포함한 DTO
+     * @param detailDtos TTS 디테일 데이터 목록
      * @param ttsProject 연결된 프로젝트
-     * @return 저장된 TTS 디테일 엔티티
+     * @return 저장된 TTS 디테일 엔티티 (요청 순서와 동일)
      */
-    private TTSDetail saveOrUpdateDetail(TTSRequestDetailDto ttsRequestDetailDto, TTSProject ttsProject) {
-        // ID가 없으면 새로 생성, 있으면 업데이트
-        if (ttsRequestDetailDto.getId() == null) {
-            ttsRequestDetailDto.setId(ttsServiceTeamMulti.createTTSDetailCustom(ttsRequestDetailDto, ttsProject));
-        } else {
-            ttsRequestDetailDto.setId(ttsServiceTeamMulti.processTTSDetailCustom(ttsRequestDetailDto, ttsProject));
+    private List<TTSDetail> saveOrUpdateDetails(List<TTSRequestDetailDto> detailDtos, TTSProject ttsProject) {
+        Set<Long> voiceStyleIds = new HashSet<>();
+        List<Long> existingIds = new ArrayList<>();
+        for (TTSRequestDetailDto dto : detailDtos) {
+            if (dto.getUnitVoiceStyleId() != null) {
+                voiceStyleIds.add(dto.getUnitVoiceStyleId());
+            }
+            if (dto.getId() != null) {
+                existingIds.add(dto.getId());
+            }
+        }
+        Map<Long, VoiceStyle> voiceStyles = new HashMap<>();
+        voiceStyleRepository.findAllById(voiceStyleIds).forEach(style -> voiceStyles.put(style.getId(), style));
+        Map<Long, TTSDetail> existingDetails = new HashMap<>();
+        ttsDetailRepository.findAllById(existingIds).forEach(detail -> existingDetails.put(detail.getId(), detail));
+
+        // ID가 없으면 새로 생성, 있으면 업데이트 (변경 감지로 flush 시 한 번에 반영)
+        List<TTSDetail> newDetails = new ArrayList<>();
+        for (TTSRequestDetailDto dto : detailDtos) {
+            VoiceStyle voiceStyle = dto.getUnitVoiceStyleId() != null ? voiceStyles.get(dto.getUnitVoiceStyleId())
+                    : null;
+            TTSDetail ttsDetail;
+            if (dto.getId() == null) {
+                // voiceStyleId는 지정하지 않고 저장할 수 있음
+                if (dto.getUnitVoiceStyleId() != null && voiceStyle == null) {
+                    throw new BusinessException(ErrorCode.NOT_EXISTS_VOICESTYLE);
+                }
+                ttsDetail = TTSDetail.createTTSDetail(ttsProject, dto.getUnitScript(), dto.getUnitSequence());
+                newDetails.add(ttsDetail);
+            } else {
+                if (voiceStyle == null) {
+                    throw new BusinessException(ErrorCode.NOT_EXISTS_PROJECT);
+                }
+                ttsDetail = existingDetails.get(dto.getId());
+                if (ttsDetail == null) {
+                    throw new BusinessException(ErrorCode.NOT_EXISTS_PROJECT_DETAIL);
+                }
+            }
+            ttsDetail.updateTTSDetail(voiceStyle, dto.getUnitScript(), dto.getUnitSpeed(), dto.getUnitPitch(),
+                    dto.getUnitVolume(), dto.getUnitSequence(), dto.getIsDeleted());
         }
 
-        // 저장된 디테일 데이터를 조회하고 반환
-        return ttsDetailRepository.findById(ttsRequestDetailDto.getId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.TTS_DETAIL_NOT_FOUND));
+        // 새 디테일 일괄 저장 (기존 디테일 변경도 여기서 함께 flush)
+        List<Long> newIds = ttsDetailRepository.insertAllInBatch(newDetails);
+        if (!newIds.isEmpty()) {
+            // JDBC 배치는 엔티티 리스너를 거치지 않으므로 프로젝트 요약 갱신을 직접 알림
+            projectSummaryUpdater.markProject(ttsProject.getId());
+        }
+        Map<Long, TTSDetail> createdDetails = new HashMap<>();
+        ttsDetailRepository.findAllById(newIds).forEach(detail -> createdDetails.put(detail.getId(), detail));
+
+        List<TTSDetail> savedDetails = new ArrayList<>(detailDtos.size());
+        Iterator<Long> newIdIterator = newIds.iterator();
+        for (TTSRequestDetailDto dto : detailDtos) {
+            if (dto.getId() == null) {
+                dto.setId(newIdIterator.next());
+                savedDetails.add(createdDetails.get(dto.getId()));
+            } else {
+                savedDetails.add(existingDetails.get(dto.getId()));
+            }
+        }
+        return savedDetails;
     }
 
     /**
@@ -102,15 +157,59 @@ public class TTSService_TaskJob {
      * @param ttsProject 연결된 프로젝트
      * @return 변환된 오디오 파일 경로를 포함한 Map
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // Google TTS 호출과 S3 업로드 동안 트랜잭션을 열지 않음
     public Map<String, String> processTtsDetail(TTSMsgDto ttsMsgDto, TTSProject ttsProject) {
+        Long userId = ttsProject.getMember().getId();
+        VoiceStyle voiceStyle = voiceStyleRepository.findById(ttsMsgDto.getUnitVoiceStyleId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_EXISTS_VOICESTYLE));
+
+        // 같은 파라미터로 합성된 오디오가 있으면 API 호출 없이 S3 서버 측 복사로 재사용
+        String cacheKey = ttsSynthesisCacheService.createCacheKey(ttsMsgDto, voiceStyle);
+        Optional<String> cachedRoute = ttsSynthesisCacheService.findBucketRoute(cacheKey);
+        if (cachedRoute.isPresent()) {
+            if (s3Service.existsObject(cachedRoute.get())) {
+                String fileUrl = s3Service.copyUnitSaveFile(cachedRoute.get(),
+                        userId, ttsProject.getId(), ttsMsgDto.getDetailId());
+                // 상태 조회와 Export 내역이 최신 APIStatus를 읽으므로 적중 시에도 성공 상태를 남김
+                saveCacheHitStatus(ttsMsgDto, cacheKey, cachedRoute.get());
+                LOGGER.info("TTS 합성 캐시 적중: detailId = " + ttsMsgDto.getDetailId());
+                return Map.of("fileUrl", fileUrl);
+            }
+            // 원본 오디오가 삭제된 경우 캐시 제거 후 새로 합성
+            ttsSynthesisCacheService.evict(cacheKey);
+        }
+
         // Google TTS API 호출로 오디오 데이터 생성
         ByteString audioContent = callTTSApi(ttsMsgDto, ttsProject);
         // 오디오 파일을 저장하고 URL 반환
         String fileUrl = saveAudioFile(audioContent,
-                ttsProject.getMember().getId(), ttsProject.getId(), ttsMsgDto.getDetailId());
+                userId, ttsProject.getId(), ttsMsgDto.getDetailId());
+
+        // 합성 결과를 캐시에 등록
+        ttsSynthesisCacheService.register(cacheKey, s3Service.extractBucketRoute(fileUrl), voiceStyle);
         return Map.of("fileUrl", fileUrl);
     }
 
+    /**
+     * 캐시 적중으로 API 호출 없이 처리한 디테일의 APIStatus 저장
+     *
+     * @param cacheKey          적중한 캐시 키
+     * @param sourceBucketRoute 복사한 원본 오디오의 버킷 경로
+     */
+    private void saveCacheHitStatus(TTSMsgDto ttsMsgDto, String cacheKey, String sourceBucketRoute) {
+        TTSDetail ttsDetail = ttsDetailRepository.findById(ttsMsgDto.getDetailId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.TTS_DETAIL_NOT_FOUND));
+
+        String requestPayload = String.format("{ \"cacheKey\": \"%s\" }", cacheKey);
+        String responsePayload = String.format(
+                "{ \"cached\": true, \"sourceBucketRoute\": \"%s\", \"request\": %s }",
+                sourceBucketRoute, requestPayload);
+
+        APIStatus apiStatus = APIStatus.createAPIStatus(null, ttsDetail, requestPayload);
+        apiStatus.updateResponseInfo(responsePayload, 200, APIUnitStatusConst.SUCCESS);
+        apiStatusRepository.save(apiStatus);
+    }
+
     /**
      * Google TTS API 호출: 텍스트를 오디오로 변환
      *
@@ -140,14 +239,10 @@ public class TTSService_TaskJob {
                 ttsMsgDto.getUnitPitch()
         );
 
-        // APIStatus 엔티티 생성 및 저장
+        // APIStatus 엔티티 생성 (호출 결과가 나온 뒤 저장해서, 호출량 제한으로 거절된 호출은 기록을 남기지 않음)
         APIStatus apiStatus = APIStatus.createAPIStatus(null, ttsDetail, requestPayload);
-        apiStatusRepository.save(apiStatus);
 
         try {
-            // 주입받은 GoogleTTSClient 통해 TextToSpeechClient 사용
-            TextToSpeechClient textToSpeechClient = googleTTSClient.getTextToSpeechClient();
-
             // Google TTS API 요청 생성
             SynthesisInput input = SynthesisInput.newBuilder()
                     .setText(Optional.ofNullable(ttsMsgDto.getUnitScript())
@@ -168,8 +263,9 @@ public class TTSService_TaskJob {
                     .setPitch(Optional.ofNullable(ttsMsgDto.getUnitPitch()).orElse(0.0F))
                     .build();
 
-            // Google TTS API 호출
-            SynthesizeSpeechResponse response = textToSpeechClient.synthesizeSpeech(input, voice, audioConfig);
+            // Google TTS API 호출 (호출량 제한 / 서킷 브레이커 적용)
+            SynthesizeSpeechResponse response = googleTTSClient.synthesizeSpeech(ttsProject.getMember().getId(),
+                    input, voice, audioConfig);
 
             // 응답 데이터를 JSON으로 변환
             String responsePayload = String.format(
@@ -196,6 +292,10 @@ public class TTSService_TaskJob {
             LOGGER.info("Google TTS API 호출 성공");
             return response.getAudioContent();
         } catch (Exception e) {
+            if (ExternalApiGuard.isRejection(e)) {
+                // 호출량 제한 / 서킷 브레이커로 호출하지 못한 경우는 APIStatus를 저장하지 않음 (작업은 지연 재시도 큐로 감)
+                throw (BusinessException) e;
+            }
 
             apiStatus.updateResponseInfo(requestPayload, 500, APIUnitStatusConst.FAILURE);
             apiStatusRepository.save(apiStatus); // 상태 저장
@@ -234,24 +334,12 @@ public class TTSService_TaskJob {
      * @return 저장된 오디오 파일 URL
      */
     private String saveAudioFile(ByteString audioContent, Long userId, Long projectId, Long detailId) {
-        String fileName = "tts_audio_" + detailId + ".wav";
-        LOGGER.info("saveAudioFile 호출: fileName = " + fileName);
-
-        try {
-            // 임시 파일 생성 및 저장
-            File tempFile = File.createTempFile("tts_audio_", ".wav");
-            try (FileOutputStream fos = new FileOutputStream(tempFile)) {
-                fos.write(audioContent.toByteArray());
-            }
+        LOGGER.info("saveAudioFile 호출: detailId = " + detailId + ", size = " + audioContent.size());
 
-            // S3에 업로드
-            MultipartFile multipartFile = CommonFileUtils.convertFileToMultipartFile(tempFile, fileName);
-            String s3FileUrl = s3Service.uploadUnitSaveFile(multipartFile, userId, projectId, detailId);
-
-            // 임시 파일 삭제
-            if (!tempFile.delete()) {
-                LOGGER.warning("임시 파일 삭제 실패: " + tempFile.getAbsolutePath());
-            }
+        // 임시 파일 없이 ByteString 스트림을 바로 S3에 업로드
+        try (InputStream audioStream = audioContent.newInput()) {
+            String s3FileUrl = s3Service.uploadUnitSaveStream(audioStream, audioContent.size(), "audio/wav",
+                    userId, projectId, detailId);
 
             LOGGER.info("S3 업로드 성공: " + s3FileUrl);
             return s3FileUrl;
@@ -430,7 +518,7 @@ public class TTSService_TaskJob {
 
     //---------------------------------------------------------------------------
 
-    @Transactional(isolation = Isolation.SERIALIZABLE, propagation = Propagation.REQUIRED)
+    @Transactional(propagation = Propagation.REQUIRED)
     public void enqueueTTSBatchTasks(TTSRequestDto ttsRequestDto, Long memberId) {
         // 요청 데이터 유효성 검사
         validateRequestData(ttsRequestDto);
@@ -443,37 +531,28 @@ public class TTSService_TaskJob {
     }
 
     private void processDetailsAndEnqueueTasks(TTSRequestDto ttsRequestDto, TTSProject ttsProject) {
-        for (TTSRequestDetailDto detail : ttsRequestDto.getTtsDetails()) {
-            // 디테일 저장
-            TTSDetail ttsDetail = saveOrUpdateDetail(detail, ttsProject);
-
-            // Task 생성 및 큐에 추가
-            createTaskAndEnqueue(ttsDetail, ttsProject);
-        }
-    }
+        List<TTSRequestDetailDto> detailDtos = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
 
-    private void createTaskAndEnqueue(TTSDetail ttsDetail, TTSProject ttsProject) {
-        // 엔티티를 DTO로 변환
-        TTSRequestDetailDto updatedDetailDto = convertToDto(ttsDetail);
+        // 디테일 일괄 저장 후 DTO로 변환
+        for (TTSDetail ttsDetail : saveOrUpdateDetails(ttsRequestDto.getTtsDetails(), ttsProject)) {
+            TTSRequestDetailDto updatedDetailDto = convertToDto(ttsDetail);
+            detailDtos.add(updatedDetailDto);
 
-        // 디테일 DTO를 JSON으로 변환
-        String detailJson = convertDetailToJson(updatedDetailDto);
-        System.out.println("detailJson = " + detailJson);
-
-        // Task 생성 및 저장
-        Task task = createAndSaveTask(ttsProject, detailJson);
-
-        // RabbitMQ에 메시지 전송
-        TTSMsgDto message = createTTSMsgDto(updatedDetailDto, task.getId());
-        taskProducer.sendTask("AUDIO_TTS", message);
-    }
+            // Task 생성 (저장은 아래에서 한 번에)
+            tasks.add(Task.createTask(ttsProject, ProjectType.TTS, convertDetailToJson(updatedDetailDto)));
+        }
 
-    private Task createAndSaveTask(TTSProject ttsProject, String detailJson) {
-        Task task = Task.createTask(ttsProject, ProjectType.TTS, detailJson);
-        taskRepository.save(task);
+        // Task 일괄 저장 (JDBC 배치)
+        List<Long> taskIds = taskRepository.insertAllInBatch(tasks);
 
-        return taskRepository.findById(task.getId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.TASK_NOT_FOUND));
+        // 커밋 이후 RabbitMQ에 메시지 일괄 전송 (한 줄만 재생성하는 요청은 우선 처리)
+        Map<Long, TTSMsgDto> messages = new LinkedHashMap<>();
+        for (int i = 0; i < taskIds.size(); i++) {
+            messages.put(taskIds.get(i), createTTSMsgDto(detailDtos.get(i), taskIds.get(i)));
+        }
+        int priority = messages.size() == 1 ? TaskConfig.PRIORITY_INTERACTIVE : TaskConfig.PRIORITY_BULK;
+        taskProducer.sendTasksAfterCommit("AUDIO_TTS", messages, priority);
     }
 
     //    @Transactional(isolation = Isolation.SERIALIZABLE, propagation = Propagation.REQUIRED)
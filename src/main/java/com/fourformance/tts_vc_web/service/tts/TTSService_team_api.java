@@ -2,13 +2,14 @@ package com.fourformance.tts_vc_web.service.tts;
 
 import com.fourformance.tts_vc_web.common.constant.APIStatusConst;
 import com.fourformance.tts_vc_web.common.constant.APIUnitStatusConst;
+import com.fourformance.tts_vc_web.common.constant.ProjectType;
 import com.fourformance.tts_vc_web.common.exception.common.BusinessException;
 import com.fourformance.tts_vc_web.common.exception.common.ErrorCode;
-import com.fourformance.tts_vc_web.common.util.CommonFileUtils;
 import com.fourformance.tts_vc_web.common.util.GoogleTTSClient;
 import com.fourformance.tts_vc_web.domain.entity.APIStatus;
 import com.fourformance.tts_vc_web.domain.entity.TTSDetail;
 import com.fourformance.tts_vc_web.domain.entity.TTSProject;
+import com.fourformance.tts_vc_web.domain.entity.VoiceStyle;
 import com.fourformance.tts_vc_web.dto.tts.*;
 import com.fourformance.tts_vc_web.repository.APIStatusRepository;
 import com.fourformance.tts_vc_web.repository.TTSDetailRepository;
@@ -18,12 +19,15 @@ import com.fourformance.tts_vc_web.service.common.S3Service;
 import com.google.cloud.texttospeech.v1.*;
 import com.google.protobuf.ByteString;
 import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 @Service
@@ -39,11 +43,15 @@ public class TTSService_team_api {
     private final TTSService_team_multi ttsServiceTeamMulti; // 통합 서비스 호출을 위한 클래스
     private final S3Service s3Service; // S3 파일 업로드를 처리하는 서비스
     private final GoogleTTSClient googleTTSClient; // GoogleTTSClient 주입
+    private final ThreadPoolTaskExecutor ttsDetailExecutor; // 디테일 병렬 처리용 스레드 풀
+    private final TTSBatchSynthesizer ttsBatchSynthesizer; // 음성 설정이 같은 연속 디테일 일괄 합성
 
     private static final Logger LOGGER = Logger.getLogger(TTSService_team_api.class.getName()); // 로그 기록을 위한 Logger
 
     /**
      * 모든 TTS 디테일 처리: 데이터를 생성 또는 업데이트하고 오디오 파일을 생성.
+     * DB 작업은 호출 스레드의 트랜잭션 안에서 순서대로 수행하고,
+     * Google TTS API 호출과 S3 업로드만 ttsDetailExecutor 에서 병렬로 수행합니다.
      *
      * @param ttsRequestDto 프로젝트와 디테일 데이터를 포함한 DTO
      * @return 생성된 오디오 파일 경로 리스트
@@ -66,22 +74,49 @@ public class TTSService_team_api {
                 .apiStatus(APIStatusConst.IN_PROGRESS)
                 .ttsDetails(new ArrayList<>());
 
-        // 프로젝트의 TTS 디테일 데이터 처리
+        // 3. 디테일 저장 및 API 요청 준비 (DB 작업, 순차)
+        List<DetailTask> detailTasks = new ArrayList<>();
+        for (TTSRequestDetailDto ttsRequestDetailDto : ttsRequestDto.getTtsDetails()) {
+            TTSDetail ttsDetail = saveOrUpdateDetail(ttsRequestDetailDto, ttsProject);
+            detailTasks.add(prepareDetailTask(ttsRequestDetailDto, ttsDetail));
+        }
+
+        // 4. API 호출 및 S3 업로드 (병렬, 음성 설정이 같은 연속 디테일은 하나의 SSML 요청으로 합성)
+        Long userId = ttsProject.getMember().getId();
+        Long projectId = ttsProject.getId();
+        for (List<DetailTask> group : groupForBatch(detailTasks)) {
+            if (group.size() == 1) {
+                DetailTask detailTask = group.get(0);
+                detailTask.future = ttsDetailExecutor.submit(() -> synthesizeAndUpload(detailTask, userId, projectId));
+            } else {
+                submitBatch(group, userId, projectId);
+            }
+        }
+
+        // 5. 결과 수집 및 DB 반영 (순차)
         List<TTSResponseDetailDto> responseDetails = new ArrayList<>();
 
         int successCount = 0;
         int failureCount = 0;
 
-        for (TTSRequestDetailDto ttsRequestDetailDto : ttsRequestDto.getTtsDetails()) {
-            // 디테일 데이터 저장 또는 업데이트
-            TTSDetail ttsDetail = saveOrUpdateDetail(ttsRequestDetailDto, ttsProject);
+        for (DetailTask detailTask : detailTasks) {
+            TTSRequestDetailDto ttsRequestDetailDto = detailTask.requestDetailDto;
+            TTSDetail ttsDetail = detailTask.ttsDetail;
 
             try {
-                LOGGER.info("TTSDetail 처리 시작: " + ttsRequestDetailDto);
-                // 디테일 처리 및 오디오 파일 경로 저장
+                SynthesisResult result = awaitResult(detailTask);
+
+                // 오디오 메타 저장 및 API 상태 성공 처리
+                String fileUrl = s3Service.getFileUrl(result.bucketRoute);
+                s3Service.saveTTSOrVCOutputAudioMeta(result.bucketRoute, ttsDetail.getId(), ProjectType.TTS, fileUrl);
 
-                Map<String, String> fileUrlMap = processTtsDetail(ttsRequestDetailDto, ttsProject);
-                String fileUrl = fileUrlMap.get("fileUrl");
+                String responsePayload = String.format(
+                        "{ \"audioSize\": \"%d\", \"contentType\": \"audio/linear16\", \"request\": %s }",
+                        result.audioSize,
+                        detailTask.requestPayload
+                );
+                detailTask.apiStatus.updateResponseInfo(responsePayload, 200, APIUnitStatusConst.SUCCESS);
+                apiStatusRepository.save(detailTask.apiStatus);
 
                 // TTSResponseDetailDto 생성 및 추가
                 TTSResponseDetailDto responseDetail = TTSResponseDetailDto.builder()
@@ -102,14 +137,20 @@ public class TTSService_team_api {
                 successCount++;
                 LOGGER.info("TTSDetail 처리 완료: " + ttsRequestDetailDto);
 
-
             } catch (BusinessException e) {
                 LOGGER.severe("TTSDetail 처리 중 오류 발생: " + ttsRequestDetailDto + ", 메시지: " + e.getMessage());
+
+                if (detailTask.apiStatus != null) {
+                    detailTask.apiStatus.updateResponseInfo(detailTask.requestPayload, 500, APIUnitStatusConst.FAILURE);
+                    apiStatusRepository.save(detailTask.apiStatus); // 상태 저장
+                }
+
                 // 실패한 디테일에 대한 실패 응답 추가
                 TTSResponseDetailDto failedDetail = TTSResponseDetailDto.builder()
                         .id(ttsRequestDetailDto.getId())
                         .projectId(ttsProject.getId())
                         .unitScript(ttsRequestDetailDto.getUnitScript())
+                        .unitSequence(ttsRequestDetailDto.getUnitSequence())
 //                        .errorMessage(e.getMessage())
                         .apiUnitStatus(APIUnitStatusConst.FAILURE)
                         .build();
@@ -119,6 +160,10 @@ public class TTSService_team_api {
             }
         }
 
+        // 유닛 시퀀스 순서로 정렬
+        responseDetails.sort(Comparator.comparing(TTSResponseDetailDto::getUnitSequence,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+
         // 전체 API 상태 업데이트
         if (failureCount == 0) {
             ttsProject.updateAPIStatus(APIStatusConst.SUCCESS);
@@ -184,133 +229,233 @@ public class TTSService_team_api {
     }
 
     /**
-     * TTS 디테일 처리: Google TTS API를 통해 텍스트를 오디오로 변환하고 저장
+     * 디테일별 API 요청 준비: 음성 스타일 조회, 언어 검증, APIStatus 기록 (호출 스레드에서 수행)
      *
      * @param ttsRequestDetailDto TTS 디테일 데이터를 포함한 DTO
-     * @param ttsProject 연결된 프로젝트
-     * @return 변환된 오디오 파일 경로를 포함한 Map
+     * @param ttsDetail 저장된 TTS 디테일 엔티티
+     * @return 병렬 작업에 넘길 디테일 작업
      */
-    private Map<String, String> processTtsDetail(TTSRequestDetailDto ttsRequestDetailDto, TTSProject ttsProject) {
-        // Google TTS API 호출로 오디오 데이터 생성
-        ByteString audioContent = callTTSApi(ttsRequestDetailDto, ttsProject);
-        // 오디오 파일을 저장하고 URL 반환
-        String fileUrl = saveAudioFile(audioContent, ttsRequestDetailDto.getUnitSequence(),
-                ttsProject.getMember().getId(), ttsProject.getId(), ttsRequestDetailDto.getId());
-        return Map.of("fileUrl", fileUrl);
+    private DetailTask prepareDetailTask(TTSRequestDetailDto ttsRequestDetailDto, TTSDetail ttsDetail) {
+        DetailTask detailTask = new DetailTask(ttsRequestDetailDto, ttsDetail);
+        LOGGER.info("TTSDetail 처리 시작: " + ttsRequestDetailDto);
+
+        try {
+            // 음성 스타일 데이터 조회
+            VoiceStyle voiceStyle = voiceStyleRepository.findById(ttsRequestDetailDto.getUnitVoiceStyleId())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.NOT_EXISTS_VOICESTYLE));
+            detailTask.languageCode = voiceStyle.getLanguageCode();
+            detailTask.gender = voiceStyle.getGender();
+
+            // 텍스트와 언어 코드 검증
+            checkTextLanguage(ttsRequestDetailDto.getUnitScript(), detailTask.languageCode);
+
+            // 요청 페이로드 생성
+            detailTask.requestPayload = String.format(
+                    "{ \"text\": \"%s\", \"language\": \"%s\", \"gender\": \"%s\", \"speed\": %.2f, \"volume\": %.2f, \"pitch\": %.2f }",
+                    ttsRequestDetailDto.getUnitScript(),
+                    detailTask.languageCode,
+                    detailTask.gender,
+                    ttsRequestDetailDto.getUnitSpeed(),
+                    ttsRequestDetailDto.getUnitVolume(),
+                    ttsRequestDetailDto.getUnitPitch()
+            );
+
+            // APIStatus 엔티티 생성 및 저장
+            detailTask.apiStatus = APIStatus.createAPIStatus(null, ttsDetail, detailTask.requestPayload);
+            apiStatusRepository.save(detailTask.apiStatus);
+        } catch (BusinessException e) {
+            detailTask.error = e;
+        }
+        return detailTask;
     }
 
     /**
-     * Google TTS API 호출: 텍스트를 오디오로 변환
-     *
-     * @param ttsRequestDetailDto TTS 디테일 데이터를 포함한 DTO
-     * @return 변환된 오디오 데이터(ByteString)
+     * 요청 준비가 끝난 디테일을 일괄 합성 그룹으로 나눔
+     * 언어, 성별, 속도, 볼륨, 피치가 같은 연속 디테일을 SSML 크기 제한 안에서 한 그룹으로 묶습니다.
+     * (일괄 합성을 끄면 디테일마다 한 그룹)
      */
-    private ByteString callTTSApi(TTSRequestDetailDto ttsRequestDetailDto, TTSProject ttsProject) {
-        LOGGER.info("callTTSApi 호출: " + ttsRequestDetailDto);
+    private List<List<DetailTask>> groupForBatch(List<DetailTask> detailTasks) {
+        List<List<DetailTask>> groups = new ArrayList<>();
+        List<DetailTask> current = new ArrayList<>();
+        int currentBytes = 0;
+
+        for (DetailTask detailTask : detailTasks) {
+            if (detailTask.error != null) {
+                continue;
+            }
+            String script = detailTask.requestDetailDto.getUnitScript();
+            boolean joinable = ttsBatchSynthesizer.isEnabled() && script != null && !current.isEmpty()
+                    && hasSameVoice(current.get(0), detailTask)
+                    && ttsBatchSynthesizer.canAppend(current.size(), currentBytes, script);
+            if (!joinable && !current.isEmpty()) {
+                groups.add(current);
+                current = new ArrayList<>();
+                currentBytes = 0;
+            }
+            current.add(detailTask);
+            currentBytes += script != null ? ttsBatchSynthesizer.ssmlBytes(script) : 0;
+        }
+        if (!current.isEmpty()) {
+            groups.add(current);
+        }
+        return groups;
+    }
 
-        // TTS 디테일과 음성 스타일 데이터 조회
-        TTSDetail ttsDetail = ttsDetailRepository.findById(ttsProject.getMember().getId()).orElseThrow();
-        String languageCode = voiceStyleRepository.findById(ttsRequestDetailDto.getUnitVoiceStyleId()).get().getLanguageCode();
-        String gender = voiceStyleRepository.findById(ttsRequestDetailDto.getUnitVoiceStyleId()).get().getGender();
-        String script = ttsRequestDetailDto.getUnitScript();
-
-
-        System.out.println("gender = " + gender);
-        System.out.println("languageCode = " + languageCode);
-        System.out.println("script = " + script);
-
-        // 텍스트와 언어 코드 검증
-        checkTextLanguage(script, languageCode);
-
-        // 요청 페이로드 생성
-        String requestPayload = String.format(
-                "{ \"text\": \"%s\", \"language\": \"%s\", \"gender\": \"%s\", \"speed\": %.2f, \"volume\": %.2f, \"pitch\": %.2f }",
-                ttsRequestDetailDto.getUnitScript(),
-                languageCode,
-                gender,
-                ttsRequestDetailDto.getUnitSpeed(),
-                ttsRequestDetailDto.getUnitVolume(),
-                ttsRequestDetailDto.getUnitPitch()
-        );
+    private boolean hasSameVoice(DetailTask a, DetailTask b) {
+        TTSRequestDetailDto x = a.requestDetailDto;
+        TTSRequestDetailDto y = b.requestDetailDto;
+        return x.getUnitScript() != null
+                && Objects.equals(a.languageCode, b.languageCode)
+                && Objects.equals(a.gender, b.gender)
+                && Objects.equals(x.getUnitSpeed(), y.getUnitSpeed())
+                && Objects.equals(x.getUnitVolume(), y.getUnitVolume())
+                && Objects.equals(x.getUnitPitch(), y.getUnitPitch());
+    }
 
+    /**
+     * 그룹을 하나의 SSML 요청으로 합성하고, 나뉜 디테일별 오디오를 병렬로 업로드
+     * 요청은 바로 보내고 응답이 오면 ttsDetailExecutor 에서 업로드하므로 여러 그룹의 요청이 동시에 진행됩니다.
+     * 타임포인트로 나눌 수 없으면 디테일마다 따로 합성합니다.
+     */
+    private void submitBatch(List<DetailTask> group, Long userId, Long projectId) {
+        DetailTask first = group.get(0);
+        List<String> scripts = new ArrayList<>(group.size());
+        for (DetailTask detailTask : group) {
+            scripts.add(detailTask.requestDetailDto.getUnitScript());
+        }
+        LOGGER.info("TTS 일괄 합성 요청: details = " + group.size());
 
-        // APIStatus 엔티티 생성 및 저장
-        APIStatus apiStatus = APIStatus.createAPIStatus(null, ttsDetail, requestPayload);
-        apiStatusRepository.save(apiStatus);
+        CompletableFuture<List<ByteString>> segmentsFuture;
+        try {
+            segmentsFuture = ttsBatchSynthesizer.synthesize(userId, scripts,
+                    createVoice(first), createAudioConfig(first.requestDetailDto));
+        } catch (BusinessException e) {
+            // 호출량 제한 / 서킷 브레이커로 거절된 경우 그룹 전체 실패
+            segmentsFuture = CompletableFuture.failedFuture(e);
+        }
 
+        for (int i = 0; i < group.size(); i++) {
+            DetailTask detailTask = group.get(i);
+            int index = i;
+            detailTask.future = segmentsFuture.thenApplyAsync(segments -> segments != null
+                    ? upload(detailTask, segments.get(index), userId, projectId)
+                    : synthesizeAndUpload(detailTask, userId, projectId), ttsDetailExecutor);
+        }
+    }
+
+    /**
+     * 병렬 작업: Google TTS API 호출 후 오디오를 S3에 업로드 (DB 접근 없음)
+     *
+     * @return 업로드된 버킷 경로와 오디오 크기
+     */
+    private SynthesisResult synthesizeAndUpload(DetailTask detailTask, Long userId, Long projectId) {
+        return upload(detailTask, callTTSApi(detailTask, userId), userId, projectId);
+    }
+
+    /**
+     * 병렬 작업: 합성된 오디오를 S3에 업로드 (DB 접근 없음)
+     *
+     * @return 업로드된 버킷 경로와 오디오 크기
+     */
+    private SynthesisResult upload(DetailTask detailTask, ByteString audioContent, Long userId, Long projectId) {
+        // 임시 파일 없이 ByteString 스트림을 바로 S3에 업로드
+        try (InputStream audioStream = audioContent.newInput()) {
+            String bucketRoute = s3Service.uploadUnitStream(audioStream, audioContent.size(), "audio/wav",
+                    ProjectType.TTS, userId, projectId, detailTask.ttsDetail.getId());
+            LOGGER.info("S3 업로드 성공: " + bucketRoute);
+            return new SynthesisResult(bucketRoute, audioContent.size());
+        } catch (IOException e) {
+            LOGGER.severe("S3 업로드 실패: " + e.getMessage());
+            throw new BusinessException(ErrorCode.AUDIO_FILE_SAVE_ERROR);
+        }
+    }
+
+    /**
+     * 병렬 작업 결과 대기
+     */
+    private SynthesisResult awaitResult(DetailTask detailTask) {
+        if (detailTask.error != null) {
+            throw detailTask.error;
+        }
         try {
-            // 주입받은 GoogleTTSClient 통해 TextToSpeechClient 사용
-            TextToSpeechClient textToSpeechClient = googleTTSClient.getTextToSpeechClient();
+            return detailTask.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.TTS_CONVERSION_FAILED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException) {
+                throw (BusinessException) e.getCause();
+            }
+            throw new BusinessException(ErrorCode.TTS_CONVERSION_FAILED);
+        }
+    }
 
+    /**
+     * Google TTS API 호출: 텍스트를 오디오로 변환
+     *
+     * @param detailTask 요청 준비가 끝난 디테일 작업
+     * @param memberId   요청한 회원 ID (회원별 호출량 제한)
+     * @return 변환된 오디오 데이터(ByteString)
+     */
+    private ByteString callTTSApi(DetailTask detailTask, Long memberId) {
+        TTSRequestDetailDto ttsRequestDetailDto = detailTask.requestDetailDto;
+        LOGGER.info("callTTSApi 호출: " + ttsRequestDetailDto);
+
+        try {
             // Google TTS API 요청 생성
             SynthesisInput input = SynthesisInput.newBuilder()
                     .setText(Optional.ofNullable(ttsRequestDetailDto.getUnitScript())
                             .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_UNIT_SCRIPT)))
                     .build();
 
-            // 음성 및 오디오 설정 생성
-            SsmlVoiceGender ssmlGender = getSsmlVoiceGender(ttsRequestDetailDto);
-            VoiceSelectionParams voice = VoiceSelectionParams.newBuilder()
-                    .setLanguageCode(languageCode)
-                    .setSsmlGender(ssmlGender)
-                    .build();
-
-            AudioConfig audioConfig = AudioConfig.newBuilder()
-                    .setAudioEncoding(AudioEncoding.LINEAR16)
-                    .setSpeakingRate(Optional.ofNullable(ttsRequestDetailDto.getUnitSpeed()).orElse(1.0F))
-                    .setVolumeGainDb(Optional.ofNullable(ttsRequestDetailDto.getUnitVolume()).orElse(0.0F))
-                    .setPitch(Optional.ofNullable(ttsRequestDetailDto.getUnitPitch()).orElse(0.0F))
-                    .build();
-
-            // Google TTS API 호출
-            SynthesizeSpeechResponse response = textToSpeechClient.synthesizeSpeech(input, voice, audioConfig);
-
-            // 응답 데이터를 JSON으로 변환
-            String responsePayload = String.format(
-                    "{ \"audioSize\": \"%d\", \"contentType\": \"audio/linear16\", \"request\": %s }",
-                    response.getAudioContent().size(),
-                    requestPayload
-            );
+            // Google TTS API 호출 (호출량 제한 / 서킷 브레이커 적용)
+            SynthesizeSpeechResponse response = googleTTSClient.synthesizeSpeech(memberId, input,
+                    createVoice(detailTask), createAudioConfig(ttsRequestDetailDto));
 
             // 응답 검증 및 처리
             if (response.getAudioContent().isEmpty()) {
-                apiStatus.updateResponseInfo(requestPayload, 500, APIUnitStatusConst.FAILURE);
-                apiStatusRepository.save(apiStatus); // 상태 저장
-
-                ttsProject.updateAPIStatus(APIStatusConst.FAILURE);
-                ttsProjectRepository.save(ttsProject);
-
                 throw new BusinessException(ErrorCode.TTS_CONVERSION_FAILED_EMPTY_CONTENT);
             }
 
-            // 성공적인 처리
-            apiStatus.updateResponseInfo(responsePayload, 200, APIUnitStatusConst.SUCCESS);
-            apiStatusRepository.save(apiStatus);
-
             LOGGER.info("Google TTS API 호출 성공");
             return response.getAudioContent();
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
-
-            apiStatus.updateResponseInfo(requestPayload, 500, APIUnitStatusConst.FAILURE);
-            apiStatusRepository.save(apiStatus); // 상태 저장
-
-            ttsProject.updateAPIStatus(APIStatusConst.FAILURE);
-            ttsProjectRepository.save(ttsProject);
-
             LOGGER.severe("Google TTS API 호출 중 오류: " + e.getMessage());
             throw new BusinessException(ErrorCode.TTS_CONVERSION_FAILED);
         }
     }
 
+    /**
+     * 음성 설정 생성
+     */
+    private VoiceSelectionParams createVoice(DetailTask detailTask) {
+        return VoiceSelectionParams.newBuilder()
+                .setLanguageCode(detailTask.languageCode)
+                .setSsmlGender(getSsmlVoiceGender(detailTask.gender))
+                .build();
+    }
+
+    /**
+     * 오디오 설정 생성
+     */
+    private AudioConfig createAudioConfig(TTSRequestDetailDto ttsRequestDetailDto) {
+        return AudioConfig.newBuilder()
+                .setAudioEncoding(AudioEncoding.LINEAR16)
+                .setSpeakingRate(Optional.ofNullable(ttsRequestDetailDto.getUnitSpeed()).orElse(1.0F))
+                .setVolumeGainDb(Optional.ofNullable(ttsRequestDetailDto.getUnitVolume()).orElse(0.0F))
+                .setPitch(Optional.ofNullable(ttsRequestDetailDto.getUnitPitch()).orElse(0.0F))
+                .build();
+    }
+
     /**
      * VoiceStyle의 Gender를 SsmlVoiceGender로 변환
      *
-     * @param ttsRequestDetailDto TTS 디테일 데이터를 포함한 DTO
+     * @param gender 음성 스타일의 Gender
      * @return 변환된 SsmlVoiceGender
      */
-    private SsmlVoiceGender getSsmlVoiceGender(TTSRequestDetailDto ttsRequestDetailDto) {
-        // 음성 스타일의 Gender 데이터를 가져와 변환
-        String gender = voiceStyleRepository.findById(ttsRequestDetailDto.getUnitVoiceStyleId()).get().getGender();
+    private SsmlVoiceGender getSsmlVoiceGender(String gender) {
         return switch (gender.toLowerCase()) {
             case "male" -> SsmlVoiceGender.MALE;
             case "female" -> SsmlVoiceGender.FEMALE;
@@ -318,44 +463,6 @@ public class TTSService_team_api {
         };
     }
 
-    /**
-     * 변환된 오디오 파일을 저장
-     *
-     * @param audioContent 변환된 오디오 데이터
-     * @param sequence 유닛 시퀀스
-     * @param userId 사용자 ID
-     * @param projectId 프로젝트 ID
-     * @param detailId 디테일 ID
-     * @return 저장된 오디오 파일 URL
-     */
-    private String saveAudioFile(ByteString audioContent, int sequence, Long userId, Long projectId, Long detailId) {
-        String fileName = "tts_audio_" + sequence + ".wav";
-        LOGGER.info("saveAudioFile 호출: fileName = " + fileName);
-
-        try {
-            // 임시 파일 생성 및 저장
-            File tempFile = File.createTempFile("tts_audio_", ".wav");
-            try (FileOutputStream fos = new FileOutputStream(tempFile)) {
-                fos.write(audioContent.toByteArray());
-            }
-
-            // S3에 업로드
-            MultipartFile multipartFile = CommonFileUtils.convertFileToMultipartFile(tempFile, fileName);
-            String s3FileUrl = s3Service.uploadUnitSaveFile(multipartFile, userId, projectId, detailId);
-
-            // 임시 파일 삭제
-            if (!tempFile.delete()) {
-                LOGGER.warning("임시 파일 삭제 실패: " + tempFile.getAbsolutePath());
-            }
-
-            LOGGER.info("S3 업로드 성공: " + s3FileUrl);
-            return s3FileUrl;
-        } catch (IOException e) {
-            LOGGER.severe("saveAudioFile 실패: " + e.getMessage());
-            throw new BusinessException(ErrorCode.AUDIO_FILE_SAVE_ERROR);
-        }
-    }
-
     /**
      * 텍스트와 언어 코드의 일치 여부를 검증
      * @param text 텍스트 데이터
@@ -458,4 +565,35 @@ public class TTSService_team_api {
         }
     }
 
+    /**
+     * 디테일 하나의 처리 상태 (요청 준비 -> 병렬 작업 -> 결과 반영)
+     */
+    private static class DetailTask {
+        private final TTSRequestDetailDto requestDetailDto;
+        private final TTSDetail ttsDetail;
+        private String languageCode;
+        private String gender;
+        private String requestPayload;
+        private APIStatus apiStatus;
+        private BusinessException error; // 요청 준비 단계에서 발생한 예외
+        private Future<SynthesisResult> future;
+
+        private DetailTask(TTSRequestDetailDto requestDetailDto, TTSDetail ttsDetail) {
+            this.requestDetailDto = requestDetailDto;
+            this.ttsDetail = ttsDetail;
+        }
+    }
+
+    /**
+     * 병렬 작업 결과
+     */
+    private static class SynthesisResult {
+        private final String bucketRoute;
+        private final int audioSize;
+
+        private SynthesisResult(String bucketRoute, int audioSize) {
+            this.bucketRoute = bucketRoute;
+            this.audioSize = audioSize;
+        }
+    }
 }
@@ -0,0 +1,263 @@
+package com.fourformance.tts_vc_web.service.tts;
+
+import com.fourformance.tts_vc_web.domain.entity.TTSSynthesisCache;
+import com.fourformance.tts_vc_web.domain.entity.VoiceStyle;
+import com.fourformance.tts_vc_web.dto.common.TTSMsgDto;
+import com.fourformance.tts_vc_web.repository.TTSSynthesisCacheRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * TTS 합성 결과 캐시
+ * 같은 스크립트와 음성 파라미터로 이미 합성된 오디오가 있으면 Google TTS를 다시 호출하지 않고 재사용합니다.
+ * 1차: 메모리 LRU (cacheKey -> bucketRoute), 2차: tts_synthesis_cache 테이블
+ * - 적중 횟수는 메모리에 모았다가 전용 스레드가 주기적으로 한 번에 반영합니다. (적중마다 DB를 거치지 않음)
+ * - 등록은 INSERT ... ON DUPLICATE KEY UPDATE로 처리해 같은 키를 동시에 등록해도 충돌하지 않습니다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class TTSSynthesisCacheService {
+
+    private static final Logger LOGGER = Logger.getLogger(TTSSynthesisCacheService.class.getName());
+
+    // callTTSApi 에서 사용하는 인코딩과 기본값 (변경 시 캐시 키도 달라져야 함)
+    private static final String AUDIO_ENCODING = "LINEAR16";
+    private static final float DEFAULT_SPEED = 1.0F;
+    private static final float DEFAULT_PITCH = 0.0F;
+    private static final float DEFAULT_VOLUME = 0.0F;
+
+    private final TTSSynthesisCacheRepository ttsSynthesisCacheRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${tts.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tts.cache.memory-max-entries:1000}")
+    private int memoryMaxEntries;
+
+    @Value("${tts.cache.hit-flush-interval-ms:5000}")
+    private long hitFlushIntervalMs;
+
+    // 메모리 LRU 캐시 (접근 순서 유지, 최대 크기 초과 시 가장 오래 사용되지 않은 항목 제거)
+    private final Map<String, String> memoryCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > memoryMaxEntries;
+        }
+    };
+
+    // 아직 DB에 반영하지 않은 적중 횟수 (cacheKey -> 횟수)
+    private final Map<String, Long> pendingHits = new ConcurrentHashMap<>();
+    private ScheduledExecutorService hitFlushExecutor;
+
+    // 캐시 지표
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong dbHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        hitFlushIntervalMs = Math.max(hitFlushIntervalMs, 100);
+        hitFlushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "tts-cache-hit-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        hitFlushExecutor.scheduleWithFixedDelay(this::flushHits, hitFlushIntervalMs, hitFlushIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 종료 시 남은 적중 횟수 반영
+     */
+    @PreDestroy
+    public void close() {
+        hitFlushExecutor.shutdownNow();
+        try {
+            hitFlushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushHits();
+    }
+
+    /**
+     * 정규화된 합성 파라미터로 캐시 키(SHA-256) 생성
+     * 실제 합성에는 VoiceStyle의 languageCode와 gender만 사용되므로 voiceStyleId 대신 두 값을 키에 포함합니다.
+     *
+     * @param ttsMsgDto  TTS 디테일 데이터
+     * @param voiceStyle 음성 스타일
+     * @return 캐시 키
+     */
+    public String createCacheKey(TTSMsgDto ttsMsgDto, VoiceStyle voiceStyle) {
+        String normalized = String.join("\n",
+                AUDIO_ENCODING,
+                voiceStyle.getLanguageCode(),
+                voiceStyle.getGender().toLowerCase(Locale.ROOT),
+                formatParam(ttsMsgDto.getUnitSpeed(), DEFAULT_SPEED),
+                formatParam(ttsMsgDto.getUnitPitch(), DEFAULT_PITCH),
+                formatParam(ttsMsgDto.getUnitVolume(), DEFAULT_VOLUME),
+                normalizeScript(ttsMsgDto.getUnitScript()));
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시 키로 재사용 가능한 오디오의 버킷 경로 조회
+     *
+     * @param cacheKey 캐시 키
+     * @return 버킷 경로, 없으면 empty
+     */
+    public Optional<String> findBucketRoute(String cacheKey) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        String bucketRoute;
+        synchronized (memoryCache) {
+            bucketRoute = memoryCache.get(cacheKey);
+        }
+        if (bucketRoute != null) {
+            memoryHits.incrementAndGet();
+            recordHit(cacheKey);
+            return Optional.of(bucketRoute);
+        }
+
+        Optional<TTSSynthesisCache> cache = ttsSynthesisCacheRepository.findByCacheKey(cacheKey);
+        if (cache.isPresent()) {
+            dbHits.incrementAndGet();
+            recordHit(cacheKey);
+            putMemory(cacheKey, cache.get().getBucketRoute());
+            return Optional.of(cache.get().getBucketRoute());
+        }
+
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    /**
+     * 새로 합성된 오디오를 캐시에 등록
+     */
+    public void register(String cacheKey, String bucketRoute, VoiceStyle voiceStyle) {
+        if (!enabled) {
+            return;
+        }
+
+        // 다른 작업이 같은 키를 먼저 등록했으면 경로만 교체
+        ttsSynthesisCacheRepository.upsert(cacheKey, bucketRoute, voiceStyle.getLanguageCode(),
+                voiceStyle.getGender(), LocalDateTime.now());
+        putMemory(cacheKey, bucketRoute);
+    }
+
+    /**
+     * 원본 오디오가 삭제되는 등 재사용에 실패한 캐시 항목 제거
+     */
+    public void evict(String cacheKey) {
+        synchronized (memoryCache) {
+            memoryCache.remove(cacheKey);
+        }
+        pendingHits.remove(cacheKey);
+        ttsSynthesisCacheRepository.deleteByCacheKey(cacheKey);
+        evictions.incrementAndGet();
+        LOGGER.warning("TTS 합성 캐시 항목 제거: " + cacheKey);
+    }
+
+    /**
+     * 캐시 적중/미스 지표 반환
+     */
+    public Map<String, Long> getCacheStats() {
+        long hits = memoryHits.get() + dbHits.get();
+        long total = hits + misses.get();
+
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("memoryHits", memoryHits.get());
+        stats.put("dbHits", dbHits.get());
+        stats.put("misses", misses.get());
+        stats.put("evictions", evictions.get());
+        stats.put("hitRatePercent", total == 0 ? 0L : hits * 100 / total);
+        synchronized (memoryCache) {
+            stats.put("memoryEntries", (long) memoryCache.size());
+        }
+        stats.put("pendingHitKeys", (long) pendingHits.size());
+        return stats;
+    }
+
+    private void recordHit(String cacheKey) {
+        pendingHits.merge(cacheKey, 1L, Long::sum);
+    }
+
+    // 모아 둔 적중 횟수를 키 순서대로 반영 (lastHitAt은 반영 시각, 실패하면 다음 주기에 다시 시도)
+    private void flushHits() {
+        List<String> cacheKeys = new ArrayList<>(pendingHits.keySet());
+        if (cacheKeys.isEmpty()) {
+            return;
+        }
+        cacheKeys.sort(null); // 여러 인스턴스가 같은 행을 다른 순서로 잠그지 않도록 정렬
+
+        Map<String, Long> drained = new LinkedHashMap<>();
+        for (String cacheKey : cacheKeys) {
+            Long hits = pendingHits.remove(cacheKey);
+            if (hits != null) {
+                drained.put(cacheKey, hits);
+            }
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status ->
+                    drained.forEach((cacheKey, hits) -> ttsSynthesisCacheRepository.addHits(cacheKey, hits, now)));
+        } catch (RuntimeException e) {
+            drained.forEach((cacheKey, hits) -> pendingHits.merge(cacheKey, hits, Long::sum));
+            LOGGER.warning("TTS 합성 캐시 적중 횟수 반영 실패: keys = " + drained.size() + ", error = " + e.getMessage());
+        }
+    }
+
+    private void putMemory(String cacheKey, String bucketRoute) {
+        synchronized (memoryCache) {
+            memoryCache.put(cacheKey, bucketRoute);
+        }
+    }
+
+    // 앞뒤 공백 제거, 연속 공백 하나로 축소, 유니코드 NFC 정규화
+    private String normalizeScript(String script) {
+        if (script == null) {
+            return "";
+        }
+        return Normalizer.normalize(script, Normalizer.Form.NFC).strip().replaceAll("\\s+", " ");
+    }
+
+    private String formatParam(Float value, float defaultValue) {
+        return String.format(Locale.ROOT, "%.2f", value != null ? value : defaultValue);
+    }
+}
@@ -1,6 +1,7 @@
 package com.fourformance.tts_vc_web.service.vc;
 
 
+import com.fourformance.tts_vc_web.common.config.TaskConfig;
 import com.fourformance.tts_vc_web.common.constant.APIStatusConst;
 import com.fourformance.tts_vc_web.common.constant.APIUnitStatusConst;
 import com.fourformance.tts_vc_web.common.constant.AudioType;
@@ -9,8 +10,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fourformance.tts_vc_web.common.constant.ProjectType;
 import com.fourformance.tts_vc_web.common.exception.common.BusinessException;
 import com.fourformance.tts_vc_web.common.exception.common.ErrorCode;
-import com.fourformance.tts_vc_web.common.util.CommonFileUtils;
 import com.fourformance.tts_vc_web.common.util.ElevenLabsClient_team_api;
+import com.fourformance.tts_vc_web.common.util.ExternalApiGuard;
 import com.fourformance.tts_vc_web.domain.entity.*;
 import com.fourformance.tts_vc_web.dto.common.VCMsgDto;
 import com.fourformance.tts_vc_web.dto.vc.TrgAudioFileRequestDto;
@@ -20,6 +21,7 @@ import com.fourformance.tts_vc_web.dto.vc.VCSaveRequestDto;
 import com.fourformance.tts_vc_web.repository.*;
 import com.fourformance.tts_vc_web.service.common.S3Service;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import com.fourformance.tts_vc_web.service.common.TaskProducer;
 import org.springframework.transaction.annotation.Isolation;
@@ -27,9 +29,11 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -53,6 +57,9 @@ public class VCService_TaskJob {
     private final TaskRepository taskRepository;
     private final TaskProducer taskProducer;
 
+    @Value("${upload.dir}")
+    private String uploadDir;
+
     /**
      * VC 프로젝트 처리 메서드
      * 1. 멤버 검증
@@ -74,8 +81,8 @@ public class VCService_TaskJob {
             String requestPayload = String.format("Voice ID: %s, Source File: %s", vcMsgDto.getTrgVoiceId(), vcMsgDto.getLocalFileName());
             VCDetail vcDetail = vcDetailRepository.findById(vcMsgDto.getDetailId())
                     .orElseThrow(() -> new BusinessException(ErrorCode.VC_DETAIL_NOT_FOUND));
+            // 변환 결과가 나온 뒤 저장 (호출량 제한으로 거절된 호출은 기록을 남기지 않음)
             APIStatus apiStatus = APIStatus.createAPIStatus(vcDetail, null, requestPayload);
-            apiStatusRepository.save(apiStatus);
 
             try {
                 // 변환 작업 수행
@@ -88,6 +95,10 @@ public class VCService_TaskJob {
 
                 return result;
             } catch (Exception e) {
+                if (ExternalApiGuard.isRejection(e)) {
+                    // 호출량 제한 / 서킷 브레이커로 호출하지 못한 경우는 APIStatus를 저장하지 않고 작업을 다시 큐에 넣도록 그대로 전달
+                    throw (BusinessException) e;
+                }
                 // 실패 상태 업데이트
                 String responsePayload = String.format("변환 실패: %s", e.getMessage());
                 apiStatus.updateResponseInfo(responsePayload, 500, APIUnitStatusConst.FAILURE);
@@ -101,8 +112,6 @@ public class VCService_TaskJob {
 
     private VCDetailResDto processSingleSourceFile(VCMsgDto vcMsgDto) {
 
-        String convertedFilePath = null;
-        File convertedFile = null;
         try {
             // Step 1: 소스 파일 URL 가져오기
             String sourceFileUrl = memberAudioMetaRepository.findAudioUrlsByAudioMetaIds(
@@ -111,16 +120,19 @@ public class VCService_TaskJob {
             );
             LOGGER.info("[소스 파일 URL 조회] URL: " + sourceFileUrl);
 
-            // Step 2: 변환 작업 수행
-            convertedFilePath = elevenLabsClient.convertSpeechToSpeech(vcMsgDto.getTrgVoiceId(), sourceFileUrl);
-            LOGGER.info("[파일 변환 완료] 파일 경로: " + convertedFilePath);
+            // Step 2: 소스 파일을 로컬 캐시를 거쳐 가져옴 (같은 소스를 다시 변환할 때 S3에서 다시 받지 않음)
+            String sourceFilePath = s3Service.downloadFileFromS3(sourceFileUrl, uploadDir);
 
-            // Step 3: 변환된 파일 읽기 및 S3 저장
-            convertedFile = new File(convertedFilePath);
-            byte[] convertedFileBytes = Files.readAllBytes(convertedFile.toPath());
-
-            MultipartFile convertedMultipartFile = CommonFileUtils.convertFileToMultipartFile(convertedFile, convertedFile.getName());
-            String vcOutputUrl = s3Service.uploadUnitSaveFile(convertedMultipartFile, vcMsgDto.getMemberId(), vcMsgDto.getProjectId(), vcMsgDto.getDetailId());
+            // Step 3: 변환 작업 수행 및 변환된 오디오를 임시 파일 없이 S3에 스트림 업로드
+            String vcOutputUrl;
+            try {
+                vcOutputUrl = elevenLabsClient.convertSpeechToSpeech(vcMsgDto.getMemberId(),
+                        vcMsgDto.getTrgVoiceId(), sourceFilePath,
+                        (audioStream, contentLength) -> s3Service.uploadUnitSaveStream(audioStream, contentLength,
+                                "audio/mpeg", vcMsgDto.getMemberId(), vcMsgDto.getProjectId(), vcMsgDto.getDetailId()));
+            } finally {
+                Files.deleteIfExists(Paths.get(sourceFilePath));
+            }
             LOGGER.info("[S3 업로드 완료] URL: " + vcOutputUrl);
 
             // Step 4: 결과 DTO 생성 및 반환
@@ -132,19 +144,16 @@ public class VCService_TaskJob {
                     sourceFileUrl,
                     List.of(vcOutputUrl)
             );
+        } catch (BusinessException e) {
+            if (ExternalApiGuard.isRejection(e)) {
+                throw e;
+            }
+            LOGGER.severe("[소스 파일 변환 실패] " + e.getMessage());
+            throw new BusinessException(ErrorCode.SERVER_ERROR);
         } catch (Exception e) {
             LOGGER.severe("[소스 파일 변환 실패] " + e.getMessage());
             e.printStackTrace();
             throw new BusinessException(ErrorCode.SERVER_ERROR);
-        } finally {
-            // 변환 파일 삭제 로직을 finally 블록에 추가하여 항상 실행되도록 함
-            if (convertedFile != null && convertedFile.exists()) {
-                if (!convertedFile.delete()) {
-                    LOGGER.warning("변환 파일 삭제 실패: " + convertedFile.getAbsolutePath());
-                } else {
-                    LOGGER.info("변환 파일 삭제 성공: " + convertedFilePath);
-                }
-            }
         }
     }
 
@@ -265,22 +274,19 @@ public class VCService_TaskJob {
                 .map(VCDetailDto::createVCDetailDtoWithLocalFileName)
                 .collect(Collectors.toList());
 
-        for (VCDetailDto detail : vcDetailDtos) {
-            Task task = createAndSaveTask(vcProject, detail);
-            sendTaskToQueue(detail, task, memberId, voiceId);
-        }
-    }
-
-    private Task createAndSaveTask(VCProject vcProject, VCDetailDto detail) {
-        String detailJson = convertDetailToJson(detail);
-        Task task = Task.createTask(vcProject, ProjectType.VC, detailJson);
-        taskRepository.save(task);
-        return task;
-    }
+        // Task 일괄 저장 (JDBC 배치)
+        List<Task> tasks = vcDetailDtos.stream()
+                .map(detail -> Task.createTask(vcProject, ProjectType.VC, convertDetailToJson(detail)))
+                .collect(Collectors.toList());
+        List<Long> taskIds = taskRepository.insertAllInBatch(tasks);
 
-    private void sendTaskToQueue(VCDetailDto detail, Task task, Long memberId, String voiceId) {
-        VCMsgDto message = createVCMsgDto(detail, task.getId(), memberId, voiceId);
-        taskProducer.sendTask("AUDIO_VC", message);
+        // 아웃박스에 메시지 일괄 저장, 커밋 이후 릴레이가 전송 (한 건만 변환하는 요청은 우선 처리)
+        Map<Long, VCMsgDto> messages = new LinkedHashMap<>();
+        for (int i = 0; i < taskIds.size(); i++) {
+            messages.put(taskIds.get(i), createVCMsgDto(vcDetailDtos.get(i), taskIds.get(i), memberId, voiceId));
+        }
+        int priority = messages.size() == 1 ? TaskConfig.PRIORITY_INTERACTIVE : TaskConfig.PRIORITY_BULK;
+        taskProducer.sendTasksAfterCommit("AUDIO_VC", messages, priority);
     }
 
     //    @Transactional
@@ -333,7 +339,7 @@ public class VCService_TaskJob {
 //
 //            // 메시지 생성 및 RabbitMQ에 전송
 //            VCMsgDto message = createVCMsgDto(detail, task.getId(), memberId, voiceId);
-//            taskProducer.sendTask("AUDIO_VC", message);
+//            taskProducer.sendTaskAfterCommit("AUDIO_VC", task.getId(), message);
 //        }
 //    }
 
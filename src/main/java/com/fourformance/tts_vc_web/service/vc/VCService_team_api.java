@@ -315,6 +315,7 @@ public class VCService_team_api {
                 // S3 파일인 경우, S3에서 다운로드하여 임시 파일로 저장
                 log.debug("S3에서 파일 다운로드 시도: {}", sourceFileUrl);
                 inputFilePath = s3Service.downloadFileFromS3(sourceFileUrl, uploadDir);
+                tempFile = new File(inputFilePath); // 작업 후 삭제 (캐시 원본은 유지됨)
                 log.info("S3 소스 오디오 다운로드 완료: {}", inputFilePath);
             } else {
                 // 소스 파일 정보가 모두 없을 경우 예외 발생
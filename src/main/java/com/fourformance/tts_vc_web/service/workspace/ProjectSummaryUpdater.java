@@ -0,0 +1,352 @@
+package com.fourformance.tts_vc_web.service.workspace;
+
+import com.fourformance.tts_vc_web.domain.entity.ProjectSummary;
+import com.fourformance.tts_vc_web.repository.ProjectRepository;
+import com.fourformance.tts_vc_web.repository.ProjectSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * 프로젝트 요약(ProjectSummary)과 검색 문서(SearchDocument) 갱신
+ * ProjectSummaryListener가 알려준 프로젝트/디테일 ID를 트랜잭션별로 모았다가 커밋되면 대기 목록에 넣고,
+ * 전용 스레드가 주기적으로 해당 프로젝트의 요약과 검색 문서만 다시 계산해 저장합니다.
+ * - 롤백된 트랜잭션의 변경은 반영하지 않습니다.
+ * - 요약은 커밋 직후 flush 주기만큼 늦게 반영됩니다.
+ * - 대기 목록은 메모리에만 있으므로 반영 전에 서버가 죽으면 잃어버립니다. 이를 복구하기 위해
+ *   {@link #reconcile()}가 주기적으로(그리고 시작할 때) 최근 바뀐 원본의 last_modified_date와 요약의 refreshed_at을 비교해
+ *   뒤처진 프로젝트만 다시 계산합니다.
+ * - 기존 데이터 채우기는 {@link #rebuildAll()}로 전체를 다시 계산합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectSummaryUpdater {
+
+    private static final Logger LOGGER = Logger.getLogger(ProjectSummaryUpdater.class.getName());
+
+    private final ProjectRepository projectRepository;
+    private final ProjectSummaryRepository projectSummaryRepository;
+    private final SearchIndexService searchIndexService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${project-summary.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    @Value("${project-summary.batch-size:200}")
+    private int batchSize;
+
+    // 요약 테이블이나 검색 문서가 비어 있으면 시작할 때 전체 재생성
+    @Value("${project-summary.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    // 누락 복구 주기 (ms, 0 이하이면 사용 안 함)
+    @Value("${project-summary.reconcile-interval-ms:300000}")
+    private long reconcileIntervalMs;
+
+    // 시작할 때 누락 복구로 다시 확인할 기간 (ms, 직전 실행이 죽기 전까지의 변경)
+    @Value("${project-summary.reconcile-lookback-ms:3600000}")
+    private long reconcileLookbackMs;
+
+    // 이전 복구 시각보다 이만큼 앞부터 다시 확인 (커밋 지연과 서버 간 시계 차이 보정, ms)
+    @Value("${project-summary.reconcile-overlap-ms:60000}")
+    private long reconcileOverlapMs;
+
+    // 커밋되었지만 아직 반영하지 않은 변경
+    private final Set<Long> dirtyProjectIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyTtsDetailIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyVcDetailIds = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile LocalDateTime reconciledAt; // 마지막으로 누락 복구를 시작한 시각 (executor 스레드에서만 변경)
+    private TransactionTemplate transactionTemplate;
+    private ScheduledExecutorService executor;
+
+    // 지표
+    private final AtomicLong refreshedCount = new AtomicLong();
+    private final AtomicLong removedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong rebuildCount = new AtomicLong();
+    private final AtomicLong reconciledCount = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        batchSize = Math.max(batchSize, 1);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // flush와 재생성을 한 스레드에서 순서대로 처리
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "project-summary-updater");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+
+        executor.execute(() -> {
+            try {
+                if (rebuildOnStartup && (projectSummaryRepository.count() == 0 || searchIndexService.isEmpty())) {
+                    rebuildAll();
+                    return;
+                }
+            } catch (RuntimeException e) {
+                LOGGER.severe("프로젝트 요약 초기 생성 실패: " + e.getMessage());
+            }
+            // 직전 실행이 반영하지 못하고 종료된 변경 복구
+            reconcile();
+        });
+        if (reconcileIntervalMs > 0) {
+            executor.scheduleWithFixedDelay(this::reconcile, reconcileIntervalMs, reconcileIntervalMs,
+                    TimeUnit.MILLISECONDS);
+        }
+        LOGGER.info("ProjectSummaryUpdater 초기화 완료: flushIntervalMs=" + flushIntervalMs + ", batchSize=" + batchSize);
+    }
+
+    /**
+     * 종료 시 스레드를 멈추고 대기 중인 변경을 반영
+     */
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * 프로젝트 변경 기록 (프로젝트, TTS/VC/Concat 디테일, Concat Export)
+     */
+    public void markProject(Long projectId) {
+        if (projectId == null) {
+            return;
+        }
+        PendingChanges changes = currentChanges();
+        if (changes != null) {
+            changes.projectIds.add(projectId);
+        } else {
+            dirtyProjectIds.add(projectId);
+        }
+    }
+
+    /**
+     * 디테일 변경 기록 (APIStatus, TTS/VC Export)
+     * 프로젝트 ID는 반영할 때 한 번에 조회합니다.
+     */
+    public void markDetails(Long ttsDetailId, Long vcDetailId) {
+        if (ttsDetailId == null && vcDetailId == null) {
+            return;
+        }
+        PendingChanges changes = currentChanges();
+        Set<Long> ttsDetailIds = changes != null ? changes.ttsDetailIds : dirtyTtsDetailIds;
+        Set<Long> vcDetailIds = changes != null ? changes.vcDetailIds : dirtyVcDetailIds;
+        if (ttsDetailId != null) {
+            ttsDetailIds.add(ttsDetailId);
+        }
+        if (vcDetailId != null) {
+            vcDetailIds.add(vcDetailId);
+        }
+    }
+
+    /**
+     * 전체 요약 재생성을 비동기로 시작 (이미 진행 중이면 false)
+     */
+    public boolean rebuildAllAsync() {
+        if (rebuilding.get()) {
+            return false;
+        }
+        executor.execute(this::rebuildAll);
+        return true;
+    }
+
+    /**
+     * 모든 프로젝트의 요약과 검색 문서를 batch-size 단위로 다시 계산
+     */
+    public void rebuildAll() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        long total = 0;
+        try {
+            Long lastProjectId = null;
+            while (true) {
+                List<Long> projectIds = projectRepository.findProjectIdsAfter(lastProjectId, batchSize);
+                if (projectIds.isEmpty()) {
+                    break;
+                }
+                refresh(projectIds);
+                total += projectIds.size();
+                lastProjectId = projectIds.get(projectIds.size() - 1);
+            }
+            rebuildCount.incrementAndGet();
+            LOGGER.info("프로젝트 요약 재생성 완료: projects = " + total + ", elapsedMs = "
+                    + (System.currentTimeMillis() - startedAt));
+        } catch (RuntimeException e) {
+            failedCount.incrementAndGet();
+            LOGGER.severe("프로젝트 요약 재생성 실패: processed = " + total + ", error = " + e.getMessage());
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 누락 복구: 마지막 복구 이후 원본이 바뀌었는데 요약이 그보다 오래된 프로젝트를 다시 계산
+     * 처음 실행할 때는 reconcile-lookback-ms 만큼 이전부터 확인합니다.
+     */
+    public void reconcile() {
+        if (rebuilding.get()) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = reconciledAt == null
+                ? startedAt.minusNanos(TimeUnit.MILLISECONDS.toNanos(reconcileLookbackMs))
+                : reconciledAt.minusNanos(TimeUnit.MILLISECONDS.toNanos(reconcileOverlapMs));
+        try {
+            List<Long> staleIds = new ArrayList<>(projectRepository.findStaleProjectIds(since));
+            for (int from = 0; from < staleIds.size(); from += batchSize) {
+                refresh(staleIds.subList(from, Math.min(from + batchSize, staleIds.size())));
+            }
+            reconciledAt = startedAt;
+            reconciledCount.addAndGet(staleIds.size());
+            if (!staleIds.isEmpty()) {
+                LOGGER.info("프로젝트 요약 누락 복구: projects = " + staleIds.size() + ", since = " + since);
+            }
+        } catch (RuntimeException e) {
+            // 복구 시각을 올리지 않았으므로 다음 주기에 같은 범위부터 다시 확인
+            failedCount.incrementAndGet();
+            LOGGER.warning("프로젝트 요약 누락 복구 실패: since = " + since + ", error = " + e.getMessage());
+        }
+    }
+
+    /**
+     * 요약 갱신 지표 반환
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("refreshed", refreshedCount.get());
+        stats.put("removed", removedCount.get());
+        stats.put("failed", failedCount.get());
+        stats.put("rebuilds", rebuildCount.get());
+        stats.put("reconciled", reconciledCount.get());
+        stats.put("pending", (long) (dirtyProjectIds.size() + dirtyTtsDetailIds.size() + dirtyVcDetailIds.size()));
+        stats.put("rebuilding", rebuilding.get() ? 1L : 0L);
+        return stats;
+    }
+
+    // 대기 중인 변경을 프로젝트 ID로 모아 batch-size 단위로 반영
+    private void flush() {
+        Set<Long> projectIds = new HashSet<>(drain(dirtyProjectIds));
+        List<Long> ttsDetailIds = drain(dirtyTtsDetailIds);
+        List<Long> vcDetailIds = drain(dirtyVcDetailIds);
+        if (projectIds.isEmpty() && ttsDetailIds.isEmpty() && vcDetailIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (!ttsDetailIds.isEmpty() || !vcDetailIds.isEmpty()) {
+                projectIds.addAll(projectRepository.findProjectIdsByDetailIds(ttsDetailIds, vcDetailIds));
+            }
+            List<Long> ids = new ArrayList<>(projectIds);
+            for (int from = 0; from < ids.size(); from += batchSize) {
+                refresh(ids.subList(from, Math.min(from + batchSize, ids.size())));
+            }
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도
+            failedCount.incrementAndGet();
+            dirtyProjectIds.addAll(projectIds);
+            dirtyTtsDetailIds.addAll(ttsDetailIds);
+            dirtyVcDetailIds.addAll(vcDetailIds);
+            LOGGER.warning("프로젝트 요약 갱신 실패: projects = " + projectIds.size() + ", error = " + e.getMessage());
+        }
+    }
+
+    // 요약과 검색 문서를 다시 계산해 저장 (원본이 없어진 프로젝트의 요약은 삭제)
+    private void refresh(Collection<Long> projectIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<ProjectSummary> computed = projectRepository.computeProjectSummaries(projectIds);
+            Map<Long, ProjectSummary> existing = projectSummaryRepository.findAllById(projectIds).stream()
+                    .collect(Collectors.toMap(ProjectSummary::getProjectId, Function.identity()));
+
+            List<ProjectSummary> created = new ArrayList<>();
+            for (ProjectSummary summary : computed) {
+                ProjectSummary current = existing.remove(summary.getProjectId());
+                if (current != null) {
+                    current.refresh(summary);
+                } else {
+                    created.add(summary);
+                }
+            }
+            projectSummaryRepository.saveAll(created);
+            projectSummaryRepository.deleteAll(existing.values());
+
+            searchIndexService.index(projectIds);
+
+            refreshedCount.addAndGet(computed.size());
+            removedCount.addAndGet(existing.size());
+        });
+    }
+
+    private List<Long> drain(Set<Long> ids) {
+        List<Long> drained = new ArrayList<>(ids);
+        drained.forEach(ids::remove);
+        return drained;
+    }
+
+    // 현재 트랜잭션에 묶인 변경 목록 (커밋되면 대기 목록으로 옮김, 트랜잭션 밖이면 null)
+    private PendingChanges currentChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        PendingChanges changes = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            PendingChanges bound = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ProjectSummaryUpdater.this);
+                    if (status == STATUS_COMMITTED) {
+                        dirtyProjectIds.addAll(bound.projectIds);
+                        dirtyTtsDetailIds.addAll(bound.ttsDetailIds);
+                        dirtyVcDetailIds.addAll(bound.vcDetailIds);
+                    }
+                }
+            });
+            changes = bound;
+        }
+        return changes;
+    }
+
+    private static class PendingChanges {
+        private final Set<Long> projectIds = new HashSet<>();
+        private final Set<Long> ttsDetailIds = new HashSet<>();
+        private final Set<Long> vcDetailIds = new HashSet<>();
+    }
+}
@@ -0,0 +1,144 @@
+package com.fourformance.tts_vc_web.service.workspace;
+
+import com.fourformance.tts_vc_web.common.constant.SearchDocType;
+import com.fourformance.tts_vc_web.common.exception.common.BusinessException;
+import com.fourformance.tts_vc_web.common.exception.common.ErrorCode;
+import com.fourformance.tts_vc_web.domain.entity.SearchDocument;
+import com.fourformance.tts_vc_web.repository.SearchDocumentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * 워크스페이스 검색 색인 (search_document)
+ * 프로젝트 요약과 같은 시점에 ProjectSummaryUpdater가 바뀐 프로젝트의 문서만 다시 만들고,
+ * 키워드 검색은 MySQL FULLTEXT(ngram) 인덱스로 관련도 순 ID를 조회합니다.
+ * - 테이블과 FULLTEXT 인덱스는 마이그레이션(V4__search_document.sql)으로 만들고, 시작할 때는 인덱스가 있는지만 확인합니다.
+ * - 인덱스가 없거나 MySQL이 아닌 환경에서는 같은 테이블에 LIKE 검색을 합니다.
+ * - 전체 재색인은 프로젝트 요약 재생성과 함께 진행됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService {
+
+    private static final Logger LOGGER = Logger.getLogger(SearchIndexService.class.getName());
+
+    // 검색 API 한 번에 돌려주는 최대 ID 수
+    private static final int MAX_SEARCH_SIZE = 100;
+
+    private final SearchDocumentRepository searchDocumentRepository;
+
+    // false면 FULLTEXT 인덱스가 있어도 LIKE 검색
+    @Value("${search.fulltext.enabled:true}")
+    private boolean fullTextEnabled;
+
+    // 목록 조회에서 키워드 검색 결과로 사용할 최대 후보 수 (지표로 노출)
+    @Value("${search.max-candidates:1000}")
+    private long maxCandidates;
+
+    private volatile boolean fullTextAvailable;
+
+    // 지표
+    private final AtomicLong indexedCount = new AtomicLong();
+    private final AtomicLong removedCount = new AtomicLong();
+    private final AtomicLong searchCount = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        if (!fullTextEnabled) {
+            LOGGER.info("검색 색인: FULLTEXT 사용 안 함 (LIKE 검색)");
+            return;
+        }
+        try {
+            fullTextAvailable = searchDocumentRepository.detectFullTextIndex();
+            if (fullTextAvailable) {
+                LOGGER.info("검색 색인: FULLTEXT(ngram) 인덱스 사용");
+            } else {
+                LOGGER.warning("FULLTEXT 인덱스가 없어 LIKE 검색을 사용함 (V4__search_document.sql 적용 필요)");
+            }
+        } catch (DataAccessException e) {
+            LOGGER.warning("FULLTEXT 인덱스를 확인하지 못해 LIKE 검색을 사용함: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 프로젝트와 그 Export들의 검색 문서를 다시 만들어 저장 (호출 측 트랜잭션 안에서 실행)
+     * 원본이 없어진 문서는 삭제합니다.
+     */
+    public void index(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        List<SearchDocument> computed = searchDocumentRepository.computeSearchDocuments(projectIds);
+        Map<String, SearchDocument> existing = new LinkedHashMap<>();
+        for (SearchDocument document : searchDocumentRepository.findByProjectIdIn(projectIds)) {
+            existing.put(key(document), document);
+        }
+
+        List<SearchDocument> created = new ArrayList<>();
+        for (SearchDocument document : computed) {
+            SearchDocument current = existing.remove(key(document));
+            if (current != null) {
+                current.update(document);
+            } else {
+                created.add(document);
+            }
+        }
+        searchDocumentRepository.saveAll(created);
+        searchDocumentRepository.deleteAll(existing.values());
+
+        indexedCount.addAndGet(computed.size());
+        removedCount.addAndGet(existing.size());
+    }
+
+    /**
+     * 키워드와 일치하는 프로젝트 / Export ID를 관련도 순으로 조회
+     *
+     * @param memberId 회원 ID
+     * @param docType  PROJECT 또는 EXPORT
+     * @param keyword  검색어 (공백으로 나눈 단어를 모두 포함하는 문서)
+     * @param size     최대 개수
+     */
+    public List<Long> search(Long memberId, SearchDocType docType, String keyword, int size) {
+        if (memberId == null) {
+            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+        searchCount.incrementAndGet();
+        return searchDocumentRepository.findRankedRefIds(memberId, docType, keyword,
+                Math.max(1, Math.min(size, MAX_SEARCH_SIZE)));
+    }
+
+    /**
+     * 검색 문서가 하나도 없는지 (처음 배포 시 전체 재색인 여부 판단)
+     */
+    public boolean isEmpty() {
+        return searchDocumentRepository.count() == 0;
+    }
+
+    /**
+     * 검색 색인 지표 반환
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("indexed", indexedCount.get());
+        stats.put("removed", removedCount.get());
+        stats.put("searches", searchCount.get());
+        stats.put("fullText", fullTextAvailable ? 1L : 0L);
+        stats.put("maxCandidates", maxCandidates);
+        return stats;
+    }
+
+    private String key(SearchDocument document) {
+        return document.getDocType() + ":" + document.getRefId();
+    }
+}
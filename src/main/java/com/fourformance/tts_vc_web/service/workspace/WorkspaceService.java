@@ -1,10 +1,5 @@
 package com.fourformance.tts_vc_web.service.workspace;
 
-import static com.fourformance.tts_vc_web.domain.entity.QConcatDetail.concatDetail;
-import static com.fourformance.tts_vc_web.domain.entity.QTTSDetail.tTSDetail;
-import static com.fourformance.tts_vc_web.domain.entity.QVCDetail.vCDetail;
-
-import com.fourformance.tts_vc_web.common.constant.APIStatusConst;
 import com.fourformance.tts_vc_web.common.constant.APIUnitStatusConst;
 import com.fourformance.tts_vc_web.common.constant.ProjectType;
 import com.fourformance.tts_vc_web.common.exception.common.BusinessException;
@@ -12,7 +7,7 @@ import com.fourformance.tts_vc_web.common.exception.common.ErrorCode;
 import com.fourformance.tts_vc_web.domain.entity.APIStatus;
 import com.fourformance.tts_vc_web.domain.entity.ConcatProject;
 import com.fourformance.tts_vc_web.domain.entity.OutputAudioMeta;
-import com.fourformance.tts_vc_web.domain.entity.Project;
+import com.fourformance.tts_vc_web.domain.entity.ProjectSummary;
 import com.fourformance.tts_vc_web.domain.entity.TTSProject;
 import com.fourformance.tts_vc_web.domain.entity.VCProject;
 import com.fourformance.tts_vc_web.dto.workspace.ExportListDto;
@@ -21,12 +16,13 @@ import com.fourformance.tts_vc_web.dto.workspace.RecentExportDto;
 import com.fourformance.tts_vc_web.dto.workspace.RecentProjectDto;
 import com.fourformance.tts_vc_web.repository.OutputAudioMetaRepository;
 import com.fourformance.tts_vc_web.repository.ProjectRepository;
+import com.fourformance.tts_vc_web.repository.ProjectSummaryRepository;
 import com.fourformance.tts_vc_web.repository.workspace.OutputAudioMetaRepositoryCustomImpl;
 import com.fourformance.tts_vc_web.service.common.S3Service;
-import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -39,7 +35,7 @@ public class WorkspaceService {
     private final OutputAudioMetaRepository outputAudioMetaRepository;
     private final S3Service s3Service;
     private final OutputAudioMetaRepositoryCustomImpl outputAudioMetaRepositoryCustomImpl;
-    private final JPAQueryFactory queryFactory;
+    private final ProjectSummaryRepository projectSummaryRepository;
 
     public List<RecentProjectDto> getRecentProjects(Long memberId) {
         // memberId가 null이면 예외 발생
@@ -47,70 +43,38 @@ public class WorkspaceService {
             throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
         }
 
-        // DB에서 최신 5개의 프로젝트 조회
-        List<Project> projects = projectRepository.findTop5ByMemberIdOrderByCreatedAtDesc(memberId);
-
-        // 프로젝트 리스트를 DTO로 변환
-        return projects.stream().map(project -> {
-            String type = convertProjectType(project); // 프로젝트 타입 결정
-
-            APIStatusConst apiStatus = null;
-            String script = null;
-
-            // API 상태 및 스크립트를 TTSProject, VCProject, ConcatProject에 따라 가져옴
-            if (project instanceof TTSProject tts) {
-                apiStatus = tts.getApiStatus();
-                script = queryFactory
-                        .select(tTSDetail.unitScript)
-                        .from(tTSDetail)
-                        .where(tTSDetail.ttsProject.id.eq(tts.getId())
-                                .and(tTSDetail.isDeleted.isFalse()))
-                        .orderBy(tTSDetail.unitSequence.asc())
-                        .fetchFirst();
-            } else if (project instanceof VCProject vc) {
-                apiStatus = vc.getApiStatus();
-                script = queryFactory
-                        .select(vCDetail.unitScript)
-                        .from(vCDetail)
-                        .where(vCDetail.vcProject.id.eq(vc.getId())
-                                .and(vCDetail.isDeleted.isFalse()))
-                        .orderBy(vCDetail.createdAt.asc())
-                        .fetchFirst();
-            } else if (project instanceof ConcatProject concat) {
-                script = queryFactory
-                        .select(concatDetail.unitScript)
-                        .from(concatDetail)
-                        .where(concatDetail.concatProject.id.eq(concat.getId())
-                                .and(concatDetail.isDeleted.isFalse()))
-                        .orderBy(concatDetail.audioSeq.asc())
-                        .fetchFirst();
-            }
-
-            return new RecentProjectDto(
-                    project.getId(),
-                    type,
-                    project.getProjectName(),
-                    apiStatus, // 상태는 TTSProject와 VCProject만 포함, 나머지는 null
-                    script, // 스크립트 추가
-                    project.getCreatedAt(),
-                    project.getUpdatedAt()
-            );
-        }).collect(Collectors.toList());
+        // 프로젝트 요약 테이블에서 최신 5개 조회 (첫 스크립트 포함, 추가 조회 없음)
+        List<ProjectSummary> summaries = projectSummaryRepository.findTop5ByMemberIdAndIsDeletedFalseOrderByCreatedAtDesc(
+                memberId);
+
+        // 요약을 DTO로 변환
+        return summaries.stream()
+                .map(summary -> new RecentProjectDto(
+                        summary.getProjectId(),
+                        convertProjectType(summary.getProjectType()), // 프로젝트 타입 결정
+                        summary.getProjectName(),
+                        summary.getApiStatus(), // 상태는 TTSProject와 VCProject만 포함, 나머지는 null
+                        summary.getFirstScript(), // 스크립트 추가
+                        summary.getCreatedAt(),
+                        summary.getUpdatedAt()))
+                .collect(Collectors.toList());
     }
 
-    private String convertProjectType(Project project) {
-        // 프로젝트의 클래스 이름을 기반으로 적절한 타입 문자열로 변환
-        String simpleName = project.getClass().getSimpleName();
-        switch (simpleName) {
-            case "TTSProject":
+    private String convertProjectType(ProjectType projectType) {
+        // 프로젝트 타입을 응답용 문자열로 변환
+        if (projectType == null) {
+            throw new BusinessException(ErrorCode.UNSUPPORTED_PROJECT_TYPE); // 지원하지 않는 타입 처리
+        }
+        switch (projectType) {
+            case TTS:
                 return "TTS";
-            case "VCProject":
+            case VC:
                 return "VC";
-            case "ConcatProject":
+            case CONCAT:
                 return "Concat";
             default:
                 throw new BusinessException(ErrorCode.UNSUPPORTED_PROJECT_TYPE); // 지원하지 않는 타입 처리
-        } //
+        }
     }
 
     /**
@@ -144,19 +108,24 @@ public class WorkspaceService {
         // 최신 5개의 OutputAudioMeta 레코드 조회
         List<OutputAudioMeta> recentExports = outputAudioMetaRepository.findTop5RecentOutputAudioMetaByMemberId(memberId);
 
+        // S3 Presigned URL을 한 번에 생성 (캐시된 URL 재사용)
+        Map<String, String> presignedUrls = s3Service.generatePresignedUrls(recentExports.stream()
+                .map(OutputAudioMeta::getBucketRoute)
+                .collect(Collectors.toList()));
+
         // DTO로 변환
         return recentExports.stream()
-                .map(this::mapToRecentExportDto)
+                .map(meta -> mapToRecentExportDto(meta, presignedUrls))
                 .collect(Collectors.toList());
     }
 
-    private RecentExportDto mapToRecentExportDto(OutputAudioMeta meta) {
+    private RecentExportDto mapToRecentExportDto(OutputAudioMeta meta, Map<String, String> presignedUrls) {
         RecentExportDto dto = new RecentExportDto(); // DTO를 생성
 
         // 공통 설정
         dto.setMetaId(meta.getId()); // OutputAudioMeta ID
         dto.setFileName(extractFileName(meta.getBucketRoute())); // 파일명 추출
-        dto.setUrl(s3Service.generatePresignedUrl(meta.getBucketRoute())); // S3 Presigned URL 생성
+        dto.setUrl(presignedUrls.get(meta.getBucketRoute())); // S3 Presigned URL
         dto.setUnitStatus(getLatestUnitStatusFromMeta(meta)); // 최신 Unit Status 설정
         dto.setCreateAt(meta.getCreatedAt()); // 생성일 기준으로 보여줌
 
@@ -221,7 +190,8 @@ public class WorkspaceService {
     /**
      * ExportListDto 리스트를 ExportWithDownloadLinkDto 리스트로 변환하는 매핑 메서드
      */
-    private ExportWithDownloadLinkDto mapToExportWithDownloadLinkDto(ExportListDto export) {
+    private ExportWithDownloadLinkDto mapToExportWithDownloadLinkDto(ExportListDto export,
+                                                                   Map<String, String> presignedUrls) {
         ExportWithDownloadLinkDto dto = new ExportWithDownloadLinkDto();
 
         // 공통 설정
@@ -232,8 +202,7 @@ public class WorkspaceService {
 
         // Presigned URL 설정
         String bucketRoute = export.getBucketRoute(); // audioUrl이 bucketRoute임을 확인
-        String presignedUrl = s3Service.generatePresignedUrl(bucketRoute);
-        dto.setDownloadLink(presignedUrl);
+        dto.setDownloadLink(presignedUrls.get(bucketRoute));
 
         // 프로젝트 타입에 따른 설정
         switch (export.getProjectType().toUpperCase()) {
@@ -273,10 +242,15 @@ public class WorkspaceService {
         List<ExportListDto> exportList = outputAudioMetaRepositoryCustomImpl.findExportHistoryBySearchCriteria(memberId,
                 keyword);
 
+        // Presigned URL을 한 번에 생성 (캐시된 URL 재사용)
+        Map<String, String> presignedUrls = s3Service.generatePresignedUrls(exportList.stream()
+                .map(ExportListDto::getBucketRoute)
+                .collect(Collectors.toList()));
+
         // ExportListDto 리스트를 ExportWithDownloadLinkDto 리스트로 변환
         List<ExportWithDownloadLinkDto> exportWithLinks = new ArrayList<>();
         for (ExportListDto export : exportList) {
-            ExportWithDownloadLinkDto dto = mapToExportWithDownloadLinkDto(export);
+            ExportWithDownloadLinkDto dto = mapToExportWithDownloadLinkDto(export, presignedUrls);
             exportWithLinks.add(dto);
         }
 
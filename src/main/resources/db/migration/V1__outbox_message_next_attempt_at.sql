@@ -0,0 +1,27 @@
+-- 트랜잭셔널 아웃박스 (spring.jpa.hibernate.ddl-auto=none 이므로 배포 전에 적용)
+-- TaskProducer가 Task와 같은 트랜잭션에서 저장하고, OutboxRelay가 커밋된 메시지만 RabbitMQ로 전송
+CREATE TABLE IF NOT EXISTS outbox_message
+(
+    outbox_message_id  BIGINT       NOT NULL AUTO_INCREMENT,
+    exchange_name      VARCHAR(255) NULL,
+    routing_key        VARCHAR(255) NULL,
+    payload            JSON         NOT NULL,
+    task_id            BIGINT       NULL,
+    priority           INT          NULL,
+    status             VARCHAR(20)  NOT NULL,
+    attempts           INT          NULL,
+    last_error         VARCHAR(255) NULL,
+    created_at         DATETIME(6)  NULL,
+    sent_at            DATETIME(6)  NULL,
+    created_date       DATETIME(6)  NULL,
+    last_modified_date DATETIME(6)  NULL,
+    created_by         BIGINT       NULL,
+    last_modified_by   BIGINT       NULL,
+    PRIMARY KEY (outbox_message_id),
+    INDEX idx_outbox_message_status (status, outbox_message_id)
+) ENGINE = InnoDB;
+
+-- 아웃박스 재전송 백오프
+-- 실패한 메시지는 next_attempt_at 이후에만 OutboxRelay가 다시 꺼냄
+ALTER TABLE outbox_message
+    ADD COLUMN next_attempt_at DATETIME(6) NULL AFTER last_error;
@@ -0,0 +1,8 @@
+-- 프로젝트 요약 누락 복구 (spring.jpa.hibernate.ddl-auto=none 이므로 배포 전에 적용)
+-- ProjectSummaryUpdater.reconcile이 최근 변경된 행만 범위 조회하도록 원본 테이블의 last_modified_date 인덱스 추가
+CREATE INDEX idx_project_last_modified ON project (last_modified_date);
+CREATE INDEX idx_tts_detail_last_modified ON tts_detail (last_modified_date);
+CREATE INDEX idx_vc_detail_last_modified ON vc_detail (last_modified_date);
+CREATE INDEX idx_concat_detail_last_modified ON concat_detail (last_modified_date);
+CREATE INDEX idx_api_status_last_modified ON api_status (last_modified_date);
+CREATE INDEX idx_output_audio_meta_last_modified ON output_audio_meta (last_modified_date);
@@ -0,0 +1,20 @@
+-- 워크스페이스 키워드 검색 문서 (spring.jpa.hibernate.ddl-auto=none 이므로 배포 전에 적용)
+-- FULLTEXT(ngram) 인덱스는 JPA로 선언할 수 없어 여기서 함께 만듦
+-- 애플리케이션은 시작할 때 인덱스 존재 여부만 확인하고, 없으면 LIKE 검색을 사용
+-- ngram 토큰 크기는 MySQL 서버 설정(ngram_token_size)과 search.ngram-token-size 값을 맞춤
+CREATE TABLE IF NOT EXISTS search_document
+(
+    search_document_id BIGINT       NOT NULL AUTO_INCREMENT,
+    doc_type           VARCHAR(20)  NOT NULL,
+    ref_id             BIGINT       NOT NULL,
+    project_id         BIGINT       NOT NULL,
+    member_id          BIGINT       NULL,
+    content            LONGTEXT     NULL,
+    is_deleted         BIT(1)       NULL,
+    updated_at         DATETIME(6)  NULL,
+    PRIMARY KEY (search_document_id),
+    CONSTRAINT uk_search_document_ref UNIQUE (doc_type, ref_id),
+    INDEX idx_search_document_member (member_id, doc_type, is_deleted),
+    INDEX idx_search_document_project (project_id),
+    FULLTEXT INDEX ft_search_document_content (content) WITH PARSER ngram
+) ENGINE = InnoDB;
@@ -0,0 +1,4 @@
+-- Export 목록 (spring.jpa.hibernate.ddl-auto=none 이므로 배포 전에 적용)
+-- 삭제되지 않은 Export의 created_at desc, generated_audio_meta_id desc 정렬과 keyset 페이지 조회를 인덱스 순서로 처리
+CREATE INDEX idx_output_audio_meta_created
+    ON output_audio_meta (is_deleted, created_at, generated_audio_meta_id);
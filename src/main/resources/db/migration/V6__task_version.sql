@@ -0,0 +1,4 @@
+-- 작업 상태 전이 compare-and-set 용 버전 (spring.jpa.hibernate.ddl-auto=none 이므로 배포 전에 적용)
+-- Task 엔티티의 @Version 컬럼. 기존 작업은 0부터 시작
+ALTER TABLE task
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,19 @@
+-- TTS 합성 결과 캐시 (spring.jpa.hibernate.ddl-auto=none 이므로 배포 전에 적용)
+-- cache_key는 정규화된 합성 파라미터의 SHA-256, 같은 키 동시 등록은 uk_tts_synthesis_cache_key로 upsert 처리
+CREATE TABLE IF NOT EXISTS tts_synthesis_cache
+(
+    tts_synthesis_cache_id BIGINT       NOT NULL AUTO_INCREMENT,
+    cache_key              VARCHAR(64)  NOT NULL,
+    bucket_route           VARCHAR(255) NULL,
+    language_code          VARCHAR(255) NULL,
+    gender                 VARCHAR(255) NULL,
+    hit_count              BIGINT       NULL,
+    created_at             DATETIME(6)  NULL,
+    last_hit_at            DATETIME(6)  NULL,
+    created_date           DATETIME(6)  NULL,
+    last_modified_date     DATETIME(6)  NULL,
+    created_by             BIGINT       NULL,
+    last_modified_by       BIGINT       NULL,
+    PRIMARY KEY (tts_synthesis_cache_id),
+    CONSTRAINT uk_tts_synthesis_cache_key UNIQUE (cache_key)
+) ENGINE = InnoDB;
@@ -0,0 +1,5 @@
+-- 아웃박스 전송 중 상태 (spring.jpa.hibernate.ddl-auto=none 이므로 배포 전에 적용)
+-- OutboxRelay가 메시지를 SENDING으로 가져가 커밋한 뒤 잠금 없이 전송하고, next_attempt_at을 lease 만료 시각으로 사용
+-- status가 ENUM('PENDING','SENT','FAILED')으로 만들어진 환경에서도 새 상태를 저장할 수 있도록 VARCHAR로 맞춤
+ALTER TABLE outbox_message
+    MODIFY COLUMN status VARCHAR(20) NOT NULL;
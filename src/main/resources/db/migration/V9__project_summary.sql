@@ -0,0 +1,101 @@
+-- 워크스페이스 프로젝트 목록용 요약 (spring.jpa.hibernate.ddl-auto=none 이므로 배포 전에 적용)
+-- 목록 조회는 이 테이블만 읽으므로, 테이블을 만들면서 기존 프로젝트의 요약을 함께 채움
+-- (ProjectRepositoryCustomImpl.computeProjectSummaries와 같은 규칙, 이후 변경은 ProjectSummaryUpdater가 반영)
+CREATE TABLE IF NOT EXISTS project_summary
+(
+    project_id         BIGINT       NOT NULL,
+    member_id          BIGINT       NULL,
+    project_type       VARCHAR(20)  NULL,
+    project_name       VARCHAR(255) NULL,
+    api_status         VARCHAR(20)  NULL,
+    first_script       VARCHAR(255) NULL,
+    detail_count       INT          NULL,
+    latest_unit_status VARCHAR(20)  NULL,
+    last_export_at     DATETIME(6)  NULL,
+    is_deleted         BIT(1)       NULL,
+    created_at         DATETIME(6)  NULL,
+    updated_at         DATETIME(6)  NULL,
+    refreshed_at       DATETIME(6)  NULL,
+    PRIMARY KEY (project_id),
+    INDEX idx_project_summary_member_updated (member_id, is_deleted, updated_at, project_id),
+    INDEX idx_project_summary_member_created (member_id, is_deleted, created_at)
+) ENGINE = InnoDB;
+
+-- 기존 프로젝트 요약 채우기 (이미 요약이 있는 프로젝트는 건너뜀)
+-- 첫 번째 스크립트: TTS는 unit_sequence, VC는 created_at, Concat은 audio_seq 가 가장 작은 삭제되지 않은 디테일 (같으면 id가 작은 것)
+-- 최근 API 처리 결과: 응답 시각이 가장 늦은 APIStatus, 마지막 Export: 삭제되지 않은 OutputAudioMeta의 created_at 최댓값
+INSERT INTO project_summary (project_id, member_id, project_type, project_name, api_status, first_script,
+                             detail_count, latest_unit_status, last_export_at, is_deleted, created_at, updated_at,
+                             refreshed_at)
+SELECT p.project_id,
+       p.member_id,
+       CASE
+           WHEN tp.project_id IS NOT NULL THEN 'TTS'
+           WHEN vp.project_id IS NOT NULL THEN 'VC'
+           WHEN cp.project_id IS NOT NULL THEN 'CONCAT'
+           END,
+       p.project_name,
+       COALESCE(tp.api_status, vp.api_status),
+       CASE
+           WHEN tp.project_id IS NOT NULL THEN
+               (SELECT td.unit_script
+                FROM tts_detail td
+                WHERE td.project_id = p.project_id
+                  AND td.is_deleted = FALSE
+                  AND td.unit_sequence IS NOT NULL
+                ORDER BY td.unit_sequence, td.tts_detail_id
+                LIMIT 1)
+           WHEN vp.project_id IS NOT NULL THEN
+               (SELECT vd.unit_script
+                FROM vc_detail vd
+                WHERE vd.project_id = p.project_id
+                  AND vd.is_deleted = FALSE
+                  AND vd.created_at IS NOT NULL
+                ORDER BY vd.created_at, vd.vc_detail_id
+                LIMIT 1)
+           WHEN cp.project_id IS NOT NULL THEN
+               (SELECT cd.unit_script
+                FROM concat_detail cd
+                WHERE cd.project_id = p.project_id
+                  AND cd.is_deleted = FALSE
+                  AND cd.audio_seq IS NOT NULL
+                ORDER BY cd.audio_seq, cd.concat_detail_id
+                LIMIT 1)
+           END,
+       (SELECT COUNT(*) FROM tts_detail td WHERE td.project_id = p.project_id AND td.is_deleted = FALSE)
+           + (SELECT COUNT(*) FROM vc_detail vd WHERE vd.project_id = p.project_id AND vd.is_deleted = FALSE)
+           + (SELECT COUNT(*) FROM concat_detail cd WHERE cd.project_id = p.project_id AND cd.is_deleted = FALSE),
+       COALESCE(
+               (SELECT a.api_unit_status_const
+                FROM api_status a
+                         JOIN tts_detail td ON td.tts_detail_id = a.tts_detail_id
+                WHERE td.project_id = p.project_id
+                  AND a.response_at IS NOT NULL
+                ORDER BY a.response_at DESC
+                LIMIT 1),
+               (SELECT a.api_unit_status_const
+                FROM api_status a
+                         JOIN vc_detail vd ON vd.vc_detail_id = a.vc_detail_id
+                WHERE vd.project_id = p.project_id
+                  AND a.response_at IS NOT NULL
+                ORDER BY a.response_at DESC
+                LIMIT 1)),
+       e.last_export_at,
+       p.is_deleted,
+       p.created_at,
+       p.updated_at,
+       NOW(6)
+FROM project p
+         LEFT JOIN tts_project tp ON tp.project_id = p.project_id
+         LEFT JOIN vc_project vp ON vp.project_id = p.project_id
+         LEFT JOIN concat_project cp ON cp.project_id = p.project_id
+         LEFT JOIN (SELECT COALESCE(td.project_id, vd.project_id, o.concat_project_id) AS project_id,
+                           MAX(o.created_at)                                        AS last_export_at
+                    FROM output_audio_meta o
+                             LEFT JOIN tts_detail td ON td.tts_detail_id = o.tts_detail_id
+                             LEFT JOIN vc_detail vd ON vd.vc_detail_id = o.vc_detail_id
+                    WHERE o.is_deleted = FALSE
+                    GROUP BY COALESCE(td.project_id, vd.project_id, o.concat_project_id)) e
+                   ON e.project_id = p.project_id
+         LEFT JOIN project_summary ps ON ps.project_id = p.project_id
+WHERE ps.project_id IS NULL;
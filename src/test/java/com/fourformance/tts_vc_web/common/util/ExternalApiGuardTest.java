@@ -0,0 +1,258 @@
+package com.fourformance.tts_vc_web.common.util;
+
+import com.fourformance.tts_vc_web.common.constant.ExternalApiProvider;
+import com.fourformance.tts_vc_web.common.exception.common.BusinessException;
+import com.fourformance.tts_vc_web.common.exception.common.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ExternalApiGuardTest {
+
+    private static final long OPEN_DURATION_MS = 100;
+
+    private ExternalApiGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        guard = newGuard("1000");
+    }
+
+    @AfterEach
+    void tearDown() {
+        guard.close();
+    }
+
+    // ===== 토큰 버킷 =====
+
+    @Test
+    void 토큰_버킷은_용량만큼_허용하고_다음_토큰까지_대기_시간을_반환한다() {
+        // given (초당 1개, 최대 2개)
+        ExternalApiGuard.TokenBucket bucket = new ExternalApiGuard.TokenBucket(1, 2);
+
+        // when & then
+        assertThat(bucket.tryTake()).isZero();
+        assertThat(bucket.tryTake()).isZero();
+        long waitNanos = bucket.tryTake();
+        assertThat(waitNanos).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void 돌려받은_토큰은_바로_다시_쓸_수_있다() {
+        // given
+        ExternalApiGuard.TokenBucket bucket = new ExternalApiGuard.TokenBucket(1, 1);
+        assertThat(bucket.tryTake()).isZero();
+
+        // when
+        bucket.refund();
+
+        // then
+        assertThat(bucket.tryTake()).isZero();
+    }
+
+    @Test
+    void 가득_찬_채로_오래_쓰지_않은_버킷만_정리_대상이다() {
+        // given
+        ExternalApiGuard.TokenBucket bucket = new ExternalApiGuard.TokenBucket(1, 1);
+        long later = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+
+        // when & then
+        assertThat(bucket.isIdleAndFull(later, TimeUnit.SECONDS.toNanos(1))).isTrue();
+        bucket.tryTake();
+        assertThat(bucket.isIdleAndFull(later, TimeUnit.SECONDS.toNanos(1))).isFalse();
+    }
+
+    @Test
+    void 토큰이_없으면_기다리지_않고_바로_거절한다() {
+        // given (초당 1개)
+        guard.close();
+        guard = newGuard("1");
+        guard.acquire(ExternalApiProvider.GOOGLE_TTS, null).close();
+
+        // when
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> guard.acquire(ExternalApiProvider.GOOGLE_TTS, null))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EXTERNAL_API_RATE_LIMITED);
+
+        // then (다음 토큰까지 1초를 기다리지 않음)
+        assertThat(System.nanoTime() - startedAt).isLessThan(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    // ===== AIMD 동시 호출 제한 =====
+
+    @Test
+    void 동시_호출_수가_한도에_도달하면_허가하지_않는다() {
+        // given
+        ExternalApiGuard.AdaptiveLimiter limiter = newLimiter(2);
+
+        // when & then
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void 응답_429를_받으면_한도를_비율로_줄인다() {
+        // given
+        ExternalApiGuard.AdaptiveLimiter limiter = newLimiter(8);
+        limiter.tryAcquire();
+
+        // when
+        limiter.release(ExternalApiGuard.Outcome.THROTTLED, 0);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void 빠른_성공은_한도를_늘리고_느린_성공은_줄인다() {
+        // given
+        ExternalApiGuard.AdaptiveLimiter limiter = newLimiter(4);
+
+        // when (한도만큼 빠르게 성공하면 1 증가)
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+            limiter.release(ExternalApiGuard.Outcome.SUCCESS, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(4); // 4 + 1/4 + ... < 5
+        limiter.tryAcquire();
+        limiter.release(ExternalApiGuard.Outcome.SUCCESS, TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        limiter.tryAcquire();
+        limiter.release(ExternalApiGuard.Outcome.SUCCESS, TimeUnit.SECONDS.toNanos(10));
+        assertThat(limiter.getLimit()).isEqualTo(4); // 목표보다 느리면 0.9배
+    }
+
+    @Test
+    void 한도는_최소값_아래로_내려가지_않는다() {
+        // given
+        ExternalApiGuard.AdaptiveLimiter limiter = newLimiter(2);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+            limiter.release(ExternalApiGuard.Outcome.THROTTLED, 0);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    // ===== 서킷 브레이커 =====
+
+    @Test
+    void 연속_실패가_임계값에_도달하면_서킷이_열린다() {
+        // given
+        fail();
+        fail();
+
+        // when & then
+        assertRejectedByBreaker();
+    }
+
+    @Test
+    void 반열림_상태에서는_시험_호출_하나만_허용하고_성공하면_서킷이_닫힌다() throws InterruptedException {
+        // given
+        fail();
+        fail();
+        ExternalApiGuard.Permit probe = awaitHalfOpen();
+
+        // when & then (시험 호출 결과가 나오기 전에는 다른 호출 거절)
+        assertRejectedByBreaker();
+        probe.success();
+        probe.close();
+
+        try (ExternalApiGuard.Permit first = guard.acquire(ExternalApiProvider.ELEVENLABS, null);
+             ExternalApiGuard.Permit second = guard.acquire(ExternalApiProvider.ELEVENLABS, null)) {
+            first.success();
+            second.success();
+        }
+        assertThat(breakerState()).isEqualTo("CLOSED");
+    }
+
+    @Test
+    void 시험_호출이_실패하면_서킷이_다시_열린다() throws InterruptedException {
+        // given
+        fail();
+        fail();
+        ExternalApiGuard.Permit probe = awaitHalfOpen();
+
+        // when
+        probe.failure();
+        probe.close();
+
+        // then
+        assertThat(breakerState()).isEqualTo("OPEN");
+        assertRejectedByBreaker();
+    }
+
+    private ExternalApiGuard newGuard(String ratePerSecond) {
+        MockEnvironment environment = new MockEnvironment();
+        for (ExternalApiProvider provider : ExternalApiProvider.values()) {
+            String prefix = "external-api." + provider.getPropertyKey() + ".";
+            environment.withProperty(prefix + "rate-per-second", ratePerSecond)
+                    .withProperty(prefix + "member-rate-per-second", "0")
+                    .withProperty(prefix + "initial-concurrency", "8")
+                    .withProperty(prefix + "breaker.failure-threshold", "2")
+                    .withProperty(prefix + "breaker.open-duration-ms", String.valueOf(OPEN_DURATION_MS));
+        }
+
+        @SuppressWarnings("unchecked")
+        ObjectProvider<RabbitListenerEndpointRegistry> registryProvider = mock(ObjectProvider.class);
+        ExternalApiGuard newGuard = new ExternalApiGuard(environment, registryProvider);
+        ReflectionTestUtils.setField(newGuard, "enabled", true);
+        newGuard.init();
+        return newGuard;
+    }
+
+    private ExternalApiGuard.AdaptiveLimiter newLimiter(int initialLimit) {
+        return new ExternalApiGuard.AdaptiveLimiter(initialLimit, 1, 16, TimeUnit.SECONDS.toNanos(1), 0.5);
+    }
+
+    private void fail() {
+        try (ExternalApiGuard.Permit permit = guard.acquire(ExternalApiProvider.ELEVENLABS, null)) {
+            permit.failure();
+        }
+    }
+
+    private void assertRejectedByBreaker() {
+        assertThatThrownBy(() -> guard.acquire(ExternalApiProvider.ELEVENLABS, null))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EXTERNAL_API_CIRCUIT_OPEN);
+    }
+
+    // 대기 시간이 지나 반열림이 되면 시험 호출 허가를 받음
+    private ExternalApiGuard.Permit awaitHalfOpen() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + OPEN_DURATION_MS * 20;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                return guard.acquire(ExternalApiProvider.ELEVENLABS, null);
+            } catch (BusinessException e) {
+                Thread.sleep(10);
+            }
+        }
+        throw new AssertionError("서킷이 반열림 상태가 되지 않음");
+    }
+
+    private String breakerState() {
+        return (String) guard.getStats().get(ExternalApiProvider.ELEVENLABS.getPropertyKey()).get("breakerState");
+    }
+}
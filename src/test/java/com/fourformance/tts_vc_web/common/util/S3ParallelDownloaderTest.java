@@ -0,0 +1,137 @@
+package com.fourformance.tts_vc_web.common.util;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class S3ParallelDownloaderTest {
+
+    private static final int PART_SIZE = 1024 * 1024;
+    private static final int OBJECT_SIZE = PART_SIZE * 2 + 100; // 파트 3개
+
+    private final AmazonS3Client amazonS3Client = mock(AmazonS3Client.class);
+
+    // 현재 S3에 있는 객체 버전 (ETag)
+    private final AtomicReference<String> currentVersion = new AtomicReference<>("v1");
+
+    @TempDir
+    Path tempDir;
+
+    private S3ParallelDownloader downloader;
+
+    @BeforeEach
+    void setUp() {
+        downloader = new S3ParallelDownloader(amazonS3Client);
+        ReflectionTestUtils.setField(downloader, "bucket", "bucket");
+        ReflectionTestUtils.setField(downloader, "partSize", (long) PART_SIZE);
+        downloader.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        downloader.close();
+    }
+
+    @Test
+    void 파트를_받는_도중_객체가_바뀌면_버리고_새_버전으로_다시_받는다() throws IOException {
+        // given (첫 파트를 받은 직후 v2로 덮어씀)
+        givenObject(request -> {
+            if (request.getRange()[0] == 0 && currentVersion.get().equals("v1")) {
+                S3Object firstPart = part("v1", request);
+                currentVersion.set("v2");
+                return firstPart;
+            }
+            return respond(request);
+        });
+
+        // when
+        Path path = downloader.download("audio.wav", tempDir.resolve("audio.wav"));
+
+        // then (v1과 v2가 섞이지 않고 전부 v2)
+        byte[] downloaded = Files.readAllBytes(path);
+        assertThat(downloaded).hasSize(OBJECT_SIZE);
+        assertThat(downloaded).containsOnly(content("v2")[0]);
+    }
+
+    @Test
+    void 객체가_계속_바뀌면_파일을_지우고_실패한다() {
+        // given (첫 파트를 받을 때마다 새 버전으로 덮어씀)
+        givenObject(request -> {
+            if (request.getRange()[0] == 0) {
+                S3Object firstPart = part(currentVersion.get(), request);
+                currentVersion.set(currentVersion.get().equals("v1") ? "v2" : "v1");
+                return firstPart;
+            }
+            return respond(request);
+        });
+        Path target = tempDir.resolve("audio.wav");
+
+        // when & then
+        assertThatThrownBy(() -> downloader.download("audio.wav", target))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("계속 변경");
+        assertThat(target).doesNotExist();
+    }
+
+    private void givenObject(S3Answer answer) {
+        when(amazonS3Client.getObject(any(GetObjectRequest.class)))
+                .thenAnswer(invocation -> answer.answer(invocation.getArgument(0)));
+    }
+
+    // ETag 조건이 맞지 않으면 SDK처럼 null 반환
+    private S3Object respond(GetObjectRequest request) {
+        List<String> eTags = request.getMatchingETagConstraints();
+        String version = currentVersion.get();
+        if (!eTags.isEmpty() && !eTags.contains(version)) {
+            return null;
+        }
+        return part(version, request);
+    }
+
+    private S3Object part(String version, GetObjectRequest request) {
+        long start = request.getRange()[0];
+        long end = Math.min(request.getRange()[1], OBJECT_SIZE - 1);
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setHeader(Headers.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + OBJECT_SIZE);
+        metadata.setHeader(Headers.ETAG, version);
+
+        S3Object object = new S3Object();
+        object.setObjectMetadata(metadata);
+        object.setObjectContent(new ByteArrayInputStream(
+                Arrays.copyOfRange(content(version), (int) start, (int) end + 1)));
+        return object;
+    }
+
+    private byte[] content(String version) {
+        byte[] bytes = new byte[OBJECT_SIZE];
+        Arrays.fill(bytes, (byte) (version.equals("v1") ? 1 : 2));
+        return bytes;
+    }
+
+    @FunctionalInterface
+    private interface S3Answer {
+        S3Object answer(GetObjectRequest request);
+    }
+}
@@ -0,0 +1,250 @@
+package com.fourformance.tts_vc_web.repository.workspace;
+
+import com.fourformance.tts_vc_web.common.config.AuditConfig;
+import com.fourformance.tts_vc_web.common.constant.APIUnitStatusConst;
+import com.fourformance.tts_vc_web.common.constant.ProjectType;
+import com.fourformance.tts_vc_web.domain.entity.APIStatus;
+import com.fourformance.tts_vc_web.domain.entity.ConcatDetail;
+import com.fourformance.tts_vc_web.domain.entity.ConcatProject;
+import com.fourformance.tts_vc_web.domain.entity.Member;
+import com.fourformance.tts_vc_web.domain.entity.OutputAudioMeta;
+import com.fourformance.tts_vc_web.domain.entity.QAPIStatus;
+import com.fourformance.tts_vc_web.domain.entity.QConcatDetail;
+import com.fourformance.tts_vc_web.domain.entity.QConcatProject;
+import com.fourformance.tts_vc_web.domain.entity.QMember;
+import com.fourformance.tts_vc_web.domain.entity.QOutputAudioMeta;
+import com.fourformance.tts_vc_web.domain.entity.QTTSDetail;
+import com.fourformance.tts_vc_web.domain.entity.QTTSProject;
+import com.fourformance.tts_vc_web.domain.entity.QVCDetail;
+import com.fourformance.tts_vc_web.domain.entity.QVCProject;
+import com.fourformance.tts_vc_web.domain.entity.TTSDetail;
+import com.fourformance.tts_vc_web.domain.entity.TTSProject;
+import com.fourformance.tts_vc_web.dto.workspace.ExportWithDownloadLinkDto;
+import com.fourformance.tts_vc_web.repository.OutputAudioMetaRepository;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.QueryResults;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Export 내역 조회 벤치마크 (내장 H2, 시드 데이터)
+ * 기존 쿼리 형태(APIStatus 상관 서브쿼리 2중 + fetchResults 개수 조회)와
+ * 새 쿼리(최근 APIStatus 조인 1회, OFFSET 페이지 / 키셋 페이지)의 평균 실행 시간을 출력합니다.
+ * 실행: ./gradlew test --tests '*ExportHistoryQueryBenchmark' -Dbenchmark=true
+ */
+@DataJpaTest
+@Import(AuditConfig.class)
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.sql.init.mode=never",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ExportHistoryQueryBenchmark {
+
+    private static final int TTS_PROJECTS = 100;
+    private static final int DETAILS_PER_PROJECT = 10;
+    private static final int STATUSES_PER_DETAIL = 3;
+    private static final int CONCAT_PROJECTS = 20;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private OutputAudioMetaRepository outputAudioMetaRepository;
+
+    @Test
+    @DisplayName("Export 내역 조회: 기존 쿼리 / OFFSET 페이지 / 키셋 페이지 비교")
+    void compareExportHistoryQueries() {
+        // given
+        Long memberId = seed();
+        int totalExports = TTS_PROJECTS * DETAILS_PER_PROJECT + CONCAT_PROJECTS;
+        int lastPage = (totalExports - 1) / PAGE_SIZE;
+
+        // 새 쿼리: 첫 페이지는 OFFSET / 키셋 결과가 같아야 함
+        Page<ExportWithDownloadLinkDto> firstPage = outputAudioMetaRepository.findExportHistoryBySearchCriteria(
+                memberId, null, PageRequest.of(0, PAGE_SIZE));
+        Slice<ExportWithDownloadLinkDto> firstSlice = outputAudioMetaRepository.findExportHistoryBySearchCriteria(
+                memberId, null, null, null, PAGE_SIZE);
+        assertEquals(totalExports, firstPage.getTotalElements());
+        assertEquals(firstPage.getContent().stream().map(ExportWithDownloadLinkDto::getMetaId).toList(),
+                firstSlice.getContent().stream().map(ExportWithDownloadLinkDto::getMetaId).toList());
+        assertNotNull(firstPage.getContent().get(0).getUnitStatus());
+
+        // 키셋으로 전체를 넘겨보면 중복/누락이 없어야 함
+        assertEquals(totalExports, walkKeyset(memberId));
+
+        // when / then
+        measure("legacy first page", () -> legacyQuery(memberId, 0));
+        measure("legacy last page", () -> legacyQuery(memberId, lastPage));
+        measure("offset first page", () -> outputAudioMetaRepository.findExportHistoryBySearchCriteria(
+                memberId, null, PageRequest.of(0, PAGE_SIZE)));
+        measure("offset last page", () -> outputAudioMetaRepository.findExportHistoryBySearchCriteria(
+                memberId, null, PageRequest.of(lastPage, PAGE_SIZE)));
+        measure("keyset first page", () -> outputAudioMetaRepository.findExportHistoryBySearchCriteria(
+                memberId, null, null, null, PAGE_SIZE));
+        measure("keyset full walk", () -> walkKeyset(memberId));
+    }
+
+    // 키셋 페이지로 끝까지 조회한 Export 수
+    private int walkKeyset(Long memberId) {
+        Set<Long> seen = new HashSet<>();
+        LocalDateTime lastCreatedAt = null;
+        Long lastMetaId = null;
+        Slice<ExportWithDownloadLinkDto> slice;
+        do {
+            slice = outputAudioMetaRepository.findExportHistoryBySearchCriteria(memberId, null, lastCreatedAt,
+                    lastMetaId, PAGE_SIZE);
+            for (ExportWithDownloadLinkDto dto : slice.getContent()) {
+                assertTrue(seen.add(dto.getMetaId()));
+            }
+            if (!slice.getContent().isEmpty()) {
+                ExportWithDownloadLinkDto last = slice.getContent().get(slice.getContent().size() - 1);
+                lastCreatedAt = last.getCreatedAt();
+                lastMetaId = last.getMetaId();
+            }
+        } while (slice.hasNext());
+        return seen.size();
+    }
+
+    private void measure(String name, Supplier<?> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+            em.clear();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+            em.clear();
+        }
+        double averageMs = (System.nanoTime() - startedAt) / 1_000_000.0 / ITERATIONS;
+        System.out.printf("[export-history benchmark] %-20s %8.2f ms%n", name, averageMs);
+    }
+
+    // 회원 1명, TTS 프로젝트(디테일마다 APIStatus 여러 건과 Export 1건), Concat 프로젝트(Export 1건)
+    private Long seed() {
+        Member member = Member.createMember("bench@example.com", "password", "Bench User", 1,
+                LocalDateTime.now(), "010-1234-5678", true);
+        em.persist(member);
+
+        for (int p = 0; p < TTS_PROJECTS; p++) {
+            TTSProject ttsProject = TTSProject.createTTSProject(member, "TTS Project " + p, null, null,
+                    1.0f, 1.0f, 1.0f);
+            em.persist(ttsProject);
+            for (int d = 0; d < DETAILS_PER_PROJECT; d++) {
+                TTSDetail ttsDetail = TTSDetail.createTTSDetail(ttsProject, "script " + p + "-" + d, d + 1);
+                em.persist(ttsDetail);
+                for (int s = 0; s < STATUSES_PER_DETAIL; s++) {
+                    APIStatus apiStatus = APIStatus.createAPIStatus(null, ttsDetail, "{}");
+                    apiStatus.updateResponseInfo("{}", 200, s == STATUSES_PER_DETAIL - 1
+                            ? APIUnitStatusConst.SUCCESS : APIUnitStatusConst.FAILURE);
+                    em.persist(apiStatus);
+                }
+                em.persist(OutputAudioMeta.createOutputAudioMeta("Generated/1/TTS/" + p + "/" + d + ".wav",
+                        ttsDetail, null, null, ProjectType.TTS, "https://bucket/Generated/" + p + "/" + d + ".wav"));
+            }
+            em.flush();
+            em.clear();
+            member = em.find(Member.class, member.getId());
+        }
+
+        for (int p = 0; p < CONCAT_PROJECTS; p++) {
+            ConcatProject concatProject = ConcatProject.createConcatProject(member, "Concat Project " + p);
+            em.persist(concatProject);
+            for (int d = 0; d < 3; d++) {
+                em.persist(ConcatDetail.createConcatDetail(concatProject, d + 1, true, "concat " + p + "-" + d,
+                        0.0f, null));
+            }
+            em.persist(OutputAudioMeta.createOutputAudioMeta("Generated/1/CONCAT/" + p + ".wav", null, null,
+                    concatProject, ProjectType.CONCAT, "https://bucket/Generated/concat/" + p + ".wav"));
+        }
+        em.flush();
+        em.clear();
+        return member.getId();
+    }
+
+    // 변경 전 쿼리 형태 (APIStatus 최근 상태를 SELECT와 JOIN에서 각각 2중 상관 서브쿼리로 계산, fetchResults로 개수 조회)
+    private QueryResults<ExportWithDownloadLinkDto> legacyQuery(Long memberId, int page) {
+        QOutputAudioMeta outputAudioMeta = QOutputAudioMeta.outputAudioMeta;
+        QTTSDetail ttsDetail = QTTSDetail.tTSDetail;
+        QTTSProject ttsProject = QTTSProject.tTSProject;
+        QVCDetail vcDetail = QVCDetail.vCDetail;
+        QVCProject vcProject = QVCProject.vCProject;
+        QConcatProject concatProject = QConcatProject.concatProject;
+        QConcatDetail concatDetail = QConcatDetail.concatDetail;
+        QAPIStatus apiStatus = QAPIStatus.aPIStatus;
+        QMember ttsMember = new QMember("ttsMember");
+        QMember vcMember = new QMember("vcMember");
+        QMember concatMember = new QMember("concatMember");
+
+        BooleanBuilder whereClause = new BooleanBuilder();
+        whereClause.and(ttsMember.id.eq(memberId).or(vcMember.id.eq(memberId)).or(concatMember.id.eq(memberId)));
+        whereClause.and(outputAudioMeta.isDeleted.isFalse());
+
+        return new JPAQueryFactory(em)
+                .select(Projections.constructor(ExportWithDownloadLinkDto.class,
+                        outputAudioMeta.id,
+                        ttsProject.id.coalesce(vcProject.id, concatProject.id),
+                        outputAudioMeta.audioUrl,
+                        outputAudioMeta.audioUrl,
+                        JPAExpressions.select(apiStatus.apiUnitStatusConst.stringValue())
+                                .from(apiStatus)
+                                .where(apiStatus.ttsDetail.eq(ttsDetail)
+                                        .or(apiStatus.vcDetail.eq(vcDetail))
+                                        .and(apiStatus.createdDate.eq(
+                                                JPAExpressions.select(apiStatus.createdDate.max())
+                                                        .from(apiStatus)
+                                                        .where(apiStatus.ttsDetail.eq(ttsDetail)
+                                                                .or(apiStatus.vcDetail.eq(vcDetail)))))),
+                        concatProject.projectName.coalesce(ttsProject.projectName, vcProject.projectName),
+                        outputAudioMeta.projectType.stringValue(),
+                        concatDetail.unitScript.coalesce(ttsDetail.unitScript, vcDetail.unitScript),
+                        outputAudioMeta.createdAt))
+                .from(outputAudioMeta)
+                .leftJoin(outputAudioMeta.ttsDetail, ttsDetail)
+                .leftJoin(ttsDetail.ttsProject, ttsProject)
+                .leftJoin(ttsProject.member, ttsMember)
+                .leftJoin(outputAudioMeta.vcDetail, vcDetail)
+                .leftJoin(vcDetail.vcProject, vcProject)
+                .leftJoin(vcProject.member, vcMember)
+                .leftJoin(outputAudioMeta.concatProject, concatProject)
+                .leftJoin(concatProject.member, concatMember)
+                .leftJoin(concatDetail).on(concatDetail.concatProject.eq(outputAudioMeta.concatProject)
+                        .and(concatDetail.createdAt.eq(JPAExpressions.select(concatDetail.createdAt.max())
+                                .from(concatDetail)
+                                .where(concatDetail.concatProject.eq(outputAudioMeta.concatProject)))))
+                .leftJoin(apiStatus).on(apiStatus.createdDate.eq(JPAExpressions.select(apiStatus.createdDate.max())
+                        .from(apiStatus)
+                        .where(apiStatus.ttsDetail.eq(ttsDetail).or(apiStatus.vcDetail.eq(vcDetail)))))
+                .where(whereClause)
+                .distinct()
+                .orderBy(outputAudioMeta.createdAt.desc())
+                .offset((long) page * PAGE_SIZE)
+                .limit(PAGE_SIZE)
+                .fetchResults();
+    }
+}
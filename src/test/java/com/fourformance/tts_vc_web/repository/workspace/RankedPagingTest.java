@@ -0,0 +1,57 @@
+package com.fourformance.tts_vc_web.repository.workspace;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankedPagingTest {
+
+    @Test
+    void 관련도_순_ID_목록_안에서_페이지를_자른다() {
+        // given (관련도 순: 7, 3, 9, 1, 5)
+        List<Long> rankedIds = List.of(7L, 3L, 9L, 1L, 5L);
+
+        // when & then
+        assertThat(RankedPaging.pageIds(rankedIds, PageRequest.of(0, 2))).containsExactly(7L, 3L);
+        assertThat(RankedPaging.pageIds(rankedIds, PageRequest.of(1, 2))).containsExactly(9L, 1L);
+        assertThat(RankedPaging.pageIds(rankedIds, PageRequest.of(2, 2))).containsExactly(5L);
+        assertThat(RankedPaging.pageIds(rankedIds, PageRequest.of(3, 2))).isEmpty();
+    }
+
+    @Test
+    void 조회한_행은_최근_순이_아니라_관련도_순으로_돌려준다() {
+        // given (DB는 ID 순으로 반환하고, 9는 그 사이 삭제되어 조회되지 않음)
+        List<Long> pageIds = List.of(7L, 3L, 9L, 1L);
+        List<Long> rows = List.of(1L, 3L, 7L);
+
+        // when
+        List<Long> ordered = RankedPaging.inRankOrder(pageIds, rows, Function.identity());
+
+        // then
+        assertThat(ordered).containsExactly(7L, 3L, 1L);
+    }
+
+    @Test
+    void 후보_수_제한에_걸리면_전체_페이지_수도_후보_수까지만_나온다() {
+        // given (일치하는 문서는 더 많지만 검색 문서 조회가 후보 수 1000개에서 자름)
+        List<Long> rankedIds = LongStream.rangeClosed(1, 1000).boxed().toList();
+        Pageable lastPage = PageRequest.of(49, 20);
+
+        // when
+        List<Long> pageIds = RankedPaging.pageIds(rankedIds, lastPage);
+        PageImpl<Long> page = new PageImpl<>(pageIds, lastPage, rankedIds.size());
+
+        // then (마지막 페이지에도 내용이 있고, 그 뒤 빈 페이지는 없음)
+        assertThat(page.getTotalPages()).isEqualTo(50);
+        assertThat(page.getContent()).hasSize(20).startsWith(981L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(RankedPaging.pageIds(rankedIds, PageRequest.of(50, 20))).isEmpty();
+    }
+}
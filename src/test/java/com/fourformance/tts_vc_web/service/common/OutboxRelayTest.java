@@ -0,0 +1,180 @@
+package com.fourformance.tts_vc_web.service.common;
+
+import com.fourformance.tts_vc_web.common.config.TaskConfig;
+import com.fourformance.tts_vc_web.common.constant.OutboxStatusConst;
+import com.fourformance.tts_vc_web.domain.entity.OutboxMessage;
+import com.fourformance.tts_vc_web.repository.OutboxMessageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private static final long BACKOFF_INITIAL_MS = 1000;
+
+    private final OutboxMessageRepository repository = mock(OutboxMessageRepository.class);
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final RabbitOperations operations = mock(RabbitOperations.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    // 트랜잭션 안에서 전송하지 않는지 확인
+    private final AtomicBoolean inTransaction = new AtomicBoolean(false);
+    private final AtomicBoolean publishedInTransaction = new AtomicBoolean(false);
+
+    private OutboxRelay relay;
+    private OutboxMessage message;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            inTransaction.set(true);
+            return null;
+        });
+        doAnswer(invocation -> {
+            inTransaction.set(false);
+            return null;
+        }).when(transactionManager).commit(any());
+
+        relay = new OutboxRelay(repository, rabbitTemplate, new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(relay, "batchSize", 10);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 2);
+        ReflectionTestUtils.setField(relay, "backoffInitialMs", BACKOFF_INITIAL_MS);
+        ReflectionTestUtils.setField(relay, "backoffMaxMs", 300_000L);
+        ReflectionTestUtils.setField(relay, "confirmTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(relay, "leaseMs", 60_000L);
+        relay.init();
+
+        message = OutboxMessage.createOutboxMessage(TaskConfig.EXCHANGE_NAME, "tts", "{\"taskId\":1}", 1L,
+                TaskConfig.PRIORITY_BULK);
+        ReflectionTestUtils.setField(message, "id", 100L);
+        when(repository.findPendingForUpdate(any(LocalDateTime.class), anyInt())).thenReturn(List.of(message));
+        when(repository.findAllById(any())).thenReturn(List.of(message));
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                ((RabbitOperations.OperationsCallback<?>) invocation.getArgument(0)).doInRabbit(operations));
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.close();
+    }
+
+    @Test
+    void 메시지를_SENDING으로_커밋한_뒤_트랜잭션_밖에서_전송하고_ack면_SENT로_변경한다() {
+        // given
+        confirmEach(correlation -> {
+            assertThat(message.getStatus()).isEqualTo(OutboxStatusConst.SENDING);
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+        });
+
+        // when
+        int processed = relay.relayBatch();
+
+        // then
+        assertThat(processed).isEqualTo(1);
+        assertThat(publishedInTransaction).isFalse();
+        assertThat(message.getStatus()).isEqualTo(OutboxStatusConst.SENT);
+        assertThat(message.getSentAt()).isNotNull();
+        verify(transactionManager, times(2)).commit(any()); // 가져가기 / 결과 반영
+    }
+
+    @Test
+    void nack이면_시도_횟수를_늘리고_지수_백오프_후_최대_횟수에서_FAILED가_된다() {
+        // given
+        confirmEach(correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(false, "rejected")));
+
+        // when (첫 실패)
+        relay.relayBatch();
+
+        // then
+        assertThat(message.getStatus()).isEqualTo(OutboxStatusConst.PENDING);
+        assertThat(message.getAttempts()).isEqualTo(1);
+        assertThat(message.getLastError()).contains("nack");
+        assertThat(delayMs(message.getNextAttemptAt())).isCloseTo(BACKOFF_INITIAL_MS, within(500L));
+
+        // when (두 번째 실패 = 최대 횟수)
+        relay.relayBatch();
+
+        // then
+        assertThat(message.getAttempts()).isEqualTo(2);
+        assertThat(message.getStatus()).isEqualTo(OutboxStatusConst.FAILED);
+        assertThat(delayMs(message.getNextAttemptAt())).isCloseTo(BACKOFF_INITIAL_MS * 2, within(500L));
+        assertThat(relay.getOutboxStats()).containsEntry("dead", 1L);
+    }
+
+    @Test
+    void 브로커_연결_실패는_시도_횟수에_넣지_않고_백오프_동안_릴레이를_쉰다() {
+        // given
+        doThrow(new AmqpConnectException(new ConnectException("refused"))).when(rabbitTemplate).invoke(any());
+
+        // when
+        relay.relayBatch();
+        int processedWhilePaused = relay.relayBatch();
+
+        // then
+        assertThat(message.getStatus()).isEqualTo(OutboxStatusConst.PENDING);
+        assertThat(message.getAttempts()).isZero();
+        assertThat(message.getLastError()).contains("전송 실패");
+        assertThat(processedWhilePaused).isZero();
+        verify(repository, times(1)).findPendingForUpdate(any(LocalDateTime.class), anyInt());
+        assertThat(relay.getOutboxStats()).containsEntry("deferred", 1L).containsEntry("brokerFailureStreak", 1L);
+    }
+
+    @Test
+    void lease가_만료되어_다른_릴레이가_다시_가져간_메시지는_결과를_반영하지_않는다() {
+        // given (confirm을 기다리는 동안 다른 릴레이가 같은 메시지를 새 lease로 가져감)
+        LocalDateTime otherLease = LocalDateTime.now().plusMinutes(5);
+        confirmEach(correlation -> {
+            message.claim(otherLease);
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+        });
+
+        // when
+        relay.relayBatch();
+
+        // then
+        assertThat(message.getStatus()).isEqualTo(OutboxStatusConst.SENDING);
+        assertThat(message.getNextAttemptAt()).isEqualTo(otherLease);
+        assertThat(relay.getOutboxStats()).containsEntry("published", 0L);
+    }
+
+    // 전송할 때마다 confirm 결과를 정함
+    private void confirmEach(Consumer<CorrelationData> confirm) {
+        doAnswer(invocation -> {
+            publishedInTransaction.compareAndSet(false, inTransaction.get());
+            confirm.accept(invocation.getArgument(4));
+            return null;
+        }).when(operations).convertAndSend(anyString(), anyString(), any(Object.class),
+                any(MessagePostProcessor.class), any(CorrelationData.class));
+    }
+
+    private long delayMs(LocalDateTime nextAttemptAt) {
+        return Duration.between(LocalDateTime.now(), nextAttemptAt).toMillis();
+    }
+}
@@ -0,0 +1,134 @@
+package com.fourformance.tts_vc_web.service.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourformance.tts_vc_web.common.config.SseClusterConfig;
+import com.fourformance.tts_vc_web.dto.common.SseEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 두 노드 SSE 알림 전달 테스트
+ * 실제 RabbitMQ 컨테이너에 노드별 임시 큐를 두 개 묶고, 한 노드에서 발행한 알림이 두 노드 모두에 전달되는지 확인합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SseClusterPublisherTest {
+
+    @Container
+    private static final RabbitMQContainer RABBIT_MQ = new RabbitMQContainer("rabbitmq:3.13-alpine");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<SimpleMessageListenerContainer> containers = new ArrayList<>();
+
+    private CachingConnectionFactory connectionFactory;
+    private RabbitAdmin rabbitAdmin;
+    private SseClusterPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new CachingConnectionFactory(RABBIT_MQ.getHost(), RABBIT_MQ.getAmqpPort());
+        connectionFactory.setUsername(RABBIT_MQ.getAdminUsername());
+        connectionFactory.setPassword(RABBIT_MQ.getAdminPassword());
+        rabbitAdmin = new RabbitAdmin(connectionFactory);
+        rabbitAdmin.declareExchange(new FanoutExchange(SseClusterConfig.SSE_EXCHANGE_NAME));
+
+        publisher = new SseClusterPublisher(new RabbitTemplate(connectionFactory), objectMapper);
+        ReflectionTestUtils.setField(publisher, "enabled", true);
+        ReflectionTestUtils.setField(publisher, "flushIntervalMs", 60_000L); // 테스트에서 직접 flush
+        ReflectionTestUtils.setField(publisher, "batchSize", 200);
+        publisher.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.close();
+        containers.forEach(SimpleMessageListenerContainer::stop);
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 한_노드에서_발행한_알림이_모든_노드에_전달된다() {
+        // given
+        SseEmitterService nodeA = startNode();
+        SseEmitterService nodeB = startNode();
+
+        // when
+        publisher.publish(7L, new SseEvent(1L, "taskUpdate", "TTS 작업이 시작되었습니다.", 1000L, 10L));
+        publisher.publish(7L, new SseEvent(2L, "taskUpdate", "작업 완료", 1001L, 10L));
+        publisher.publish(7L, new SseEvent(3L, "taskUpdate", "VC 작업이 시작되었습니다.", 1002L, 11L));
+        publisher.publish(8L, new SseEvent(4L, "taskUpdate", "공지", 1003L));
+        publisher.flush();
+
+        // then
+        for (SseEmitterService node : List.of(nodeA, nodeB)) {
+            assertThat(deliveredIds(node, 7L)).containsExactly(2L, 3L);
+            assertThat(deliveredIds(node, 8L)).containsExactly(4L);
+        }
+    }
+
+    @Test
+    void 같은_작업의_알림은_발행_주기마다_최신_알림만_남는다() {
+        // given
+        SseEmitterService node = startNode();
+
+        // when
+        publisher.publish(7L, new SseEvent(1L, "taskUpdate", "시작", 1000L, 10L));
+        publisher.publish(7L, new SseEvent(2L, "taskUpdate", "재시도 대기", 1001L, 10L));
+        publisher.publish(7L, new SseEvent(3L, "taskUpdate", "알림", 1002L));
+        publisher.publish(7L, new SseEvent(4L, "taskUpdate", "알림", 1003L));
+        publisher.publish(7L, new SseEvent(5L, "taskUpdate", "완료", 1004L, 10L));
+        publisher.flush();
+
+        // then (taskId가 없는 알림은 병합하지 않음)
+        assertThat(deliveredIds(node, 7L)).containsExactly(3L, 4L, 5L);
+    }
+
+    // 노드 하나를 흉내 냄: 노드별 임시 큐 + 리스너 (현재 노드 전달은 mock으로 확인)
+    private SseEmitterService startNode() {
+        Queue nodeQueue = new AnonymousQueue();
+        rabbitAdmin.declareQueue(nodeQueue);
+        rabbitAdmin.declareBinding(BindingBuilder.bind(nodeQueue)
+                .to(new FanoutExchange(SseClusterConfig.SSE_EXCHANGE_NAME)));
+
+        SseEmitterService sseEmitterService = mock(SseEmitterService.class);
+        SseClusterListener listener = new SseClusterListener(sseEmitterService, objectMapper);
+
+        SimpleMessageListenerContainer container = new SimpleMessageListenerContainer(connectionFactory);
+        container.setQueueNames(nodeQueue.getName());
+        container.setMessageListener(message ->
+                listener.handleSseBatch(new String(message.getBody(), StandardCharsets.UTF_8)));
+        container.start();
+        containers.add(container);
+        return sseEmitterService;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> deliveredIds(SseEmitterService node, Long clientId) {
+        ArgumentCaptor<List<SseEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(node, timeout(5000)).deliverLocal(eq(clientId), captor.capture());
+        return captor.getValue().stream().map(SseEvent::getId).toList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.fourformance.tts_vc_web.service.common;
+
+import com.fourformance.tts_vc_web.common.constant.TaskStatusConst;
+import com.fourformance.tts_vc_web.domain.entity.Task;
+import com.fourformance.tts_vc_web.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskStateServiceTest {
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskHistoryWriter taskHistoryWriter = mock(TaskHistoryWriter.class);
+
+    private TaskStateService taskStateService;
+
+    @BeforeEach
+    void setUp() {
+        taskStateService = new TaskStateService(taskRepository, taskHistoryWriter,
+                mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void 이미_RUNNABLE인_작업은_일반_전달로_시작하지_않는다() {
+        // given
+        givenTask(TaskStatusConst.RUNNABLE);
+
+        // when
+        boolean started = taskStateService.transition(1L, TaskStatusConst.RUNNABLE, "작업 시작");
+
+        // then
+        assertThat(started).isFalse();
+        verify(taskRepository, never()).compareAndSetStatus(anyLong(), anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void 재전달된_메시지는_RUNNABLE로_남은_작업을_이어받는다() {
+        // given
+        givenTask(TaskStatusConst.RUNNABLE);
+        when(taskRepository.compareAndSetStatus(eq(1L), eq(0L), eq(TaskStatusConst.RUNNABLE),
+                eq(TaskStatusConst.RUNNABLE), any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        boolean started = taskStateService.takeOver(1L, "작업 재시작");
+
+        // then
+        assertThat(started).isTrue();
+        verify(taskHistoryWriter).append(1L, TaskStatusConst.RUNNABLE, TaskStatusConst.RUNNABLE, "작업 재시작");
+    }
+
+    @Test
+    void 재전달된_메시지라도_완료된_작업은_다시_시작하지_않는다() {
+        // given
+        givenTask(TaskStatusConst.COMPLETED);
+
+        // when
+        boolean started = taskStateService.takeOver(1L, "작업 재시작");
+
+        // then
+        assertThat(started).isFalse();
+        verify(taskRepository, never()).compareAndSetStatus(anyLong(), anyLong(), any(), any(), any());
+    }
+
+    private void givenTask(TaskStatusConst status) {
+        Task task = Task.createTask(null, null, "{}");
+        task.updateStatus(status);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+    }
+}
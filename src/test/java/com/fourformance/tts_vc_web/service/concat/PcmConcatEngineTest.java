@@ -0,0 +1,118 @@
+package com.fourformance.tts_vc_web.service.concat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PcmConcatEngineTest {
+
+    private static final int HEADER_SIZE = 44;
+
+    private final PcmConcatEngine engine = new PcmConcatEngine();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 클립과_무음을_순서대로_이어_붙인다() throws IOException {
+        // given
+        Path first = writeWav("first.wav", 1, 8000, new short[]{1, 2, 3, 4});
+        Path second = writeWav("second.wav", 1, 8000, new short[]{5, 6});
+        List<Path> clips = List.of(first, second);
+        List<PcmConcatEngine.WavInfo> infos = engine.inspect(clips);
+
+        // when (첫 클립 뒤 0.001초 = 8프레임 무음)
+        Path output = tempDir.resolve("merged.wav");
+        engine.concat(clips, infos, Arrays.asList(0.001f, null), output);
+
+        // then
+        short[] samples = readSamples(output);
+        assertThat(samples).containsExactly(1, 2, 3, 4, 0, 0, 0, 0, 0, 0, 0, 0, 5, 6);
+        PcmConcatEngine.WavInfo merged = engine.inspect(output);
+        assertThat(merged.getChannels()).isEqualTo(1);
+        assertThat(merged.getSampleRate()).isEqualTo(8000);
+    }
+
+    @Test
+    void 스테레오_클립이_있으면_모노_샘플을_좌우로_복제한다() throws IOException {
+        // given
+        Path mono = writeWav("mono.wav", 1, 8000, new short[]{7, -7});
+        Path stereo = writeWav("stereo.wav", 2, 8000, new short[]{1, 2});
+        List<Path> clips = List.of(mono, stereo);
+        List<PcmConcatEngine.WavInfo> infos = engine.inspect(clips);
+
+        // when
+        Path output = tempDir.resolve("merged.wav");
+        engine.concat(clips, infos, List.of(), output);
+
+        // then
+        assertThat(readSamples(output)).containsExactly(7, 7, -7, -7, 1, 2);
+        assertThat(engine.inspect(output).getChannels()).isEqualTo(2);
+    }
+
+    @Test
+    void 샘플레이트가_다르거나_PCM_WAV가_아니면_null을_반환한다() throws IOException {
+        // given
+        Path wav8k = writeWav("a.wav", 1, 8000, new short[]{1});
+        Path wav16k = writeWav("b.wav", 1, 16000, new short[]{1});
+        Path mp3 = Files.write(tempDir.resolve("c.mp3"), new byte[]{(byte) 0xFF, (byte) 0xFB, 0, 0});
+
+        // when & then
+        assertThat(engine.inspect(List.of(wav8k, wav16k))).isNull();
+        assertThat(engine.inspect(List.of(wav8k, mp3))).isNull();
+    }
+
+    @Test
+    void 헤더_없는_PCM_세그먼트를_WAV로_이어_붙인다() throws IOException {
+        // given
+        Path first = Files.write(tempDir.resolve("1.pcm"), toBytes(new short[]{1, 2}));
+        Path second = Files.write(tempDir.resolve("2.pcm"), toBytes(new short[]{3}));
+
+        // when
+        Path output = tempDir.resolve("merged.wav");
+        engine.concatRaw(List.of(first, second), 8000, 1, output);
+
+        // then
+        assertThat(readSamples(output)).containsExactly(1, 2, 3);
+        assertThat(engine.inspect(output).getSampleRate()).isEqualTo(8000);
+    }
+
+    private Path writeWav(String name, int channels, int sampleRate, short[] samples) throws IOException {
+        byte[] data = toBytes(samples);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + data.length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes()).putInt(36 + data.length).put("WAVE".getBytes());
+        buffer.put("fmt ".getBytes()).putInt(16).putShort((short) 1).putShort((short) channels)
+                .putInt(sampleRate).putInt(sampleRate * channels * 2)
+                .putShort((short) (channels * 2)).putShort((short) 16);
+        buffer.put("data".getBytes()).putInt(data.length).put(data);
+        return Files.write(tempDir.resolve(name), buffer.array());
+    }
+
+    private byte[] toBytes(short[] samples) {
+        ByteBuffer buffer = ByteBuffer.allocate(samples.length * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (short sample : samples) {
+            buffer.putShort(sample);
+        }
+        return buffer.array();
+    }
+
+    private short[] readSamples(Path wav) throws IOException {
+        byte[] bytes = Files.readAllBytes(wav);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        short[] samples = new short[buffer.remaining() / 2];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = buffer.getShort();
+        }
+        return samples;
+    }
+}
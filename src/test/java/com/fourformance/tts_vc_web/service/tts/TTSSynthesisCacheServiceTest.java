@@ -0,0 +1,180 @@
+package com.fourformance.tts_vc_web.service.tts;
+
+import com.fourformance.tts_vc_web.domain.entity.TTSSynthesisCache;
+import com.fourformance.tts_vc_web.domain.entity.VoiceStyle;
+import com.fourformance.tts_vc_web.dto.common.TTSMsgDto;
+import com.fourformance.tts_vc_web.repository.TTSSynthesisCacheRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TTSSynthesisCacheServiceTest {
+
+    private final TTSSynthesisCacheRepository repository = mock(TTSSynthesisCacheRepository.class);
+    private final VoiceStyle koreanFemale = VoiceStyle.createVoiceStyle("한국", "ko-KR", "standard",
+            "ko-KR-Standard-A", "female", "차분한");
+
+    private TTSSynthesisCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TTSSynthesisCacheService(repository, mock(TransactionTemplate.class));
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "memoryMaxEntries", 2);
+        ReflectionTestUtils.setField(service, "hitFlushIntervalMs", 60_000L);
+        service.init();
+        when(repository.findByCacheKey(anyString())).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    // ===== 캐시 키 정규화 =====
+
+    @Test
+    void 스크립트의_공백과_유니코드_조합_방식이_달라도_같은_키를_만든다() {
+        // given ("가"를 완성형과 자모 조합형으로)
+        TTSMsgDto composed = message("  안녕하세요   가나다 ", 1.0F, 0.0F);
+        TTSMsgDto decomposed = message("안녕하세요 가나다", 1.0F, 0.0F);
+
+        // when & then
+        assertThat(service.createCacheKey(composed, koreanFemale))
+                .isEqualTo(service.createCacheKey(decomposed, koreanFemale))
+                .hasSize(64);
+    }
+
+    @Test
+    void 속도와_피치는_기본값과_소수점_둘째_자리까지만_비교한다() {
+        // given
+        String base = service.createCacheKey(message("안녕하세요", 1.0F, 0.0F), koreanFemale);
+
+        // when & then
+        assertThat(service.createCacheKey(message("안녕하세요", null, null), koreanFemale)).isEqualTo(base);
+        assertThat(service.createCacheKey(message("안녕하세요", 1.001F, 0.0F), koreanFemale)).isEqualTo(base);
+        assertThat(service.createCacheKey(message("안녕하세요", 1.1F, 0.0F), koreanFemale)).isNotEqualTo(base);
+        assertThat(service.createCacheKey(message("안녕하세요", 1.0F, 2.0F), koreanFemale)).isNotEqualTo(base);
+    }
+
+    @Test
+    void 음성은_언어와_성별로_구분하고_성별의_대소문자는_무시한다() {
+        // given
+        VoiceStyle upperGender = VoiceStyle.createVoiceStyle("한국", "ko-KR", "standard",
+                "ko-KR-Standard-B", "FEMALE", "밝은");
+        VoiceStyle english = VoiceStyle.createVoiceStyle("미국", "en-US", "standard",
+                "en-US-Standard-C", "female", "차분한");
+        TTSMsgDto dto = message("hello", 1.0F, 0.0F);
+
+        // when & then
+        assertThat(service.createCacheKey(dto, upperGender)).isEqualTo(service.createCacheKey(dto, koreanFemale));
+        assertThat(service.createCacheKey(dto, english)).isNotEqualTo(service.createCacheKey(dto, koreanFemale));
+    }
+
+    // ===== 메모리 LRU =====
+
+    @Test
+    void 메모리_캐시는_최대_개수를_넘으면_가장_오래_사용하지_않은_키부터_제거한다() {
+        // given
+        service.register("key-1", "route-1", koreanFemale);
+        service.register("key-2", "route-2", koreanFemale);
+        service.findBucketRoute("key-1"); // key-1을 최근 사용으로
+
+        // when
+        service.register("key-3", "route-3", koreanFemale);
+
+        // then (key-2만 메모리에서 빠져 DB를 조회)
+        assertThat(service.getCacheStats().get("memoryEntries")).isEqualTo(2L);
+        assertThat(service.findBucketRoute("key-1")).contains("route-1");
+        assertThat(service.findBucketRoute("key-3")).contains("route-3");
+        verify(repository, never()).findByCacheKey("key-1");
+
+        assertThat(service.findBucketRoute("key-2")).isEmpty();
+        verify(repository).findByCacheKey("key-2");
+    }
+
+    @Test
+    void 메모리에_없으면_DB에서_찾아_메모리에_올린다() {
+        // given
+        when(repository.findByCacheKey("key-db")).thenReturn(Optional.of(
+                TTSSynthesisCache.createTTSSynthesisCache("key-db", "route-db", "ko-KR", "female")));
+
+        // when
+        service.findBucketRoute("key-db");
+        Optional<String> second = service.findBucketRoute("key-db");
+
+        // then
+        assertThat(second).contains("route-db");
+        verify(repository, times(1)).findByCacheKey("key-db");
+        assertThat(service.getCacheStats()).containsEntry("dbHits", 1L).containsEntry("memoryHits", 1L);
+    }
+
+    // ===== 동시 미스 등록 =====
+
+    @Test
+    void 같은_키에서_동시에_미스가_나도_INSERT_대신_upsert로_등록한다() throws Exception {
+        // given
+        int workers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        CountDownLatch allMissed = new CountDownLatch(workers);
+
+        // when (모두 미스를 확인한 뒤 각자 합성 결과를 등록)
+        try {
+            List<CompletableFuture<Void>> futures = IntStream.range(0, workers)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                        assertThat(service.findBucketRoute("same-key")).isEmpty();
+                        allMissed.countDown();
+                        try {
+                            allMissed.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        service.register("same-key", "route-" + i, koreanFemale);
+                    }, executor))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then (save 없이 upsert만 사용, 메모리에는 마지막으로 등록한 경로 하나만 남음)
+        verify(repository, times(workers)).upsert(eq("same-key"), anyString(), eq("ko-KR"), eq("female"),
+                any(LocalDateTime.class));
+        verify(repository, never()).save(any());
+        assertThat(service.getCacheStats()).containsEntry("misses", (long) workers)
+                .containsEntry("memoryEntries", 1L);
+        assertThat(service.findBucketRoute("same-key"))
+                .hasValueSatisfying(route -> assertThat(route).startsWith("route-"));
+    }
+
+    private TTSMsgDto message(String script, Float speed, Float pitch) {
+        return TTSMsgDto.builder()
+                .unitScript(script)
+                .unitSpeed(speed)
+                .unitPitch(pitch)
+                .unitVolume(0.0F)
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.fourformance.tts_vc_web.service.workspace;
+
+import com.fourformance.tts_vc_web.common.constant.ProjectType;
+import com.fourformance.tts_vc_web.domain.entity.ProjectSummary;
+import com.fourformance.tts_vc_web.repository.ProjectRepository;
+import com.fourformance.tts_vc_web.repository.ProjectSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProjectSummaryUpdaterTest {
+
+    private static final long LOOKBACK_MS = 3_600_000;
+    private static final long OVERLAP_MS = 60_000;
+
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final ProjectSummaryRepository projectSummaryRepository = mock(ProjectSummaryRepository.class);
+    private final SearchIndexService searchIndexService = mock(SearchIndexService.class);
+
+    private ProjectSummaryUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        updater = new ProjectSummaryUpdater(projectRepository, projectSummaryRepository, searchIndexService,
+                mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(updater, "batchSize", 2);
+        ReflectionTestUtils.setField(updater, "reconcileLookbackMs", LOOKBACK_MS);
+        ReflectionTestUtils.setField(updater, "reconcileOverlapMs", OVERLAP_MS);
+        ReflectionTestUtils.setField(updater, "transactionTemplate",
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    void 처음_복구할_때는_lookback_기간부터_확인하고_뒤처진_프로젝트만_다시_계산한다() {
+        // given (1은 요약이 오래됨, 2는 요약이 없음)
+        ProjectSummary stale = summary(1L, "이전 이름");
+        when(projectRepository.findStaleProjectIds(any(LocalDateTime.class))).thenReturn(Set.of(1L, 2L));
+        when(projectRepository.computeProjectSummaries(anyCollection()))
+                .thenReturn(List.of(summary(1L, "새 이름"), summary(2L, "새 프로젝트")));
+        when(projectSummaryRepository.findAllById(anyCollection())).thenReturn(List.of(stale));
+
+        // when
+        updater.reconcile();
+
+        // then
+        assertThat(sinceOfCall(1).get(0)).isCloseTo(LocalDateTime.now().minus(Duration.ofMillis(LOOKBACK_MS)),
+                within(5, ChronoUnit.SECONDS));
+        assertThat(stale.getProjectName()).isEqualTo("새 이름");
+        assertThat(captureSaved()).extracting(ProjectSummary::getProjectId).containsExactly(2L);
+        verify(searchIndexService).index(anyCollection());
+        assertThat(updater.getStats()).containsEntry("reconciled", 2L).containsEntry("refreshed", 2L);
+    }
+
+    @Test
+    void 원본이_없어진_프로젝트의_요약은_삭제한다() {
+        // given
+        ProjectSummary orphan = summary(3L, "삭제된 프로젝트");
+        when(projectRepository.findStaleProjectIds(any(LocalDateTime.class))).thenReturn(Set.of(3L));
+        when(projectRepository.computeProjectSummaries(anyCollection())).thenReturn(List.of());
+        when(projectSummaryRepository.findAllById(anyCollection())).thenReturn(List.of(orphan));
+
+        // when
+        updater.reconcile();
+
+        // then
+        assertThat(captureDeleted()).containsExactly(orphan);
+        assertThat(updater.getStats()).containsEntry("removed", 1L);
+    }
+
+    @Test
+    void 뒤처진_프로젝트는_batch_size_단위로_나눠_다시_계산한다() {
+        // given
+        when(projectRepository.findStaleProjectIds(any(LocalDateTime.class))).thenReturn(Set.of(1L, 2L, 3L));
+        when(projectRepository.computeProjectSummaries(anyCollection())).thenReturn(List.of());
+        when(projectSummaryRepository.findAllById(anyCollection())).thenReturn(List.of());
+
+        // when
+        updater.reconcile();
+
+        // then
+        verify(projectRepository, times(2)).computeProjectSummaries(anyCollection());
+    }
+
+    @Test
+    void 복구가_실패하면_복구_시각을_올리지_않고_성공하면_겹치는_구간부터_이어서_확인한다() {
+        // given
+        when(projectRepository.findStaleProjectIds(any(LocalDateTime.class)))
+                .thenThrow(new IllegalStateException("DB 오류"))
+                .thenReturn(Set.of())
+                .thenReturn(Set.of());
+
+        // when
+        updater.reconcile(); // 실패
+        updater.reconcile(); // 성공
+        LocalDateTime reconciledAt = LocalDateTime.now();
+        updater.reconcile();
+
+        // then
+        List<LocalDateTime> sinces = sinceOfCall(3);
+        assertThat(sinces.get(1)).isCloseTo(LocalDateTime.now().minus(Duration.ofMillis(LOOKBACK_MS)),
+                within(5, ChronoUnit.SECONDS)); // 실패하면 복구 시각을 올리지 않아 다시 lookback 기간부터 확인
+        assertThat(sinces.get(2)).isAfter(sinces.get(1))
+                .isCloseTo(reconciledAt.minus(Duration.ofMillis(OVERLAP_MS)), within(5, ChronoUnit.SECONDS));
+        assertThat(updater.getStats()).containsEntry("failed", 1L);
+    }
+
+    private List<LocalDateTime> sinceOfCall(int calls) {
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(projectRepository, times(calls)).findStaleProjectIds(since.capture());
+        return since.getAllValues();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Iterable<ProjectSummary> captureSaved() {
+        ArgumentCaptor<Iterable<ProjectSummary>> saved = ArgumentCaptor.forClass((Class) Iterable.class);
+        verify(projectSummaryRepository).saveAll(saved.capture());
+        return saved.getValue();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Iterable<ProjectSummary> captureDeleted() {
+        ArgumentCaptor<Iterable<ProjectSummary>> deleted = ArgumentCaptor.forClass((Class) Iterable.class);
+        verify(projectSummaryRepository).deleteAll(deleted.capture());
+        return deleted.getValue();
+    }
+
+    private ProjectSummary summary(Long projectId, String projectName) {
+        LocalDateTime now = LocalDateTime.now();
+        return ProjectSummary.createProjectSummary(projectId, 1L, ProjectType.TTS, projectName, null, "스크립트", 1,
+                null, null, false, now, now);
+    }
+}